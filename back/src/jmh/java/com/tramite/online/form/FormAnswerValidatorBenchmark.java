@@ -0,0 +1,84 @@
+package com.tramite.online.form;
+
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionOption;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.form.domain.validator.FormAnswerValidator;
+import com.tramite.online.form.domain.validator.FormAnswerValidatorCompiler;
+import com.tramite.online.shared.domain.validation.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de validacion de una presentacion completa con el plan compilado
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormAnswerValidatorBenchmark {
+
+    private FormAnswerValidator validator;
+    private Map<Long, List<String>> answers;
+    private ValidationResult result;
+
+    @Setup
+    public void setUp() {
+        Form form = new Form(1L, "Habilitacion comercial", "Formulario de benchmark");
+        form.setId(1L);
+        answers = new HashMap<>();
+        long questionId = 1;
+        for (int s = 0; s < 10; s++) {
+            FormSection section = new FormSection(1L, "Seccion " + s, s);
+            for (int q = 0; q < 40; q++, questionId++) {
+                QuestionType type = switch (q % 4) {
+                    case 0 -> QuestionType.TEXT;
+                    case 1 -> QuestionType.NUMERIC;
+                    case 2 -> QuestionType.SELECT;
+                    default -> QuestionType.EMAIL;
+                };
+                Question question = new Question((long) s, "Pregunta " + q, type, q);
+                question.setId(questionId);
+                question.setRequired(true);
+                if (type == QuestionType.TEXT) {
+                    question.setValidationPattern("^[A-Za-z ]+$");
+                    question.setMaxLength(100);
+                    answers.put(questionId, List.of("Juan Perez"));
+                } else if (type == QuestionType.NUMERIC) {
+                    question.setMinValue(0);
+                    question.setMaxValue(1000);
+                    answers.put(questionId, List.of("250"));
+                } else if (type == QuestionType.SELECT) {
+                    for (int o = 0; o < 10; o++) {
+                        question.addOption(new QuestionOption("Opcion " + o, String.valueOf(o), o, o));
+                    }
+                    answers.put(questionId, List.of("7"));
+                } else {
+                    answers.put(questionId, List.of("juan.perez@municipalidad.gob.ar"));
+                }
+                section.addQuestion(question);
+            }
+            form.addSection(section);
+        }
+        form.publish();
+        validator = FormAnswerValidatorCompiler.compile(form);
+        result = new ValidationResult();
+    }
+
+    @Benchmark
+    public boolean validateSubmission() {
+        return validator.validate(answers, result.clear()).isValid();
+    }
+}
@@ -0,0 +1,50 @@
+package com.tramite.online.form;
+
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de Form.getTotalQuestions sobre formularios grandes
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormBenchmark {
+
+    @Param({"10", "50"})
+    private int sections;
+
+    @Param({"40"})
+    private int questionsPerSection;
+
+    private Form form;
+
+    @Setup
+    public void setUp() {
+        form = new Form(1L, "Habilitacion comercial", "Formulario de benchmark");
+        for (int s = 0; s < sections; s++) {
+            FormSection section = new FormSection(1L, "Seccion " + s, s);
+            for (int q = 0; q < questionsPerSection; q++) {
+                section.addQuestion(new Question((long) s, "Pregunta " + q, QuestionType.TEXT, q));
+            }
+            form.addSection(section);
+        }
+    }
+
+    @Benchmark
+    public int getTotalQuestions() {
+        return form.getTotalQuestions();
+    }
+}
@@ -0,0 +1,34 @@
+package com.tramite.online.user;
+
+import com.tramite.online.user.domain.model.vo.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del value object Email (normalizacion + regex)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailBenchmark {
+
+    private String email;
+
+    @Setup
+    public void setUp() {
+        email = "  Juan.Perez+tramites@Municipalidad.gob.ar ";
+    }
+
+    @Benchmark
+    public Email create() {
+        return new Email(email);
+    }
+}
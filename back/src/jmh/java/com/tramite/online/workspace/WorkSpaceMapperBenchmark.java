@@ -0,0 +1,67 @@
+package com.tramite.online.workspace;
+
+import com.tramite.online.workspace.domain.model.WorkSpace;
+import com.tramite.online.workspace.domain.model.WorkSpaceMember;
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import com.tramite.online.workspace.infraestructure.persistence.entity.WorkSpaceEntity;
+import com.tramite.online.workspace.infraestructure.persistence.entity.WorkSpaceMemberEntity;
+import com.tramite.online.workspace.infraestructure.persistence.mapper.WorkSpaceMapper;
+import com.tramite.online.workspace.infraestructure.persistence.mapper.WorkSpaceMemberMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de las conversiones dominio/persistencia de WorkSpace y WorkSpaceMember
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkSpaceMapperBenchmark {
+
+    private WorkSpaceMapper workSpaceMapper;
+    private WorkSpaceMemberMapper memberMapper;
+    private WorkSpace workSpace;
+    private WorkSpaceEntity workSpaceEntity;
+    private WorkSpaceMember member;
+    private WorkSpaceMemberEntity memberEntity;
+
+    @Setup
+    public void setUp() {
+        workSpaceMapper = new WorkSpaceMapper();
+        memberMapper = new WorkSpaceMemberMapper();
+        workSpace = new WorkSpace("Rentas", "Tramites de rentas", 1L);
+        workSpace.setId(10L);
+        workSpaceEntity = workSpaceMapper.toPersistence(workSpace);
+        member = new WorkSpaceMember(10L, 20L, WorkspaceRole.EDITOR);
+        member.setId(30L);
+        memberEntity = memberMapper.toEntity(member);
+    }
+
+    @Benchmark
+    public WorkSpace workSpaceToDomain() {
+        return workSpaceMapper.toDomain(workSpaceEntity);
+    }
+
+    @Benchmark
+    public WorkSpaceEntity workSpaceToPersistence() {
+        return workSpaceMapper.toPersistence(workSpace);
+    }
+
+    @Benchmark
+    public WorkSpaceMember memberToDomain() {
+        return memberMapper.toDomain(memberEntity);
+    }
+
+    @Benchmark
+    public WorkSpaceMemberEntity memberToEntity() {
+        return memberMapper.toEntity(member);
+    }
+}
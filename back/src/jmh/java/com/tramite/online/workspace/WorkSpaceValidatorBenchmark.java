@@ -0,0 +1,64 @@
+package com.tramite.online.workspace;
+
+import com.tramite.online.shared.domain.validation.ValidationResult;
+import com.tramite.online.workspace.domain.validator.WorkSpaceValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de WorkSpaceValidator: validacion y normalizacion de nombres
+ * que se ejecutan en cada alta o modificacion de un WorkSpace
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkSpaceValidatorBenchmark {
+
+    private String validName;
+    private String invalidName;
+    private String spacedName;
+    private List<String> importNames;
+    private ValidationResult result;
+
+    @Setup
+    public void setUp() {
+        validName = "Municipalidad de San Salvador - Rentas 2026";
+        invalidName = "Municipalidad #Rentas";
+        spacedName = "  Municipalidad   de   San   Salvador   ";
+        importNames = new ArrayList<>(5_000);
+        for (int i = 0; i < 5_000; i++) {
+            importNames.add(i % 100 == 0 ? "Rentas #" + i : "Rentas " + i);
+        }
+        result = new ValidationResult();
+    }
+
+    @Benchmark
+    public void validateName() {
+        WorkSpaceValidator.validateName(validName);
+    }
+
+    @Benchmark
+    public boolean isValidNameInvalid() {
+        return WorkSpaceValidator.isValidName(invalidName);
+    }
+
+    @Benchmark
+    public String normalizeName() {
+        return WorkSpaceValidator.normalizeName(spacedName);
+    }
+
+    @Benchmark
+    public int validateNamesBatch() {
+        return WorkSpaceValidator.validateNames(importNames, result.clear()).size();
+    }
+}
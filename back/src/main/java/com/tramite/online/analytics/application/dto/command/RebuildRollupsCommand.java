@@ -0,0 +1,7 @@
+package com.tramite.online.analytics.application.dto.command;
+
+/**
+ * Record para reconstruir los rollups de un formulario (payload del trabajo asincrono)
+ */
+public record RebuildRollupsCommand(Long formId) {
+}
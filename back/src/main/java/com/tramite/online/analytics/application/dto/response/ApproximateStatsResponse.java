@@ -0,0 +1,58 @@
+package com.tramite.online.analytics.application.dto.response;
+
+import com.tramite.online.analytics.domain.model.DDSketch;
+import com.tramite.online.analytics.domain.model.FormSketch;
+import com.tramite.online.analytics.domain.model.HyperLogLog;
+import com.tramite.online.analytics.domain.model.SketchMetric;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Record de respuesta con estadisticas aproximadas (submitters distintos ~1.6%, percentiles ~1%)
+ * de un formulario o de todos los formularios de un workspace
+ */
+public record ApproximateStatsResponse(
+        Long workspaceId,
+        Long formId,
+        int forms,
+        long distinctSubmitters,
+        LatencyStats timeToApprove,
+        LatencyStats reviewTime
+) {
+
+    /**
+     * Percentiles en milisegundos; count es la cantidad de duraciones observadas
+     */
+    public record LatencyStats(long count, long p50Millis, long p90Millis, long p95Millis, long p99Millis) {
+
+        private static LatencyStats from(DDSketch sketch) {
+            if (sketch.getCount() == 0) {
+                return null;
+            }
+            return new LatencyStats(sketch.getCount(), sketch.quantile(0.5), sketch.quantile(0.9),
+                    sketch.quantile(0.95), sketch.quantile(0.99));
+        }
+    }
+
+    /**
+     * Combina los sketches de cada metrica (union de HyperLogLog, suma de DDSketch)
+     */
+    public static ApproximateStatsResponse from(Long workspaceId, Long formId, List<FormSketch> sketches) {
+        HyperLogLog submitters = new HyperLogLog();
+        Map<SketchMetric, DDSketch> durations = new EnumMap<>(SketchMetric.class);
+        for (FormSketch sketch : sketches) {
+            if (sketch.metric().isDistinctCount()) {
+                submitters.merge(HyperLogLog.fromBytes(sketch.sketch()));
+            } else {
+                durations.computeIfAbsent(sketch.metric(), metric -> new DDSketch())
+                        .merge(DDSketch.fromBytes(sketch.sketch()));
+            }
+        }
+        int forms = (int) sketches.stream().map(FormSketch::formId).distinct().count();
+        return new ApproximateStatsResponse(workspaceId, formId, forms, submitters.estimate(),
+                LatencyStats.from(durations.getOrDefault(SketchMetric.TIME_TO_APPROVE, new DDSketch())),
+                LatencyStats.from(durations.getOrDefault(SketchMetric.REVIEW_TIME, new DDSketch())));
+    }
+}
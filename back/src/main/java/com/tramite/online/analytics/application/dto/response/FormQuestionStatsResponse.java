@@ -0,0 +1,15 @@
+package com.tramite.online.analytics.application.dto.response;
+
+import com.tramite.online.analytics.domain.model.RollupStage;
+
+import java.util.List;
+
+/**
+ * Record de respuesta con las estadisticas por pregunta de un formulario en una etapa
+ */
+public record FormQuestionStatsResponse(
+        Long formId,
+        RollupStage stage,
+        long submissions,
+        List<QuestionStatsResponse> questions
+) {}
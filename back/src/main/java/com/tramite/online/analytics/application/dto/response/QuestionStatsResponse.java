@@ -0,0 +1,37 @@
+package com.tramite.online.analytics.application.dto.response;
+
+import com.tramite.online.analytics.domain.model.OptionRollup;
+import com.tramite.online.analytics.domain.model.QuestionRollup;
+
+import java.util.List;
+
+/**
+ * Record de respuesta con las estadisticas de una pregunta y la distribucion de sus opciones
+ */
+public record QuestionStatsResponse(
+        Long questionId,
+        String text,
+        long answered,
+        double answeredRatio,
+        Double averageWeight,
+        List<OptionStats> options
+) {
+
+    public record OptionStats(String value, String label, long count, double ratio) {}
+
+    public static QuestionStatsResponse from(QuestionRollup rollup, long submissions) {
+        List<OptionStats> options = rollup.options().stream()
+                .map(option -> optionStats(option, rollup.answered()))
+                .toList();
+        return new QuestionStatsResponse(rollup.questionId(), rollup.text(), rollup.answered(),
+                ratio(rollup.answered(), submissions), rollup.averageWeight(), options);
+    }
+
+    private static double ratio(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    private static OptionStats optionStats(OptionRollup option, long answered) {
+        return new OptionStats(option.value(), option.label(), option.count(), ratio(option.count(), answered));
+    }
+}
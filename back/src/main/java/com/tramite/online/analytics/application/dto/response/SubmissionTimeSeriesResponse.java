@@ -0,0 +1,27 @@
+package com.tramite.online.analytics.application.dto.response;
+
+import com.tramite.online.analytics.domain.model.BucketResolution;
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.analytics.domain.model.TimeSeries;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record de respuesta con una serie temporal densa: counts[i] corresponde al bucket
+ * start + i * stepSeconds, lo que evita repetir la fecha de cada punto en el JSON
+ */
+public record SubmissionTimeSeriesResponse(
+        Long formId,
+        RollupStage stage,
+        BucketResolution resolution,
+        LocalDateTime start,
+        long stepSeconds,
+        long total,
+        long[] counts
+) {
+
+    public static SubmissionTimeSeriesResponse from(Long formId, RollupStage stage, TimeSeries series) {
+        return new SubmissionTimeSeriesResponse(formId, stage, series.resolution(), series.start(),
+                series.resolution().step().toSeconds(), series.total(), series.counts());
+    }
+}
@@ -0,0 +1,76 @@
+package com.tramite.online.analytics.application.job;
+
+import com.tramite.online.analytics.application.dto.command.RebuildRollupsCommand;
+import com.tramite.online.analytics.domain.repository.AnalyticsRollupRepository;
+import com.tramite.online.analytics.domain.repository.AnalyticsRollupRepository.RebuildPage;
+import com.tramite.online.job.api.JobCheckpoint;
+import com.tramite.online.job.api.JobContext;
+import com.tramite.online.job.api.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reconstruye los rollups y la serie temporal de un formulario. La primera ejecucion borra lo
+ * agregado (y el ledger) y luego reencola las instancias enviadas por paginas en orden de id;
+ * el RollupFlusher las agrega como a cualquier otra. El checkpoint es la ultima instancia
+ * reencolada, asi un reintento no vuelve a borrar ni a recorrer lo ya encolado.
+ * Los sketches (DISTINCT_SUBMITTERS, latencias) no se reconstruyen.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class RollupRebuildJobHandler implements JobHandler {
+
+    public static final String TYPE = "analytics.rollup-rebuild";
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupRebuildJobHandler.class);
+
+    private final AnalyticsRollupRepository analyticsRollupRepository;
+    private final JsonMapper jsonMapper;
+    private final int pageSize;
+
+    public RollupRebuildJobHandler(AnalyticsRollupRepository analyticsRollupRepository,
+                                   JsonMapper jsonMapper,
+                                   @Value("${app.analytics.rebuild.page-size:1000}") int pageSize) {
+        this.analyticsRollupRepository = analyticsRollupRepository;
+        this.jsonMapper = jsonMapper;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public String run(JobContext context) {
+        Long formId = jsonMapper.readValue(context.payload(), RebuildRollupsCommand.class).formId();
+        long total = analyticsRollupRepository.countSubmitted(formId);
+        JobCheckpoint checkpoint = context.checkpoint().orElse(null);
+        if (checkpoint == null) {
+            logger.info("Rebuilding analytics rollups of form {} ({} submitted instances)", formId, total);
+            analyticsRollupRepository.resetForm(formId);
+            checkpoint = new JobCheckpoint(0, 0, null);
+            context.checkpoint(checkpoint);
+        } else {
+            logger.info("Resuming rollup rebuild of form {} after instance {}", formId, checkpoint.lastId());
+        }
+
+        long afterInstanceId = checkpoint.lastId();
+        long processed = checkpoint.processed();
+        RebuildPage page;
+        while ((page = analyticsRollupRepository.enqueueForRebuild(formId, afterInstanceId, pageSize)).instances() > 0) {
+            afterInstanceId = page.lastInstanceId();
+            processed += page.instances();
+            context.progress(processed, Math.max(total, processed));
+            context.checkpoint(new JobCheckpoint(afterInstanceId, processed, null));
+        }
+        logger.info("Rollup rebuild of form {} queued {} instances", formId, processed);
+        return null;
+    }
+}
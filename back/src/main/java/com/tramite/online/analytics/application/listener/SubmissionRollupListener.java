@@ -0,0 +1,42 @@
+package com.tramite.online.analytics.application.listener;
+
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.analytics.domain.repository.AnalyticsRollupRepository;
+import com.tramite.online.shared.event.EventListenerPolicy;
+import com.tramite.online.submission.domain.event.SubmissionApproved;
+import com.tramite.online.submission.domain.event.SubmissionSubmitted;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encola las instancias enviadas y aprobadas para los rollups por pregunta y la serie temporal.
+ * Solo inserta una fila pendiente: la agregacion la hace RollupFlusher en lotes, asi
+ * los listeners concurrentes no compiten por los locks de las filas de contadores.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionRollupListener {
+
+    private final AnalyticsRollupRepository analyticsRollupRepository;
+
+    public SubmissionRollupListener(AnalyticsRollupRepository analyticsRollupRepository) {
+        this.analyticsRollupRepository = analyticsRollupRepository;
+    }
+
+    @ApplicationModuleListener
+    @EventListenerPolicy(maxConcurrency = 8)
+    public void on(SubmissionSubmitted event) {
+        analyticsRollupRepository.enqueue(event.getInstanceId(), event.getFormId(), RollupStage.SUBMITTED,
+                event.getTransitionedAt());
+    }
+
+    @ApplicationModuleListener
+    @EventListenerPolicy(maxConcurrency = 8)
+    public void on(SubmissionApproved event) {
+        analyticsRollupRepository.enqueue(event.getInstanceId(), event.getFormId(), RollupStage.APPROVED,
+                event.getTransitionedAt());
+    }
+}
@@ -0,0 +1,72 @@
+package com.tramite.online.analytics.application.listener;
+
+import com.tramite.online.analytics.domain.model.SketchMetric;
+import com.tramite.online.analytics.domain.model.SketchObservation;
+import com.tramite.online.analytics.domain.repository.SketchRepository;
+import com.tramite.online.shared.event.EventListenerPolicy;
+import com.tramite.online.submission.domain.event.CorrectionRequested;
+import com.tramite.online.submission.domain.event.SubmissionApproved;
+import com.tramite.online.submission.domain.event.SubmissionRejected;
+import com.tramite.online.submission.domain.event.SubmissionStatusChanged;
+import com.tramite.online.submission.domain.event.SubmissionSubmitted;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Encola las observaciones de los sketches: el usuario de cada envio (submitters distintos),
+ * el tiempo desde el envio hasta la aprobacion y el tiempo de revision de cada decision del revisor.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionSketchListener {
+
+    private final SketchRepository sketchRepository;
+
+    public SubmissionSketchListener(SketchRepository sketchRepository) {
+        this.sketchRepository = sketchRepository;
+    }
+
+    @ApplicationModuleListener
+    @EventListenerPolicy(maxConcurrency = 8)
+    public void on(SubmissionSubmitted event) {
+        if (event.getUserId() != null) {
+            enqueue(event, SketchMetric.DISTINCT_SUBMITTERS, event.getUserId());
+        }
+    }
+
+    @ApplicationModuleListener
+    @EventListenerPolicy(maxConcurrency = 8)
+    public void on(SubmissionApproved event) {
+        enqueueDuration(event, SketchMetric.TIME_TO_APPROVE, event.getSubmittedAt());
+        enqueueDuration(event, SketchMetric.REVIEW_TIME, event.getClaimedAt());
+    }
+
+    @ApplicationModuleListener
+    @EventListenerPolicy(maxConcurrency = 8)
+    public void on(SubmissionRejected event) {
+        enqueueDuration(event, SketchMetric.REVIEW_TIME, event.getClaimedAt());
+    }
+
+    @ApplicationModuleListener
+    @EventListenerPolicy(maxConcurrency = 8)
+    public void on(CorrectionRequested event) {
+        enqueueDuration(event, SketchMetric.REVIEW_TIME, event.getClaimedAt());
+    }
+
+    private void enqueueDuration(SubmissionStatusChanged event, SketchMetric metric, LocalDateTime since) {
+        if (since != null) {
+            enqueue(event, metric, Duration.between(since, event.getTransitionedAt()).toMillis());
+        }
+    }
+
+    private void enqueue(SubmissionStatusChanged event, SketchMetric metric, long value) {
+        sketchRepository.enqueue(new SketchObservation(event.getInstanceId(), metric, event.getTransitionedAt(),
+                event.getFormId(), event.getWorkspaceId(), value));
+    }
+}
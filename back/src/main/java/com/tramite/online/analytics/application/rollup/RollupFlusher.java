@@ -0,0 +1,71 @@
+package com.tramite.online.analytics.application.rollup;
+
+import com.tramite.online.analytics.domain.repository.AnalyticsRollupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drena la cola de instancias pendientes hacia los rollups. Cada lote es una sentencia
+ * (y una transaccion); si el lote sale lleno se sigue drenando en el mismo tick,
+ * hasta max-batches lotes para no monopolizar el scheduler.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class RollupFlusher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupFlusher.class);
+
+    private final AnalyticsRollupRepository analyticsRollupRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter flushed;
+    private final Timer flushTimer;
+
+    public RollupFlusher(AnalyticsRollupRepository analyticsRollupRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.analytics.rollup.batch-size:500}") int batchSize,
+                         @Value("${app.analytics.rollup.max-batches:20}") int maxBatches) {
+        this.analyticsRollupRepository = analyticsRollupRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        Gauge.builder("analytics.rollup.pending", pending, AtomicLong::get)
+                .description("Instancias pendientes de agregar en los rollups")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("analytics.rollup.flushed")
+                .description("Instancias agregadas en los rollups")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("analytics.rollup.flush")
+                .description("Duracion de cada lote de agregacion")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.rollup.flush-interval:PT2S}")
+    public void flush() {
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int taken = flushTimer.record(() -> analyticsRollupRepository.flush(batchSize));
+                flushed.increment(taken);
+                if (taken < batchSize) {
+                    break;
+                }
+            }
+            pending.set(analyticsRollupRepository.countPending());
+        } catch (DataAccessException e) {
+            logger.warn("Could not flush analytics rollups: {}", e.getMessage());
+        }
+    }
+}
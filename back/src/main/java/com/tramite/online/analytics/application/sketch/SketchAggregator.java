@@ -0,0 +1,81 @@
+package com.tramite.online.analytics.application.sketch;
+
+import com.tramite.online.analytics.domain.model.DDSketch;
+import com.tramite.online.analytics.domain.model.FormSketch;
+import com.tramite.online.analytics.domain.model.HyperLogLog;
+import com.tramite.online.analytics.domain.model.SketchMetric;
+import com.tramite.online.analytics.domain.model.SketchObservation;
+import com.tramite.online.analytics.domain.repository.SketchRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Agrega un lote de observaciones pendientes en los sketches por formulario.
+ * Cada sketch se lee, se actualiza con todas las observaciones del lote y se escribe una sola vez,
+ * dentro de la misma transaccion que drena la cola.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SketchAggregator {
+
+    private final SketchRepository sketchRepository;
+
+    public SketchAggregator(SketchRepository sketchRepository) {
+        this.sketchRepository = sketchRepository;
+    }
+
+    /**
+     * Devuelve la cantidad de observaciones agregadas
+     */
+    @Transactional
+    public int flush(int limit) {
+        List<SketchObservation> observations = sketchRepository.drain(limit);
+        Map<SketchMetric, SortedMap<Long, List<SketchObservation>>> byMetric = new EnumMap<>(SketchMetric.class);
+        for (SketchObservation observation : observations) {
+            byMetric.computeIfAbsent(observation.metric(), metric -> new TreeMap<>())
+                    .computeIfAbsent(observation.formId(), formId -> new ArrayList<>())
+                    .add(observation);
+        }
+        for (Map.Entry<SketchMetric, SortedMap<Long, List<SketchObservation>>> entry : byMetric.entrySet()) {
+            merge(entry.getKey(), entry.getValue());
+        }
+        return observations.size();
+    }
+
+    private void merge(SketchMetric metric, SortedMap<Long, List<SketchObservation>> byForm) {
+        SortedMap<Long, Long> formWorkspaces = new TreeMap<>();
+        byForm.forEach((formId, observations) -> formWorkspaces.put(formId, observations.getFirst().workspaceId()));
+        Map<Long, FormSketch> current = sketchRepository.lockSketches(metric, formWorkspaces);
+
+        List<FormSketch> updated = new ArrayList<>(byForm.size());
+        byForm.forEach((formId, observations) -> {
+            FormSketch sketch = current.get(formId);
+            byte[] bytes = sketch != null ? sketch.sketch() : null;
+            updated.add(new FormSketch(formId, formWorkspaces.get(formId), metric,
+                    metric.isDistinctCount() ? addDistinct(bytes, observations) : addDurations(bytes, observations)));
+        });
+        sketchRepository.saveAll(updated);
+    }
+
+    private static byte[] addDistinct(byte[] bytes, List<SketchObservation> observations) {
+        HyperLogLog hll = HyperLogLog.fromBytes(bytes);
+        observations.forEach(observation -> hll.add(observation.value()));
+        return hll.toBytes();
+    }
+
+    private static byte[] addDurations(byte[] bytes, List<SketchObservation> observations) {
+        DDSketch sketch = DDSketch.fromBytes(bytes);
+        observations.forEach(observation -> sketch.add(observation.value()));
+        return sketch.toBytes();
+    }
+}
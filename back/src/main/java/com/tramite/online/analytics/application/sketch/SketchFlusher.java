@@ -0,0 +1,72 @@
+package com.tramite.online.analytics.application.sketch;
+
+import com.tramite.online.analytics.domain.repository.SketchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drena la cola de observaciones hacia los sketches, igual que RollupFlusher con los rollups
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SketchFlusher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SketchFlusher.class);
+
+    private final SketchAggregator sketchAggregator;
+    private final SketchRepository sketchRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter flushed;
+    private final Timer flushTimer;
+
+    public SketchFlusher(SketchAggregator sketchAggregator,
+                         SketchRepository sketchRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.analytics.sketch.batch-size:1000}") int batchSize,
+                         @Value("${app.analytics.sketch.max-batches:10}") int maxBatches) {
+        this.sketchAggregator = sketchAggregator;
+        this.sketchRepository = sketchRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        Gauge.builder("analytics.sketch.pending", pending, AtomicLong::get)
+                .description("Observaciones pendientes de agregar en los sketches")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("analytics.sketch.flushed")
+                .description("Observaciones agregadas en los sketches")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("analytics.sketch.flush")
+                .description("Duracion de cada lote de agregacion de sketches")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.sketch.flush-interval:PT5S}")
+    public void flush() {
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int taken = flushTimer.record(() -> sketchAggregator.flush(batchSize));
+                flushed.increment(taken);
+                if (taken < batchSize) {
+                    break;
+                }
+            }
+            pending.set(sketchRepository.countPending());
+        } catch (DataAccessException e) {
+            logger.warn("Could not flush analytics sketches: {}", e.getMessage());
+        }
+    }
+}
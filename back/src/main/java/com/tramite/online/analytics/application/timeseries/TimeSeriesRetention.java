@@ -0,0 +1,64 @@
+package com.tramite.online.analytics.application.timeseries;
+
+import com.tramite.online.analytics.domain.model.BucketResolution;
+import com.tramite.online.analytics.domain.repository.SubmissionTimeSeriesRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Downsampling de la serie temporal: los buckets de minuto y de hora ya estan sumados en las
+ * resoluciones mas gruesas desde que se escribieron, asi que pasada su retencion solo se borran.
+ * Los de dia se conservan.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class TimeSeriesRetention {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimeSeriesRetention.class);
+
+    private final SubmissionTimeSeriesRepository submissionTimeSeriesRepository;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+
+    public TimeSeriesRetention(SubmissionTimeSeriesRepository submissionTimeSeriesRepository,
+                               @Value("${app.analytics.timeseries.minute-retention:P2D}") Duration minuteRetention,
+                               @Value("${app.analytics.timeseries.hour-retention:P90D}") Duration hourRetention) {
+        this.submissionTimeSeriesRepository = submissionTimeSeriesRepository;
+        this.minuteRetention = minuteRetention;
+        this.hourRetention = hourRetention;
+    }
+
+    public Duration retentionOf(BucketResolution resolution) {
+        return switch (resolution) {
+            case MINUTE -> minuteRetention;
+            case HOUR -> hourRetention;
+            case DAY -> null;
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.timeseries.retention-interval:PT10M}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int minutes = submissionTimeSeriesRepository.deleteBefore(BucketResolution.MINUTE,
+                    BucketResolution.MINUTE.truncate(now.minus(minuteRetention)));
+            int hours = submissionTimeSeriesRepository.deleteBefore(BucketResolution.HOUR,
+                    BucketResolution.HOUR.truncate(now.minus(hourRetention)));
+            if (minutes > 0 || hours > 0) {
+                logger.info("Purged {} minute and {} hour submission buckets", minutes, hours);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not purge submission time buckets: {}", e.getMessage());
+        }
+    }
+}
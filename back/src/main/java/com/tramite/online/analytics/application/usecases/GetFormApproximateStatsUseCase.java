@@ -0,0 +1,34 @@
+package com.tramite.online.analytics.application.usecases;
+
+import com.tramite.online.analytics.application.dto.response.ApproximateStatsResponse;
+import com.tramite.online.analytics.domain.model.FormSketch;
+import com.tramite.online.analytics.domain.repository.SketchRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Caso de Uso para submitters distintos y percentiles de aprobacion y revision de un formulario.
+ * Lee un sketch por metrica en lugar de ordenar las submissions.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetFormApproximateStatsUseCase {
+
+    private final SketchRepository sketchRepository;
+
+    public GetFormApproximateStatsUseCase(SketchRepository sketchRepository) {
+        this.sketchRepository = sketchRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ApproximateStatsResponse execute(Long formId) {
+        List<FormSketch> sketches = sketchRepository.findByForm(formId);
+        Long workspaceId = sketches.isEmpty() ? null : sketches.getFirst().workspaceId();
+        return ApproximateStatsResponse.from(workspaceId, formId, sketches);
+    }
+}
@@ -0,0 +1,37 @@
+package com.tramite.online.analytics.application.usecases;
+
+import com.tramite.online.analytics.application.dto.response.FormQuestionStatsResponse;
+import com.tramite.online.analytics.application.dto.response.QuestionStatsResponse;
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.analytics.domain.repository.AnalyticsRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Caso de Uso para el dashboard por pregunta de un formulario.
+ * Lee solo los rollups (una fila por pregunta y por opcion), nunca las respuestas crudas.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetQuestionStatsUseCase {
+
+    private final AnalyticsRollupRepository analyticsRollupRepository;
+
+    public GetQuestionStatsUseCase(AnalyticsRollupRepository analyticsRollupRepository) {
+        this.analyticsRollupRepository = analyticsRollupRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public FormQuestionStatsResponse execute(Long formId, RollupStage stage) {
+        long submissions = analyticsRollupRepository.findSubmissions(formId, stage);
+        List<QuestionStatsResponse> questions = analyticsRollupRepository.findQuestionRollups(formId, stage).stream()
+                .map(rollup -> QuestionStatsResponse.from(rollup, submissions))
+                .toList();
+        return new FormQuestionStatsResponse(formId, stage, submissions, questions);
+    }
+}
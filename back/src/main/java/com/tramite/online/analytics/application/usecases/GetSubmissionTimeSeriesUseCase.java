@@ -0,0 +1,73 @@
+package com.tramite.online.analytics.application.usecases;
+
+import com.tramite.online.analytics.application.dto.response.SubmissionTimeSeriesResponse;
+import com.tramite.online.analytics.application.timeseries.TimeSeriesRetention;
+import com.tramite.online.analytics.domain.model.BucketResolution;
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.analytics.domain.model.TimeSeries;
+import com.tramite.online.analytics.domain.repository.SubmissionTimeSeriesRepository;
+import com.tramite.online.shared.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Caso de Uso para los graficos de submissions en el tiempo de un formulario.
+ * Sin resolucion explicita elige la mas fina que entra en max-points y cuya retencion
+ * todavia cubre el inicio del rango; la lectura es una fila por bucket.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetSubmissionTimeSeriesUseCase {
+
+    private final SubmissionTimeSeriesRepository submissionTimeSeriesRepository;
+    private final TimeSeriesRetention timeSeriesRetention;
+    private final int maxPoints;
+
+    public GetSubmissionTimeSeriesUseCase(SubmissionTimeSeriesRepository submissionTimeSeriesRepository,
+                                          TimeSeriesRetention timeSeriesRetention,
+                                          @Value("${app.analytics.timeseries.max-points:1500}") int maxPoints) {
+        this.submissionTimeSeriesRepository = submissionTimeSeriesRepository;
+        this.timeSeriesRetention = timeSeriesRetention;
+        this.maxPoints = maxPoints;
+    }
+
+    @Transactional(readOnly = true)
+    public SubmissionTimeSeriesResponse execute(Long formId, RollupStage stage, BucketResolution resolution,
+                                                LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("from", "El inicio del rango debe ser anterior al fin");
+        }
+        BucketResolution chosen = resolution != null ? resolution : chooseResolution(from, to);
+        LocalDateTime start = chosen.truncate(from);
+        LocalDateTime end = chosen.truncate(to);
+        if (end.isBefore(to)) {
+            end = end.plus(chosen.step());
+        }
+        if (chosen.bucketsBetween(start, end) > maxPoints) {
+            throw new ValidationException("resolution", "El rango pedido supera los " + maxPoints
+                    + " puntos con resolucion " + chosen);
+        }
+        TimeSeries series = submissionTimeSeriesRepository.findSeries(formId, stage, chosen, start, end);
+        return SubmissionTimeSeriesResponse.from(formId, stage, series);
+    }
+
+    private BucketResolution chooseResolution(LocalDateTime from, LocalDateTime to) {
+        Duration span = Duration.between(from, to);
+        LocalDateTime now = LocalDateTime.now();
+        for (BucketResolution candidate : BucketResolution.values()) {
+            Duration retention = timeSeriesRetention.retentionOf(candidate);
+            boolean retained = retention == null || !from.isBefore(now.minus(retention));
+            if (retained && span.dividedBy(candidate.step()) < maxPoints) {
+                return candidate;
+            }
+        }
+        return BucketResolution.DAY;
+    }
+}
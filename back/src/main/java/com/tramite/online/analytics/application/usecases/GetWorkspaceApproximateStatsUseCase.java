@@ -0,0 +1,29 @@
+package com.tramite.online.analytics.application.usecases;
+
+import com.tramite.online.analytics.application.dto.response.ApproximateStatsResponse;
+import com.tramite.online.analytics.domain.repository.SketchRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de Uso para las estadisticas aproximadas de un workspace: combina al vuelo los sketches
+ * de todos sus formularios, un usuario que envio a varios formularios cuenta una sola vez.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetWorkspaceApproximateStatsUseCase {
+
+    private final SketchRepository sketchRepository;
+
+    public GetWorkspaceApproximateStatsUseCase(SketchRepository sketchRepository) {
+        this.sketchRepository = sketchRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ApproximateStatsResponse execute(Long workspaceId) {
+        return ApproximateStatsResponse.from(workspaceId, null, sketchRepository.findByWorkspace(workspaceId));
+    }
+}
@@ -0,0 +1,42 @@
+package com.tramite.online.analytics.application.usecases;
+
+import com.tramite.online.analytics.application.dto.command.RebuildRollupsCommand;
+import com.tramite.online.analytics.application.job.RollupRebuildJobHandler;
+import com.tramite.online.analytics.domain.repository.AnalyticsRollupRepository;
+import com.tramite.online.job.api.JobRequest;
+import com.tramite.online.job.api.JobScheduler;
+import com.tramite.online.job.api.JobView;
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Caso de uso que encola la reconstruccion de los rollups de un formulario como trabajo asincrono
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class RebuildRollupsUseCase {
+
+    private final AnalyticsRollupRepository analyticsRollupRepository;
+    private final JobScheduler jobScheduler;
+    private final JsonMapper jsonMapper;
+
+    public RebuildRollupsUseCase(AnalyticsRollupRepository analyticsRollupRepository,
+                                 JobScheduler jobScheduler,
+                                 JsonMapper jsonMapper) {
+        this.analyticsRollupRepository = analyticsRollupRepository;
+        this.jobScheduler = jobScheduler;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public JobView execute(Long formId) {
+        Long workspaceId = analyticsRollupRepository.findWorkspaceId(formId)
+                .orElseThrow(() -> new ResourceNotFoundException("Form", formId));
+        Long jobId = jobScheduler.submit(new JobRequest(RollupRebuildJobHandler.TYPE, workspaceId,
+                jsonMapper.writeValueAsString(new RebuildRollupsCommand(formId))));
+        return jobScheduler.find(jobId).orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+    }
+}
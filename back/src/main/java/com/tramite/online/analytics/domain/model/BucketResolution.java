@@ -0,0 +1,44 @@
+package com.tramite.online.analytics.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Resolucion de los buckets de la serie temporal de submissions
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum BucketResolution {
+
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    BucketResolution(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public Duration step() {
+        return unit.getDuration();
+    }
+
+    /**
+     * Inicio del bucket que contiene al instante (igual que date_trunc en la base)
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Cantidad de buckets entre dos inicios de bucket
+     */
+    public int bucketsBetween(LocalDateTime start, LocalDateTime end) {
+        return Math.toIntExact(unit.between(start, end));
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.tramite.online.analytics.domain.model;
+
+/**
+ * Sketch serializado de una metrica de un formulario; sketch es null si todavia no tiene observaciones
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record FormSketch(Long formId, Long workspaceId, SketchMetric metric, byte[] sketch) {
+}
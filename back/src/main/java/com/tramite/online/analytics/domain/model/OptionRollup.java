@@ -0,0 +1,11 @@
+package com.tramite.online.analytics.domain.model;
+
+/**
+ * Cantidad de respuestas de una opcion de una pregunta
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record OptionRollup(String value, String label, long count) {
+}
@@ -0,0 +1,31 @@
+package com.tramite.online.analytics.domain.model;
+
+import java.util.List;
+
+/**
+ * Agregado de una pregunta: respuestas, suma de pesos de las opciones elegidas y conteo por opcion
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record QuestionRollup(
+        Long questionId,
+        String text,
+        long answered,
+        long weightSum,
+        long weightedCount,
+        List<OptionRollup> options
+) {
+
+    public QuestionRollup {
+        options = List.copyOf(options);
+    }
+
+    /**
+     * Promedio de QuestionOption.weight de las respuestas con opcion; null si no hay ninguna
+     */
+    public Double averageWeight() {
+        return weightedCount == 0 ? null : (double) weightSum / weightedCount;
+    }
+}
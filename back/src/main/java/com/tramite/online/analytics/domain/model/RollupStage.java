@@ -0,0 +1,13 @@
+package com.tramite.online.analytics.domain.model;
+
+/**
+ * Etapa de la submission que agrega un rollup: todo lo enviado o solo lo aprobado
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum RollupStage {
+    SUBMITTED,
+    APPROVED
+}
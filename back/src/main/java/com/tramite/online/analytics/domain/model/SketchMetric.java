@@ -0,0 +1,19 @@
+package com.tramite.online.analytics.domain.model;
+
+/**
+ * Metricas aproximadas que se mantienen como sketch por formulario.
+ * DISTINCT_SUBMITTERS es un HyperLogLog de usuarios; las demas son DDSketch de duraciones en milisegundos.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum SketchMetric {
+    DISTINCT_SUBMITTERS,
+    TIME_TO_APPROVE,
+    REVIEW_TIME;
+
+    public boolean isDistinctCount() {
+        return this == DISTINCT_SUBMITTERS;
+    }
+}
@@ -0,0 +1,20 @@
+package com.tramite.online.analytics.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Observacion pendiente de agregar en un sketch: un usuario (DISTINCT_SUBMITTERS) o una duracion en ms.
+ * (instancia, metrica, occurredAt) identifica el evento de origen.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record SketchObservation(
+        Long instanceId,
+        SketchMetric metric,
+        LocalDateTime occurredAt,
+        Long formId,
+        Long workspaceId,
+        long value
+) {}
@@ -0,0 +1,22 @@
+package com.tramite.online.analytics.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serie temporal densa: counts[i] es la cantidad del bucket que empieza en start + i * resolution.
+ * Los buckets sin submissions valen 0.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record TimeSeries(LocalDateTime start, BucketResolution resolution, long[] counts) {
+
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,66 @@
+package com.tramite.online.analytics.domain.repository;
+
+import com.tramite.online.analytics.domain.model.QuestionRollup;
+import com.tramite.online.analytics.domain.model.RollupStage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto para los rollups incrementales de analytics.
+ * La implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface AnalyticsRollupRepository {
+
+    /**
+     * Pagina de instancias reencoladas por la reconstruccion: ultima instancia de la pagina
+     * (0 si no quedaban) y cuantas se tomaron
+     */
+    record RebuildPage(long lastInstanceId, int instances) {
+    }
+
+    /**
+     * Deja la instancia pendiente de agregar; repetir el mismo (instancia, etapa) no tiene efecto.
+     * occurredAt es el momento del envio o la aprobacion, para la serie temporal.
+     */
+    void enqueue(Long instanceId, Long formId, RollupStage stage, LocalDateTime occurredAt);
+
+    /**
+     * Toma hasta limit instancias pendientes y suma sus respuestas a los rollups (y a los buckets
+     * de tiempo) en una sola sentencia.
+     * Las instancias ya agregadas en esa etapa se descartan. Devuelve cuantas pendientes se tomaron.
+     */
+    int flush(int limit);
+
+    long countPending();
+
+    long findSubmissions(Long formId, RollupStage stage);
+
+    /**
+     * Rollups de todas las preguntas del formulario con sus opciones, en orden de visualizacion
+     */
+    List<QuestionRollup> findQuestionRollups(Long formId, RollupStage stage);
+
+    Optional<Long> findWorkspaceId(Long formId);
+
+    /**
+     * Borra los rollups, buckets, pendientes y ledger del formulario para reconstruirlos desde cero
+     */
+    void resetForm(Long formId);
+
+    /**
+     * Instancias del formulario que fueron enviadas alguna vez
+     */
+    long countSubmitted(Long formId);
+
+    /**
+     * Encola en ambas etapas hasta limit instancias enviadas del formulario con id mayor a
+     * afterInstanceId, en orden de id; el flush normal las agrega
+     */
+    RebuildPage enqueueForRebuild(Long formId, long afterInstanceId, int limit);
+}
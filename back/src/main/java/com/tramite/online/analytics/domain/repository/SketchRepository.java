@@ -0,0 +1,45 @@
+package com.tramite.online.analytics.domain.repository;
+
+import com.tramite.online.analytics.domain.model.FormSketch;
+import com.tramite.online.analytics.domain.model.SketchMetric;
+import com.tramite.online.analytics.domain.model.SketchObservation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Puerto para los sketches aproximados por formulario.
+ * La implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface SketchRepository {
+
+    /**
+     * Deja la observacion pendiente de agregar; repetir la misma (instancia, metrica, momento) no tiene efecto
+     */
+    void enqueue(SketchObservation observation);
+
+    /**
+     * Toma hasta limit observaciones pendientes y las registra en el ledger.
+     * Devuelve solo las que no se habian agregado antes.
+     */
+    List<SketchObservation> drain(int limit);
+
+    /**
+     * Bloquea (creandolos vacios si no existen) los sketches de la metrica para los formularios dados,
+     * en orden de formulario. formWorkspaces es formulario -> workspace.
+     */
+    Map<Long, FormSketch> lockSketches(SketchMetric metric, SortedMap<Long, Long> formWorkspaces);
+
+    void saveAll(List<FormSketch> sketches);
+
+    long countPending();
+
+    List<FormSketch> findByForm(Long formId);
+
+    List<FormSketch> findByWorkspace(Long workspaceId);
+}
@@ -0,0 +1,29 @@
+package com.tramite.online.analytics.domain.repository;
+
+import com.tramite.online.analytics.domain.model.BucketResolution;
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.analytics.domain.model.TimeSeries;
+
+import java.time.LocalDateTime;
+
+/**
+ * Puerto para la serie temporal de submissions por formulario.
+ * Los buckets los escribe el flush de rollups; la implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface SubmissionTimeSeriesRepository {
+
+    /**
+     * Serie densa de [start, end), con start y end alineados a la resolucion
+     */
+    TimeSeries findSeries(Long formId, RollupStage stage, BucketResolution resolution,
+                          LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Borra los buckets de esa resolucion que empiezan antes de before. Devuelve cuantos borro.
+     */
+    int deleteBefore(BucketResolution resolution, LocalDateTime before);
+}
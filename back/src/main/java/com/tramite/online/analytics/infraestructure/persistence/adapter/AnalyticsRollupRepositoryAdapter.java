@@ -0,0 +1,242 @@
+package com.tramite.online.analytics.infraestructure.persistence.adapter;
+
+import com.tramite.online.analytics.domain.model.OptionRollup;
+import com.tramite.online.analytics.domain.model.QuestionRollup;
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.analytics.domain.repository.AnalyticsRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adapter JDBC de los rollups de analytics.
+ * El flush es una sola sentencia: drena un lote de pendientes (SKIP LOCKED), filtra las instancias
+ * ya registradas en el ledger, agrupa sus respuestas y suma los deltas con un upsert por tabla.
+ * Cada fila de contadores se actualiza una vez por lote, no una vez por submission.
+ * El mismo lote suma en los buckets de minuto, hora y dia de la serie temporal.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class AnalyticsRollupRepositoryAdapter implements AnalyticsRollupRepository {
+
+    private static final String ENQUEUE = """
+            INSERT INTO analytics_rollup_pending (form_instance_id, stage, form_config_id, occurred_at, enqueued_at)
+            VALUES (?, ?, ?, ?, LOCALTIMESTAMP)
+            ON CONFLICT (form_instance_id, stage) DO NOTHING
+            """;
+
+    private static final String FLUSH = """
+            WITH batch AS (
+                DELETE FROM analytics_rollup_pending p
+                WHERE (p.form_instance_id, p.stage) IN (
+                    SELECT form_instance_id, stage
+                    FROM analytics_rollup_pending
+                    ORDER BY enqueued_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING p.form_instance_id, p.stage, p.form_config_id, COALESCE(p.occurred_at, p.enqueued_at) AS occurred_at
+            ), fresh AS (
+                INSERT INTO analytics_rollup_ledger (form_instance_id, stage)
+                SELECT form_instance_id, stage FROM batch
+                ON CONFLICT DO NOTHING
+                RETURNING form_instance_id, stage
+            ), instances AS (
+                SELECT b.form_instance_id, b.stage, b.form_config_id, b.occurred_at
+                FROM batch b
+                JOIN fresh f ON f.form_instance_id = b.form_instance_id AND f.stage = b.stage
+            ), answers AS (
+                SELECT i.form_config_id, i.stage, q.config_question_id, o.value AS option_value, o.weight
+                FROM instances i
+                JOIN instance_question q ON q.form_instance_id = i.form_instance_id
+                JOIN instance_answer a ON a.form_instance_id = q.form_instance_id AND a.instance_question_id = q.id
+                LEFT JOIN instance_option o ON o.instance_question_id = q.id AND o.value = a.value
+                WHERE a.value IS NOT NULL AND btrim(a.value) <> ''
+            ), forms AS (
+                INSERT INTO form_rollup (form_config_id, stage, submissions, updated_at)
+                SELECT form_config_id, stage, count(*), LOCALTIMESTAMP
+                FROM instances
+                GROUP BY form_config_id, stage
+                ON CONFLICT (form_config_id, stage) DO UPDATE SET
+                    submissions = form_rollup.submissions + EXCLUDED.submissions,
+                    updated_at = EXCLUDED.updated_at
+            ), questions AS (
+                INSERT INTO question_rollup (form_config_id, stage, config_question_id, answered_count,
+                                             weight_sum, weighted_count, updated_at)
+                SELECT form_config_id, stage, config_question_id, count(*),
+                       COALESCE(sum(weight), 0), count(weight), LOCALTIMESTAMP
+                FROM answers
+                GROUP BY form_config_id, stage, config_question_id
+                ON CONFLICT (form_config_id, stage, config_question_id) DO UPDATE SET
+                    answered_count = question_rollup.answered_count + EXCLUDED.answered_count,
+                    weight_sum = question_rollup.weight_sum + EXCLUDED.weight_sum,
+                    weighted_count = question_rollup.weighted_count + EXCLUDED.weighted_count,
+                    updated_at = EXCLUDED.updated_at
+            ), options AS (
+                INSERT INTO question_option_rollup (form_config_id, stage, config_question_id, option_value,
+                                                    answer_count, updated_at)
+                SELECT form_config_id, stage, config_question_id, option_value, count(*), LOCALTIMESTAMP
+                FROM answers
+                WHERE option_value IS NOT NULL
+                GROUP BY form_config_id, stage, config_question_id, option_value
+                ON CONFLICT (form_config_id, stage, config_question_id, option_value) DO UPDATE SET
+                    answer_count = question_option_rollup.answer_count + EXCLUDED.answer_count,
+                    updated_at = EXCLUDED.updated_at
+            ), buckets AS (
+                INSERT INTO submission_time_bucket (form_config_id, stage, resolution, bucket_start, count)
+                SELECT i.form_config_id, i.stage, r.resolution, date_trunc(r.unit, i.occurred_at), count(*)
+                FROM instances i
+                CROSS JOIN (VALUES ('MINUTE', 'minute'), ('HOUR', 'hour'), ('DAY', 'day')) AS r(resolution, unit)
+                GROUP BY i.form_config_id, i.stage, r.resolution, date_trunc(r.unit, i.occurred_at)
+                ON CONFLICT (form_config_id, stage, resolution, bucket_start) DO UPDATE SET
+                    count = submission_time_bucket.count + EXCLUDED.count
+            )
+            SELECT count(*) FROM batch
+            """;
+
+    private static final String SELECT_QUESTIONS = """
+            SELECT r.config_question_id, cq.text, r.answered_count, r.weight_sum, r.weighted_count
+            FROM question_rollup r
+            LEFT JOIN config_question cq ON cq.id = r.config_question_id
+            LEFT JOIN config_section cs ON cs.id = cq.config_section_id
+            WHERE r.form_config_id = ? AND r.stage = ?
+            ORDER BY cs.display_order, cq.display_order, r.config_question_id
+            """;
+
+    private static final String SELECT_OPTIONS = """
+            SELECT r.config_question_id, r.option_value, co.label, r.answer_count
+            FROM question_option_rollup r
+            LEFT JOIN LATERAL (
+                SELECT label, display_order
+                FROM config_option
+                WHERE config_question_id = r.config_question_id AND value = r.option_value
+                ORDER BY display_order
+                LIMIT 1
+            ) co ON TRUE
+            WHERE r.form_config_id = ? AND r.stage = ?
+            ORDER BY r.config_question_id, co.display_order, r.option_value
+            """;
+
+    private static final String RESET_FORM = """
+            WITH ledger AS (
+                DELETE FROM analytics_rollup_ledger l
+                USING form_instance fi
+                WHERE fi.id = l.form_instance_id AND fi.form_config_id = ?
+            ), pending AS (
+                DELETE FROM analytics_rollup_pending WHERE form_config_id = ?
+            ), forms AS (
+                DELETE FROM form_rollup WHERE form_config_id = ?
+            ), questions AS (
+                DELETE FROM question_rollup WHERE form_config_id = ?
+            ), options AS (
+                DELETE FROM question_option_rollup WHERE form_config_id = ?
+            )
+            DELETE FROM submission_time_bucket WHERE form_config_id = ?
+            """;
+
+    /**
+     * Reencola una pagina de instancias enviadas en ambas etapas. La aprobacion no guarda su fecha:
+     * updated_at de una instancia APPROVED es el momento de la aprobacion salvo cambios posteriores.
+     */
+    private static final String ENQUEUE_REBUILD = """
+            WITH page AS (
+                SELECT id, status, submitted_at, updated_at
+                FROM form_instance
+                WHERE form_config_id = ? AND id > ? AND submitted_at IS NOT NULL
+                ORDER BY id
+                LIMIT ?
+            ), submitted AS (
+                INSERT INTO analytics_rollup_pending (form_instance_id, stage, form_config_id, occurred_at, enqueued_at)
+                SELECT id, 'SUBMITTED', ?, submitted_at, LOCALTIMESTAMP FROM page
+                ON CONFLICT (form_instance_id, stage) DO NOTHING
+            ), approved AS (
+                INSERT INTO analytics_rollup_pending (form_instance_id, stage, form_config_id, occurred_at, enqueued_at)
+                SELECT id, 'APPROVED', ?, updated_at, LOCALTIMESTAMP FROM page WHERE status = 'APPROVED'
+                ON CONFLICT (form_instance_id, stage) DO NOTHING
+            )
+            SELECT COALESCE(max(id), 0) AS last_id, count(*) AS instances FROM page
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalyticsRollupRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void enqueue(Long instanceId, Long formId, RollupStage stage, LocalDateTime occurredAt) {
+        jdbcTemplate.update(ENQUEUE, instanceId, stage.name(), formId, occurredAt);
+    }
+
+    @Override
+    public int flush(int limit) {
+        Integer taken = jdbcTemplate.queryForObject(FLUSH, Integer.class, limit);
+        return taken != null ? taken : 0;
+    }
+
+    @Override
+    public long countPending() {
+        Long pending = jdbcTemplate.queryForObject("SELECT count(*) FROM analytics_rollup_pending", Long.class);
+        return pending != null ? pending : 0;
+    }
+
+    @Override
+    public long findSubmissions(Long formId, RollupStage stage) {
+        return jdbcTemplate.queryForList(
+                        "SELECT submissions FROM form_rollup WHERE form_config_id = ? AND stage = ?",
+                        Long.class, formId, stage.name())
+                .stream().findFirst().orElse(0L);
+    }
+
+    @Override
+    public List<QuestionRollup> findQuestionRollups(Long formId, RollupStage stage) {
+        Map<Long, List<OptionRollup>> optionsByQuestion = new HashMap<>();
+        jdbcTemplate.query(SELECT_OPTIONS, rs -> {
+            optionsByQuestion.computeIfAbsent(rs.getLong("config_question_id"), id -> new ArrayList<>())
+                    .add(new OptionRollup(rs.getString("option_value"), rs.getString("label"),
+                            rs.getLong("answer_count")));
+        }, formId, stage.name());
+
+        return jdbcTemplate.query(SELECT_QUESTIONS, (rs, rowNum) -> {
+            long questionId = rs.getLong("config_question_id");
+            return new QuestionRollup(questionId, rs.getString("text"), rs.getLong("answered_count"),
+                    rs.getLong("weight_sum"), rs.getLong("weighted_count"),
+                    optionsByQuestion.getOrDefault(questionId, List.of()));
+        }, formId, stage.name());
+    }
+
+    @Override
+    public Optional<Long> findWorkspaceId(Long formId) {
+        return jdbcTemplate.queryForList("SELECT workspace_id FROM form_config WHERE id = ?", Long.class, formId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public void resetForm(Long formId) {
+        jdbcTemplate.update(RESET_FORM, formId, formId, formId, formId, formId, formId);
+    }
+
+    @Override
+    public long countSubmitted(Long formId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM form_instance WHERE form_config_id = ? AND submitted_at IS NOT NULL",
+                Long.class, formId);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public RebuildPage enqueueForRebuild(Long formId, long afterInstanceId, int limit) {
+        return jdbcTemplate.queryForObject(ENQUEUE_REBUILD,
+                (rs, rowNum) -> new RebuildPage(rs.getLong("last_id"), rs.getInt("instances")),
+                formId, afterInstanceId, limit, formId, formId);
+    }
+}
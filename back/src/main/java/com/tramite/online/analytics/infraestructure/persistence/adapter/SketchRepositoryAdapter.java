@@ -0,0 +1,165 @@
+package com.tramite.online.analytics.infraestructure.persistence.adapter;
+
+import com.tramite.online.analytics.domain.model.FormSketch;
+import com.tramite.online.analytics.domain.model.SketchMetric;
+import com.tramite.online.analytics.domain.model.SketchObservation;
+import com.tramite.online.analytics.domain.repository.SketchRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Adapter JDBC de los sketches. El drenado es una sentencia (DELETE ... SKIP LOCKED + ledger);
+ * la combinacion de los sketches se hace en Java sobre las filas bloqueadas y se escribe en batch.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SketchRepositoryAdapter implements SketchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ENQUEUE = """
+            INSERT INTO analytics_sketch_pending (form_instance_id, metric, occurred_at, form_config_id,
+                                                  workspace_id, value, enqueued_at)
+            VALUES (?, ?, ?, ?, ?, ?, LOCALTIMESTAMP)
+            ON CONFLICT (form_instance_id, metric, occurred_at) DO NOTHING
+            """;
+
+    private static final String DRAIN = """
+            WITH batch AS (
+                DELETE FROM analytics_sketch_pending p
+                WHERE (p.form_instance_id, p.metric, p.occurred_at) IN (
+                    SELECT form_instance_id, metric, occurred_at
+                    FROM analytics_sketch_pending
+                    ORDER BY enqueued_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING p.form_instance_id, p.metric, p.occurred_at, p.form_config_id, p.workspace_id, p.value
+            ), fresh AS (
+                INSERT INTO analytics_sketch_ledger (form_instance_id, metric, occurred_at)
+                SELECT form_instance_id, metric, occurred_at FROM batch
+                ON CONFLICT DO NOTHING
+                RETURNING form_instance_id, metric, occurred_at
+            )
+            SELECT b.form_instance_id, b.metric, b.occurred_at, b.form_config_id, b.workspace_id, b.value
+            FROM batch b
+            JOIN fresh f ON f.form_instance_id = b.form_instance_id AND f.metric = b.metric
+                        AND f.occurred_at = b.occurred_at
+            """;
+
+    /**
+     * Crea las filas faltantes antes del SELECT ... FOR UPDATE: asi dos flushers que agregan el primer
+     * valor de un formulario se serializan en la misma fila en lugar de pisarse con un upsert
+     */
+    private static final String CREATE_MISSING = """
+            INSERT INTO form_sketch (form_config_id, metric, workspace_id, updated_at)
+            SELECT t.form_config_id, ?, t.workspace_id, LOCALTIMESTAMP
+            FROM unnest(?, ?) AS t(form_config_id, workspace_id)
+            ON CONFLICT (form_config_id, metric) DO NOTHING
+            """;
+
+    private static final String LOCK = """
+            SELECT form_config_id, metric, workspace_id, sketch
+            FROM form_sketch
+            WHERE metric = ? AND form_config_id = ANY(?)
+            ORDER BY form_config_id
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE = """
+            UPDATE form_sketch SET sketch = ?, updated_at = LOCALTIMESTAMP
+            WHERE form_config_id = ? AND metric = ?
+            """;
+
+    private static final RowMapper<SketchObservation> OBSERVATION_ROW_MAPPER = (rs, rowNum) ->
+            new SketchObservation(
+                    rs.getLong("form_instance_id"),
+                    SketchMetric.valueOf(rs.getString("metric")),
+                    rs.getObject("occurred_at", LocalDateTime.class),
+                    rs.getLong("form_config_id"),
+                    rs.getLong("workspace_id"),
+                    rs.getLong("value"));
+
+    private static final RowMapper<FormSketch> SKETCH_ROW_MAPPER = (rs, rowNum) ->
+            new FormSketch(
+                    rs.getLong("form_config_id"),
+                    rs.getLong("workspace_id"),
+                    SketchMetric.valueOf(rs.getString("metric")),
+                    rs.getBytes("sketch"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SketchRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void enqueue(SketchObservation observation) {
+        jdbcTemplate.update(ENQUEUE, observation.instanceId(), observation.metric().name(),
+                observation.occurredAt(), observation.formId(), observation.workspaceId(), observation.value());
+    }
+
+    @Override
+    public List<SketchObservation> drain(int limit) {
+        return jdbcTemplate.query(DRAIN, OBSERVATION_ROW_MAPPER, limit);
+    }
+
+    @Override
+    public Map<Long, FormSketch> lockSketches(SketchMetric metric, SortedMap<Long, Long> formWorkspaces) {
+        Long[] formIds = formWorkspaces.keySet().toArray(Long[]::new);
+        Long[] workspaceIds = formWorkspaces.values().toArray(Long[]::new);
+        jdbcTemplate.update(CREATE_MISSING, ps -> {
+            ps.setString(1, metric.name());
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", formIds));
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", workspaceIds));
+        });
+        Map<Long, FormSketch> sketches = new HashMap<>();
+        jdbcTemplate.query(LOCK, ps -> {
+            ps.setString(1, metric.name());
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", formIds));
+        }, rs -> {
+            FormSketch sketch = SKETCH_ROW_MAPPER.mapRow(rs, 0);
+            sketches.put(sketch.formId(), sketch);
+        });
+        return sketches;
+    }
+
+    @Override
+    public void saveAll(List<FormSketch> sketches) {
+        jdbcTemplate.batchUpdate(UPDATE, sketches, BATCH_SIZE, (ps, sketch) -> {
+            ps.setBytes(1, sketch.sketch());
+            ps.setLong(2, sketch.formId());
+            ps.setString(3, sketch.metric().name());
+        });
+    }
+
+    @Override
+    public long countPending() {
+        Long pending = jdbcTemplate.queryForObject("SELECT count(*) FROM analytics_sketch_pending", Long.class);
+        return pending != null ? pending : 0;
+    }
+
+    @Override
+    public List<FormSketch> findByForm(Long formId) {
+        return jdbcTemplate.query(
+                "SELECT form_config_id, metric, workspace_id, sketch FROM form_sketch WHERE form_config_id = ?",
+                SKETCH_ROW_MAPPER, formId);
+    }
+
+    @Override
+    public List<FormSketch> findByWorkspace(Long workspaceId) {
+        return jdbcTemplate.query(
+                "SELECT form_config_id, metric, workspace_id, sketch FROM form_sketch WHERE workspace_id = ?",
+                SKETCH_ROW_MAPPER, workspaceId);
+    }
+}
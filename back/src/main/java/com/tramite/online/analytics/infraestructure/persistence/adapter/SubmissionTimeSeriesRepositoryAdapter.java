@@ -0,0 +1,52 @@
+package com.tramite.online.analytics.infraestructure.persistence.adapter;
+
+import com.tramite.online.analytics.domain.model.BucketResolution;
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.analytics.domain.model.TimeSeries;
+import com.tramite.online.analytics.domain.repository.SubmissionTimeSeriesRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adapter JDBC de la serie temporal. La lectura recorre la clave primaria en orden
+ * (formulario, etapa, resolucion, inicio) y vuelca cada fila en su posicion del arreglo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionTimeSeriesRepositoryAdapter implements SubmissionTimeSeriesRepository {
+
+    private static final String SELECT_RANGE = """
+            SELECT bucket_start, count
+            FROM submission_time_bucket
+            WHERE form_config_id = ? AND stage = ? AND resolution = ? AND bucket_start >= ? AND bucket_start < ?
+            ORDER BY bucket_start
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SubmissionTimeSeriesRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public TimeSeries findSeries(Long formId, RollupStage stage, BucketResolution resolution,
+                                 LocalDateTime start, LocalDateTime end) {
+        long[] counts = new long[resolution.bucketsBetween(start, end)];
+        jdbcTemplate.query(SELECT_RANGE, rs -> {
+            LocalDateTime bucket = rs.getObject("bucket_start", LocalDateTime.class);
+            counts[resolution.bucketsBetween(start, bucket)] = rs.getLong("count");
+        }, formId, stage.name(), resolution.name(), start, end);
+        return new TimeSeries(start, resolution, counts);
+    }
+
+    @Override
+    public int deleteBefore(BucketResolution resolution, LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM submission_time_bucket WHERE resolution = ? AND bucket_start < ?",
+                resolution.name(), before);
+    }
+}
@@ -0,0 +1,87 @@
+package com.tramite.online.analytics.infraestructure.web.controller;
+
+import com.tramite.online.analytics.application.dto.response.ApproximateStatsResponse;
+import com.tramite.online.analytics.application.dto.response.FormQuestionStatsResponse;
+import com.tramite.online.analytics.application.dto.response.SubmissionTimeSeriesResponse;
+import com.tramite.online.analytics.application.usecases.GetFormApproximateStatsUseCase;
+import com.tramite.online.analytics.application.usecases.GetQuestionStatsUseCase;
+import com.tramite.online.analytics.application.usecases.GetSubmissionTimeSeriesUseCase;
+import com.tramite.online.analytics.application.usecases.RebuildRollupsUseCase;
+import com.tramite.online.analytics.domain.model.BucketResolution;
+import com.tramite.online.analytics.domain.model.RollupStage;
+import com.tramite.online.job.api.JobView;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+
+/**
+ * Controlador REST de estadisticas de formularios
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1/forms/{formId}/analytics")
+public class AnalyticsController {
+
+    private final GetQuestionStatsUseCase getQuestionStatsUseCase;
+    private final GetSubmissionTimeSeriesUseCase getSubmissionTimeSeriesUseCase;
+    private final GetFormApproximateStatsUseCase getFormApproximateStatsUseCase;
+    private final RebuildRollupsUseCase rebuildRollupsUseCase;
+
+    public AnalyticsController(GetQuestionStatsUseCase getQuestionStatsUseCase,
+                               GetSubmissionTimeSeriesUseCase getSubmissionTimeSeriesUseCase,
+                               GetFormApproximateStatsUseCase getFormApproximateStatsUseCase,
+                               RebuildRollupsUseCase rebuildRollupsUseCase) {
+        this.getQuestionStatsUseCase = getQuestionStatsUseCase;
+        this.getSubmissionTimeSeriesUseCase = getSubmissionTimeSeriesUseCase;
+        this.getFormApproximateStatsUseCase = getFormApproximateStatsUseCase;
+        this.rebuildRollupsUseCase = rebuildRollupsUseCase;
+    }
+
+    /**
+     * Distribucion de respuestas por pregunta y opcion, de lo enviado (SUBMITTED) o de lo aprobado (APPROVED)
+     */
+    @GetMapping("/questions")
+    public ResponseEntity<FormQuestionStatsResponse> getQuestionStats(
+            @PathVariable Long formId,
+            @RequestParam(defaultValue = "SUBMITTED") RollupStage stage) {
+        return ResponseEntity.ok(getQuestionStatsUseCase.execute(formId, stage));
+    }
+
+    /**
+     * Submissions por bucket en [from, to). Sin resolution se elige segun el largo del rango.
+     */
+    @GetMapping("/timeseries")
+    public ResponseEntity<SubmissionTimeSeriesResponse> getTimeSeries(
+            @PathVariable Long formId,
+            @RequestParam(defaultValue = "SUBMITTED") RollupStage stage,
+            @RequestParam(required = false) BucketResolution resolution,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(getSubmissionTimeSeriesUseCase.execute(formId, stage, resolution, from, to));
+    }
+
+    /**
+     * Submitters distintos y percentiles de tiempo hasta la aprobacion y de revision (aproximados)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApproximateStatsResponse> getSummary(@PathVariable Long formId) {
+        return ResponseEntity.ok(getFormApproximateStatsUseCase.execute(formId));
+    }
+
+    /**
+     * Encola la reconstruccion de los rollups y la serie temporal; el avance se consulta en /api/v1/jobs/{jobId}
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<JobView> rebuild(@PathVariable Long formId) {
+        JobView job = rebuildRollupsUseCase.execute(formId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/jobs/" + job.id()))
+                .body(job);
+    }
+}
@@ -0,0 +1,32 @@
+package com.tramite.online.analytics.infraestructure.web.controller;
+
+import com.tramite.online.analytics.application.dto.response.ApproximateStatsResponse;
+import com.tramite.online.analytics.application.usecases.GetWorkspaceApproximateStatsUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST de estadisticas de un workspace
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceId}/analytics")
+public class WorkspaceAnalyticsController {
+
+    private final GetWorkspaceApproximateStatsUseCase getWorkspaceApproximateStatsUseCase;
+
+    public WorkspaceAnalyticsController(GetWorkspaceApproximateStatsUseCase getWorkspaceApproximateStatsUseCase) {
+        this.getWorkspaceApproximateStatsUseCase = getWorkspaceApproximateStatsUseCase;
+    }
+
+    /**
+     * Submitters distintos y percentiles de aprobacion y revision de todos los formularios del workspace
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApproximateStatsResponse> getSummary(@PathVariable Long workspaceId) {
+        return ResponseEntity.ok(getWorkspaceApproximateStatsUseCase.execute(workspaceId));
+    }
+}
@@ -0,0 +1,14 @@
+package com.tramite.online.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Habilita @Async: los @ApplicationModuleListener se ejecutan fuera de la
+ * transaccion que publica el evento, en el executor de la aplicacion
+ * (hilos virtuales con spring.threads.virtual.enabled=true)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,12 @@
+package com.tramite.online.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas @Scheduled (mantenimiento del outbox, etc.)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
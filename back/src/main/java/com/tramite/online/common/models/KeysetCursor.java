@@ -0,0 +1,58 @@
+package com.tramite.online.common.models;
+
+import com.tramite.online.shared.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para paginacion keyset (seek) sobre (timestamp, id).
+ * El cliente solo ve un token Base64 URL-safe; el orden real es
+ * ORDER BY timestamp, id y la siguiente pagina se pide con
+ * WHERE (timestamp, id) > (:position, :id), sin OFFSET.
+ *
+ * @param position valor de la columna temporal de la ultima fila devuelta
+ * @param id       id de la ultima fila devuelta (desempate)
+ */
+public record KeysetCursor(LocalDateTime position, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public KeysetCursor {
+        if (position == null || id == null) {
+            throw new IllegalArgumentException("El cursor requiere posicion e id");
+        }
+    }
+
+    public String encode() {
+        String raw = position.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica el token recibido del cliente
+     * @param token cursor opaco, puede ser null o vacio (primera pagina)
+     * @return el cursor o null si es la primera pagina
+     * @throws ValidationException si el token no es valido
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new ValidationException("cursor", "Cursor de paginacion invalido");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("cursor", "Cursor de paginacion invalido");
+        }
+    }
+}
@@ -12,9 +12,13 @@ public record PagedResult<T>(
         boolean isFirst,
         boolean isLast,
         boolean hasNext,
-        boolean hasPrevious
+        boolean hasPrevious,
+        String nextCursor
 ) {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     public PagedResult(Page<T> page) {
         this(
                 page.getContent(),
@@ -24,10 +28,39 @@ public record PagedResult<T>(
                 page.isFirst(),
                 page.isLast(),
                 page.hasNext(),
-                page.hasPrevious()
+                page.hasPrevious(),
+                null
         );
     }
 
+    /**
+     * Pagina obtenida por keyset (seek). No se ejecuta COUNT(*), por eso
+     * totalElements, pageNumber y totalPages se informan como -1.
+     * Para pedir la siguiente pagina el cliente envia nextCursor.
+     */
+    public static <T> PagedResult<T> ofKeyset(List<T> data, boolean isFirst, String nextCursor) {
+        return new PagedResult<>(
+                data,
+                -1,
+                -1,
+                -1,
+                isFirst,
+                nextCursor == null,
+                nextCursor != null,
+                !isFirst,
+                nextCursor);
+    }
+
+    /**
+     * Normaliza el tamaño de pagina pedido por el cliente
+     */
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
     public static <S, T> PagedResult<T> of(PagedResult<S> pagedResult, Function<S, T> mapper) {
         return new PagedResult<>(
                 pagedResult.data.stream().map(mapper).toList(),
@@ -37,7 +70,8 @@ public record PagedResult<T>(
                 pagedResult.isFirst,
                 pagedResult.isLast,
                 pagedResult.hasNext,
-                pagedResult.hasPrevious);
+                pagedResult.hasPrevious,
+                pagedResult.nextCursor);
     }
 
 }
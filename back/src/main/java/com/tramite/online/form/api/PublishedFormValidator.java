@@ -0,0 +1,28 @@
+package com.tramite.online.form.api;
+
+import com.tramite.online.shared.domain.validation.ValidationResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Valida respuestas contra el plan compilado de una version publicada de un formulario, siga o no
+ * siendo la vigente. Las respuestas van por id de pregunta del formulario (config_question_id).
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface PublishedFormValidator {
+
+    /**
+     * @param versionRules reglas copiadas por una instancia de esa version; solo se piden si la version
+     *                     ya no es la publicada (se archivo o se publico otra) y su plan no esta en cache
+     * @param complete true al enviar (exige las obligatorias); false en un borrador, donde solo
+     *                 se validan las respuestas recibidas y se admiten vacias
+     * @return las violaciones encontradas
+     */
+    ValidationResult validate(Long formId, int version, Supplier<List<QuestionRules>> versionRules,
+                              Map<Long, List<String>> answers, boolean complete);
+}
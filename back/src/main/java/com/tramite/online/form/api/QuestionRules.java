@@ -0,0 +1,32 @@
+package com.tramite.online.form.api;
+
+import java.util.List;
+
+/**
+ * Reglas de validacion de una pregunta tal como quedaron copiadas en una instancia
+ * (instance_question e instance_option); alcanzan para compilar el plan de una version que ya
+ * no esta publicada
+ * @param questionId pregunta del formulario de la que es copia (config_question_id)
+ * @param type nombre del QuestionType
+ * @param optionValues valores de las opciones; vacio en preguntas sin opciones
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record QuestionRules(
+        Long questionId,
+        String type,
+        boolean required,
+        Integer minLength,
+        Integer maxLength,
+        Integer minValue,
+        Integer maxValue,
+        String validationPattern,
+        String validationMessage,
+        List<String> optionValues
+) {
+    public QuestionRules {
+        optionValues = optionValues != null ? List.copyOf(optionValues) : List.of();
+    }
+}
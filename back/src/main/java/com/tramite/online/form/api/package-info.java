@@ -0,0 +1,8 @@
+/**
+ * API del modulo de formularios: submission valida las respuestas de una instancia
+ * contra la version del formulario con PublishedFormValidator
+ */
+@NamedInterface("api")
+package com.tramite.online.form.api;
+
+import org.springframework.modulith.NamedInterface;
@@ -0,0 +1,11 @@
+package com.tramite.online.form.application.dto.command;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Record para obtener la version publicada de un formulario por su slug
+ */
+public record GetPublishedFormCommand(
+        @NotBlank(message = "El slug del formulario es obligatorio")
+        String slug
+) {}
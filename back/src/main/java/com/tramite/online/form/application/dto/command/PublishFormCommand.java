@@ -0,0 +1,13 @@
+package com.tramite.online.form.application.dto.command;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Record para publicar un formulario
+ */
+public record PublishFormCommand(
+        @NotNull(message = "El ID del formulario es obligatorio")
+        @Positive(message = "El ID del formulario debe ser un número positivo")
+        Long formId
+) {}
@@ -0,0 +1,40 @@
+package com.tramite.online.form.application.dto.response;
+
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record de respuesta con los datos de cabecera de un formulario
+ */
+public record FormResponse(
+        Long id,
+        Long workspaceId,
+        String title,
+        String slug,
+        String description,
+        FormStatus status,
+        Integer version,
+        int sectionCount,
+        int totalQuestions,
+        LocalDateTime publishedAt,
+        LocalDateTime updatedAt
+) {
+
+    public static FormResponse from(Form form) {
+        return new FormResponse(
+                form.getId(),
+                form.getWorkspaceId(),
+                form.getTitle(),
+                form.getSlug(),
+                form.getDescription(),
+                form.getStatus(),
+                form.getVersion(),
+                form.getSectionCount(),
+                form.getTotalQuestions(),
+                form.getPublishedAt(),
+                form.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.tramite.online.form.application.snapshot;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tramite.online.form.domain.model.PublishedFormVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache acotado de snapshots publicados por (formId, version) y de la version vigente por slug.
+ * Los eventos de publicacion y archivo solo llegan al nodo que los emitio: en los demas la
+ * version por slug vence a los version-ttl y la siguiente lectura la vuelve a consultar (una
+ * fila, sin cargar el arbol), asi un formulario republicado o archivado deja de servirse a
+ * lo sumo version-ttl despues en todos los nodos.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class PublishedFormCache {
+
+    private final Cache<PublishedFormVersion, PublishedFormSnapshot> snapshots;
+    private final Cache<String, PublishedFormVersion> versionsBySlug;
+
+    public PublishedFormCache(MeterRegistry meterRegistry,
+                              @Value("${app.form.published-cache.max-size:500}") long maxSize,
+                              @Value("${app.form.published-cache.ttl:1h}") Duration ttl,
+                              @Value("${app.form.published-cache.version-ttl:30s}") Duration versionTtl) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versionsBySlug = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(versionTtl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "form.published");
+    }
+
+    /**
+     * Version vigente conocida para el slug; vacio si nunca se consulto o ya vencio
+     */
+    public Optional<PublishedFormVersion> findVersion(String slug) {
+        return Optional.ofNullable(versionsBySlug.getIfPresent(slug));
+    }
+
+    public PublishedFormVersion putVersion(String slug, PublishedFormVersion version) {
+        versionsBySlug.put(slug, version);
+        return version;
+    }
+
+    public Optional<PublishedFormSnapshot> get(PublishedFormVersion version) {
+        return Optional.ofNullable(snapshots.getIfPresent(version));
+    }
+
+    /**
+     * Registra un snapshot recien compilado. Si es mas nuevo que la version conocida para su
+     * slug (se publico mientras se compilaba) la version avanza; nunca retrocede.
+     */
+    public PublishedFormSnapshot put(PublishedFormSnapshot snapshot) {
+        PublishedFormVersion version = new PublishedFormVersion(snapshot.getFormId(), snapshot.getVersion());
+        snapshots.put(version, snapshot);
+        if (snapshot.getSlug() != null) {
+            versionsBySlug.asMap().computeIfPresent(snapshot.getSlug(),
+                    (slug, current) -> current.version() < version.version() ? version : current);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Una publicacion nueva deja obsoleta la version anterior; la nueva se compila en la primera lectura
+     */
+    public void published(Long formId, int version, String slug) {
+        if (slug == null) {
+            return;
+        }
+        PublishedFormVersion previous = versionsBySlug.asMap().put(slug, new PublishedFormVersion(formId, version));
+        if (previous != null && previous.version() != version) {
+            snapshots.invalidate(previous);
+        }
+    }
+
+    public void evict(Long formId, String slug) {
+        if (slug == null) {
+            return;
+        }
+        PublishedFormVersion previous = versionsBySlug.asMap().remove(slug);
+        if (previous != null && previous.formId().equals(formId)) {
+            snapshots.invalidate(previous);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.tramite.online.form.application.snapshot;
+
+import com.tramite.online.form.domain.event.FormArchived;
+import com.tramite.online.form.domain.event.FormPublished;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida los snapshots publicados una vez confirmada la transaccion
+ * que publico o archivo el formulario.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class PublishedFormCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublishedFormCacheInvalidationListener.class);
+
+    private final PublishedFormCache cache;
+
+    public PublishedFormCacheInvalidationListener(PublishedFormCache cache) {
+        this.cache = cache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(FormPublished event) {
+        logger.debug("Form {} published with version {}", event.getFormId(), event.getVersion());
+        cache.published(event.getFormId(), event.getVersion(), event.getSlug());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(FormArchived event) {
+        logger.debug("Evicting published form {} (archived)", event.getFormId());
+        cache.evict(event.getFormId(), event.getSlug());
+    }
+}
@@ -0,0 +1,131 @@
+package com.tramite.online.form.application.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tramite.online.form.domain.model.QuestionType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representacion compilada e inmutable de una version publicada de un formulario.
+ * Las preguntas estan aplanadas en un arreglo en orden de visualizacion y cada seccion
+ * es un rango [sectionStarts[i], sectionStarts[i + 1]) de ese arreglo. Los totales se
+ * calculan una sola vez y el JSON publico queda serializado en bytes.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class PublishedFormSnapshot {
+
+    public record Option(String label, String value, int weight) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Question(long id,
+                           long sectionId,
+                           String text,
+                           String description,
+                           QuestionType type,
+                           boolean required,
+                           String placeholder,
+                           String helpText,
+                           Integer minLength,
+                           Integer maxLength,
+                           Integer minValue,
+                           Integer maxValue,
+                           String defaultValue,
+                           List<Option> options) {
+
+        public Question {
+            options = List.copyOf(options);
+        }
+    }
+
+    private final long formId;
+    private final int version;
+    private final String slug;
+    private final String title;
+    private final long[] sectionIds;
+    private final String[] sectionTitles;
+    private final int[] sectionStarts;
+    private final Question[] questions;
+    private final byte[] json;
+
+    PublishedFormSnapshot(long formId, int version, String slug, String title,
+                          long[] sectionIds, String[] sectionTitles, int[] sectionStarts,
+                          Question[] questions, byte[] json) {
+        this.formId = formId;
+        this.version = version;
+        this.slug = slug;
+        this.title = title;
+        this.sectionIds = sectionIds;
+        this.sectionTitles = sectionTitles;
+        this.sectionStarts = sectionStarts;
+        this.questions = questions;
+        this.json = json;
+    }
+
+    public long getFormId() {
+        return formId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getSectionCount() {
+        return sectionIds.length;
+    }
+
+    public int getTotalQuestions() {
+        return questions.length;
+    }
+
+    public long getSectionId(int section) {
+        return sectionIds[section];
+    }
+
+    public String getSectionTitle(int section) {
+        return sectionTitles[section];
+    }
+
+    /**
+     * Pregunta en la posicion index del orden global de visualizacion
+     */
+    public Question getQuestion(int index) {
+        return questions[index];
+    }
+
+    public List<Question> getQuestions() {
+        return Collections.unmodifiableList(Arrays.asList(questions));
+    }
+
+    public List<Question> getQuestions(int section) {
+        return getQuestions().subList(sectionStarts[section], sectionStarts[section + 1]);
+    }
+
+    /**
+     * JSON publico ya serializado. El arreglo es compartido entre todos los lectores:
+     * se escribe tal cual en la respuesta y no debe modificarse.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * Valor para el header ETag: identifica la version publicada sin mirar el contenido
+     */
+    public String getETag() {
+        return "\"" + formId + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,132 @@
+package com.tramite.online.form.application.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionOption;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compila un Form publicado en un PublishedFormSnapshot: ordena secciones, preguntas y opciones
+ * por displayOrder, deduplica los textos repetidos (etiquetas y valores de opciones suelen
+ * repetirse entre preguntas) y serializa el JSON publico una sola vez.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class PublishedFormSnapshotCompiler {
+
+    private static final Comparator<FormSection> SECTION_ORDER =
+            Comparator.comparing(FormSection::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<Question> QUESTION_ORDER =
+            Comparator.comparing(Question::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<QuestionOption> OPTION_ORDER =
+            Comparator.comparing(QuestionOption::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record FormDocument(long id, int version, String slug, String title, String description,
+                        int sectionCount, int totalQuestions, List<SectionDocument> sections) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record SectionDocument(long id, String title, String description,
+                           List<PublishedFormSnapshot.Question> questions) {
+    }
+
+    private final JsonMapper jsonMapper;
+
+    public PublishedFormSnapshotCompiler(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    public PublishedFormSnapshot compile(Form form) {
+        if (!form.isPublished()) {
+            throw new IllegalStateException("Solo se compilan formularios publicados");
+        }
+        Map<String, String> strings = new HashMap<>();
+
+        List<FormSection> sections = new ArrayList<>(form.getSections());
+        sections.sort(SECTION_ORDER);
+        int sectionCount = sections.size();
+        long[] sectionIds = new long[sectionCount];
+        String[] sectionTitles = new String[sectionCount];
+        int[] sectionStarts = new int[sectionCount + 1];
+        PublishedFormSnapshot.Question[] questions = new PublishedFormSnapshot.Question[form.getTotalQuestions()];
+        List<SectionDocument> sectionDocuments = new ArrayList<>(sectionCount);
+
+        int next = 0;
+        for (int s = 0; s < sectionCount; s++) {
+            FormSection section = sections.get(s);
+            sectionIds[s] = section.getId();
+            sectionTitles[s] = intern(strings, section.getTitle());
+            sectionStarts[s] = next;
+
+            List<Question> sectionQuestions = new ArrayList<>(section.getQuestions());
+            sectionQuestions.sort(QUESTION_ORDER);
+            for (Question question : sectionQuestions) {
+                questions[next++] = compile(question, section.getId(), strings);
+            }
+            sectionDocuments.add(new SectionDocument(section.getId(), sectionTitles[s],
+                    intern(strings, section.getDescription()),
+                    Arrays.asList(questions).subList(sectionStarts[s], next)));
+        }
+        sectionStarts[sectionCount] = next;
+
+        FormDocument document = new FormDocument(form.getId(), form.getVersion(), form.getSlug(),
+                form.getTitle(), form.getDescription(), sectionCount, next, sectionDocuments);
+        byte[] json = jsonMapper.writeValueAsBytes(document);
+
+        return new PublishedFormSnapshot(form.getId(), form.getVersion(), form.getSlug(), form.getTitle(),
+                sectionIds, sectionTitles, sectionStarts, questions, json);
+    }
+
+    private static PublishedFormSnapshot.Question compile(Question question, Long sectionId, Map<String, String> strings) {
+        List<QuestionOption> options = new ArrayList<>(question.getOptions());
+        options.sort(OPTION_ORDER);
+        List<PublishedFormSnapshot.Option> compiled = new ArrayList<>(options.size());
+        for (QuestionOption option : options) {
+            compiled.add(new PublishedFormSnapshot.Option(
+                    intern(strings, option.getLabel()),
+                    intern(strings, option.getValue()),
+                    option.getWeight() != null ? option.getWeight() : 0));
+        }
+        return new PublishedFormSnapshot.Question(
+                question.getId(),
+                sectionId,
+                intern(strings, question.getText()),
+                intern(strings, question.getDescription()),
+                question.getType(),
+                Boolean.TRUE.equals(question.getRequired()),
+                intern(strings, question.getPlaceholder()),
+                intern(strings, question.getHelpText()),
+                question.getMinLength(),
+                question.getMaxLength(),
+                question.getMinValue(),
+                question.getMaxValue(),
+                question.getDefaultValue(),
+                compiled);
+    }
+
+    /**
+     * Deduplica por snapshot en lugar de String.intern(): no toca la tabla global de la JVM
+     * y las instancias se liberan junto con el snapshot
+     */
+    private static String intern(Map<String, String> strings, String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tramite.online.form.application.usecases;
+
+import com.tramite.online.form.application.dto.command.ArchiveFormCommand;
+import com.tramite.online.form.application.dto.response.FormResponse;
+import com.tramite.online.form.domain.event.FormArchived;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.form.exception.FormNotFoundException;
+import com.tramite.online.shared.exception.ConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de Uso para Archivar un Formulario
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class ArchiveFormUseCase {
+
+    private final FormRepository formRepository;
+    private final ApplicationEventPublisher publisher;
+    private final Logger logger = LoggerFactory.getLogger(ArchiveFormUseCase.class);
+
+    public ArchiveFormUseCase(FormRepository formRepository, ApplicationEventPublisher publisher) {
+        this.formRepository = formRepository;
+        this.publisher = publisher;
+    }
+
+    @Transactional
+    public FormResponse execute(ArchiveFormCommand command) {
+        logger.info("Executing command {}", command);
+        Form form = formRepository.findById(command.formId())
+                .orElseThrow(() -> new FormNotFoundException(command.formId()));
+
+        int expectedVersion = form.getVersion() != null ? form.getVersion() : 0;
+        form.archive();
+        // archivar no cambia el arbol: solo estado y fecha
+        if (!formRepository.updateStatus(form, expectedVersion)) {
+            throw new ConflictException("El formulario " + form.getId() + " se modifico mientras se archivaba");
+        }
+        publisher.publishEvent(new FormArchived(form));
+        return FormResponse.from(form);
+    }
+}
@@ -0,0 +1,55 @@
+package com.tramite.online.form.application.usecases;
+
+import com.tramite.online.form.application.dto.command.GetPublishedFormCommand;
+import com.tramite.online.form.application.snapshot.PublishedFormCache;
+import com.tramite.online.form.application.snapshot.PublishedFormSnapshot;
+import com.tramite.online.form.application.snapshot.PublishedFormSnapshotCompiler;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.PublishedFormVersion;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.form.exception.FormNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de Uso para obtener la version publicada de un formulario.
+ * Con la version y el snapshot en cache no se consulta la base ni se vuelve a serializar;
+ * vencida la version se consulta solo (id, version) y solo la primera lectura de cada
+ * version carga el arbol y lo compila.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetPublishedFormUseCase {
+
+    private final FormRepository formRepository;
+    private final PublishedFormCache cache;
+    private final PublishedFormSnapshotCompiler compiler;
+    private final Logger logger = LoggerFactory.getLogger(GetPublishedFormUseCase.class);
+
+    public GetPublishedFormUseCase(FormRepository formRepository,
+                                   PublishedFormCache cache,
+                                   PublishedFormSnapshotCompiler compiler) {
+        this.formRepository = formRepository;
+        this.cache = cache;
+        this.compiler = compiler;
+    }
+
+    public PublishedFormSnapshot execute(GetPublishedFormCommand command) {
+        String slug = command.slug();
+        PublishedFormVersion version = cache.findVersion(slug)
+                .or(() -> formRepository.findPublishedVersion(slug).map(found -> cache.putVersion(slug, found)))
+                .orElseThrow(() -> new FormNotFoundException(slug));
+        return cache.get(version)
+                .orElseGet(() -> {
+                    logger.debug("Compiling published form {} version {}", slug, version.version());
+                    Form form = formRepository.findById(version.formId())
+                            .filter(Form::isPublished)
+                            .orElseThrow(() -> new FormNotFoundException(slug));
+                    return cache.put(compiler.compile(form));
+                });
+    }
+}
@@ -0,0 +1,80 @@
+package com.tramite.online.form.application.usecases;
+
+import com.tramite.online.form.application.dto.command.PublishFormCommand;
+import com.tramite.online.form.application.dto.response.FormResponse;
+import com.tramite.online.form.domain.event.FormPublished;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.form.exception.FormNotFoundException;
+import com.tramite.online.shared.exception.BusinessException;
+import com.tramite.online.shared.exception.ConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Caso de Uso para Publicar un Formulario.
+ * Cada publicacion genera una version nueva; la primera asigna ademas el slug publico.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class PublishFormUseCase {
+
+    private static final int MAX_SLUG_LENGTH = 200;
+
+    private final FormRepository formRepository;
+    private final ApplicationEventPublisher publisher;
+    private final Logger logger = LoggerFactory.getLogger(PublishFormUseCase.class);
+
+    public PublishFormUseCase(FormRepository formRepository, ApplicationEventPublisher publisher) {
+        this.formRepository = formRepository;
+        this.publisher = publisher;
+    }
+
+    @Transactional
+    public FormResponse execute(PublishFormCommand command) {
+        logger.info("Executing command {}", command);
+        Form form = formRepository.findById(command.formId())
+                .orElseThrow(() -> new FormNotFoundException(command.formId()));
+
+        int expectedVersion = form.getVersion() != null ? form.getVersion() : 0;
+        try {
+            form.publish();
+        } catch (IllegalStateException ex) {
+            throw new BusinessException(ex.getMessage());
+        }
+        if (form.getSlug() == null) {
+            form.setSlug(slugOf(form));
+        }
+
+        // publicar no cambia el arbol: solo estado, version, slug y fechas
+        if (!formRepository.updateStatus(form, expectedVersion)) {
+            throw new ConflictException("El formulario " + form.getId() + " se modifico mientras se publicaba");
+        }
+        publisher.publishEvent(new FormPublished(form));
+        return FormResponse.from(form);
+    }
+
+    /**
+     * Slug a partir del titulo sin acentos ni simbolos, con el id como sufijo para que sea unico
+     */
+    private static String slugOf(Form form) {
+        String base = Normalizer.normalize(form.getTitle(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("(^-|-$)", "");
+        if (base.length() > MAX_SLUG_LENGTH) {
+            base = base.substring(0, MAX_SLUG_LENGTH);
+        }
+        return base.isEmpty() ? String.valueOf(form.getId()) : base + "-" + form.getId();
+    }
+}
@@ -0,0 +1,72 @@
+package com.tramite.online.form.application.validator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tramite.online.form.api.PublishedFormValidator;
+import com.tramite.online.form.api.QuestionRules;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.form.domain.validator.FormAnswerValidator;
+import com.tramite.online.form.domain.validator.FormAnswerValidatorCompiler;
+import com.tramite.online.shared.domain.validation.ValidationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Cache de planes de validacion por (formId, version).
+ * Una version publicada es inmutable, por lo que la entrada nunca se invalida:
+ * publicar de nuevo genera otra version y otra clave. Si la version pedida ya no es la
+ * publicada, el plan se compila con las reglas que copiaron sus instancias y se cachea igual:
+ * las instancias en curso de una version anterior se siguen validando sin recargar el formulario.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class FormAnswerValidatorCache implements PublishedFormValidator {
+
+    private record FormVersion(Long formId, int version) {
+    }
+
+    private final FormRepository formRepository;
+    private final Cache<FormVersion, FormAnswerValidator> validators;
+
+    public FormAnswerValidatorCache(FormRepository formRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.form.answer-validator-cache.max-size:1000}") long maxSize) {
+        this.formRepository = formRepository;
+        this.validators = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, validators, "form.answer-validator");
+    }
+
+    /**
+     * Plan de (formId, version); en la primera validacion de esa version carga el formulario o,
+     * si ya no es la version publicada, las reglas de versionRules
+     */
+    public FormAnswerValidator find(Long formId, int version, Supplier<List<QuestionRules>> versionRules) {
+        return validators.get(new FormVersion(formId, version), key ->
+                formRepository.findById(formId)
+                        .filter(form -> form.isPublished() && Objects.equals(form.getVersion(), version))
+                        .map(FormAnswerValidatorCompiler::compile)
+                        .orElseGet(() -> FormAnswerValidatorCompiler.compile(formId, version, versionRules.get())));
+    }
+
+    @Override
+    public ValidationResult validate(Long formId, int version, Supplier<List<QuestionRules>> versionRules,
+                                     Map<Long, List<String>> answers, boolean complete) {
+        FormAnswerValidator validator = find(formId, version, versionRules);
+        return complete
+                ? validator.validate(answers, new ValidationResult())
+                : validator.validateAnswered(answers, new ValidationResult());
+    }
+}
@@ -3,19 +3,38 @@ package com.tramite.online.form.domain.event;
 import com.tramite.online.form.domain.model.Form;
 import com.tramite.online.shared.domain.event.DomainEvent;
 
+/**
+ * Event que creo un formulario dentro de un Espacio de Trabajo
+ */
 public class FormCreated extends DomainEvent {
 
     private final Long formId;
+    private final Long workspaceId;
     private final String formName;
     private final String description;
 
 
     public FormCreated(Form form) {
-        super();
+        super("FormCreated", form.getId());
         this.formId = form.getId();
-        this.
+        this.workspaceId = form.getWorkspaceId();
+        this.formName = form.getTitle();
+        this.description = form.getDescription();
     }
-    public FormCreated(String eventType, Long aggregateId) {
-        super(eventType, aggregateId);
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public String getFormName() {
+        return formName;
+    }
+
+    public String getDescription() {
+        return description;
     }
 }
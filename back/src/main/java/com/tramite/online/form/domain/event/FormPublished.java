@@ -0,0 +1,43 @@
+package com.tramite.online.form.domain.event;
+
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.shared.domain.event.DomainEvent;
+
+/**
+ * Evento cuando un formulario es publicado (genera una version nueva)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class FormPublished extends DomainEvent {
+
+    private final Long formId;
+    private final Long workspaceId;
+    private final Integer version;
+    private final String slug;
+
+    public FormPublished(Form form) {
+        super("FormPublished", form.getId());
+        this.formId = form.getId();
+        this.workspaceId = form.getWorkspaceId();
+        this.version = form.getVersion();
+        this.slug = form.getSlug();
+    }
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+}
@@ -13,8 +13,10 @@ public class Form {
     private Long id;
     private Long workspaceId;
     private String title;
+    private String slug;
     private String description;
     private FormStatus status;
+    private Integer version;
     private List<FormSection> sections;
     private LocalDateTime publishedAt;
     private LocalDateTime createdAt;
@@ -23,6 +25,7 @@ public class Form {
     // Constructor vacío
     public Form() {
         this.status = FormStatus.DRAFT;
+        this.version = 0;
         this.sections = new ArrayList<>();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -52,6 +55,7 @@ public class Form {
         this.title = title;
         this.description = description;
         this.status = status;
+        this.version = 0;
         this.sections = sections != null ? sections : new ArrayList<>();
         this.publishedAt = publishedAt;
         this.createdAt = createdAt;
@@ -87,6 +91,8 @@ public class Form {
         }
 
         this.status = FormStatus.PUBLISHED;
+        // cada publicacion es una version nueva e inmutable del formulario
+        this.version = (this.version != null ? this.version : 0) + 1;
         this.publishedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -151,6 +157,14 @@ public class Form {
         this.title = title;
     }
 
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -167,6 +181,14 @@ public class Form {
         this.status = status;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public List<FormSection> getSections() {
         return sections;
     }
@@ -0,0 +1,11 @@
+package com.tramite.online.form.domain.model;
+
+/**
+ * Version vigente de un formulario publicado, sin su arbol
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record PublishedFormVersion(Long formId, int version) {
+}
@@ -0,0 +1,46 @@
+package com.tramite.online.form.domain.repository;
+
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.PublishedFormVersion;
+
+import java.util.Optional;
+
+/**
+ * Puerto para acceder al agregado Form con todo su arbol
+ * (secciones, preguntas y opciones). La implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface FormRepository {
+
+    /**
+     * Carga el formulario completo con una cantidad fija de consultas, una por nivel,
+     * independiente de la cantidad de secciones y preguntas.
+     */
+    Optional<Form> findById(Long id);
+
+    Optional<Form> findBySlug(String slug);
+
+    /**
+     * Id y version del formulario publicado con ese slug, en una consulta de una fila y sin cargar el arbol
+     */
+    Optional<PublishedFormVersion> findPublishedVersion(String slug);
+
+    /**
+     * Guarda el arbol completo: asigna ids a los nodos nuevos, actualiza los existentes
+     * y elimina los que ya no forman parte del formulario.
+     */
+    Form save(Form form);
+
+    /**
+     * Guarda solo estado, version, slug y fechas (publicar o archivar no cambia el arbol).
+     * Condicionado a la version leida: false si otra transaccion cambio la version antes.
+     */
+    boolean updateStatus(Form form, int expectedVersion);
+
+    void delete(Long id);
+
+    boolean exists(Long id);
+}
@@ -0,0 +1,89 @@
+package com.tramite.online.form.domain.validator;
+
+import com.tramite.online.shared.domain.validation.ValidationResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plan de validacion inmutable de una version publicada de un Form.
+ * Las reglas estan ordenadas por questionId, por lo que validar una presentacion
+ * completa es una pasada sobre las reglas y una busqueda binaria por cada
+ * respuesta para detectar preguntas que no pertenecen al formulario.
+ * Se construye con {@link FormAnswerValidatorCompiler}.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class FormAnswerValidator {
+
+    private final Long formId;
+    private final int version;
+    private final long[] questionIds;
+    private final QuestionRule[] rules;
+
+    FormAnswerValidator(Long formId, int version, QuestionRule[] rules) {
+        this.formId = formId;
+        this.version = version;
+        this.rules = rules;
+        this.questionIds = new long[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            questionIds[i] = rules[i].questionId;
+        }
+    }
+
+    /**
+     * Valida las respuestas (questionId -> valores) acumulando todas las violaciones
+     *
+     * @param answers respuestas de la presentacion; CHECKBOX admite varios valores
+     * @param result resultado (reutilizable) donde se agregan las violaciones
+     * @return el mismo result
+     */
+    public ValidationResult validate(Map<Long, List<String>> answers, ValidationResult result) {
+        for (QuestionRule rule : rules) {
+            rule.validate(answers.get(rule.questionId), result);
+        }
+        for (Long questionId : answers.keySet()) {
+            if (questionId == null || Arrays.binarySearch(questionIds, questionId) < 0) {
+                result.add("question[" + questionId + "]", "La pregunta no pertenece al formulario");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Valida solo las respuestas recibidas (un borrador): no exige las obligatorias y admite vacias
+     *
+     * @return el mismo result
+     */
+    public ValidationResult validateAnswered(Map<Long, List<String>> answers, ValidationResult result) {
+        for (Map.Entry<Long, List<String>> answer : answers.entrySet()) {
+            Long questionId = answer.getKey();
+            int index = questionId != null ? Arrays.binarySearch(questionIds, questionId) : -1;
+            if (index < 0) {
+                result.add("question[" + questionId + "]", "La pregunta no pertenece al formulario");
+            } else {
+                rules[index].validateAnswered(answer.getValue(), result);
+            }
+        }
+        return result;
+    }
+
+    public boolean isValid(Map<Long, List<String>> answers) {
+        return validate(answers, new ValidationResult()).isValid();
+    }
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getQuestionCount() {
+        return rules.length;
+    }
+}
@@ -0,0 +1,134 @@
+package com.tramite.online.form.domain.validator;
+
+import com.tramite.online.form.api.QuestionRules;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionOption;
+import com.tramite.online.form.domain.model.QuestionType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compila un Form publicado (secciones -> preguntas -> opciones), o las reglas que copio una
+ * instancia de una version anterior, a un {@link FormAnswerValidator}. Toda la preparacion
+ * costosa (compilar regex, armar los sets de opciones, desempaquetar limites) ocurre una sola vez aca.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class FormAnswerValidatorCompiler {
+
+    private FormAnswerValidatorCompiler() {
+    }
+
+    /**
+     * @param form formulario publicado con sus preguntas persistidas (con id)
+     * @return plan de validacion inmutable
+     * @throws IllegalStateException si el formulario no esta publicado
+     * @throws IllegalArgumentException si una pregunta no tiene id o su patron es invalido
+     */
+    public static FormAnswerValidator compile(Form form) {
+        if (!form.isPublished()) {
+            throw new IllegalStateException("Solo se compilan formularios publicados");
+        }
+        List<QuestionRule> rules = new ArrayList<>(form.getTotalQuestions());
+        for (FormSection section : form.getSections()) {
+            for (Question question : section.getQuestions()) {
+                rules.add(compile(question));
+            }
+        }
+        return plan(form.getId(), form.getVersion(), rules);
+    }
+
+    /**
+     * @param questions reglas copiadas por una instancia de la version (por pregunta del formulario)
+     * @return plan de validacion inmutable de esa version
+     * @throws IllegalArgumentException si una pregunta no tiene id, su tipo no existe o su patron es invalido
+     */
+    public static FormAnswerValidator compile(Long formId, int version, List<QuestionRules> questions) {
+        List<QuestionRule> rules = new ArrayList<>(questions.size());
+        for (QuestionRules question : questions) {
+            if (question.questionId() == null) {
+                throw new IllegalArgumentException("Una pregunta de la version " + version + " no tiene id");
+            }
+            QuestionType type = QuestionType.valueOf(question.type());
+            rules.add(rule(question.questionId(), type, question.required(), question.minLength(),
+                    question.maxLength(), question.minValue(), question.maxValue(), question.validationPattern(),
+                    question.validationMessage(), hasOptions(type) ? Set.copyOf(question.optionValues()) : null));
+        }
+        return plan(formId, version, rules);
+    }
+
+    private static FormAnswerValidator plan(Long formId, int version, List<QuestionRule> rules) {
+        rules.sort(Comparator.comparingLong(rule -> rule.questionId));
+        for (int i = 1; i < rules.size(); i++) {
+            if (rules.get(i).questionId == rules.get(i - 1).questionId) {
+                throw new IllegalArgumentException("Pregunta duplicada en el formulario: " + rules.get(i).questionId);
+            }
+        }
+        return new FormAnswerValidator(formId, version, rules.toArray(QuestionRule[]::new));
+    }
+
+    private static QuestionRule compile(Question question) {
+        if (question.getId() == null) {
+            throw new IllegalArgumentException("La pregunta '" + question.getText() + "' no tiene id");
+        }
+        return rule(question.getId(), question.getType(), Boolean.TRUE.equals(question.getRequired()),
+                question.getMinLength(), question.getMaxLength(), question.getMinValue(), question.getMaxValue(),
+                question.getValidationPattern(), question.getValidationMessage(), optionValues(question));
+    }
+
+    private static QuestionRule rule(Long questionId, QuestionType type, boolean required,
+                                     Integer minLength, Integer maxLength, Integer minValue, Integer maxValue,
+                                     String validationPattern, String validationMessage, Set<String> optionValues) {
+        return new QuestionRule(
+                questionId,
+                type,
+                required,
+                minLength != null ? minLength : QuestionRule.NO_LIMIT,
+                maxLength != null ? maxLength : QuestionRule.NO_LIMIT,
+                minValue,
+                maxValue,
+                compilePattern(questionId, validationPattern),
+                validationMessage != null && !validationMessage.isBlank() ? validationMessage : "Formato invalido",
+                optionValues
+        );
+    }
+
+    private static Pattern compilePattern(Long questionId, String regex) {
+        if (regex == null || regex.isBlank()) {
+            return null;
+        }
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException(
+                    "Patron de validacion invalido en la pregunta " + questionId + ": " + e.getDescription());
+        }
+    }
+
+    private static boolean hasOptions(QuestionType type) {
+        return type == QuestionType.SELECT || type == QuestionType.RADIO || type == QuestionType.CHECKBOX;
+    }
+
+    private static Set<String> optionValues(Question question) {
+        if (!hasOptions(question.getType())) {
+            return null;
+        }
+        Set<String> values = new HashSet<>();
+        for (QuestionOption option : question.getOptions()) {
+            if (option.getValue() != null) {
+                values.add(option.getValue());
+            }
+        }
+        return Set.copyOf(values);
+    }
+}
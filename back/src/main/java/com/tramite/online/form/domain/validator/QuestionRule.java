@@ -0,0 +1,186 @@
+package com.tramite.online.form.domain.validator;
+
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.shared.domain.validation.ValidationResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Reglas compiladas de una pregunta: el patron ya compilado, los valores de las
+ * opciones en un Set y los limites de longitud como primitivos (NO_LIMIT si no aplica).
+ * Inmutable y thread-safe.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class QuestionRule {
+
+    static final int NO_LIMIT = -1;
+
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("[-+]?\\d{1,30}(\\.\\d{1,30})?");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    final long questionId;
+    private final String field;
+    private final QuestionType type;
+    private final boolean required;
+    private final int minLength;
+    private final int maxLength;
+    private final BigDecimal minValue;
+    private final BigDecimal maxValue;
+    private final Pattern pattern;
+    private final String patternMessage;
+    private final Set<String> optionValues;
+
+    QuestionRule(long questionId, QuestionType type, boolean required,
+                 int minLength, int maxLength,
+                 Integer minValue, Integer maxValue,
+                 Pattern pattern, String patternMessage, Set<String> optionValues) {
+        this.questionId = questionId;
+        this.field = "question[" + questionId + "]";
+        this.type = type;
+        this.required = required;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.minValue = minValue != null ? BigDecimal.valueOf(minValue) : null;
+        this.maxValue = maxValue != null ? BigDecimal.valueOf(maxValue) : null;
+        this.pattern = pattern;
+        this.patternMessage = patternMessage;
+        this.optionValues = optionValues;
+    }
+
+    void validate(List<String> values, ValidationResult result) {
+        if (values == null || values.isEmpty() || isBlank(values)) {
+            if (required) {
+                result.add(field, "La respuesta es obligatoria");
+            }
+            return;
+        }
+        validateValues(values, result);
+    }
+
+    /**
+     * Como validate pero sin exigir respuesta: un borrador puede dejar la pregunta vacia
+     */
+    void validateAnswered(List<String> values, ValidationResult result) {
+        if (values == null || values.isEmpty() || isBlank(values)) {
+            return;
+        }
+        validateValues(values, result);
+    }
+
+    private void validateValues(List<String> values, ValidationResult result) {
+        if (values.size() > 1 && type != QuestionType.CHECKBOX) {
+            result.add(field, "La pregunta admite una sola respuesta");
+            return;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            validateValue(values.get(i), result);
+        }
+    }
+
+    private void validateValue(String value, ValidationResult result) {
+        if (value == null) {
+            result.add(field, "La respuesta no puede ser nula");
+            return;
+        }
+        if (optionValues != null) {
+            if (!optionValues.contains(value)) {
+                result.add(field, "Opcion invalida: " + value);
+            }
+            return;
+        }
+
+        int length = value.length();
+        if (minLength != NO_LIMIT && length < minLength) {
+            result.add(field, "Debe tener al menos " + minLength + " caracteres");
+        }
+        if (maxLength != NO_LIMIT && length > maxLength) {
+            result.add(field, "No puede exceder " + maxLength + " caracteres");
+        }
+        if (pattern != null && !pattern.matcher(value).matches()) {
+            result.add(field, patternMessage);
+        }
+
+        switch (type) {
+            case NUMERIC -> validateNumber(value, result);
+            case EMAIL -> {
+                if (!EMAIL_PATTERN.matcher(value).matches()) {
+                    result.add(field, "Email invalido");
+                }
+            }
+            case PHONE -> {
+                if (!isPhone(value)) {
+                    result.add(field, "Telefono invalido");
+                }
+            }
+            case DATE, TIME, DATETIME -> validateTemporal(value, result);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Solo decimales simples: Double.parseDouble aceptaria "NaN", "Infinity", hexadecimales
+     * y sufijos como "12d", y NaN pasaria cualquier limite
+     */
+    private void validateNumber(String value, ValidationResult result) {
+        if (!NUMBER_PATTERN.matcher(value).matches()) {
+            result.add(field, "Debe ser un numero");
+            return;
+        }
+        BigDecimal number = new BigDecimal(value);
+        if (minValue != null && number.compareTo(minValue) < 0) {
+            result.add(field, "Debe ser mayor o igual a " + minValue);
+        }
+        if (maxValue != null && number.compareTo(maxValue) > 0) {
+            result.add(field, "Debe ser menor o igual a " + maxValue);
+        }
+    }
+
+    private void validateTemporal(String value, ValidationResult result) {
+        try {
+            switch (type) {
+                case DATE -> LocalDate.parse(value);
+                case TIME -> LocalTime.parse(value);
+                default -> LocalDateTime.parse(value);
+            }
+        } catch (DateTimeParseException e) {
+            result.add(field, "Fecha u hora invalida (formato ISO-8601)");
+        }
+    }
+
+    /**
+     * Digitos con separadores opcionales (+, espacio, -, parentesis), entre 6 y 20 digitos
+     */
+    private static boolean isPhone(String value) {
+        int digits = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c != ' ' && c != '-' && c != '(' && c != ')' && !(c == '+' && i == 0)) {
+                return false;
+            }
+        }
+        return digits >= 6 && digits <= 20;
+    }
+
+    private static boolean isBlank(List<String> values) {
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value != null && !value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
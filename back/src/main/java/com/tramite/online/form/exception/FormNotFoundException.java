@@ -0,0 +1,21 @@
+package com.tramite.online.form.exception;
+
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+
+/**
+ * Excepcion cuando un formulario no existe o no esta publicado
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class FormNotFoundException extends ResourceNotFoundException {
+
+    public FormNotFoundException(Long id) {
+        super("Formulario", id);
+    }
+
+    public FormNotFoundException(String slug) {
+        super("Formulario", slug);
+    }
+}
@@ -0,0 +1,472 @@
+package com.tramite.online.form.infraestructure.persistence.adapter;
+
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.FormStatus;
+import com.tramite.online.form.domain.model.PublishedFormVersion;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionOption;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.form.domain.repository.FormRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Adapter JDBC del agregado Form.
+ * La lectura hace una consulta por nivel (form, secciones, preguntas, opciones) filtrando
+ * por los ids del nivel padre con ANY(array), y arma el arbol en memoria ordenando por displayOrder.
+ * Son siempre 4 consultas, sin importar el tamaño del formulario (un mapeo JPA con colecciones
+ * lazy haria una consulta por seccion y otra por pregunta).
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class FormRepositoryAdapter implements FormRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormRepositoryAdapter.class);
+
+    /** Igual al INCREMENT BY de las secuencias: cada nextval reserva un bloque de ids */
+    private static final int ID_BLOCK_SIZE = 50;
+    private static final int BATCH_SIZE = 500;
+
+    private static final String FORM_SEQUENCE = "form_config_seq";
+    private static final String SECTION_SEQUENCE = "config_section_seq";
+    private static final String QUESTION_SEQUENCE = "config_question_seq";
+    private static final String OPTION_SEQUENCE = "config_option_seq";
+
+    private static final Comparator<FormSection> SECTION_ORDER = Comparator
+            .comparing(FormSection::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(FormSection::getId);
+    private static final Comparator<Question> QUESTION_ORDER = Comparator
+            .comparing(Question::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Question::getId);
+    private static final Comparator<QuestionOption> OPTION_ORDER = Comparator
+            .comparing(QuestionOption::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(QuestionOption::getId);
+
+    private static final String SELECT_FORM = """
+            SELECT id, workspace_id, title, slug, description, status, version, published_at, created_at, updated_at
+            FROM form_config
+            WHERE id = ?
+            """;
+
+    private static final String SELECT_SECTIONS = """
+            SELECT id, form_config_id, title, description, display_order, created_at, updated_at
+            FROM config_section
+            WHERE form_config_id = ?
+            """;
+
+    private static final String SELECT_QUESTIONS = """
+            SELECT id, config_section_id, text, description, type, display_order, required,
+                   placeholder, help_text, validation_pattern, validation_message,
+                   min_length, max_length, min_value, max_value, default_value, created_at, updated_at
+            FROM config_question
+            WHERE config_section_id = ANY(?)
+            """;
+
+    private static final String SELECT_OPTIONS = """
+            SELECT id, config_question_id, label, value, weight, display_order, metadata
+            FROM config_option
+            WHERE config_question_id = ANY(?)
+            """;
+
+    private static final String UPSERT_FORM = """
+            INSERT INTO form_config (id, workspace_id, title, slug, description, status, version,
+                                     published_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                title = EXCLUDED.title,
+                slug = EXCLUDED.slug,
+                description = EXCLUDED.description,
+                status = EXCLUDED.status,
+                version = EXCLUDED.version,
+                published_at = EXCLUDED.published_at,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String UPSERT_SECTION = """
+            INSERT INTO config_section (id, form_config_id, title, description, display_order, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                title = EXCLUDED.title,
+                description = EXCLUDED.description,
+                display_order = EXCLUDED.display_order,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String UPSERT_QUESTION = """
+            INSERT INTO config_question (id, config_section_id, text, description, type, display_order, required,
+                                         placeholder, help_text, validation_pattern, validation_message,
+                                         min_length, max_length, min_value, max_value, default_value,
+                                         created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                config_section_id = EXCLUDED.config_section_id,
+                text = EXCLUDED.text,
+                description = EXCLUDED.description,
+                type = EXCLUDED.type,
+                display_order = EXCLUDED.display_order,
+                required = EXCLUDED.required,
+                placeholder = EXCLUDED.placeholder,
+                help_text = EXCLUDED.help_text,
+                validation_pattern = EXCLUDED.validation_pattern,
+                validation_message = EXCLUDED.validation_message,
+                min_length = EXCLUDED.min_length,
+                max_length = EXCLUDED.max_length,
+                min_value = EXCLUDED.min_value,
+                max_value = EXCLUDED.max_value,
+                default_value = EXCLUDED.default_value,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String UPSERT_OPTION = """
+            INSERT INTO config_option (id, config_question_id, label, value, weight, display_order, metadata)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET
+                config_question_id = EXCLUDED.config_question_id,
+                label = EXCLUDED.label,
+                value = EXCLUDED.value,
+                weight = EXCLUDED.weight,
+                display_order = EXCLUDED.display_order,
+                metadata = EXCLUDED.metadata
+            """;
+
+    // Los nodos que ya no estan en el arbol se borran por nivel; el borrado de una seccion
+    // arrastra sus preguntas y opciones por ON DELETE CASCADE
+    private static final String DELETE_ORPHAN_SECTIONS = """
+            DELETE FROM config_section WHERE form_config_id = ? AND id <> ALL(?)
+            """;
+    private static final String DELETE_ORPHAN_QUESTIONS = """
+            DELETE FROM config_question WHERE config_section_id = ANY(?) AND id <> ALL(?)
+            """;
+    private static final String DELETE_ORPHAN_OPTIONS = """
+            DELETE FROM config_option WHERE config_question_id = ANY(?) AND id <> ALL(?)
+            """;
+
+    private static final RowMapper<Form> FORM_ROW_MAPPER = (rs, rowNum) -> {
+        Form form = new Form(
+                rs.getLong("id"),
+                rs.getLong("workspace_id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                FormStatus.valueOf(rs.getString("status")),
+                new ArrayList<>(),
+                rs.getObject("published_at", LocalDateTime.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+        form.setSlug(rs.getString("slug"));
+        form.setVersion(rs.getInt("version"));
+        return form;
+    };
+
+    private static final String UPDATE_STATUS = """
+            UPDATE form_config
+            SET slug = ?, status = ?, version = ?, published_at = ?, updated_at = ?
+            WHERE id = ? AND version = ?
+            """;
+
+    private static final RowMapper<FormSection> SECTION_ROW_MAPPER = (rs, rowNum) -> new FormSection(
+            rs.getLong("id"),
+            rs.getLong("form_config_id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getInt("display_order"),
+            new ArrayList<>(),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class));
+
+    private static final RowMapper<Question> QUESTION_ROW_MAPPER = (rs, rowNum) -> new Question(
+            rs.getLong("id"),
+            rs.getLong("config_section_id"),
+            rs.getString("text"),
+            rs.getString("description"),
+            QuestionType.valueOf(rs.getString("type")),
+            rs.getInt("display_order"),
+            rs.getBoolean("required"),
+            new ArrayList<>(),
+            rs.getString("placeholder"),
+            rs.getString("help_text"),
+            rs.getString("validation_pattern"),
+            rs.getString("validation_message"),
+            rs.getObject("min_length", Integer.class),
+            rs.getObject("max_length", Integer.class),
+            rs.getObject("min_value", Integer.class),
+            rs.getObject("max_value", Integer.class),
+            rs.getString("default_value"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class));
+
+    private static final RowMapper<QuestionOption> OPTION_ROW_MAPPER = (rs, rowNum) -> new QuestionOption(
+            rs.getLong("id"),
+            rs.getLong("config_question_id"),
+            rs.getString("label"),
+            rs.getString("value"),
+            rs.getInt("weight"),
+            rs.getInt("display_order"),
+            rs.getString("metadata"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FormRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Form> findById(Long id) {
+        logger.debug("Loading form tree {}", id);
+        List<Form> forms = jdbcTemplate.query(SELECT_FORM, FORM_ROW_MAPPER, id);
+        if (forms.isEmpty()) {
+            return Optional.empty();
+        }
+        Form form = forms.getFirst();
+
+        List<FormSection> sections = jdbcTemplate.query(SELECT_SECTIONS, SECTION_ROW_MAPPER, id);
+        sections.sort(SECTION_ORDER);
+        form.setSections(sections);
+        if (sections.isEmpty()) {
+            return Optional.of(form);
+        }
+
+        Map<Long, FormSection> sectionsById = HashMap.newHashMap(sections.size());
+        for (FormSection section : sections) {
+            sectionsById.put(section.getId(), section);
+        }
+        List<Question> questions = jdbcTemplate.query(SELECT_QUESTIONS,
+                ps -> setIds(ps, 1, sectionsById.keySet().toArray(Long[]::new)), QUESTION_ROW_MAPPER);
+        if (questions.isEmpty()) {
+            return Optional.of(form);
+        }
+
+        Map<Long, Question> questionsById = HashMap.newHashMap(questions.size());
+        for (Question question : questions) {
+            questionsById.put(question.getId(), question);
+            sectionsById.get(question.getSectionId()).getQuestions().add(question);
+        }
+        List<QuestionOption> options = jdbcTemplate.query(SELECT_OPTIONS,
+                ps -> setIds(ps, 1, questionsById.keySet().toArray(Long[]::new)), OPTION_ROW_MAPPER);
+        for (QuestionOption option : options) {
+            questionsById.get(option.getQuestionId()).getOptions().add(option);
+        }
+
+        for (FormSection section : sections) {
+            section.getQuestions().sort(QUESTION_ORDER);
+        }
+        for (Question question : questions) {
+            question.getOptions().sort(OPTION_ORDER);
+        }
+        return Optional.of(form);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Form> findBySlug(String slug) {
+        logger.debug("Loading form tree by slug {}", slug);
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM form_config WHERE slug = ?", Long.class, slug);
+        return ids.isEmpty() ? Optional.empty() : findById(ids.getFirst());
+    }
+
+    @Override
+    public Optional<PublishedFormVersion> findPublishedVersion(String slug) {
+        return jdbcTemplate.query("SELECT id, version FROM form_config WHERE slug = ? AND status = 'PUBLISHED'",
+                        (rs, rowNum) -> new PublishedFormVersion(rs.getLong("id"), rs.getInt("version")), slug)
+                .stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public Form save(Form form) {
+        logger.info("Saving form tree {}", form.getId());
+        if (form.getId() == null) {
+            form.setId(nextIds(FORM_SEQUENCE, 1)[0]);
+        }
+        jdbcTemplate.update(UPSERT_FORM, ps -> {
+            ps.setLong(1, form.getId());
+            ps.setLong(2, form.getWorkspaceId());
+            ps.setString(3, form.getTitle());
+            ps.setString(4, form.getSlug());
+            ps.setString(5, form.getDescription());
+            ps.setString(6, form.getStatus().name());
+            ps.setInt(7, form.getVersion() != null ? form.getVersion() : 0);
+            ps.setTimestamp(8, timestamp(form.getPublishedAt()));
+            ps.setTimestamp(9, timestamp(form.getCreatedAt()));
+            ps.setTimestamp(10, timestamp(form.getUpdatedAt()));
+        });
+
+        List<FormSection> sections = form.getSections();
+        long[] sectionIds = nextIds(SECTION_SEQUENCE, countWithoutId(sections, FormSection::getId));
+        int next = 0;
+        List<Question> questions = new ArrayList<>();
+        for (FormSection section : sections) {
+            if (section.getId() == null) {
+                section.setId(sectionIds[next++]);
+            }
+            section.setFormId(form.getId());
+            questions.addAll(section.getQuestions());
+        }
+
+        long[] questionIds = nextIds(QUESTION_SEQUENCE, countWithoutId(questions, Question::getId));
+        next = 0;
+        List<QuestionOption> options = new ArrayList<>();
+        for (FormSection section : sections) {
+            for (Question question : section.getQuestions()) {
+                if (question.getId() == null) {
+                    question.setId(questionIds[next++]);
+                }
+                question.setSectionId(section.getId());
+                options.addAll(question.getOptions());
+            }
+        }
+
+        long[] optionIds = nextIds(OPTION_SEQUENCE, countWithoutId(options, QuestionOption::getId));
+        next = 0;
+        for (Question question : questions) {
+            for (QuestionOption option : question.getOptions()) {
+                if (option.getId() == null) {
+                    option.setId(optionIds[next++]);
+                }
+                option.setQuestionId(question.getId());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SECTION, sections, BATCH_SIZE, (ps, section) -> {
+            ps.setLong(1, section.getId());
+            ps.setLong(2, section.getFormId());
+            ps.setString(3, section.getTitle());
+            ps.setString(4, section.getDescription());
+            ps.setObject(5, section.getDisplayOrder(), Types.INTEGER);
+            ps.setTimestamp(6, timestamp(section.getCreatedAt()));
+            ps.setTimestamp(7, timestamp(section.getUpdatedAt()));
+        });
+        jdbcTemplate.batchUpdate(UPSERT_QUESTION, questions, BATCH_SIZE, (ps, question) -> {
+            ps.setLong(1, question.getId());
+            ps.setLong(2, question.getSectionId());
+            ps.setString(3, question.getText());
+            ps.setString(4, question.getDescription());
+            ps.setString(5, question.getType().name());
+            ps.setObject(6, question.getDisplayOrder(), Types.INTEGER);
+            ps.setBoolean(7, Boolean.TRUE.equals(question.getRequired()));
+            ps.setString(8, question.getPlaceholder());
+            ps.setString(9, question.getHelpText());
+            ps.setString(10, question.getValidationPattern());
+            ps.setString(11, question.getValidationMessage());
+            ps.setObject(12, question.getMinLength(), Types.INTEGER);
+            ps.setObject(13, question.getMaxLength(), Types.INTEGER);
+            ps.setObject(14, question.getMinValue(), Types.INTEGER);
+            ps.setObject(15, question.getMaxValue(), Types.INTEGER);
+            ps.setString(16, question.getDefaultValue());
+            ps.setTimestamp(17, timestamp(question.getCreatedAt()));
+            ps.setTimestamp(18, timestamp(question.getUpdatedAt()));
+        });
+        jdbcTemplate.batchUpdate(UPSERT_OPTION, options, BATCH_SIZE, (ps, option) -> {
+            ps.setLong(1, option.getId());
+            ps.setLong(2, option.getQuestionId());
+            ps.setString(3, option.getLabel());
+            ps.setString(4, option.getValue());
+            ps.setInt(5, option.getWeight() != null ? option.getWeight() : 0);
+            ps.setObject(6, option.getDisplayOrder(), Types.INTEGER);
+            ps.setString(7, option.getMetadata());
+        });
+
+        Long[] keptSections = sections.stream().map(FormSection::getId).toArray(Long[]::new);
+        Long[] keptQuestions = questions.stream().map(Question::getId).toArray(Long[]::new);
+        Long[] keptOptions = options.stream().map(QuestionOption::getId).toArray(Long[]::new);
+        jdbcTemplate.update(DELETE_ORPHAN_SECTIONS, ps -> {
+            ps.setLong(1, form.getId());
+            setIds(ps, 2, keptSections);
+        });
+        jdbcTemplate.update(DELETE_ORPHAN_QUESTIONS, ps -> {
+            setIds(ps, 1, keptSections);
+            setIds(ps, 2, keptQuestions);
+        });
+        jdbcTemplate.update(DELETE_ORPHAN_OPTIONS, ps -> {
+            setIds(ps, 1, keptQuestions);
+            setIds(ps, 2, keptOptions);
+        });
+        return form;
+    }
+
+    @Override
+    public boolean updateStatus(Form form, int expectedVersion) {
+        logger.info("Updating status of form {} to {}", form.getId(), form.getStatus());
+        return jdbcTemplate.update(UPDATE_STATUS, ps -> {
+            ps.setString(1, form.getSlug());
+            ps.setString(2, form.getStatus().name());
+            ps.setInt(3, form.getVersion() != null ? form.getVersion() : 0);
+            ps.setTimestamp(4, timestamp(form.getPublishedAt()));
+            ps.setTimestamp(5, timestamp(form.getUpdatedAt()));
+            ps.setLong(6, form.getId());
+            ps.setInt(7, expectedVersion);
+        }) == 1;
+    }
+
+    @Override
+    public void delete(Long id) {
+        logger.info("Deleting form {}", id);
+        jdbcTemplate.update("DELETE FROM form_config WHERE id = ?", id);
+    }
+
+    @Override
+    public boolean exists(Long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM form_config WHERE id = ?)", Boolean.class, id));
+    }
+
+    /**
+     * Reserva count ids con un solo round trip: cada nextval devuelve el inicio de un bloque
+     * de ID_BLOCK_SIZE ids (mismo esquema pooled-lo que usa Hibernate en workspace)
+     */
+    private long[] nextIds(String sequence, int count) {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> starts = jdbcTemplate.queryForList(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, blocks);
+        int i = 0;
+        for (Long start : starts) {
+            for (int j = 0; j < ID_BLOCK_SIZE && i < count; j++) {
+                ids[i++] = start + j;
+            }
+        }
+        return ids;
+    }
+
+    private static <T> int countWithoutId(List<T> nodes, Function<T, Long> id) {
+        int count = 0;
+        for (T node : nodes) {
+            if (id.apply(node) == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void setIds(PreparedStatement ps, int index, Long[] ids) throws SQLException {
+        ps.setArray(index, ps.getConnection().createArrayOf("bigint", ids));
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.tramite.online.form.infraestructure.web.controller;
+
+import com.tramite.online.form.application.dto.command.ArchiveFormCommand;
+import com.tramite.online.form.application.dto.command.GetPublishedFormCommand;
+import com.tramite.online.form.application.dto.command.PublishFormCommand;
+import com.tramite.online.form.application.dto.response.FormResponse;
+import com.tramite.online.form.application.snapshot.PublishedFormSnapshot;
+import com.tramite.online.form.application.usecases.ArchiveFormUseCase;
+import com.tramite.online.form.application.usecases.GetPublishedFormUseCase;
+import com.tramite.online.form.application.usecases.PublishFormUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para publicar formularios y servir su version publicada
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class FormController {
+
+    private final Logger logger = LoggerFactory.getLogger(FormController.class);
+
+    private final PublishFormUseCase publishFormUseCase;
+    private final ArchiveFormUseCase archiveFormUseCase;
+    private final GetPublishedFormUseCase getPublishedFormUseCase;
+
+    public FormController(PublishFormUseCase publishFormUseCase,
+                          ArchiveFormUseCase archiveFormUseCase,
+                          GetPublishedFormUseCase getPublishedFormUseCase) {
+        this.publishFormUseCase = publishFormUseCase;
+        this.archiveFormUseCase = archiveFormUseCase;
+        this.getPublishedFormUseCase = getPublishedFormUseCase;
+    }
+
+    @PostMapping("/forms/{id}/publish")
+    public ResponseEntity<FormResponse> publishForm(@PathVariable Long id) {
+        logger.info("Publish form: {}", id);
+        return ResponseEntity.ok(publishFormUseCase.execute(new PublishFormCommand(id)));
+    }
+
+    @PostMapping("/forms/{id}/archive")
+    public ResponseEntity<FormResponse> archiveForm(@PathVariable Long id) {
+        logger.info("Archive form: {}", id);
+        return ResponseEntity.ok(archiveFormUseCase.execute(new ArchiveFormCommand(id)));
+    }
+
+    /**
+     * Devuelve el JSON pre-serializado del snapshot; con If-None-Match de la misma version responde 304
+     */
+    @GetMapping("/public/forms/{slug}")
+    public ResponseEntity<byte[]> getPublishedForm(
+            @PathVariable String slug,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        PublishedFormSnapshot snapshot = getPublishedFormUseCase.execute(new GetPublishedFormCommand(slug));
+        if (snapshot.getETag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getETag()).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getETag())
+                .body(snapshot.getJson());
+    }
+}
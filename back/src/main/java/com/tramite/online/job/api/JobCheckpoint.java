@@ -0,0 +1,12 @@
+package com.tramite.online.job.api;
+
+/**
+ * Punto de reanudacion de un trabajo: el ultimo id procesado, cuantos elementos van
+ * y un estado propio del handler (por ejemplo el offset del archivo de salida)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record JobCheckpoint(long lastId, long processed, String state) {
+}
@@ -0,0 +1,44 @@
+package com.tramite.online.job.api;
+
+import java.util.Optional;
+
+/**
+ * Contexto de un trabajo en ejecucion, lo recibe el JobHandler
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface JobContext {
+
+    Long jobId();
+
+    Long workspaceId();
+
+    String payload();
+
+    /**
+     * Identificador unico de esta ejecucion; cambia en cada claim (reintento, recuperacion o
+     * reencolado al apagar). Sirve para nombrar archivos temporales que no compartan dos workers.
+     */
+    String runId();
+
+    /**
+     * Ultimo checkpoint guardado; vacio en la primera ejecucion
+     */
+    Optional<JobCheckpoint> checkpoint();
+
+    /**
+     * Avance informado a los endpoints de estado; se persiste con el heartbeat, no en cada llamada
+     */
+    void progress(long processed, Long total);
+
+    /**
+     * Guarda el checkpoint y lo confirma en el acto, en una transaccion aparte de la del llamador
+     * (usa una conexion mas mientras dura). Lanza CancellationException si se pidio cancelar el trabajo
+     * o si este worker ya no es su dueño (la recuperacion lo reasigno).
+     */
+    void checkpoint(JobCheckpoint checkpoint);
+
+    boolean isCancelled();
+}
@@ -0,0 +1,20 @@
+package com.tramite.online.job.api;
+
+/**
+ * Ejecuta los trabajos de un tipo. Los modulos registran sus handlers como beans.
+ * Un handler reanudable lee context.checkpoint() al empezar y guarda checkpoints
+ * periodicamente; uno que no lo es simplemente vuelve a empezar.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface JobHandler {
+
+    String type();
+
+    /**
+     * Corre el trabajo y devuelve el resultado (por ejemplo la ruta del archivo generado), o null
+     */
+    String run(JobContext context) throws Exception;
+}
@@ -0,0 +1,14 @@
+package com.tramite.online.job.api;
+
+/**
+ * Pedido de un trabajo asincrono
+ * @param type tipo del trabajo; lo ejecuta el JobHandler con ese mismo tipo
+ * @param workspaceId workspace al que se descuenta el limite de concurrencia
+ * @param payload parametros del trabajo (JSON), los interpreta el handler
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record JobRequest(String type, Long workspaceId, String payload) {
+}
@@ -0,0 +1,21 @@
+package com.tramite.online.job.api;
+
+import java.util.Optional;
+
+/**
+ * Puerto de entrada para encolar trabajos asincronos y consultar su estado
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface JobScheduler {
+
+    /**
+     * Encola el trabajo y devuelve su id; lo toma el primer worker con lugar dentro del
+     * limite de concurrencia del workspace
+     */
+    Long submit(JobRequest request);
+
+    Optional<JobView> find(Long jobId);
+}
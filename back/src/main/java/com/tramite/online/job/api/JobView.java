@@ -0,0 +1,24 @@
+package com.tramite.online.job.api;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista de un trabajo para los modulos que lo encolaron
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record JobView(
+        Long id,
+        String type,
+        Long workspaceId,
+        JobStatus status,
+        long processed,
+        Long total,
+        String result,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+}
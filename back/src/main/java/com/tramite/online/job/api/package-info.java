@@ -0,0 +1,8 @@
+/**
+ * API del modulo de trabajos: otros modulos (submission, analytics) encolan trabajos con
+ * JobScheduler y los ejecutan registrando un JobHandler por tipo
+ */
+@NamedInterface("api")
+package com.tramite.online.job.api;
+
+import org.springframework.modulith.NamedInterface;
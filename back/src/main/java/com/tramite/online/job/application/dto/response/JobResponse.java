@@ -0,0 +1,37 @@
+package com.tramite.online.job.application.dto.response;
+
+import com.tramite.online.job.api.JobStatus;
+import com.tramite.online.job.domain.model.Job;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record de respuesta con el estado y el avance de un trabajo; percent es null si no se conoce el total
+ */
+public record JobResponse(
+        Long id,
+        String type,
+        Long workspaceId,
+        JobStatus status,
+        int attempts,
+        int maxAttempts,
+        long processed,
+        Long total,
+        Double percent,
+        boolean cancelRequested,
+        String result,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime heartbeatAt,
+        LocalDateTime finishedAt
+) {
+
+    public static JobResponse from(Job job) {
+        Double percent = job.total() == null || job.total() == 0 ? null
+                : Math.min(100.0, job.processed() * 100.0 / job.total());
+        return new JobResponse(job.id(), job.type(), job.workspaceId(), job.status(), job.attempts(),
+                job.maxAttempts(), job.processed(), job.total(), percent, job.cancelRequested(), job.result(),
+                job.error(), job.createdAt(), job.startedAt(), job.heartbeatAt(), job.finishedAt());
+    }
+}
@@ -0,0 +1,62 @@
+package com.tramite.online.job.application.scheduler;
+
+import com.tramite.online.job.api.JobHandler;
+import com.tramite.online.job.api.JobRequest;
+import com.tramite.online.job.api.JobScheduler;
+import com.tramite.online.job.api.JobView;
+import com.tramite.online.job.domain.model.Job;
+import com.tramite.online.job.domain.repository.JobRepository;
+import com.tramite.online.shared.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementacion de JobScheduler: encolar es un INSERT, el trabajo lo toma el pool de workers.
+ * Se valida el tipo al encolar para no dejar en la cola trabajos que ningun nodo puede correr.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class DefaultJobScheduler implements JobScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultJobScheduler.class);
+
+    private final JobRepository jobRepository;
+    private final Set<String> types;
+    private final int maxAttempts;
+
+    public DefaultJobScheduler(JobRepository jobRepository,
+                               List<JobHandler> handlers,
+                               @Value("${app.job.max-attempts:3}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.types = handlers.stream().map(JobHandler::type).collect(Collectors.toUnmodifiableSet());
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public Long submit(JobRequest request) {
+        if (!types.contains(request.type())) {
+            throw new ValidationException("type", "Tipo de trabajo desconocido: " + request.type());
+        }
+        if (request.workspaceId() == null) {
+            throw new ValidationException("workspaceId", "El trabajo debe pertenecer a un workspace");
+        }
+        Long jobId = jobRepository.insert(request, maxAttempts);
+        logger.info("Job {} ({}) queued for workspace {}", jobId, request.type(), request.workspaceId());
+        return jobId;
+    }
+
+    @Override
+    public Optional<JobView> find(Long jobId) {
+        return jobRepository.findById(jobId).map(Job::toView);
+    }
+}
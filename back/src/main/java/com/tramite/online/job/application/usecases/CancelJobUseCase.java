@@ -0,0 +1,41 @@
+package com.tramite.online.job.application.usecases;
+
+import com.tramite.online.job.application.dto.response.JobResponse;
+import com.tramite.online.job.domain.model.Job;
+import com.tramite.online.job.domain.repository.JobRepository;
+import com.tramite.online.shared.exception.ConflictException;
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de Uso para cancelar un trabajo. Uno encolado queda CANCELLED en el acto; uno en curso
+ * se marca y su worker lo detiene en el proximo checkpoint o heartbeat.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class CancelJobUseCase {
+
+    private final JobRepository jobRepository;
+    private final Logger logger = LoggerFactory.getLogger(CancelJobUseCase.class);
+
+    public CancelJobUseCase(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    public JobResponse execute(Long jobId) {
+        if (!jobRepository.requestCancel(jobId)) {
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+            throw new ConflictException("El trabajo " + jobId + " ya termino con estado " + job.status());
+        }
+        logger.info("Cancellation requested for job {}", jobId);
+        return jobRepository.findById(jobId)
+                .map(JobResponse::from)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+    }
+}
@@ -0,0 +1,29 @@
+package com.tramite.online.job.application.usecases;
+
+import com.tramite.online.job.application.dto.response.JobResponse;
+import com.tramite.online.job.domain.repository.JobRepository;
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de Uso para consultar el estado y el avance de un trabajo
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetJobUseCase {
+
+    private final JobRepository jobRepository;
+
+    public GetJobUseCase(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    public JobResponse execute(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(JobResponse::from)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+    }
+}
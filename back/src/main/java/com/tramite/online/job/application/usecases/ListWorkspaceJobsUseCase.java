@@ -0,0 +1,33 @@
+package com.tramite.online.job.application.usecases;
+
+import com.tramite.online.job.api.JobStatus;
+import com.tramite.online.job.application.dto.response.JobResponse;
+import com.tramite.online.job.domain.repository.JobRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Caso de Uso para listar los trabajos recientes de un workspace
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class ListWorkspaceJobsUseCase {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final JobRepository jobRepository;
+
+    public ListWorkspaceJobsUseCase(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    public List<JobResponse> execute(Long workspaceId, JobStatus status, int limit) {
+        return jobRepository.findByWorkspace(workspaceId, status, Math.clamp(limit, 1, MAX_LIMIT)).stream()
+                .map(JobResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,215 @@
+package com.tramite.online.job.application.worker;
+
+import com.tramite.online.job.api.JobHandler;
+import com.tramite.online.job.domain.model.Job;
+import com.tramite.online.job.domain.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pool de workers de trabajos asincronos. Cada trabajo corre en su propio hilo virtual y un
+ * semaforo acota cuantos corren a la vez en este nodo; el limite por workspace lo aplica el claim
+ * en la base, asi vale para todos los nodos. El heartbeat persiste el avance y detecta
+ * cancelaciones; la recuperacion reencola los trabajos de workers que dejaron de latir, que
+ * retoman desde su ultimo checkpoint. Un trabajo puede tener una conexion tomada toda su ejecucion
+ * (el cursor de una exportacion) y otra mientras guarda un checkpoint, por eso max-concurrency no
+ * puede pasar de la mitad del pool de conexiones: el resto queda para HTTP, listeners y heartbeats.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class JobWorkerPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobWorkerPool.class);
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JobRepository jobRepository;
+    private final Map<String, JobHandler> handlers;
+    private final MeterRegistry meterRegistry;
+    private final int perWorkspace;
+    private final Duration staleAfter;
+    private final String workerId = "worker-" + UUID.randomUUID();
+    private final Semaphore slots;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-worker-", 0).factory());
+    private final ConcurrentMap<Long, RunningJob> running = new ConcurrentHashMap<>();
+    private final AtomicLong queued = new AtomicLong();
+    private volatile boolean stopping;
+
+    public JobWorkerPool(JobRepository jobRepository,
+                         List<JobHandler> handlers,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.job.workers.max-concurrency:4}") int maxConcurrency,
+                         @Value("${app.job.workers.per-workspace:2}") int perWorkspace,
+                         @Value("${app.job.stale-after:PT1M}") Duration staleAfter,
+                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        if (maxConcurrency > connectionPoolSize / 2) {
+            throw new IllegalStateException("app.job.workers.max-concurrency (" + maxConcurrency
+                    + ") no puede superar la mitad de spring.datasource.hikari.maximum-pool-size ("
+                    + connectionPoolSize + ")");
+        }
+        this.jobRepository = jobRepository;
+        this.handlers = handlers.stream().collect(Collectors.toMap(JobHandler::type, Function.identity()));
+        this.meterRegistry = meterRegistry;
+        this.perWorkspace = perWorkspace;
+        this.staleAfter = staleAfter;
+        this.slots = new Semaphore(maxConcurrency);
+        Gauge.builder("job.workers.active", running, Map::size)
+                .description("Trabajos en ejecucion en este nodo")
+                .register(meterRegistry);
+        Gauge.builder("job.queue.depth", queued, AtomicLong::get)
+                .description("Trabajos encolados esperando worker")
+                .register(meterRegistry);
+        logger.info("Job worker {} started with {} slots ({} per workspace), handlers {}",
+                workerId, maxConcurrency, perWorkspace, this.handlers.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${app.job.poll-interval:PT1S}")
+    public void poll() {
+        int free = slots.availablePermits();
+        if (stopping || free == 0) {
+            return;
+        }
+        try {
+            for (Job job : jobRepository.claim(workerId, free, perWorkspace)) {
+                slots.acquireUninterruptibly();
+                RunningJob runningJob = new RunningJob(job, workerId, jobRepository);
+                running.put(job.id(), runningJob);
+                logger.info("Job {} ({}) claimed, attempt {}{}", job.id(), job.type(), job.attempts(),
+                        job.checkpointId() != null ? ", resuming after id " + job.checkpointId() : "");
+                executor.execute(() -> run(runningJob));
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not claim jobs: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.job.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        try {
+            // solo se revisan los trabajos de la foto: uno que poll() tome durante el viaje a la base
+            // no esta en la respuesta y no por eso se perdio
+            List<RunningJob> snapshot = List.copyOf(running.values());
+            Map<Long, Boolean> owned = jobRepository.heartbeat(workerId,
+                    snapshot.stream().map(RunningJob::progress).toList());
+            for (RunningJob runningJob : snapshot) {
+                Long jobId = runningJob.jobId();
+                Boolean cancelRequested = owned.get(jobId);
+                if (cancelRequested == null) {
+                    logger.warn("Job {} is no longer owned by worker {}", jobId, workerId);
+                    runningJob.markLost();
+                } else if (cancelRequested) {
+                    runningJob.requestCancel();
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not send job heartbeat: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.job.recovery-interval:PT30S}")
+    public void recover() {
+        try {
+            int recovered = jobRepository.recoverStale(LocalDateTime.now().minus(staleAfter));
+            if (recovered > 0) {
+                logger.warn("Recovered {} jobs without heartbeat for {}", recovered, staleAfter);
+            }
+            queued.set(jobRepository.countQueued());
+        } catch (DataAccessException e) {
+            logger.warn("Could not recover stale jobs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Devuelve a la cola los trabajos en curso (sin gastar el intento) e interrumpe sus hilos;
+     * otro nodo los retoma desde el ultimo checkpoint
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopping = true;
+        running.forEach((jobId, runningJob) -> {
+            runningJob.markLost();
+            try {
+                jobRepository.requeue(jobId, workerId);
+            } catch (DataAccessException e) {
+                logger.warn("Could not requeue job {} on shutdown: {}", jobId, e.getMessage());
+            }
+        });
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void run(RunningJob runningJob) {
+        Job job = runningJob.job();
+        long start = System.nanoTime();
+        String outcome = "lost";
+        try {
+            JobHandler handler = handlers.get(job.type());
+            if (handler == null) {
+                throw new IllegalStateException("No hay handler para trabajos de tipo " + job.type());
+            }
+            String result = handler.run(runningJob);
+            if (jobRepository.complete(job.id(), workerId, result)) {
+                outcome = "succeeded";
+            }
+        } catch (CancellationException e) {
+            if (runningJob.isCancelRequested() && jobRepository.markCancelled(job.id(), workerId)) {
+                outcome = "cancelled";
+            }
+        } catch (Exception e) {
+            if (!stopping) {
+                logger.warn("Job {} ({}) failed on attempt {}: {}", job.id(), job.type(), job.attempts(),
+                        e.getMessage(), e);
+                if (jobRepository.fail(job.id(), workerId, truncate(String.valueOf(e.getMessage())))) {
+                    outcome = job.attempts() >= job.maxAttempts() ? "failed" : "retried";
+                }
+            }
+        } finally {
+            running.remove(job.id());
+            slots.release();
+            long elapsed = System.nanoTime() - start;
+            logger.info("Job {} ({}) finished as {} in {} ms", job.id(), job.type(), outcome,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+            Counter.builder("job.finished").tag("type", job.type()).tag("outcome", outcome)
+                    .description("Ejecuciones de trabajos por resultado")
+                    .register(meterRegistry).increment();
+            Timer.builder("job.duration").tag("type", job.type())
+                    .description("Duracion de cada ejecucion de un trabajo")
+                    .register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
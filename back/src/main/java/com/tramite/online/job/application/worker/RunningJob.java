@@ -0,0 +1,117 @@
+package com.tramite.online.job.application.worker;
+
+import com.tramite.online.job.api.JobCheckpoint;
+import com.tramite.online.job.api.JobContext;
+import com.tramite.online.job.domain.model.Job;
+import com.tramite.online.job.domain.repository.JobRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Trabajo en ejecucion en este worker: es el JobContext que recibe el handler.
+ * El avance queda en memoria hasta el proximo heartbeat; el checkpoint se guarda en el acto.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class RunningJob implements JobContext {
+
+    private final Job job;
+    private final String workerId;
+    private final JobRepository jobRepository;
+    private final String runId = UUID.randomUUID().toString();
+    private volatile JobCheckpoint checkpoint;
+    private volatile long processed;
+    private volatile Long total;
+    private volatile boolean cancelRequested;
+    private volatile boolean lost;
+
+    RunningJob(Job job, String workerId, JobRepository jobRepository) {
+        this.job = job;
+        this.workerId = workerId;
+        this.jobRepository = jobRepository;
+        this.checkpoint = job.checkpoint().orElse(null);
+        this.processed = job.processed();
+        this.total = job.total();
+        this.cancelRequested = job.cancelRequested();
+    }
+
+    Job job() {
+        return job;
+    }
+
+    @Override
+    public Long jobId() {
+        return job.id();
+    }
+
+    @Override
+    public Long workspaceId() {
+        return job.workspaceId();
+    }
+
+    @Override
+    public String payload() {
+        return job.payload();
+    }
+
+    @Override
+    public String runId() {
+        return runId;
+    }
+
+    @Override
+    public Optional<JobCheckpoint> checkpoint() {
+        return Optional.ofNullable(checkpoint);
+    }
+
+    @Override
+    public void progress(long processed, Long total) {
+        this.processed = processed;
+        if (total != null) {
+            this.total = total;
+        }
+    }
+
+    @Override
+    public void checkpoint(JobCheckpoint checkpoint) {
+        if (isCancelled()) {
+            throw new CancellationException("Trabajo " + job.id() + " cancelado");
+        }
+        Optional<Boolean> saved = jobRepository.saveCheckpoint(job.id(), workerId, checkpoint);
+        if (saved.isEmpty()) {
+            lost = true;
+            throw new CancellationException("Trabajo " + job.id() + " reasignado a otro worker");
+        }
+        this.checkpoint = checkpoint;
+        this.processed = checkpoint.processed();
+        if (saved.get()) {
+            cancelRequested = true;
+            throw new CancellationException("Trabajo " + job.id() + " cancelado");
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested || lost;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void markLost() {
+        lost = true;
+    }
+
+    JobRepository.Progress progress() {
+        return new JobRepository.Progress(job.id(), processed, total);
+    }
+}
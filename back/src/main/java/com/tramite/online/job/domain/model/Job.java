@@ -0,0 +1,47 @@
+package com.tramite.online.job.domain.model;
+
+import com.tramite.online.job.api.JobCheckpoint;
+import com.tramite.online.job.api.JobStatus;
+import com.tramite.online.job.api.JobView;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Fila de la tabla job
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record Job(
+        Long id,
+        String type,
+        Long workspaceId,
+        String payload,
+        JobStatus status,
+        int attempts,
+        int maxAttempts,
+        long processed,
+        Long total,
+        Long checkpointId,
+        String checkpointState,
+        String result,
+        String error,
+        String workerId,
+        boolean cancelRequested,
+        LocalDateTime heartbeatAt,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    public Optional<JobCheckpoint> checkpoint() {
+        return checkpointId == null ? Optional.empty()
+                : Optional.of(new JobCheckpoint(checkpointId, processed, checkpointState));
+    }
+
+    public JobView toView() {
+        return new JobView(id, type, workspaceId, status, processed, total, result, error, createdAt, finishedAt);
+    }
+}
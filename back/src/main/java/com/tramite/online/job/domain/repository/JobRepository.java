@@ -0,0 +1,81 @@
+package com.tramite.online.job.domain.repository;
+
+import com.tramite.online.job.api.JobCheckpoint;
+import com.tramite.online.job.api.JobRequest;
+import com.tramite.online.job.api.JobStatus;
+import com.tramite.online.job.domain.model.Job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Puerto para la tabla de trabajos.
+ * Las operaciones de un worker sobre un trabajo en curso llevan su workerId: si la recuperacion
+ * ya lo reasigno, no actualizan nada y el worker sabe que lo perdio.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface JobRepository {
+
+    /**
+     * Avance de un trabajo en curso, se persiste con el heartbeat
+     */
+    record Progress(Long jobId, long processed, Long total) {
+    }
+
+    Long insert(JobRequest request, int maxAttempts);
+
+    Optional<Job> findById(Long id);
+
+    /**
+     * Trabajos del workspace, los mas recientes primero; status null no filtra
+     */
+    List<Job> findByWorkspace(Long workspaceId, JobStatus status, int limit);
+
+    /**
+     * Toma hasta limit trabajos encolados para workerId, sin superar perWorkspace trabajos
+     * en curso por workspace y repartiendo en ronda entre workspaces
+     */
+    List<Job> claim(String workerId, int limit, int perWorkspace);
+
+    /**
+     * Renueva el heartbeat y guarda el avance de los trabajos del worker.
+     * Devuelve, por cada trabajo que sigue siendo suyo, si se pidio cancelarlo.
+     */
+    Map<Long, Boolean> heartbeat(String workerId, List<Progress> progress);
+
+    /**
+     * Vacio si el trabajo ya no es del worker; si no, indica si se pidio cancelarlo
+     */
+    Optional<Boolean> saveCheckpoint(Long jobId, String workerId, JobCheckpoint checkpoint);
+
+    boolean complete(Long jobId, String workerId, String result);
+
+    /**
+     * Vuelve a encolar el trabajo (conserva el checkpoint) o lo marca FAILED si agoto los intentos
+     */
+    boolean fail(Long jobId, String workerId, String error);
+
+    boolean markCancelled(Long jobId, String workerId);
+
+    /**
+     * Devuelve el trabajo a la cola sin consumir un intento (apagado ordenado del worker)
+     */
+    boolean requeue(Long jobId, String workerId);
+
+    /**
+     * Un trabajo encolado se cancela en el acto; uno en curso queda marcado y lo cancela su worker
+     */
+    boolean requestCancel(Long jobId);
+
+    /**
+     * Reencola (o falla / cancela) los trabajos en curso con heartbeat anterior a staleBefore
+     */
+    int recoverStale(LocalDateTime staleBefore);
+
+    long countQueued();
+}
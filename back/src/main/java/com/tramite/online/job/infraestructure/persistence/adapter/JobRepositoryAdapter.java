@@ -0,0 +1,288 @@
+package com.tramite.online.job.infraestructure.persistence.adapter;
+
+import com.tramite.online.job.api.JobCheckpoint;
+import com.tramite.online.job.api.JobRequest;
+import com.tramite.online.job.api.JobStatus;
+import com.tramite.online.job.domain.model.Job;
+import com.tramite.online.job.domain.repository.JobRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adapter JDBC de JobRepository.
+ * El claim se serializa con un advisory lock de transaccion: el conteo de trabajos en curso por
+ * workspace y el UPDATE que los pone RUNNING tienen que verse juntos, si no dos nodos podrian
+ * superar el limite a la vez. El lock dura lo que una sentencia corta, no lo que el trabajo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class JobRepositoryAdapter implements JobRepository {
+
+    private static final long CLAIM_LOCK = 0x6A6F62L;
+
+    private static final String COLUMNS = """
+            id, type, workspace_id, payload, status, attempts, max_attempts, processed, total, checkpoint_id,
+            checkpoint_state, result, error, worker_id, cancel_requested, heartbeat_at, created_at, started_at,
+            finished_at
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO job (type, workspace_id, payload, status, max_attempts, created_at, updated_at)
+            VALUES (?, ?, ?, 'QUEUED', ?, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            RETURNING id
+            """;
+
+    /**
+     * Los candidatos se toman de los workspaces que todavia tienen lugar; slot es la posicion
+     * que ocuparia cada uno contando los que ya corren y turn reparte en ronda entre workspaces
+     */
+    private static final String CLAIM = """
+            WITH running AS (
+                SELECT workspace_id, count(*) AS running
+                FROM job
+                WHERE status = 'RUNNING'
+                GROUP BY workspace_id
+            ), candidates AS (
+                SELECT j.id, j.workspace_id, j.created_at
+                FROM job j
+                WHERE j.status = 'QUEUED'
+                  AND NOT EXISTS (SELECT 1 FROM running r WHERE r.workspace_id = j.workspace_id AND r.running >= ?)
+                ORDER BY j.created_at, j.id
+                LIMIT 200
+                FOR UPDATE OF j SKIP LOCKED
+            ), ranked AS (
+                SELECT c.id, c.created_at,
+                       row_number() OVER (PARTITION BY c.workspace_id ORDER BY c.created_at, c.id) AS turn,
+                       COALESCE(r.running, 0) AS running
+                FROM candidates c
+                LEFT JOIN running r ON r.workspace_id = c.workspace_id
+            ), chosen AS (
+                SELECT id
+                FROM ranked
+                WHERE running + turn <= ?
+                ORDER BY turn, created_at, id
+                LIMIT ?
+            )
+            UPDATE job j
+            SET status = 'RUNNING', attempts = j.attempts + 1, worker_id = ?, heartbeat_at = LOCALTIMESTAMP,
+                started_at = COALESCE(j.started_at, LOCALTIMESTAMP), updated_at = LOCALTIMESTAMP
+            FROM chosen c
+            WHERE j.id = c.id
+            RETURNING j.id, j.type, j.workspace_id, j.payload, j.status, j.attempts, j.max_attempts, j.processed,
+                      j.total, j.checkpoint_id, j.checkpoint_state, j.result, j.error, j.worker_id,
+                      j.cancel_requested, j.heartbeat_at, j.created_at, j.started_at, j.finished_at
+            """;
+
+    private static final String HEARTBEAT = """
+            UPDATE job j
+            SET heartbeat_at = LOCALTIMESTAMP, processed = p.processed, total = COALESCE(p.total, j.total),
+                updated_at = LOCALTIMESTAMP
+            FROM unnest(?, ?, ?) AS p(id, processed, total)
+            WHERE j.id = p.id AND j.worker_id = ? AND j.status = 'RUNNING'
+            RETURNING j.id, j.cancel_requested
+            """;
+
+    private static final String CHECKPOINT = """
+            UPDATE job
+            SET checkpoint_id = ?, checkpoint_state = ?, processed = ?, heartbeat_at = LOCALTIMESTAMP,
+                updated_at = LOCALTIMESTAMP
+            WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+            RETURNING cancel_requested
+            """;
+
+    private static final String COMPLETE = """
+            UPDATE job
+            SET status = 'SUCCEEDED', result = ?, error = NULL, worker_id = NULL, finished_at = LOCALTIMESTAMP,
+                updated_at = LOCALTIMESTAMP
+            WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+            """;
+
+    private static final String FAIL = """
+            UPDATE job
+            SET status = CASE WHEN attempts >= max_attempts THEN 'FAILED' ELSE 'QUEUED' END,
+                error = ?, worker_id = NULL,
+                finished_at = CASE WHEN attempts >= max_attempts THEN LOCALTIMESTAMP END,
+                updated_at = LOCALTIMESTAMP
+            WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+            """;
+
+    private static final String CANCELLED = """
+            UPDATE job
+            SET status = 'CANCELLED', worker_id = NULL, finished_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP
+            WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+            """;
+
+    private static final String REQUEUE = """
+            UPDATE job
+            SET status = 'QUEUED', attempts = attempts - 1, worker_id = NULL, updated_at = LOCALTIMESTAMP
+            WHERE id = ? AND worker_id = ? AND status = 'RUNNING'
+            """;
+
+    private static final String REQUEST_CANCEL = """
+            UPDATE job
+            SET cancel_requested = TRUE,
+                status = CASE WHEN status = 'QUEUED' THEN 'CANCELLED' ELSE status END,
+                finished_at = CASE WHEN status = 'QUEUED' THEN LOCALTIMESTAMP END,
+                updated_at = LOCALTIMESTAMP
+            WHERE id = ? AND status IN ('QUEUED', 'RUNNING')
+            """;
+
+    private static final String RECOVER_STALE = """
+            UPDATE job
+            SET status = CASE WHEN cancel_requested THEN 'CANCELLED'
+                              WHEN attempts >= max_attempts THEN 'FAILED'
+                              ELSE 'QUEUED' END,
+                error = 'Sin heartbeat del worker ' || worker_id || ' desde ' || heartbeat_at,
+                worker_id = NULL,
+                finished_at = CASE WHEN cancel_requested OR attempts >= max_attempts THEN LOCALTIMESTAMP END,
+                updated_at = LOCALTIMESTAMP
+            WHERE status = 'RUNNING' AND heartbeat_at < ?
+            """;
+
+    private static final RowMapper<Job> ROW_MAPPER = (rs, rowNum) -> new Job(
+            rs.getLong("id"),
+            rs.getString("type"),
+            rs.getLong("workspace_id"),
+            rs.getString("payload"),
+            JobStatus.valueOf(rs.getString("status")),
+            rs.getInt("attempts"),
+            rs.getInt("max_attempts"),
+            rs.getLong("processed"),
+            rs.getObject("total", Long.class),
+            rs.getObject("checkpoint_id", Long.class),
+            rs.getString("checkpoint_state"),
+            rs.getString("result"),
+            rs.getString("error"),
+            rs.getString("worker_id"),
+            rs.getBoolean("cancel_requested"),
+            rs.getObject("heartbeat_at", LocalDateTime.class),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("started_at", LocalDateTime.class),
+            rs.getObject("finished_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Long insert(JobRequest request, int maxAttempts) {
+        return jdbcTemplate.queryForObject(INSERT, Long.class,
+                request.type(), request.workspaceId(), request.payload(), maxAttempts);
+    }
+
+    @Override
+    public Optional<Job> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM job WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<Job> findByWorkspace(Long workspaceId, JobStatus status, int limit) {
+        if (status == null) {
+            return jdbcTemplate.query("SELECT " + COLUMNS + """
+                            FROM job
+                            WHERE workspace_id = ?
+                            ORDER BY created_at DESC, id DESC
+                            LIMIT ?
+                            """, ROW_MAPPER, workspaceId, limit);
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + """
+                        FROM job
+                        WHERE workspace_id = ? AND status = ?
+                        ORDER BY created_at DESC, id DESC
+                        LIMIT ?
+                        """, ROW_MAPPER, workspaceId, status.name(), limit);
+    }
+
+    @Override
+    @Transactional
+    public List<Job> claim(String workerId, int limit, int perWorkspace) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", CLAIM_LOCK);
+        return jdbcTemplate.query(CLAIM, ROW_MAPPER, perWorkspace, perWorkspace, limit, workerId);
+    }
+
+    @Override
+    public Map<Long, Boolean> heartbeat(String workerId, List<Progress> progress) {
+        Long[] ids = progress.stream().map(Progress::jobId).toArray(Long[]::new);
+        Long[] processed = progress.stream().map(Progress::processed).toArray(Long[]::new);
+        Long[] totals = progress.stream().map(Progress::total).toArray(Long[]::new);
+        Map<Long, Boolean> owned = new HashMap<>();
+        jdbcTemplate.query(HEARTBEAT, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", processed));
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", totals));
+            ps.setString(4, workerId);
+        }, rs -> {
+            owned.put(rs.getLong("id"), rs.getBoolean("cancel_requested"));
+        });
+        return owned;
+    }
+
+    /**
+     * En su propia transaccion: el handler suele llamarlo desde adentro de una transaccion de lectura
+     * (cursor de una exportacion) que puede ser de solo lectura y durar minutos; el checkpoint tiene
+     * que quedar confirmado en el acto y no retener el lock de la fila, que frena el heartbeat
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Boolean> saveCheckpoint(Long jobId, String workerId, JobCheckpoint checkpoint) {
+        return jdbcTemplate.query(CHECKPOINT, ps -> {
+            ps.setLong(1, checkpoint.lastId());
+            ps.setObject(2, checkpoint.state(), Types.VARCHAR);
+            ps.setLong(3, checkpoint.processed());
+            ps.setLong(4, jobId);
+            ps.setString(5, workerId);
+        }, (rs, rowNum) -> rs.getBoolean("cancel_requested")).stream().findFirst();
+    }
+
+    @Override
+    public boolean complete(Long jobId, String workerId, String result) {
+        return jdbcTemplate.update(COMPLETE, result, jobId, workerId) > 0;
+    }
+
+    @Override
+    public boolean fail(Long jobId, String workerId, String error) {
+        return jdbcTemplate.update(FAIL, error, jobId, workerId) > 0;
+    }
+
+    @Override
+    public boolean markCancelled(Long jobId, String workerId) {
+        return jdbcTemplate.update(CANCELLED, jobId, workerId) > 0;
+    }
+
+    @Override
+    public boolean requeue(Long jobId, String workerId) {
+        return jdbcTemplate.update(REQUEUE, jobId, workerId) > 0;
+    }
+
+    @Override
+    public boolean requestCancel(Long jobId) {
+        return jdbcTemplate.update(REQUEST_CANCEL, jobId) > 0;
+    }
+
+    @Override
+    public int recoverStale(LocalDateTime staleBefore) {
+        return jdbcTemplate.update(RECOVER_STALE, staleBefore);
+    }
+
+    @Override
+    public long countQueued() {
+        Long queued = jdbcTemplate.queryForObject("SELECT count(*) FROM job WHERE status = 'QUEUED'", Long.class);
+        return queued != null ? queued : 0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.tramite.online.job.infraestructure.web.controller;
+
+import com.tramite.online.job.api.JobStatus;
+import com.tramite.online.job.application.dto.response.JobResponse;
+import com.tramite.online.job.application.usecases.CancelJobUseCase;
+import com.tramite.online.job.application.usecases.GetJobUseCase;
+import com.tramite.online.job.application.usecases.ListWorkspaceJobsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST de estado, avance y cancelacion de trabajos asincronos.
+ * Los trabajos se crean desde los endpoints de cada modulo (exportaciones, recalculos).
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class JobController {
+
+    private final Logger logger = LoggerFactory.getLogger(JobController.class);
+
+    private final GetJobUseCase getJobUseCase;
+    private final ListWorkspaceJobsUseCase listWorkspaceJobsUseCase;
+    private final CancelJobUseCase cancelJobUseCase;
+
+    public JobController(GetJobUseCase getJobUseCase,
+                         ListWorkspaceJobsUseCase listWorkspaceJobsUseCase,
+                         CancelJobUseCase cancelJobUseCase) {
+        this.getJobUseCase = getJobUseCase;
+        this.listWorkspaceJobsUseCase = listWorkspaceJobsUseCase;
+        this.cancelJobUseCase = cancelJobUseCase;
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<JobResponse> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(getJobUseCase.execute(jobId));
+    }
+
+    @PostMapping("/jobs/{jobId}/cancel")
+    public ResponseEntity<JobResponse> cancelJob(@PathVariable Long jobId) {
+        logger.info("Cancel job {}", jobId);
+        return ResponseEntity.accepted().body(cancelJobUseCase.execute(jobId));
+    }
+
+    @GetMapping("/workspaces/{workspaceId}/jobs")
+    public ResponseEntity<List<JobResponse>> listJobs(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(listWorkspaceJobsUseCase.execute(workspaceId, status, limit));
+    }
+}
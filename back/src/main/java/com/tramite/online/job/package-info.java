@@ -0,0 +1 @@
+package com.tramite.online.job;
@@ -9,5 +9,6 @@ public class Constants {
     public static final String FORBIDDEN = "FORBIDDEN";
     public static final String DUPLICATE_RESOURCE = "DUPLICATE_RESOURCE";
     public static final String DUPLICATE_WORKSPACE = "DUPLICATE_WORKSPACE";
+    public static final String CONFLICT = "CONFLICT";
 
 }
@@ -0,0 +1,65 @@
+package com.tramite.online.shared.domain.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una validacion que acumula todas las reglas incumplidas en lugar
+ * de cortar en la primera. Es mutable y reutilizable: con clear() se puede usar
+ * la misma instancia para validar miles de valores sin crear un objeto por cada uno.
+ * No es thread-safe.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class ValidationResult {
+
+    private final List<Violation> violations = new ArrayList<>(4);
+
+    public ValidationResult add(String field, String message) {
+        violations.add(new Violation(field, message));
+        return this;
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public List<Violation> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    public int size() {
+        return violations.size();
+    }
+
+    public ValidationResult clear() {
+        violations.clear();
+        return this;
+    }
+
+    /**
+     * Mensajes de todas las violaciones separados por "; "
+     */
+    public String getMessage() {
+        StringBuilder builder = new StringBuilder();
+        for (Violation violation : violations) {
+            if (!builder.isEmpty()) {
+                builder.append("; ");
+            }
+            builder.append(violation.message());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Lanza IllegalArgumentException con todas las violaciones si el resultado no es valido
+     */
+    public void throwIfInvalid() {
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.tramite.online.shared.domain.validation;
+
+/**
+ * Regla de validacion incumplida
+ * @param field campo validado
+ * @param message detalle de la regla incumplida
+ */
+public record Violation(String field, String message) {
+}
@@ -0,0 +1,34 @@
+package com.tramite.online.shared.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Politica de ejecucion de un @ApplicationModuleListener: concurrencia maxima y
+ * reintentos con backoff exponencial. Los atributos en 0 toman el valor por
+ * defecto de app.events.listener.*; sin la anotacion se aplican todos los defaults.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EventListenerPolicy {
+
+    /** Ejecuciones simultaneas maximas del listener */
+    int maxConcurrency() default 0;
+
+    /** Intentos totales, incluido el primero */
+    int maxAttempts() default 0;
+
+    /** Espera antes del primer reintento, en milisegundos */
+    long backoffMillis() default 0;
+
+    /** Factor de crecimiento de la espera entre reintentos */
+    double multiplier() default 0;
+}
@@ -0,0 +1,152 @@
+package com.tramite.online.shared.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aplica {@link EventListenerPolicy} a todos los @ApplicationModuleListener.
+ *
+ * Corre dentro del hilo asincrono (virtual) y por fuera de la transaccion
+ * REQUIRES_NEW del listener, por lo que cada reintento usa una transaccion nueva.
+ * Si se agotan los intentos la excepcion se propaga y la publicacion queda
+ * incompleta en el outbox, que la reenvia mas tarde.
+ *
+ * Metricas por tipo de evento y listener:
+ * events.listener (Timer, tag outcome), events.listener.queued y events.listener.active.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class EventListenerPolicyAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventListenerPolicyAspect.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultMaxConcurrency;
+    private final int defaultMaxAttempts;
+    private final Duration defaultBackoff;
+    private final double defaultMultiplier;
+    private final Map<Method, ListenerState> states = new ConcurrentHashMap<>();
+
+    public EventListenerPolicyAspect(MeterRegistry meterRegistry,
+                                     @Value("${app.events.listener.max-concurrency:16}") int defaultMaxConcurrency,
+                                     @Value("${app.events.listener.max-attempts:3}") int defaultMaxAttempts,
+                                     @Value("${app.events.listener.backoff:PT0.2S}") Duration defaultBackoff,
+                                     @Value("${app.events.listener.multiplier:2.0}") double defaultMultiplier) {
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxConcurrency = defaultMaxConcurrency;
+        this.defaultMaxAttempts = defaultMaxAttempts;
+        this.defaultBackoff = defaultBackoff;
+        this.defaultMultiplier = defaultMultiplier;
+    }
+
+    @Around("@annotation(org.springframework.modulith.events.ApplicationModuleListener)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object[] args = joinPoint.getArgs();
+        String eventType = args.length > 0 && args[0] != null
+                ? args[0].getClass().getSimpleName()
+                : "unknown";
+        ListenerState state = states.computeIfAbsent(method, m -> newState(m, eventType));
+
+        state.queued.incrementAndGet();
+        state.permits.acquire();
+        state.queued.decrementAndGet();
+        state.active.incrementAndGet();
+        try {
+            return invokeWithRetry(joinPoint, state, eventType);
+        } finally {
+            state.active.decrementAndGet();
+            state.permits.release();
+        }
+    }
+
+    private Object invokeWithRetry(ProceedingJoinPoint joinPoint, ListenerState state, String eventType) throws Throwable {
+        long backoff = state.backoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                Object result = joinPoint.proceed();
+                state.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                state.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (attempt >= state.maxAttempts) {
+                    logger.error("Listener {} failed for {} after {} attempts", state.name, eventType, attempt, e);
+                    throw e;
+                }
+                logger.warn("Listener {} failed for {} (attempt {}/{}), retrying in {} ms: {}",
+                        state.name, eventType, attempt, state.maxAttempts, backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = (long) (backoff * state.multiplier);
+            }
+        }
+    }
+
+    private ListenerState newState(Method method, String eventType) {
+        EventListenerPolicy policy = method.getAnnotation(EventListenerPolicy.class);
+        int maxConcurrency = policy != null && policy.maxConcurrency() > 0 ? policy.maxConcurrency() : defaultMaxConcurrency;
+        int maxAttempts = policy != null && policy.maxAttempts() > 0 ? policy.maxAttempts() : defaultMaxAttempts;
+        long backoffMillis = policy != null && policy.backoffMillis() > 0 ? policy.backoffMillis() : defaultBackoff.toMillis();
+        double multiplier = policy != null && policy.multiplier() > 0 ? policy.multiplier() : defaultMultiplier;
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new ListenerState(name, eventType, maxConcurrency, maxAttempts, backoffMillis, multiplier, meterRegistry);
+    }
+
+    private static final class ListenerState {
+        private final String name;
+        private final Semaphore permits;
+        private final int maxAttempts;
+        private final long backoffMillis;
+        private final double multiplier;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final Timer success;
+        private final Timer failure;
+
+        private ListenerState(String name, String eventType, int maxConcurrency, int maxAttempts,
+                              long backoffMillis, double multiplier, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.permits = new Semaphore(maxConcurrency);
+            this.maxAttempts = maxAttempts;
+            this.backoffMillis = backoffMillis;
+            this.multiplier = multiplier;
+            this.success = Timer.builder("events.listener")
+                    .tags("event", eventType, "listener", name, "outcome", "success")
+                    .register(meterRegistry);
+            this.failure = Timer.builder("events.listener")
+                    .tags("event", eventType, "listener", name, "outcome", "failure")
+                    .register(meterRegistry);
+            Gauge.builder("events.listener.queued", queued, AtomicInteger::get)
+                    .tags("event", eventType, "listener", name)
+                    .description("Eventos esperando un permiso de concurrencia")
+                    .register(meterRegistry);
+            Gauge.builder("events.listener.active", active, AtomicInteger::get)
+                    .tags("event", eventType, "listener", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.tramite.online.shared.exception;
+
+import com.tramite.online.shared.domain.constants.Constants;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepcion cuando la operacion choca con el estado actual del recurso
+ * (por ejemplo una version desactualizada en concurrencia optimista). Responde 409.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends BaseException {
+
+    public ConflictException(String message) {
+        super(message, Constants.CONFLICT);
+    }
+}
@@ -1,7 +1,14 @@
 package com.tramite.online.shared.exception;
 
 import com.tramite.online.shared.domain.constants.Constants;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Excepcion cuando los datos recibidos no cumplen las reglas (por ejemplo respuestas invalidas
+ * o preguntas obligatorias sin responder). Responde 400.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
 public class ValidationException extends BaseException{
    public ValidationException(String message){
        super(message, Constants.VALIDATION_ERROR);
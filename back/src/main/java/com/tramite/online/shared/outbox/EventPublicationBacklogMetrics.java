@@ -0,0 +1,76 @@
+package com.tramite.online.shared.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metricas de backlog del outbox. Los valores se refrescan con una tarea programada
+ * y los gauges solo leen el ultimo valor, asi un scrape no genera consultas.
+ * La cantidad de archivadas es la estimacion de pg_class para no hacer COUNT(*)
+ * sobre una tabla grande.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class EventPublicationBacklogMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPublicationBacklogMetrics.class);
+
+    private static final String INCOMPLETE = """
+            SELECT count(*) AS pending, min(publication_date) AS oldest
+            FROM event_publication
+            WHERE completion_date IS NULL
+            """;
+
+    private static final String ARCHIVED_ESTIMATE = """
+            SELECT COALESCE(max(reltuples), 0)::bigint FROM pg_class WHERE relname = 'event_publication_archive'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong incomplete = new AtomicLong();
+    private final AtomicLong oldestIncompleteAgeSeconds = new AtomicLong();
+    private final AtomicLong archived = new AtomicLong();
+
+    public EventPublicationBacklogMetrics(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("outbox.publications.incomplete", incomplete, AtomicLong::get)
+                .description("Publicaciones de eventos pendientes de completar")
+                .register(meterRegistry);
+        Gauge.builder("outbox.publications.oldest.incomplete.age", oldestIncompleteAgeSeconds, AtomicLong::get)
+                .description("Antiguedad de la publicacion pendiente mas vieja")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.publications.archived", archived, AtomicLong::get)
+                .description("Publicaciones archivadas (estimado)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.metrics-interval:PT30S}")
+    public void refresh() {
+        try {
+            jdbcTemplate.query(INCOMPLETE, rs -> {
+                incomplete.set(rs.getLong("pending"));
+                Timestamp oldest = rs.getTimestamp("oldest");
+                oldestIncompleteAgeSeconds.set(oldest == null ? 0
+                        : Duration.between(oldest.toInstant(), Instant.now()).toSeconds());
+            });
+            Long archivedEstimate = jdbcTemplate.queryForObject(ARCHIVED_ESTIMATE, Long.class);
+            archived.set(archivedEstimate != null ? archivedEstimate : 0);
+        } catch (DataAccessException e) {
+            logger.warn("Could not refresh outbox backlog metrics: {}", e.getMessage());
+        }
+    }
+}
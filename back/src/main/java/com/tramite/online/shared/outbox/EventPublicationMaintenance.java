@@ -0,0 +1,94 @@
+package com.tramite.online.shared.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Mantenimiento del outbox (registro de publicaciones de Spring Modulith):
+ * reenvia las publicaciones que quedaron incompletas y purga por lotes las
+ * publicaciones archivadas que superan el tiempo de retencion, para que las
+ * tablas no crezcan sin limite bajo carga sostenida.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class EventPublicationMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPublicationMaintenance.class);
+
+    private static final String PURGE_ARCHIVED = """
+            DELETE FROM event_publication_archive
+            WHERE id IN (
+                SELECT id FROM event_publication_archive
+                WHERE completion_date < ?
+                ORDER BY completion_date
+                LIMIT ?
+            )
+            """;
+
+    private final IncompleteEventPublications incompleteEventPublications;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration resubmitOlderThan;
+    private final Duration archiveRetention;
+    private final int purgeBatchSize;
+    private final Counter purged;
+
+    public EventPublicationMaintenance(IncompleteEventPublications incompleteEventPublications,
+                                       JdbcTemplate jdbcTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.outbox.resubmit-older-than:PT5M}") Duration resubmitOlderThan,
+                                       @Value("${app.outbox.archive-retention:P7D}") Duration archiveRetention,
+                                       @Value("${app.outbox.purge-batch-size:5000}") int purgeBatchSize) {
+        this.incompleteEventPublications = incompleteEventPublications;
+        this.jdbcTemplate = jdbcTemplate;
+        this.resubmitOlderThan = resubmitOlderThan;
+        this.archiveRetention = archiveRetention;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purged = Counter.builder("outbox.publications.purged")
+                .description("Publicaciones archivadas eliminadas por retencion")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reenvia a sus listeners las publicaciones incompletas mas viejas que resubmit-older-than
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.resubmit-interval:PT1M}",
+            initialDelayString = "${app.outbox.resubmit-interval:PT1M}")
+    public void resubmitIncomplete() {
+        logger.debug("Resubmitting event publications older than {}", resubmitOlderThan);
+        incompleteEventPublications.resubmitIncompletePublicationsOlderThan(resubmitOlderThan);
+    }
+
+    /**
+     * Elimina en lotes de purge-batch-size las publicaciones archivadas fuera de retencion.
+     * Cada lote es una sentencia independiente para no mantener locks largos.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT1H}",
+            initialDelayString = "${app.outbox.purge-interval:PT1H}")
+    public void purgeArchived() {
+        Timestamp threshold = Timestamp.from(Instant.now().minus(archiveRetention));
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_ARCHIVED, threshold, purgeBatchSize);
+            total += deleted;
+            purged.increment(deleted);
+        } while (deleted == purgeBatchSize);
+        if (total > 0) {
+            logger.info("Purged {} archived event publications completed before {}", total, threshold);
+        }
+    }
+}
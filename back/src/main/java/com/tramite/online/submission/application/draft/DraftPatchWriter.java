@@ -0,0 +1,61 @@
+package com.tramite.online.submission.application.draft;
+
+import com.tramite.online.shared.exception.BusinessException;
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.application.validation.SubmissionAnswerValidator;
+import com.tramite.online.submission.domain.model.DraftPatchResult;
+import com.tramite.online.submission.domain.model.FormInstance;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import com.tramite.online.submission.domain.repository.InstanceAnswerRepository;
+import com.tramite.online.submission.exception.FormInstanceNotFoundException;
+import com.tramite.online.submission.exception.StaleDraftVersionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * Escribe un parche de borrador en una transaccion, despues de validar el formato de las
+ * respuestas con el plan de la version publicada. Solo si el upsert no aplico
+ * consulta la instancia para explicar el motivo (no existe, no editable o version vieja).
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class DraftPatchWriter {
+
+    private final InstanceAnswerRepository instanceAnswerRepository;
+    private final FormInstanceRepository formInstanceRepository;
+    private final SubmissionAnswerValidator submissionAnswerValidator;
+
+    public DraftPatchWriter(InstanceAnswerRepository instanceAnswerRepository,
+                            FormInstanceRepository formInstanceRepository,
+                            SubmissionAnswerValidator submissionAnswerValidator) {
+        this.instanceAnswerRepository = instanceAnswerRepository;
+        this.formInstanceRepository = formInstanceRepository;
+        this.submissionAnswerValidator = submissionAnswerValidator;
+    }
+
+    @Transactional
+    public DraftPatchResult write(Long instanceId, int expectedVersion, Map<Long, String> answers) {
+        submissionAnswerValidator.validateDraft(instanceId, answers);
+        DraftPatchResult result = instanceAnswerRepository.applyDraftPatch(instanceId, expectedVersion, answers)
+                .orElseThrow(() -> rejection(instanceId, expectedVersion));
+        if (result.appliedAnswers() != answers.size()) {
+            // revierte tambien el incremento de version
+            throw new ValidationException("answers", "Hay preguntas que no pertenecen a la instancia " + instanceId);
+        }
+        return result;
+    }
+
+    private RuntimeException rejection(Long instanceId, int expectedVersion) {
+        FormInstance instance = formInstanceRepository.findById(instanceId)
+                .orElseThrow(() -> new FormInstanceNotFoundException(instanceId));
+        if (!instance.isEditable()) {
+            return new BusinessException("La instancia " + instanceId + " no admite cambios en estado " + instance.getStatus());
+        }
+        return new StaleDraftVersionException(instanceId, expectedVersion, instance.getDraftVersion());
+    }
+}
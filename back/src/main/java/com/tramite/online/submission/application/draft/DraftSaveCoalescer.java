@@ -0,0 +1,104 @@
+package com.tramite.online.submission.application.draft;
+
+import com.tramite.online.submission.application.dto.response.DraftSaveResponse;
+import com.tramite.online.submission.domain.model.DraftPatchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Agrupa las rafagas de autoguardado de un mismo cliente sobre una instancia.
+ * Solo se agrupan los guardados que traen sesion del cliente: el primero sobre (instancia, version,
+ * sesion) abre una ventana corta; los que llegan dentro de la ventana con la misma version base y la
+ * misma sesion se fusionan (gana el ultimo valor de cada pregunta) y todos reciben el resultado de
+ * una unica escritura. Otra sesion con la misma version base no se fusiona: escribe por separado y el
+ * control optimista la rechaza si la version ya avanzo. Sin sesion el guardado se escribe en el acto.
+ * Los guardados agrupados responden despues de la ventana (app.submission.draft.coalesce-window).
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class DraftSaveCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DraftSaveCoalescer.class);
+
+    private record DraftKey(Long instanceId, int baseVersion, String sessionId) {
+    }
+
+    private static final class PendingDraft {
+        private final Map<Long, String> answers = new LinkedHashMap<>();
+        private final CompletableFuture<DraftSaveResponse> result = new CompletableFuture<>();
+        private int merged;
+    }
+
+    private final DraftPatchWriter writer;
+    private final Duration window;
+    private final ConcurrentMap<DraftKey, PendingDraft> pending = new ConcurrentHashMap<>();
+
+    public DraftSaveCoalescer(DraftPatchWriter writer,
+                              @Value("${app.submission.draft.coalesce-window:PT0.3S}") Duration window) {
+        this.writer = writer;
+        this.window = window;
+    }
+
+    /**
+     * Encola el parche y devuelve el resultado de la escritura que lo incluye. El hilo que abre
+     * la ventana (un hilo virtual del request) espera y escribe; los demas solo esperan el resultado.
+     * sessionId identifica al cliente (pestaña o dispositivo); null desactiva la agrupacion.
+     */
+    public CompletableFuture<DraftSaveResponse> submit(Long instanceId, int baseVersion, String sessionId,
+                                                       Map<Long, String> answers) {
+        if (window.isZero() || sessionId == null || sessionId.isBlank()) {
+            return CompletableFuture.completedFuture(write(instanceId, baseVersion, answers, 1));
+        }
+        DraftKey key = new DraftKey(instanceId, baseVersion, sessionId);
+        boolean[] opened = new boolean[1];
+        PendingDraft draft = pending.compute(key, (k, current) -> {
+            PendingDraft target = current;
+            if (target == null) {
+                target = new PendingDraft();
+                opened[0] = true;
+            }
+            target.answers.putAll(answers);
+            target.merged++;
+            return target;
+        });
+        if (opened[0]) {
+            flushAfterWindow(key, draft);
+        }
+        return draft.result;
+    }
+
+    private void flushAfterWindow(DraftKey key, PendingDraft draft) {
+        try {
+            Thread.sleep(window);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // desde aqui los nuevos guardados abren otra ventana
+        pending.remove(key, draft);
+        try {
+            draft.result.complete(write(key.instanceId(), key.baseVersion(), draft.answers, draft.merged));
+        } catch (RuntimeException ex) {
+            draft.result.completeExceptionally(ex);
+        }
+    }
+
+    private DraftSaveResponse write(Long instanceId, int baseVersion, Map<Long, String> answers, int merged) {
+        DraftPatchResult result = writer.write(instanceId, baseVersion, answers);
+        if (merged > 1) {
+            logger.debug("Coalesced {} draft saves of instance {} into version {}", merged, instanceId, result.draftVersion());
+        }
+        return new DraftSaveResponse(instanceId, result.draftVersion(), result.appliedAnswers());
+    }
+}
@@ -0,0 +1,24 @@
+package com.tramite.online.submission.application.dto.command;
+
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Record para que un revisor aplique la misma transicion (aprobar, rechazar, pedir correccion)
+ * a muchas instancias en un solo pedido
+ */
+public record BulkTransitionCommand(
+        @NotNull(message = "La transicion es obligatoria")
+        SubmissionTransition transition,
+        @NotEmpty(message = "Debe indicar al menos una instancia")
+        @Size(max = 1000, message = "No se pueden transicionar mas de 1000 instancias por pedido")
+        List<@NotNull Long> instanceIds,
+        @NotNull(message = "El revisor es obligatorio")
+        Long reviewerId,
+        @Size(max = 2000, message = "El comentario no puede superar los 2000 caracteres")
+        String comment
+) {}
@@ -0,0 +1,18 @@
+package com.tramite.online.submission.application.dto.command;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Record para habilitar o deshabilitar el pool de instancias de un formulario
+ */
+public record ConfigureInstancePoolCommand(
+        Long formId,
+        boolean enabled,
+        @NotNull(message = "El tamaño minimo es obligatorio")
+        @Min(value = 0, message = "El tamaño minimo no puede ser negativo")
+        Integer minSize,
+        @NotNull(message = "El tamaño maximo es obligatorio")
+        @Min(value = 1, message = "El tamaño maximo debe ser al menos 1")
+        Integer maxSize
+) {}
@@ -0,0 +1,30 @@
+package com.tramite.online.submission.application.dto.command;
+
+import com.tramite.online.submission.application.export.SubmissionExportFormat;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Record para exportar las respuestas de un formulario
+ * @param formId formulario a exportar
+ * @param format formato de salida (CSV o XLSX)
+ * @param statuses estados de las instancias a incluir; por defecto todas las enviadas
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record ExportSubmissionsCommand(
+        Long formId,
+        SubmissionExportFormat format,
+        Set<SubmissionStatus> statuses
+) {
+    public ExportSubmissionsCommand {
+        format = format != null ? format : SubmissionExportFormat.CSV;
+        statuses = statuses == null || statuses.isEmpty()
+                ? EnumSet.complementOf(EnumSet.of(SubmissionStatus.POOLED, SubmissionStatus.DRAFT))
+                : EnumSet.copyOf(statuses);
+    }
+}
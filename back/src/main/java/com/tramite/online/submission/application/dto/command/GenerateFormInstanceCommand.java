@@ -0,0 +1,20 @@
+package com.tramite.online.submission.application.dto.command;
+
+/**
+ * Record para generar la instancia de un formulario publicado,
+ * identificado por su id o, desde el endpoint publico, por su slug
+ */
+public record GenerateFormInstanceCommand(
+        Long formId,
+        String slug,
+        Long userId
+) {
+
+    public static GenerateFormInstanceCommand ofForm(Long formId, Long userId) {
+        return new GenerateFormInstanceCommand(formId, null, userId);
+    }
+
+    public static GenerateFormInstanceCommand ofSlug(String slug, Long userId) {
+        return new GenerateFormInstanceCommand(null, slug, userId);
+    }
+}
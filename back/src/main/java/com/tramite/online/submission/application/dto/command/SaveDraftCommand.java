@@ -0,0 +1,30 @@
+package com.tramite.online.submission.application.dto.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Record para el autoguardado del borrador: solo las respuestas que cambiaron y la version
+ * del borrador sobre la que el cliente las aplico. sessionId (header X-Draft-Session) identifica
+ * al cliente para agrupar sus guardados; no se lee del body.
+ */
+public record SaveDraftCommand(
+        Long instanceId,
+        String sessionId,
+        @NotNull(message = "La version del borrador es obligatoria")
+        @Min(value = 0, message = "La version del borrador no puede ser negativa")
+        Integer version,
+        @NotEmpty(message = "Debe enviar al menos una respuesta")
+        List<@Valid AnswerPatch> answers
+) {
+
+    public record AnswerPatch(
+            @NotNull(message = "La pregunta es obligatoria")
+            Long questionId,
+            String value
+    ) {}
+}
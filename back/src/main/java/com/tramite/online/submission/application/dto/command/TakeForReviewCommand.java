@@ -0,0 +1,16 @@
+package com.tramite.online.submission.application.dto.command;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Record para que un revisor tome casos de la cola de revision.
+ * workspaceId es opcional: sin el, el revisor recibe casos de todos los workspaces.
+ */
+public record TakeForReviewCommand(
+        @NotNull(message = "El revisor es obligatorio")
+        Long reviewerId,
+        Long workspaceId,
+        @Min(value = 1, message = "Se debe tomar al menos un caso")
+        int limit
+) {}
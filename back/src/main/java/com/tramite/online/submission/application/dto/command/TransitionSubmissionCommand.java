@@ -0,0 +1,14 @@
+package com.tramite.online.submission.application.dto.command;
+
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+
+/**
+ * Record para aplicar una transicion de estado a una instancia.
+ * actorId es el revisor o el ciudadano que la ejecuta (queda en el historial).
+ */
+public record TransitionSubmissionCommand(
+        Long instanceId,
+        SubmissionTransition transition,
+        Long actorId,
+        String comment
+) {}
@@ -0,0 +1,16 @@
+package com.tramite.online.submission.application.dto.command;
+
+import java.io.InputStream;
+
+/**
+ * Record para subir el archivo de una pregunta FILE. content se lee en streaming una sola vez;
+ * declaredSize es el Content-Length del pedido (-1 si no se informo).
+ */
+public record UploadFileAnswerCommand(
+        Long instanceId,
+        Long questionId,
+        String fileName,
+        String contentType,
+        long declaredSize,
+        InputStream content
+) {}
@@ -0,0 +1,27 @@
+package com.tramite.online.submission.application.dto.response;
+
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+
+import java.util.List;
+
+/**
+ * Record de respuesta de una transicion masiva: las instancias que cambiaron de estado
+ * y, para las que no, el motivo y su estado actual
+ */
+public record BulkTransitionResponse(
+        SubmissionTransition transition,
+        int requested,
+        List<SubmissionTransitionResponse> applied,
+        List<Rejected> rejected
+) {
+
+    public enum Reason {
+        NOT_FOUND,
+        INVALID_STATUS,
+        MISSING_REQUIRED_ANSWERS,
+        CONCURRENT_UPDATE
+    }
+
+    public record Rejected(Long instanceId, SubmissionStatus currentStatus, Reason reason) {}
+}
@@ -0,0 +1,11 @@
+package com.tramite.online.submission.application.dto.response;
+
+/**
+ * Record de respuesta del autoguardado: la nueva version del borrador y las respuestas escritas.
+ * Si varios guardados se agruparon, todos reciben el mismo resultado.
+ */
+public record DraftSaveResponse(
+        Long instanceId,
+        int version,
+        int savedAnswers
+) {}
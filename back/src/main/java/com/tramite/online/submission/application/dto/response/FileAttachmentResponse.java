@@ -0,0 +1,24 @@
+package com.tramite.online.submission.application.dto.response;
+
+import com.tramite.online.submission.domain.model.FileAttachment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record de respuesta con el archivo adjunto a una pregunta
+ */
+public record FileAttachmentResponse(
+        Long instanceId,
+        Long questionId,
+        String contentHash,
+        String fileName,
+        String contentType,
+        long size,
+        LocalDateTime createdAt
+) {
+
+    public static FileAttachmentResponse from(FileAttachment attachment) {
+        return new FileAttachmentResponse(attachment.instanceId(), attachment.questionId(), attachment.contentHash(),
+                attachment.fileName(), attachment.contentType(), attachment.size(), attachment.createdAt());
+    }
+}
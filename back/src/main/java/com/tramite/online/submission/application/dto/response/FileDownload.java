@@ -0,0 +1,10 @@
+package com.tramite.online.submission.application.dto.response;
+
+import com.tramite.online.submission.domain.model.FileAttachment;
+
+import java.nio.file.Path;
+
+/**
+ * Archivo listo para descargar: los metadatos del adjunto y la ruta del contenido en el almacen
+ */
+public record FileDownload(FileAttachment attachment, Path path) {}
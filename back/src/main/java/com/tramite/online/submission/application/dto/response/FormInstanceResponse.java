@@ -0,0 +1,32 @@
+package com.tramite.online.submission.application.dto.response;
+
+import com.tramite.online.submission.domain.model.FormInstance;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record de respuesta con los datos de una instancia de formulario
+ */
+public record FormInstanceResponse(
+        Long id,
+        Long formId,
+        Integer formVersion,
+        Long userId,
+        SubmissionStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static FormInstanceResponse from(FormInstance instance) {
+        return new FormInstanceResponse(
+                instance.getId(),
+                instance.getFormId(),
+                instance.getFormVersion(),
+                instance.getUserId(),
+                instance.getStatus(),
+                instance.getCreatedAt(),
+                instance.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.tramite.online.submission.application.dto.response;
+
+/**
+ * Record de respuesta con el estado del pool de instancias de un formulario
+ */
+public record InstancePoolResponse(
+        Long formId,
+        int minSize,
+        int maxSize,
+        int depth,
+        int target,
+        double claimRate
+) {}
@@ -0,0 +1,24 @@
+package com.tramite.online.submission.application.dto.response;
+
+import com.tramite.online.submission.domain.model.ReviewCase;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record de respuesta con un caso tomado por un revisor
+ */
+public record ReviewCaseResponse(
+        Long instanceId,
+        Long formId,
+        Long workspaceId,
+        Long userId,
+        Long reviewerId,
+        LocalDateTime submittedAt,
+        LocalDateTime claimedAt
+) {
+
+    public static ReviewCaseResponse from(ReviewCase reviewCase) {
+        return new ReviewCaseResponse(reviewCase.instanceId(), reviewCase.formId(), reviewCase.workspaceId(),
+                reviewCase.userId(), reviewCase.reviewerId(), reviewCase.submittedAt(), reviewCase.claimedAt());
+    }
+}
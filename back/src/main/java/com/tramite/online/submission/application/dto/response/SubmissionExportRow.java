@@ -0,0 +1,21 @@
+package com.tramite.online.submission.application.dto.response;
+
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de exportacion de una instancia; answers[i] es la respuesta a la columna i (null si no respondio)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record SubmissionExportRow(
+        long instanceId,
+        Long userId,
+        SubmissionStatus status,
+        LocalDateTime submittedAt,
+        String[] answers
+) {
+}
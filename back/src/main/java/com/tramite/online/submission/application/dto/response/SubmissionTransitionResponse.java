@@ -0,0 +1,14 @@
+package com.tramite.online.submission.application.dto.response;
+
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record de respuesta de una transicion aplicada a una instancia
+ */
+public record SubmissionTransitionResponse(
+        Long instanceId,
+        SubmissionStatus status,
+        LocalDateTime transitionedAt
+) {}
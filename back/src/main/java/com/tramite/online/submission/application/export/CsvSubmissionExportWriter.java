@@ -0,0 +1,91 @@
+package com.tramite.online.submission.application.export;
+
+import com.tramite.online.submission.application.dto.response.SubmissionExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * CSV con cabecera: una fila por instancia y una columna por pregunta.
+ * Los valores que una planilla interpretaria como formula (empiezan con =, +, -, @, tab o CR)
+ * se escriben con una comilla simple adelante; los numeros se dejan como estan.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class CsvSubmissionExportWriter implements SubmissionExportWriter {
+
+    private static final Pattern NUMBER = Pattern.compile("[-+]?\\d+(\\.\\d+)?");
+
+    private final BufferedWriter writer;
+
+    public CsvSubmissionExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void writeHeader(List<ExportColumn> columns) throws IOException {
+        writer.write(String.join(",", FIXED_HEADERS));
+        for (ExportColumn column : columns) {
+            writer.write(',');
+            writeValue(column.header());
+        }
+        writer.newLine();
+    }
+
+    @Override
+    public void write(SubmissionExportRow row) throws IOException {
+        writer.write(Long.toString(row.instanceId()));
+        writer.write(',');
+        writeValue(row.userId());
+        writer.write(',');
+        writeValue(row.status());
+        writer.write(',');
+        writeValue(row.submittedAt());
+        for (String answer : row.answers()) {
+            writer.write(',');
+            writeValue(answer);
+        }
+        writer.newLine();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = neutralizeFormula(value.toString());
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String neutralizeFormula(String text) {
+        if (text.isEmpty()) {
+            return text;
+        }
+        char first = text.charAt(0);
+        boolean formula = first == '=' || first == '@' || first == '\t' || first == '\r'
+                || ((first == '+' || first == '-') && !NUMBER.matcher(text).matches());
+        return formula ? "'" + text : text;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,10 @@
+package com.tramite.online.submission.application.export;
+
+import java.nio.file.Path;
+
+/**
+ * Punto de reanudacion de una exportacion CSV a archivo: ultima instancia escrita, instancias
+ * exportadas hasta ella, tamaño ya bajado a disco en ese momento y el archivo parcial que lo contiene
+ */
+public record ExportCheckpoint(long lastInstanceId, long exported, long byteOffset, Path part) {
+}
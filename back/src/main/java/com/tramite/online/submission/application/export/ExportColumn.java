@@ -0,0 +1,11 @@
+package com.tramite.online.submission.application.export;
+
+/**
+ * Columna de respuesta de la exportacion: una pregunta de la configuracion del formulario
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record ExportColumn(Long questionId, String header) {
+}
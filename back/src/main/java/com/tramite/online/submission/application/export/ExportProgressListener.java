@@ -0,0 +1,24 @@
+package com.tramite.online.submission.application.export;
+
+/**
+ * Recibe el avance de una exportacion cada cierta cantidad de filas y al terminar.
+ * total es la cantidad de instancias contada al empezar.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@FunctionalInterface
+public interface ExportProgressListener {
+
+    ExportProgressListener NONE = (exported, total) -> {
+    };
+
+    void onProgress(long exported, long total);
+
+    /**
+     * Solo en exportaciones reanudables (CSV a archivo), cada vez que el avance se informa
+     */
+    default void onCheckpoint(ExportCheckpoint checkpoint) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.tramite.online.submission.application.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metricas de las exportaciones de submissions: exportaciones en curso, filas escritas,
+ * duracion y filas por segundo de cada exportacion. El avance se informa al listener
+ * (y al log) cada progress-interval filas.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionExportMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionExportMetrics.class);
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final Map<SubmissionExportFormat, Counter> rows = new EnumMap<>(SubmissionExportFormat.class);
+    private final Map<SubmissionExportFormat, Timer> durations = new EnumMap<>(SubmissionExportFormat.class);
+    private final DistributionSummary throughput;
+    private final int progressInterval;
+
+    public SubmissionExportMetrics(MeterRegistry meterRegistry,
+                                   @Value("${app.submission.export.progress-interval:10000}") int progressInterval) {
+        this.progressInterval = progressInterval;
+        Gauge.builder("submission.export.active", active, AtomicInteger::get)
+                .description("Exportaciones en curso")
+                .register(meterRegistry);
+        for (SubmissionExportFormat format : SubmissionExportFormat.values()) {
+            rows.put(format, Counter.builder("submission.export.rows")
+                    .description("Instancias exportadas")
+                    .tag("format", format.name())
+                    .register(meterRegistry));
+            durations.put(format, Timer.builder("submission.export.duration")
+                    .description("Duracion de cada exportacion")
+                    .tag("format", format.name())
+                    .register(meterRegistry));
+        }
+        this.throughput = DistributionSummary.builder("submission.export.throughput")
+                .description("Instancias por segundo de cada exportacion")
+                .baseUnit("rows/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * alreadyExported es el avance previo de una exportacion reanudada (0 si empieza)
+     */
+    public Progress start(Long formId, SubmissionExportFormat format, long total, long alreadyExported,
+                          ExportProgressListener listener) {
+        active.incrementAndGet();
+        return new Progress(formId, format, total, alreadyExported, listener);
+    }
+
+    /**
+     * Avance de una exportacion; no es thread-safe, la escribe un solo hilo
+     */
+    public final class Progress {
+
+        private final Long formId;
+        private final SubmissionExportFormat format;
+        private final long total;
+        private final ExportProgressListener listener;
+        private final long startNanos = System.nanoTime();
+        private final long startExported;
+        private long exported;
+        private long counted;
+
+        private Progress(Long formId, SubmissionExportFormat format, long total, long alreadyExported,
+                         ExportProgressListener listener) {
+            this.formId = formId;
+            this.format = format;
+            this.total = total;
+            this.startExported = alreadyExported;
+            this.exported = alreadyExported;
+            this.counted = alreadyExported;
+            this.listener = listener;
+        }
+
+        /**
+         * Devuelve true cuando se completa un intervalo de progreso
+         */
+        public boolean rowWritten() {
+            exported++;
+            if (exported % progressInterval != 0) {
+                return false;
+            }
+            count();
+            listener.onProgress(exported, total);
+            logger.info("Export of form {}: {}/{} instances ({}/s)", formId, exported, total,
+                    Math.round(rate(System.nanoTime() - startNanos)));
+            return true;
+        }
+
+        public long exported() {
+            return exported;
+        }
+
+        /**
+         * Cierra la exportacion; las metricas de duracion y throughput solo cuentan las completas
+         */
+        public long finish(boolean completed) {
+            active.decrementAndGet();
+            long elapsed = System.nanoTime() - startNanos;
+            count();
+            if (completed) {
+                durations.get(format).record(elapsed, TimeUnit.NANOSECONDS);
+                throughput.record(rate(elapsed));
+                listener.onProgress(exported, total);
+                logger.info("Exported {} instances of form {} as {} in {} ms", exported, formId, format,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed));
+            } else {
+                logger.warn("Export of form {} aborted after {} instances", formId, exported);
+            }
+            return exported;
+        }
+
+        private void count() {
+            rows.get(format).increment(exported - counted);
+            counted = exported;
+        }
+
+        private double rate(long elapsedNanos) {
+            return (exported - startExported) * 1_000_000_000.0 / Math.max(elapsedNanos, 1);
+        }
+    }
+}
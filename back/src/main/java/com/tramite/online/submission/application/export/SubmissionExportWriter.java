@@ -0,0 +1,35 @@
+package com.tramite.online.submission.application.export;
+
+import com.tramite.online.submission.application.dto.response.SubmissionExportRow;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Escribe las filas de exportacion en el stream de salida a medida que llegan
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface SubmissionExportWriter {
+
+    /**
+     * Columnas fijas de cada instancia, antes de las columnas de respuestas
+     */
+    List<String> FIXED_HEADERS = List.of("instance_id", "user_id", "status", "submitted_at");
+
+    void writeHeader(List<ExportColumn> columns) throws IOException;
+
+    void write(SubmissionExportRow row) throws IOException;
+
+    /**
+     * Vacia los buffers hacia el stream de salida sin cerrar el formato
+     */
+    void flush() throws IOException;
+
+    /**
+     * Completa el formato y vacia los buffers sin cerrar el stream de salida
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,179 @@
+package com.tramite.online.submission.application.export;
+
+import com.tramite.online.submission.application.dto.response.SubmissionExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * XLSX en streaming: el libro es un zip con partes XML fijas y una sola hoja que se escribe
+ * fila por fila con celdas de texto inline (sin tabla de strings compartidos), por lo que la
+ * memoria no depende de la cantidad de filas.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class XlsxSubmissionExportWriter implements SubmissionExportWriter {
+
+    /**
+     * Limite de filas de una hoja de Excel, incluida la cabecera
+     */
+    public static final int MAX_ROWS = 1_048_576;
+
+    private static final int MAX_CELL_LENGTH = 32_767;
+
+    private static final String CONTENT_TYPES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+            <Default Extension="xml" ContentType="application/xml"/>\
+            <Override PartName="/xl/workbook.xml" \
+            ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+            <Override PartName="/xl/worksheets/sheet1.xml" \
+            ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>\
+            </Types>""";
+
+    private static final String ROOT_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" \
+            Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" \
+            Target="xl/workbook.xml"/>\
+            </Relationships>""";
+
+    private static final String WORKBOOK = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+            xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+            <sheets><sheet name="Submissions" sheetId="1" r:id="rId1"/></sheets>\
+            </workbook>""";
+
+    private static final String WORKBOOK_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" \
+            Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" \
+            Target="worksheets/sheet1.xml"/>\
+            </Relationships>""";
+
+    private static final String SHEET_START = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">\
+            <sheetData>""";
+
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    private final ZipOutputStream zip;
+    private final BufferedWriter writer;
+
+    public XlsxSubmissionExportWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void writeHeader(List<ExportColumn> columns) throws IOException {
+        writePart("[Content_Types].xml", CONTENT_TYPES);
+        writePart("_rels/.rels", ROOT_RELS);
+        writePart("xl/workbook.xml", WORKBOOK);
+        writePart("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        writer.write(SHEET_START);
+        writer.write("<row>");
+        for (String header : FIXED_HEADERS) {
+            writeText(header);
+        }
+        for (ExportColumn column : columns) {
+            writeText(column.header());
+        }
+        writer.write("</row>");
+    }
+
+    @Override
+    public void write(SubmissionExportRow row) throws IOException {
+        writer.write("<row>");
+        writeNumber(row.instanceId());
+        if (row.userId() != null) {
+            writeNumber(row.userId());
+        } else {
+            writer.write("<c/>");
+        }
+        writeText(row.status() != null ? row.status().name() : null);
+        writeText(row.submittedAt() != null ? row.submittedAt().toString() : null);
+        for (String answer : row.answers()) {
+            writeText(answer);
+        }
+        writer.write("</row>");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.write(SHEET_END);
+        writer.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    private void writePart(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private void writeNumber(long value) throws IOException {
+        writer.write("<c><v>");
+        writer.write(Long.toString(value));
+        writer.write("</v></c>");
+    }
+
+    /**
+     * Celda de texto inline; se escapan los caracteres de XML y se descartan los que XML 1.0 no admite
+     * (control, surrogates sueltos, U+FFFE y U+FFFF)
+     */
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            writer.write("<c/>");
+            return;
+        }
+        writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        int length = Math.min(value.length(), MAX_CELL_LENGTH);
+        if (length < value.length() && Character.isHighSurrogate(value.charAt(length - 1))) {
+            length--;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    if (Character.isHighSurrogate(c)) {
+                        // solo pares completos; un surrogate suelto no es un caracter XML valido
+                        if (i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                            writer.write(c);
+                            writer.write(value.charAt(++i));
+                        }
+                    } else if (!Character.isLowSurrogate(c) && c != 0xFFFE && c != 0xFFFF
+                            && (c >= 0x20 || c == '\t' || c == '\n' || c == '\r')) {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write("</t></is></c>");
+    }
+}
@@ -0,0 +1,108 @@
+package com.tramite.online.submission.application.job;
+
+import com.tramite.online.job.api.JobCheckpoint;
+import com.tramite.online.job.api.JobContext;
+import com.tramite.online.job.api.JobHandler;
+import com.tramite.online.submission.application.dto.command.ExportSubmissionsCommand;
+import com.tramite.online.submission.application.export.ExportCheckpoint;
+import com.tramite.online.submission.application.export.ExportProgressListener;
+import com.tramite.online.submission.application.export.SubmissionExportFormat;
+import com.tramite.online.submission.application.usecases.ExportSubmissionsUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Exportacion de respuestas como trabajo asincrono. El archivo queda en app.submission.export.dir
+ * y el resultado del trabajo es su nombre dentro de ese directorio; con varios nodos el directorio
+ * debe ser un volumen compartido, porque la descarga puede llegar a otro nodo. En CSV el checkpoint
+ * guarda la ultima instancia escrita y, en state, el offset y el .part que lo contiene, asi un
+ * reintento en cualquier nodo continua donde quedo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionExportJobHandler implements JobHandler {
+
+    public static final String TYPE = "submission.export";
+
+    private final ExportSubmissionsUseCase exportSubmissionsUseCase;
+    private final JsonMapper jsonMapper;
+    private final Path exportDir;
+
+    public SubmissionExportJobHandler(ExportSubmissionsUseCase exportSubmissionsUseCase,
+                                      JsonMapper jsonMapper,
+                                      @Value("${app.submission.export.dir}") Path exportDir) {
+        this.exportSubmissionsUseCase = exportSubmissionsUseCase;
+        this.jsonMapper = jsonMapper;
+        this.exportDir = exportDir;
+        try {
+            Files.createDirectories(exportDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se puede crear app.submission.export.dir " + exportDir, e);
+        }
+        if (!Files.isWritable(exportDir)) {
+            throw new IllegalStateException("app.submission.export.dir " + exportDir + " no tiene permiso de escritura");
+        }
+    }
+
+    /**
+     * Nombre del archivo de un trabajo; empieza con form-{formId}- para poder validar la descarga
+     */
+    public static String fileName(Long formId, Long jobId, SubmissionExportFormat format) {
+        return "form-" + formId + "-job-" + jobId + "." + format.getExtension();
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public String run(JobContext context) {
+        ExportSubmissionsCommand command = jsonMapper.readValue(context.payload(), ExportSubmissionsCommand.class);
+        Path target = exportDir.resolve(fileName(command.formId(), context.jobId(), command.format()));
+        ExportCheckpoint resume = context.checkpoint()
+                .map(this::toExportCheckpoint)
+                .orElse(null);
+
+        exportSubmissionsUseCase.executeToFile(command, target, context.runId(), resume, new ExportProgressListener() {
+            @Override
+            public void onProgress(long exported, long total) {
+                context.progress(exported, total);
+                // XLSX no guarda checkpoints: la cancelacion se revisa en cada intervalo
+                if (context.isCancelled()) {
+                    throw new CancellationException("Exportacion " + context.jobId() + " cancelada");
+                }
+            }
+
+            @Override
+            public void onCheckpoint(ExportCheckpoint checkpoint) {
+                context.checkpoint(new JobCheckpoint(checkpoint.lastInstanceId(), checkpoint.exported(),
+                        checkpoint.byteOffset() + ":" + checkpoint.part().getFileName()));
+            }
+        });
+        return target.getFileName().toString();
+    }
+
+    /**
+     * state es "{offset}:{archivo .part}"; el .part se resuelve contra exportDir del nodo actual
+     */
+    private ExportCheckpoint toExportCheckpoint(JobCheckpoint checkpoint) {
+        String state = checkpoint.state();
+        int separator = state.indexOf(':');
+        if (separator < 0) {
+            return new ExportCheckpoint(checkpoint.lastId(), checkpoint.processed(), Long.parseLong(state), null);
+        }
+        return new ExportCheckpoint(checkpoint.lastId(), checkpoint.processed(),
+                Long.parseLong(state.substring(0, separator)), exportDir.resolve(state.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,218 @@
+package com.tramite.online.submission.application.pool;
+
+import com.tramite.online.submission.application.dto.response.InstancePoolResponse;
+import com.tramite.online.submission.domain.model.FormInstance;
+import com.tramite.online.submission.domain.model.InstancePool;
+import com.tramite.online.submission.domain.model.PoolClaimSample;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import com.tramite.online.submission.domain.repository.InstancePoolRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Administra los pools de instancias pre-generadas.
+ * En cada tick cada nodo suma sus claims al contador compartido de instance_pool; el nodo que
+ * toma el lock de refill mide la tasa de claims de todos los nodos desde el refill anterior, la
+ * suaviza con una media movil exponencial (EWMA, guardada en la misma fila) y rellena el pool
+ * hasta cubrir lead-time de demanda, acotado a [minSize, maxSize] de la configuracion del formulario.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class InstancePoolManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstancePoolManager.class);
+
+    private final class PoolState {
+        private final Long formId;
+        private volatile InstancePool config;
+        private final LongAdder claims = new LongAdder();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicInteger target = new AtomicInteger();
+        private volatile double claimRate;
+        private final Counter hits;
+        private final Counter misses;
+        private final List<Meter> meters;
+
+        private PoolState(InstancePool config) {
+            this.formId = config.getFormId();
+            this.config = config;
+            Tags tags = Tags.of("formId", String.valueOf(formId));
+            this.hits = Counter.builder("submission.instance_pool.claims").tags(tags).tag("result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("submission.instance_pool.claims").tags(tags).tag("result", "miss")
+                    .register(meterRegistry);
+            this.meters = List.of(
+                    Gauge.builder("submission.instance_pool.depth", depth, AtomicInteger::get).tags(tags)
+                            .description("Instancias disponibles en el pool").register(meterRegistry),
+                    Gauge.builder("submission.instance_pool.target", target, AtomicInteger::get).tags(tags)
+                            .description("Profundidad objetivo segun la tasa de claims").register(meterRegistry),
+                    Gauge.builder("submission.instance_pool.claim_rate", this, state -> state.claimRate).tags(tags)
+                            .description("Claims por segundo de todos los nodos (EWMA)").register(meterRegistry),
+                    hits,
+                    misses);
+        }
+
+        private void close() {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private final FormInstanceRepository formInstanceRepository;
+    private final InstancePoolRepository instancePoolRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transaction;
+    private final double refillIntervalSeconds;
+    private final double leadTimeSeconds;
+    private final double alpha;
+    private final int refillBatchSize;
+    private final ConcurrentMap<Long, PoolState> pools = new ConcurrentHashMap<>();
+
+    public InstancePoolManager(FormInstanceRepository formInstanceRepository,
+                               InstancePoolRepository instancePoolRepository,
+                               MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.submission.instance-pool.refill-interval:PT1S}") Duration refillInterval,
+                               @Value("${app.submission.instance-pool.lead-time:PT30S}") Duration leadTime,
+                               @Value("${app.submission.instance-pool.ewma-alpha:0.3}") double alpha,
+                               @Value("${app.submission.instance-pool.refill-batch-size:200}") int refillBatchSize) {
+        this.formInstanceRepository = formInstanceRepository;
+        this.instancePoolRepository = instancePoolRepository;
+        this.meterRegistry = meterRegistry;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.refillIntervalSeconds = refillInterval.toMillis() / 1000.0;
+        this.leadTimeSeconds = leadTime.toMillis() / 1000.0;
+        this.alpha = alpha;
+        this.refillBatchSize = refillBatchSize;
+    }
+
+    /**
+     * Toma una instancia del pool si el formulario tiene pool; vacio si no hay disponibles
+     */
+    public Optional<FormInstance> claim(Long formId, Long userId) {
+        PoolState state = pools.get(formId);
+        if (state == null) {
+            return Optional.empty();
+        }
+        state.claims.increment();
+        Optional<FormInstance> claimed = formInstanceRepository.claimPooled(formId, userId);
+        if (claimed.isPresent()) {
+            state.hits.increment();
+            state.depth.updateAndGet(depth -> Math.max(0, depth - 1));
+        } else {
+            state.misses.increment();
+        }
+        return claimed;
+    }
+
+    public Optional<InstancePoolResponse> status(Long formId) {
+        PoolState state = pools.get(formId);
+        if (state == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new InstancePoolResponse(formId, state.config.getMinSize(), state.config.getMaxSize(),
+                state.depth.get(), state.target.get(), state.claimRate));
+    }
+
+    @Scheduled(fixedDelayString = "${app.submission.instance-pool.refill-interval:PT1S}")
+    public void refill() {
+        synchronizeConfigs();
+        for (PoolState state : pools.values()) {
+            try {
+                refill(state);
+            } catch (RuntimeException ex) {
+                logger.warn("Instance pool refill failed for form {}: {}", state.formId, ex.getMessage());
+            }
+        }
+    }
+
+    private void refill(PoolState state) {
+        long claims = state.claims.sumThenReset();
+        if (claims > 0) {
+            try {
+                instancePoolRepository.addClaims(state.formId, claims);
+            } catch (RuntimeException ex) {
+                state.claims.add(claims);
+                throw ex;
+            }
+        }
+
+        int stale = formInstanceRepository.deleteStalePooled(state.formId);
+        if (stale > 0) {
+            logger.info("Discarded {} pooled instances of an old version of form {}", stale, state.formId);
+        }
+        // con varios nodos solo uno mide y rellena cada pool por vez; los demas conservan los ultimos valores
+        transaction.executeWithoutResult(status -> {
+            if (!formInstanceRepository.tryLockPool(state.formId)) {
+                return;
+            }
+            instancePoolRepository.sampleClaims(state.formId).ifPresent(sample -> {
+                double claimRate = smooth(sample);
+                instancePoolRepository.saveClaimRate(state.formId, claimRate);
+                state.claimRate = claimRate;
+                int target = state.config.clamp((int) Math.ceil(claimRate * leadTimeSeconds));
+                state.target.set(target);
+                formInstanceRepository.refillPooled(state.formId, target, refillBatchSize)
+                        .ifPresent(state.depth::set);
+            });
+        });
+    }
+
+    /**
+     * EWMA con muestras a intervalos irregulares (el nodo que rellena cambia de un tick a otro): el
+     * peso de la muestra es el que tendria alpha aplicado una vez por refill-interval transcurrido
+     */
+    private double smooth(PoolClaimSample sample) {
+        if (sample.elapsedSeconds() <= 0) {
+            return sample.claimRate();
+        }
+        double observed = sample.claims() / sample.elapsedSeconds();
+        double weight = 1 - Math.pow(1 - alpha, sample.elapsedSeconds() / refillIntervalSeconds);
+        return weight * observed + (1 - weight) * sample.claimRate();
+    }
+
+    private void synchronizeConfigs() {
+        Set<Long> configured = new HashSet<>();
+        for (InstancePool config : instancePoolRepository.findAll()) {
+            configured.add(config.getFormId());
+            pools.compute(config.getFormId(), (formId, state) -> {
+                if (state == null) {
+                    logger.info("Instance pool enabled for form {}", formId);
+                    return new PoolState(config);
+                }
+                state.config = config;
+                return state;
+            });
+        }
+        pools.values().removeIf(state -> {
+            if (configured.contains(state.formId)) {
+                return false;
+            }
+            logger.info("Instance pool disabled for form {}", state.formId);
+            state.close();
+            return true;
+        });
+    }
+}
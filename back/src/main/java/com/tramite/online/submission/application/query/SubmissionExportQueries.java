@@ -0,0 +1,41 @@
+package com.tramite.online.submission.application.query;
+
+import com.tramite.online.submission.application.dto.response.SubmissionExportRow;
+import com.tramite.online.submission.application.export.ExportColumn;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Puerto(interfaz) de lectura para exportar las respuestas de un formulario.
+ * Solo consultas, sin pasar por el modelo de dominio.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface SubmissionExportQueries {
+
+    /**
+     * Workspace del formulario; vacio si el formulario no existe
+     */
+    Optional<Long> findWorkspaceId(Long formId);
+
+    /**
+     * Preguntas del formulario en orden de visualizacion: son las columnas de respuesta
+     */
+    List<ExportColumn> findColumns(Long formId);
+
+    long countInstances(Long formId, Set<SubmissionStatus> statuses);
+
+    /**
+     * Recorre las instancias del formulario con id mayor a afterInstanceId, ordenadas por id, con un
+     * cursor del servidor, pivotando sus respuestas en una fila por instancia segun columns.
+     * Debe ejecutarse dentro de una transaccion para que el cursor no se lea completo.
+     */
+    void forEachInstance(Long formId, Set<SubmissionStatus> statuses, List<ExportColumn> columns,
+                         long afterInstanceId, Consumer<SubmissionExportRow> consumer);
+}
@@ -0,0 +1,77 @@
+package com.tramite.online.submission.application.review;
+
+import com.tramite.online.submission.domain.model.ReviewCase;
+import com.tramite.online.submission.domain.repository.ReviewQueueRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metricas de la cola de revision. La profundidad se refresca con una tarea programada
+ * (igual que el backlog del outbox) y el tiempo hasta el claim se registra por caso.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class ReviewQueueMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewQueueMetrics.class);
+
+    private final ReviewQueueRepository reviewQueueRepository;
+    private final AtomicLong waiting = new AtomicLong();
+    private final AtomicLong oldestWaitingAgeSeconds = new AtomicLong();
+    private final Timer timeToClaim;
+    private final DistributionSummary batchSize;
+
+    public ReviewQueueMetrics(ReviewQueueRepository reviewQueueRepository, MeterRegistry meterRegistry) {
+        this.reviewQueueRepository = reviewQueueRepository;
+        Gauge.builder("submission.review_queue.depth", waiting, AtomicLong::get)
+                .description("Instancias enviadas esperando revisor")
+                .register(meterRegistry);
+        Gauge.builder("submission.review_queue.oldest.age", oldestWaitingAgeSeconds, AtomicLong::get)
+                .description("Antiguedad del caso en espera mas viejo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.timeToClaim = Timer.builder("submission.review_queue.time_to_claim")
+                .description("Tiempo entre el envio y la toma por un revisor")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("submission.review_queue.claim.batch")
+                .description("Casos entregados por claim")
+                .register(meterRegistry);
+    }
+
+    public void recordClaim(List<ReviewCase> cases) {
+        batchSize.record(cases.size());
+        for (ReviewCase reviewCase : cases) {
+            if (reviewCase.submittedAt() != null) {
+                timeToClaim.record(Duration.between(reviewCase.submittedAt(), reviewCase.claimedAt()));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.submission.review-queue.metrics-interval:PT15S}")
+    public void refresh() {
+        try {
+            ReviewQueueRepository.QueueDepth depth = reviewQueueRepository.depth();
+            waiting.set(depth.waiting());
+            oldestWaitingAgeSeconds.set(depth.oldestSubmittedAt() == null ? 0
+                    : Duration.between(depth.oldestSubmittedAt(), LocalDateTime.now()).toSeconds());
+        } catch (DataAccessException e) {
+            logger.warn("Could not refresh review queue metrics: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.tramite.online.submission.application.transition;
+
+import com.tramite.online.submission.application.dto.response.BulkTransitionResponse;
+import com.tramite.online.submission.application.dto.response.SubmissionTransitionResponse;
+import com.tramite.online.submission.application.validation.SubmissionAnswerValidator;
+import com.tramite.online.submission.domain.event.SubmissionStatusChanged;
+import com.tramite.online.submission.domain.model.SubmissionRevision;
+import com.tramite.online.submission.domain.model.SubmissionStateMachine;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import com.tramite.online.submission.domain.repository.SubmissionRevisionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aplica una transicion a un conjunto de instancias: un UPDATE guardado por el estado de origen,
+ * las revisiones en un batch y un evento por instancia. Solo si alguna instancia no cambio
+ * se consulta su estado para explicar el motivo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionTransitioner {
+
+    private final FormInstanceRepository formInstanceRepository;
+    private final SubmissionRevisionRepository submissionRevisionRepository;
+    private final ApplicationEventPublisher publisher;
+    private final SubmissionAnswerValidator submissionAnswerValidator;
+
+    public SubmissionTransitioner(FormInstanceRepository formInstanceRepository,
+                                  SubmissionRevisionRepository submissionRevisionRepository,
+                                  ApplicationEventPublisher publisher,
+                                  SubmissionAnswerValidator submissionAnswerValidator) {
+        this.formInstanceRepository = formInstanceRepository;
+        this.submissionRevisionRepository = submissionRevisionRepository;
+        this.publisher = publisher;
+        this.submissionAnswerValidator = submissionAnswerValidator;
+    }
+
+    /**
+     * En envios y reenvios (transiciones del ciudadano, de a una instancia) antes del UPDATE se
+     * validan todas las respuestas; lanza ValidationException si alguna no cumple su pregunta.
+     */
+    @Transactional
+    public BulkTransitionResponse apply(Set<Long> instanceIds, SubmissionTransition transition,
+                                        Long actorId, String comment) {
+        if (transition.requiresCompleteAnswers()) {
+            instanceIds.forEach(submissionAnswerValidator::validateSubmission);
+        }
+        List<TransitionedSubmission> transitioned = formInstanceRepository.transition(instanceIds, transition, actorId);
+        recordAll(transitioned, transition, actorId, comment);
+
+        Set<Long> appliedIds = new HashSet<>();
+        List<SubmissionTransitionResponse> applied = new ArrayList<>(transitioned.size());
+        for (TransitionedSubmission submission : transitioned) {
+            appliedIds.add(submission.instanceId());
+            applied.add(new SubmissionTransitionResponse(submission.instanceId(), transition.getTo(),
+                    submission.transitionedAt()));
+        }
+        return new BulkTransitionResponse(transition, instanceIds.size(), applied,
+                explainRejections(instanceIds, appliedIds, transition));
+    }
+
+    /**
+     * Registra el historial y publica los eventos de instancias que ya cambiaron de estado
+     * (tambien lo usa la cola de revision, que transiciona con su propio claim)
+     */
+    public void recordAll(List<TransitionedSubmission> transitioned, SubmissionTransition transition,
+                          Long actorId, String comment) {
+        List<SubmissionRevision> revisions = new ArrayList<>(transitioned.size());
+        for (TransitionedSubmission submission : transitioned) {
+            revisions.add(SubmissionRevision.of(submission, transition, actorId, comment));
+        }
+        submissionRevisionRepository.saveAll(revisions);
+        for (TransitionedSubmission submission : transitioned) {
+            publisher.publishEvent(SubmissionStatusChanged.of(submission, transition, actorId));
+        }
+    }
+
+    private List<BulkTransitionResponse.Rejected> explainRejections(Set<Long> instanceIds, Set<Long> appliedIds,
+                                                                    SubmissionTransition transition) {
+        if (appliedIds.size() == instanceIds.size()) {
+            return List.of();
+        }
+        List<Long> missing = instanceIds.stream().filter(id -> !appliedIds.contains(id)).toList();
+        Map<Long, SubmissionStatus> statuses = formInstanceRepository.findStatuses(missing);
+        List<BulkTransitionResponse.Rejected> rejected = new ArrayList<>(missing.size());
+        for (Long instanceId : missing) {
+            SubmissionStatus status = statuses.get(instanceId);
+            BulkTransitionResponse.Reason reason;
+            if (status == null) {
+                reason = BulkTransitionResponse.Reason.NOT_FOUND;
+            } else if (!SubmissionStateMachine.canApply(status, transition)) {
+                reason = BulkTransitionResponse.Reason.INVALID_STATUS;
+            } else if (transition.requiresCompleteAnswers()) {
+                reason = BulkTransitionResponse.Reason.MISSING_REQUIRED_ANSWERS;
+            } else {
+                reason = BulkTransitionResponse.Reason.CONCURRENT_UPDATE;
+            }
+            rejected.add(new BulkTransitionResponse.Rejected(instanceId, status, reason));
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,43 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.application.dto.command.BulkTransitionCommand;
+import com.tramite.online.submission.application.dto.response.BulkTransitionResponse;
+import com.tramite.online.submission.application.transition.SubmissionTransitioner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+
+/**
+ * Caso de Uso para que un revisor aplique la misma decision a cientos de instancias.
+ * Todo el lote es un UPDATE y un batch de revisiones; las instancias que no estaban en el
+ * estado de origen no cambian y se devuelven con su motivo, sin fallar el resto del lote.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class BulkTransitionSubmissionsUseCase {
+
+    private final SubmissionTransitioner transitioner;
+    private final Logger logger = LoggerFactory.getLogger(BulkTransitionSubmissionsUseCase.class);
+
+    public BulkTransitionSubmissionsUseCase(SubmissionTransitioner transitioner) {
+        this.transitioner = transitioner;
+    }
+
+    public BulkTransitionResponse execute(BulkTransitionCommand command) {
+        if (!command.transition().isByReviewer()) {
+            throw new ValidationException("transition",
+                    "La transicion " + command.transition() + " la ejecuta el ciudadano, no un revisor");
+        }
+        BulkTransitionResponse result = transitioner.apply(new LinkedHashSet<>(command.instanceIds()),
+                command.transition(), command.reviewerId(), command.comment());
+        logger.info("Reviewer {} applied {} to {} of {} instances",
+                command.reviewerId(), command.transition(), result.applied().size(), result.requested());
+        return result;
+    }
+}
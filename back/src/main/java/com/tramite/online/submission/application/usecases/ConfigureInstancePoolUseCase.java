@@ -0,0 +1,48 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.application.dto.command.ConfigureInstancePoolCommand;
+import com.tramite.online.submission.domain.model.InstancePool;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import com.tramite.online.submission.domain.repository.InstancePoolRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de Uso para marcar un formulario como de alto trafico (pool de instancias pre-generadas)
+ * o quitarle el pool. El scheduler toma el cambio en su siguiente ciclo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class ConfigureInstancePoolUseCase {
+
+    private final InstancePoolRepository instancePoolRepository;
+    private final FormInstanceRepository formInstanceRepository;
+    private final Logger logger = LoggerFactory.getLogger(ConfigureInstancePoolUseCase.class);
+
+    public ConfigureInstancePoolUseCase(InstancePoolRepository instancePoolRepository,
+                                        FormInstanceRepository formInstanceRepository) {
+        this.instancePoolRepository = instancePoolRepository;
+        this.formInstanceRepository = formInstanceRepository;
+    }
+
+    @Transactional
+    public void execute(ConfigureInstancePoolCommand command) {
+        logger.info("Executing command {}", command);
+        if (!command.enabled()) {
+            instancePoolRepository.delete(command.formId());
+            int discarded = formInstanceRepository.deletePooled(command.formId());
+            logger.info("Instance pool of form {} removed ({} pooled instances discarded)", command.formId(), discarded);
+            return;
+        }
+        if (command.maxSize() < command.minSize()) {
+            throw new ValidationException("maxSize", "El tamaño maximo no puede ser menor al minimo");
+        }
+        instancePoolRepository.save(new InstancePool(command.formId(), command.minSize(), command.maxSize()));
+    }
+}
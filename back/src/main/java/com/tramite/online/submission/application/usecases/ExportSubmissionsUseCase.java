@@ -0,0 +1,175 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.application.dto.command.ExportSubmissionsCommand;
+import com.tramite.online.submission.application.export.CsvSubmissionExportWriter;
+import com.tramite.online.submission.application.export.ExportCheckpoint;
+import com.tramite.online.submission.application.export.ExportColumn;
+import com.tramite.online.submission.application.export.ExportProgressListener;
+import com.tramite.online.submission.application.export.SubmissionExportFormat;
+import com.tramite.online.submission.application.export.SubmissionExportMetrics;
+import com.tramite.online.submission.application.export.SubmissionExportWriter;
+import com.tramite.online.submission.application.export.XlsxSubmissionExportWriter;
+import com.tramite.online.submission.application.query.SubmissionExportQueries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Caso de uso que exporta las respuestas de un formulario, una fila por instancia,
+ * escribiendo directo en el stream de salida (respuesta HTTP o archivo) con memoria constante.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class ExportSubmissionsUseCase {
+
+    private final SubmissionExportQueries submissionExportQueries;
+    private final SubmissionExportMetrics submissionExportMetrics;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Logger logger = LoggerFactory.getLogger(ExportSubmissionsUseCase.class);
+
+    public ExportSubmissionsUseCase(SubmissionExportQueries submissionExportQueries,
+                                    SubmissionExportMetrics submissionExportMetrics,
+                                    PlatformTransactionManager transactionManager) {
+        this.submissionExportQueries = submissionExportQueries;
+        this.submissionExportMetrics = submissionExportMetrics;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * La transaccion de solo lectura mantiene abierto el cursor del servidor mientras se escribe
+     */
+    @Transactional(readOnly = true)
+    public long execute(ExportSubmissionsCommand command, OutputStream out, ExportProgressListener listener) {
+        return export(command, out, null, null, null, listener);
+    }
+
+    /**
+     * Exporta a un archivo (trabajos asincronos): se escribe en target.part-{runId} y se mueve al
+     * terminar, asi nunca queda visible un archivo a medias. Cada ejecucion usa su propio .part: un
+     * worker dado por perdido que sigue escribiendo no pisa al que tomo el trabajo. En CSV cada
+     * intervalo de progreso informa un ExportCheckpoint; con resume se copia al .part nuevo el tramo
+     * del .part anterior ya bajado a disco y se continua desde la instancia siguiente. XLSX no es
+     * reanudable (el zip no admite continuar) y siempre empieza de nuevo, igual que un CSV cuyo .part
+     * anterior no existe o no llega al offset. Sin transaccion propia: solo el cursor corre en una de
+     * solo lectura, y los checkpoints que guarda el listener se confirman aparte, en el momento.
+     */
+    public long executeToFile(ExportSubmissionsCommand command, Path target, String runId, ExportCheckpoint resume,
+                              ExportProgressListener listener) {
+        Path temp = target.resolveSibling(target.getFileName() + ".part-" + runId);
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            ExportCheckpoint from = resume != null && command.format() == SubmissionExportFormat.CSV
+                    && resume.part() != null && Files.exists(resume.part())
+                    && Files.size(resume.part()) >= resume.byteOffset() ? resume : null;
+            if (resume != null && from == null) {
+                logger.info("Export to {} cannot resume from {}, starting over", target, resume);
+            }
+            long exported;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (from != null) {
+                    copyPrefix(from.part(), from.byteOffset(), channel);
+                }
+                if (resume != null && resume.part() != null && !resume.part().equals(temp)) {
+                    Files.deleteIfExists(resume.part());
+                }
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+                exported = export(command, out, channel, temp, from, listener);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return exported;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copia los primeros length bytes de source; lo que el worker anterior haya escrito despues del
+     * checkpoint no se confirmo y se descarta
+     */
+    private static void copyPrefix(Path source, long length, FileChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long copied = 0;
+            while (copied < length) {
+                copied += in.transferTo(copied, length - copied, target);
+            }
+        }
+        target.force(false);
+    }
+
+    /**
+     * channel y part solo se reciben al exportar a archivo; from es el checkpoint desde el que se reanuda
+     */
+    private long export(ExportSubmissionsCommand command, OutputStream out, FileChannel channel, Path part,
+                        ExportCheckpoint from, ExportProgressListener listener) {
+        Long formId = command.formId();
+        if (submissionExportQueries.findWorkspaceId(formId).isEmpty()) {
+            throw new ResourceNotFoundException("Form", formId);
+        }
+        long total = submissionExportQueries.countInstances(formId, command.statuses());
+        if (command.format() == SubmissionExportFormat.XLSX && total >= XlsxSubmissionExportWriter.MAX_ROWS) {
+            throw new ValidationException("format", "El formulario tiene " + total
+                    + " instancias, mas de las que entran en una hoja XLSX; exportar como CSV");
+        }
+        List<ExportColumn> columns = submissionExportQueries.findColumns(formId);
+        long afterInstanceId = from != null ? from.lastInstanceId() : 0;
+        logger.info("Exporting {} instances of form {} as {} ({} questions, after instance {})",
+                total, formId, command.format(), columns.size(), afterInstanceId);
+
+        SubmissionExportWriter writer = command.format() == SubmissionExportFormat.XLSX
+                ? new XlsxSubmissionExportWriter(out)
+                : new CsvSubmissionExportWriter(out);
+        boolean resumable = channel != null && command.format() == SubmissionExportFormat.CSV;
+        SubmissionExportMetrics.Progress progress = submissionExportMetrics.start(formId, command.format(), total,
+                from != null ? from.exported() : 0, listener);
+        try {
+            if (from == null) {
+                writer.writeHeader(columns);
+            }
+            // la transaccion de solo lectura abarca solo el cursor (se une a la de execute si la hay)
+            readOnlyTransaction.executeWithoutResult(status -> submissionExportQueries.forEachInstance(
+                    formId, command.statuses(), columns, afterInstanceId, row -> {
+                        try {
+                            writer.write(row);
+                            if (progress.rowWritten() && resumable) {
+                                writer.flush();
+                                channel.force(false);
+                                listener.onCheckpoint(new ExportCheckpoint(row.instanceId(), progress.exported(),
+                                        channel.position(), part));
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            writer.finish();
+        } catch (IOException e) {
+            progress.finish(false);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            progress.finish(false);
+            throw e;
+        }
+        return progress.finish(true);
+    }
+}
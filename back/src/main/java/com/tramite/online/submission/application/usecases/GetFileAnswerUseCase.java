@@ -0,0 +1,38 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import com.tramite.online.submission.application.dto.response.FileDownload;
+import com.tramite.online.submission.domain.model.FileAttachment;
+import com.tramite.online.submission.domain.repository.FileAttachmentRepository;
+import com.tramite.online.submission.domain.repository.FileContentStore;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+
+/**
+ * Caso de Uso para descargar el archivo de una pregunta FILE
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetFileAnswerUseCase {
+
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final FileContentStore fileContentStore;
+
+    public GetFileAnswerUseCase(FileAttachmentRepository fileAttachmentRepository,
+                                FileContentStore fileContentStore) {
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.fileContentStore = fileContentStore;
+    }
+
+    public FileDownload execute(Long instanceId, Long questionId) {
+        FileAttachment attachment = fileAttachmentRepository.find(instanceId, questionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Archivo de la pregunta", questionId));
+        Path path = fileContentStore.locate(attachment.contentHash())
+                .orElseThrow(() -> new ResourceNotFoundException("Contenido de archivo", attachment.contentHash()));
+        return new FileDownload(attachment, path);
+    }
+}
@@ -0,0 +1,35 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import com.tramite.online.submission.application.dto.response.InstancePoolResponse;
+import com.tramite.online.submission.application.pool.InstancePoolManager;
+import com.tramite.online.submission.domain.repository.InstancePoolRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de Uso para consultar el estado del pool de instancias de un formulario
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetInstancePoolUseCase {
+
+    private final InstancePoolManager instancePoolManager;
+    private final InstancePoolRepository instancePoolRepository;
+
+    public GetInstancePoolUseCase(InstancePoolManager instancePoolManager,
+                                  InstancePoolRepository instancePoolRepository) {
+        this.instancePoolManager = instancePoolManager;
+        this.instancePoolRepository = instancePoolRepository;
+    }
+
+    public InstancePoolResponse execute(Long formId) {
+        return instancePoolManager.status(formId)
+                // configurado pero todavia no tomado por el scheduler
+                .or(() -> instancePoolRepository.findByFormId(formId)
+                        .map(pool -> new InstancePoolResponse(formId, pool.getMinSize(), pool.getMaxSize(), 0, 0, 0)))
+                .orElseThrow(() -> new ResourceNotFoundException("Pool de instancias del formulario", formId));
+    }
+}
@@ -0,0 +1,48 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.job.api.JobStatus;
+import com.tramite.online.job.api.JobView;
+import com.tramite.online.job.api.JobScheduler;
+import com.tramite.online.shared.exception.ConflictException;
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import com.tramite.online.submission.application.job.SubmissionExportJobHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Caso de uso que devuelve el archivo generado por un trabajo de exportacion terminado
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class GetSubmissionExportFileUseCase {
+
+    private final JobScheduler jobScheduler;
+    private final Path exportDir;
+
+    public GetSubmissionExportFileUseCase(JobScheduler jobScheduler,
+                                          @Value("${app.submission.export.dir}") Path exportDir) {
+        this.jobScheduler = jobScheduler;
+        this.exportDir = exportDir;
+    }
+
+    public Path execute(Long formId, Long jobId) {
+        JobView job = jobScheduler.find(jobId)
+                .filter(view -> SubmissionExportJobHandler.TYPE.equals(view.type()))
+                .orElseThrow(() -> new ResourceNotFoundException("Export job", jobId));
+        if (job.status() != JobStatus.SUCCEEDED) {
+            throw new ConflictException("La exportacion " + jobId + " esta en estado " + job.status());
+        }
+        // el resultado es el nombre del archivo dentro de exportDir (volumen compartido entre nodos)
+        Path file = exportDir.resolve(Path.of(job.result()).getFileName());
+        if (!file.getFileName().toString().startsWith("form-" + formId + "-") || !Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Export job", jobId);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,49 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.submission.application.draft.DraftSaveCoalescer;
+import com.tramite.online.submission.application.dto.command.SaveDraftCommand;
+import com.tramite.online.submission.application.dto.response.DraftSaveResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Caso de Uso para el autoguardado del borrador de una instancia.
+ * Recibe solo las respuestas cambiadas; la escritura es un upsert con control optimista
+ * de version y las rafagas de un mismo cliente se agrupan en una sola escritura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class SaveDraftUseCase {
+
+    private final DraftSaveCoalescer coalescer;
+    private final Logger logger = LoggerFactory.getLogger(SaveDraftUseCase.class);
+
+    public SaveDraftUseCase(DraftSaveCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    public DraftSaveResponse execute(SaveDraftCommand command) {
+        logger.debug("Saving draft of instance {} over version {} ({} answers)",
+                command.instanceId(), command.version(), command.answers().size());
+        Map<Long, String> answers = new LinkedHashMap<>();
+        for (SaveDraftCommand.AnswerPatch answer : command.answers()) {
+            answers.put(answer.questionId(), answer.value());
+        }
+        try {
+            return coalescer.submit(command.instanceId(), command.version(), command.sessionId(), answers).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.job.api.JobRequest;
+import com.tramite.online.job.api.JobScheduler;
+import com.tramite.online.job.api.JobView;
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.application.dto.command.ExportSubmissionsCommand;
+import com.tramite.online.submission.application.export.SubmissionExportFormat;
+import com.tramite.online.submission.application.export.XlsxSubmissionExportWriter;
+import com.tramite.online.submission.application.job.SubmissionExportJobHandler;
+import com.tramite.online.submission.application.query.SubmissionExportQueries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Caso de uso que encola la exportacion de las respuestas de un formulario como trabajo asincrono,
+ * descontado del limite de concurrencia del workspace del formulario
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class SubmitSubmissionExportJobUseCase {
+
+    private final SubmissionExportQueries submissionExportQueries;
+    private final JobScheduler jobScheduler;
+    private final JsonMapper jsonMapper;
+    private final Logger logger = LoggerFactory.getLogger(SubmitSubmissionExportJobUseCase.class);
+
+    public SubmitSubmissionExportJobUseCase(SubmissionExportQueries submissionExportQueries,
+                                            JobScheduler jobScheduler,
+                                            JsonMapper jsonMapper) {
+        this.submissionExportQueries = submissionExportQueries;
+        this.jobScheduler = jobScheduler;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public JobView execute(ExportSubmissionsCommand command) {
+        Long formId = command.formId();
+        Long workspaceId = submissionExportQueries.findWorkspaceId(formId)
+                .orElseThrow(() -> new ResourceNotFoundException("Form", formId));
+        // se valida al encolar para no gastar un trabajo que va a fallar en todos sus intentos
+        if (command.format() == SubmissionExportFormat.XLSX
+                && submissionExportQueries.countInstances(formId, command.statuses()) >= XlsxSubmissionExportWriter.MAX_ROWS) {
+            throw new ValidationException("format",
+                    "El formulario tiene mas instancias de las que entran en una hoja XLSX; exportar como CSV");
+        }
+        Long jobId = jobScheduler.submit(new JobRequest(SubmissionExportJobHandler.TYPE, workspaceId,
+                jsonMapper.writeValueAsString(command)));
+        logger.info("Export of form {} as {} queued as job {}", formId, command.format(), jobId);
+        return jobScheduler.find(jobId).orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+    }
+}
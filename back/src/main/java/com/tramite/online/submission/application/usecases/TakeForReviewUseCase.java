@@ -0,0 +1,64 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.submission.application.dto.command.TakeForReviewCommand;
+import com.tramite.online.submission.application.dto.response.ReviewCaseResponse;
+import com.tramite.online.submission.application.review.ReviewQueueMetrics;
+import com.tramite.online.submission.application.transition.SubmissionTransitioner;
+import com.tramite.online.submission.domain.model.ReviewCase;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+import com.tramite.online.submission.domain.repository.ReviewQueueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Caso de Uso para que un revisor tome el siguiente lote de casos enviados.
+ * Los casos se reparten en ronda entre formularios y workspaces; las filas que otro revisor
+ * esta tomando en el mismo momento se saltean en lugar de esperar su lock.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class TakeForReviewUseCase {
+
+    private final ReviewQueueRepository reviewQueueRepository;
+    private final ReviewQueueMetrics reviewQueueMetrics;
+    private final SubmissionTransitioner transitioner;
+    private final int maxBatch;
+    private final Logger logger = LoggerFactory.getLogger(TakeForReviewUseCase.class);
+
+    public TakeForReviewUseCase(ReviewQueueRepository reviewQueueRepository,
+                                ReviewQueueMetrics reviewQueueMetrics,
+                                SubmissionTransitioner transitioner,
+                                @Value("${app.submission.review-queue.max-batch:50}") int maxBatch) {
+        this.reviewQueueRepository = reviewQueueRepository;
+        this.reviewQueueMetrics = reviewQueueMetrics;
+        this.transitioner = transitioner;
+        this.maxBatch = maxBatch;
+    }
+
+    @Transactional
+    public List<ReviewCaseResponse> execute(TakeForReviewCommand command) {
+        int limit = Math.min(Math.max(command.limit(), 1), maxBatch);
+        List<ReviewCase> cases = reviewQueueRepository.claim(command.reviewerId(), command.workspaceId(), limit);
+        reviewQueueMetrics.recordClaim(cases);
+        transitioner.recordAll(cases.stream().map(TakeForReviewUseCase::transitioned).toList(),
+                SubmissionTransition.TAKE_FOR_REVIEW, command.reviewerId(), null);
+        logger.info("Reviewer {} took {} cases (workspace {}, limit {})",
+                command.reviewerId(), cases.size(), command.workspaceId(), limit);
+        return cases.stream().map(ReviewCaseResponse::from).toList();
+    }
+
+    private static TransitionedSubmission transitioned(ReviewCase reviewCase) {
+        return new TransitionedSubmission(reviewCase.instanceId(), reviewCase.formId(), reviewCase.workspaceId(),
+                reviewCase.userId(), reviewCase.reviewerId(), reviewCase.submittedAt(), reviewCase.claimedAt(),
+                reviewCase.claimedAt());
+    }
+}
@@ -0,0 +1,51 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.application.dto.command.TransitionSubmissionCommand;
+import com.tramite.online.submission.application.dto.response.BulkTransitionResponse;
+import com.tramite.online.submission.application.dto.response.SubmissionTransitionResponse;
+import com.tramite.online.submission.application.transition.SubmissionTransitioner;
+import com.tramite.online.submission.exception.FormInstanceNotFoundException;
+import com.tramite.online.submission.exception.InvalidStatusTransitionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * Caso de Uso para aplicar una transicion de estado a una instancia
+ * (enviar, tomar, aprobar, rechazar, pedir correccion, corregir, retomar revision).
+ * El cambio es un UPDATE condicionado al estado de origen; si no aplica se informa el motivo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class TransitionSubmissionUseCase {
+
+    private final SubmissionTransitioner transitioner;
+    private final Logger logger = LoggerFactory.getLogger(TransitionSubmissionUseCase.class);
+
+    public TransitionSubmissionUseCase(SubmissionTransitioner transitioner) {
+        this.transitioner = transitioner;
+    }
+
+    public SubmissionTransitionResponse execute(TransitionSubmissionCommand command) {
+        logger.debug("Executing command {}", command);
+        BulkTransitionResponse result = transitioner.apply(Set.of(command.instanceId()), command.transition(),
+                command.actorId(), command.comment());
+        if (!result.applied().isEmpty()) {
+            return result.applied().getFirst();
+        }
+        BulkTransitionResponse.Rejected rejected = result.rejected().getFirst();
+        throw switch (rejected.reason()) {
+            case NOT_FOUND -> new FormInstanceNotFoundException(command.instanceId());
+            case MISSING_REQUIRED_ANSWERS -> new ValidationException("answers",
+                    "La instancia " + command.instanceId() + " tiene preguntas obligatorias sin responder");
+            default -> new InvalidStatusTransitionException(command.instanceId(), rejected.currentStatus(),
+                    command.transition());
+        };
+    }
+}
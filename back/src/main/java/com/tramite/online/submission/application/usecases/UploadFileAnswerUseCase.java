@@ -0,0 +1,109 @@
+package com.tramite.online.submission.application.usecases;
+
+import com.tramite.online.shared.exception.BusinessException;
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.application.dto.command.UploadFileAnswerCommand;
+import com.tramite.online.submission.application.dto.response.FileAttachmentResponse;
+import com.tramite.online.submission.domain.model.FileAttachment;
+import com.tramite.online.submission.domain.model.StoredContent;
+import com.tramite.online.submission.domain.repository.FileAttachmentRepository;
+import com.tramite.online.submission.domain.repository.FileContentStore;
+import com.tramite.online.submission.exception.FileTooLargeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Caso de Uso para subir el archivo de una pregunta FILE.
+ * No es transaccional a proposito: el archivo se recibe en streaming sin tener tomada una conexion
+ * de la base. Se valida la pregunta antes de recibir el contenido y el alta del adjunto vuelve a
+ * verificar las mismas condiciones en su unico statement.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class UploadFileAnswerUseCase {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final FileContentStore fileContentStore;
+    private final long maxBytes;
+    private final Counter storedUploads;
+    private final Counter deduplicatedUploads;
+    private final DistributionSummary uploadSize;
+    private final Logger logger = LoggerFactory.getLogger(UploadFileAnswerUseCase.class);
+
+    public UploadFileAnswerUseCase(FileAttachmentRepository fileAttachmentRepository,
+                                   FileContentStore fileContentStore,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.submission.files.max-size:25MB}") DataSize maxSize) {
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.fileContentStore = fileContentStore;
+        this.maxBytes = maxSize.toBytes();
+        this.storedUploads = Counter.builder("submission.files.uploads").tag("deduplicated", "false")
+                .description("Archivos subidos").register(meterRegistry);
+        this.deduplicatedUploads = Counter.builder("submission.files.uploads").tag("deduplicated", "true")
+                .description("Archivos subidos").register(meterRegistry);
+        this.uploadSize = DistributionSummary.builder("submission.files.upload.size")
+                .description("Tamaño de los archivos subidos").baseUnit("bytes").register(meterRegistry);
+    }
+
+    public FileAttachmentResponse execute(UploadFileAnswerCommand command) {
+        if (command.declaredSize() > maxBytes) {
+            throw new FileTooLargeException(maxBytes);
+        }
+        if (!fileAttachmentRepository.acceptsUpload(command.instanceId(), command.questionId())) {
+            throw new ValidationException("questionId", "La pregunta " + command.questionId()
+                    + " no es de tipo FILE o la instancia " + command.instanceId() + " no admite cambios");
+        }
+
+        StoredContent stored;
+        try {
+            stored = fileContentStore.store(command.content(), maxBytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo guardar el archivo de la instancia " + command.instanceId(), ex);
+        }
+        (stored.deduplicated() ? deduplicatedUploads : storedUploads).increment();
+        uploadSize.record(stored.size());
+
+        FileAttachment attachment = new FileAttachment(command.instanceId(), command.questionId(), stored.contentHash(),
+                fileName(command.fileName()), contentType(command.contentType()), stored.size(), null);
+        FileAttachment saved = fileAttachmentRepository.save(attachment)
+                .orElseThrow(() -> new BusinessException(
+                        "La instancia " + command.instanceId() + " dejo de admitir cambios durante la subida"));
+        logger.info("Stored file {} ({} bytes, deduplicated {}) for question {} of instance {}",
+                stored.contentHash(), stored.size(), stored.deduplicated(), command.questionId(), command.instanceId());
+        return FileAttachmentResponse.from(saved);
+    }
+
+    /**
+     * Solo el nombre final (sin directorios del cliente) y acotado al largo de la columna
+     */
+    private static String fileName(String fileName) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(fileName != null ? fileName : ""));
+        if (!StringUtils.hasText(name)) {
+            return "archivo";
+        }
+        return name.length() > MAX_NAME_LENGTH ? name.substring(name.length() - MAX_NAME_LENGTH) : name;
+    }
+
+    private static String contentType(String contentType) {
+        if (!StringUtils.hasText(contentType) || contentType.length() > MAX_NAME_LENGTH) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        return contentType;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tramite.online.submission.application.validation;
+
+import com.tramite.online.form.api.PublishedFormValidator;
+import com.tramite.online.shared.domain.validation.ValidationResult;
+import com.tramite.online.shared.domain.validation.Violation;
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.domain.model.InstanceQuestions;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import com.tramite.online.submission.domain.repository.InstanceAnswerRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Valida las respuestas de una instancia con el plan compilado (y cacheado) de su version publicada.
+ * Las respuestas van por pregunta de la instancia; se traducen a la pregunta del formulario de la
+ * que son copia y las violaciones se informan de nuevo con el id de la instancia.
+ * Si la version ya no es la publicada, el plan se compila con las reglas que copio la instancia.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionAnswerValidator {
+
+    private final FormInstanceRepository formInstanceRepository;
+    private final InstanceAnswerRepository instanceAnswerRepository;
+    private final PublishedFormValidator publishedFormValidator;
+
+    public SubmissionAnswerValidator(FormInstanceRepository formInstanceRepository,
+                                     InstanceAnswerRepository instanceAnswerRepository,
+                                     PublishedFormValidator publishedFormValidator) {
+        this.formInstanceRepository = formInstanceRepository;
+        this.instanceAnswerRepository = instanceAnswerRepository;
+        this.publishedFormValidator = publishedFormValidator;
+    }
+
+    /**
+     * Parche de borrador: solo las respuestas recibidas, sin exigir obligatorias. Las preguntas
+     * ajenas a la instancia las rechaza la escritura del parche.
+     */
+    public void validateDraft(Long instanceId, Map<Long, String> answers) {
+        formInstanceRepository.findQuestions(instanceId, false)
+                .ifPresent(questions -> validate(instanceId, questions, answers, false));
+    }
+
+    /**
+     * Envio o reenvio: todas las respuestas guardadas. Debe correr dentro de la transaccion de la
+     * transicion: la instancia queda bloqueada (FOR NO KEY UPDATE) y nadie cambia las respuestas validadas.
+     */
+    public void validateSubmission(Long instanceId) {
+        formInstanceRepository.findQuestions(instanceId, true)
+                .ifPresent(questions ->
+                        validate(instanceId, questions, instanceAnswerRepository.findAnswers(instanceId), true));
+    }
+
+    private void validate(Long instanceId, InstanceQuestions questions, Map<Long, String> answers, boolean complete) {
+        Map<Long, List<String>> byConfigQuestion = new HashMap<>();
+        Map<Long, Long> instanceQuestionIds = new HashMap<>();
+        for (Map.Entry<Long, String> answer : answers.entrySet()) {
+            Long configQuestionId = questions.configQuestionIds().get(answer.getKey());
+            if (configQuestionId != null) {
+                byConfigQuestion.put(configQuestionId, answer.getValue() != null ? List.of(answer.getValue()) : List.of());
+                instanceQuestionIds.put(configQuestionId, answer.getKey());
+            }
+        }
+        if (complete) {
+            questions.configQuestionIds().forEach((instanceQuestionId, configQuestionId) ->
+                    instanceQuestionIds.putIfAbsent(configQuestionId, instanceQuestionId));
+        }
+        ValidationResult result = publishedFormValidator.validate(questions.formId(), questions.formVersion(),
+                () -> formInstanceRepository.findQuestionRules(instanceId), byConfigQuestion, complete);
+        if (!result.isValid()) {
+            throw new ValidationException("answers", describe(result, instanceQuestionIds));
+        }
+    }
+
+    private static String describe(ValidationResult result, Map<Long, Long> instanceQuestionIds) {
+        StringBuilder message = new StringBuilder();
+        for (Violation violation : result.getViolations()) {
+            if (!message.isEmpty()) {
+                message.append("; ");
+            }
+            message.append(field(violation.field(), instanceQuestionIds)).append(": ").append(violation.message());
+        }
+        return message.toString();
+    }
+
+    /**
+     * question[configId] -> question[instanceQuestionId]
+     */
+    private static String field(String field, Map<Long, Long> instanceQuestionIds) {
+        if (field.startsWith("question[") && field.endsWith("]")) {
+            try {
+                Long instanceQuestionId = instanceQuestionIds.get(Long.valueOf(field.substring(9, field.length() - 1)));
+                if (instanceQuestionId != null) {
+                    return "question[" + instanceQuestionId + "]";
+                }
+            } catch (NumberFormatException ignored) {
+                // se informa el campo tal cual
+            }
+        }
+        return field;
+    }
+}
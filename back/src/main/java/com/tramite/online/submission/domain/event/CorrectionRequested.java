@@ -0,0 +1,18 @@
+package com.tramite.online.submission.domain.event;
+
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+
+/**
+ * Evento cuando un revisor pide correcciones al ciudadano
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class CorrectionRequested extends SubmissionStatusChanged {
+
+    CorrectionRequested(TransitionedSubmission submission, SubmissionTransition transition, Long actorId) {
+        super("CorrectionRequested", submission, transition, actorId);
+    }
+}
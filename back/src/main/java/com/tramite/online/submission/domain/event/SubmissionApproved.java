@@ -0,0 +1,18 @@
+package com.tramite.online.submission.domain.event;
+
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+
+/**
+ * Evento cuando un revisor aprueba una instancia
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SubmissionApproved extends SubmissionStatusChanged {
+
+    SubmissionApproved(TransitionedSubmission submission, SubmissionTransition transition, Long actorId) {
+        super("SubmissionApproved", submission, transition, actorId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.tramite.online.submission.domain.event;
+
+import com.tramite.online.shared.domain.event.DomainEvent;
+import com.tramite.online.submission.domain.model.FormInstance;
+
+/**
+ * Evento cuando un ciudadano inicia un formulario y se genera su instancia
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SubmissionCreated extends DomainEvent {
+
+    private final Long instanceId;
+    private final Long formId;
+    private final Integer formVersion;
+    private final Long userId;
+
+    public SubmissionCreated(FormInstance instance) {
+        super("SubmissionCreated", instance.getId());
+        this.instanceId = instance.getId();
+        this.formId = instance.getFormId();
+        this.formVersion = instance.getFormVersion();
+        this.userId = instance.getUserId();
+    }
+
+    public Long getInstanceId() {
+        return instanceId;
+    }
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public Integer getFormVersion() {
+        return formVersion;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
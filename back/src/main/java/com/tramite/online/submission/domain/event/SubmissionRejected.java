@@ -0,0 +1,18 @@
+package com.tramite.online.submission.domain.event;
+
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+
+/**
+ * Evento cuando un revisor rechaza una instancia
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SubmissionRejected extends SubmissionStatusChanged {
+
+    SubmissionRejected(TransitionedSubmission submission, SubmissionTransition transition, Long actorId) {
+        super("SubmissionRejected", submission, transition, actorId);
+    }
+}
@@ -0,0 +1,96 @@
+package com.tramite.online.submission.domain.event;
+
+import com.tramite.online.shared.domain.event.DomainEvent;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento cuando una instancia cambia de estado. Las transiciones con interes propio
+ * (envio, aprobacion, rechazo, pedido de correccion) publican su subclase.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SubmissionStatusChanged extends DomainEvent {
+
+    private final Long instanceId;
+    private final Long formId;
+    private final Long workspaceId;
+    private final Long userId;
+    private final Long actorId;
+    private final SubmissionStatus previousStatus;
+    private final SubmissionStatus status;
+    private final LocalDateTime submittedAt;
+    private final LocalDateTime claimedAt;
+    private final LocalDateTime transitionedAt;
+
+    protected SubmissionStatusChanged(String eventType, TransitionedSubmission submission,
+                                      SubmissionTransition transition, Long actorId) {
+        super(eventType, submission.instanceId());
+        this.instanceId = submission.instanceId();
+        this.formId = submission.formId();
+        this.workspaceId = submission.workspaceId();
+        this.userId = submission.userId();
+        this.actorId = actorId;
+        this.previousStatus = transition.getFrom();
+        this.status = transition.getTo();
+        this.submittedAt = submission.submittedAt();
+        this.claimedAt = submission.claimedAt();
+        this.transitionedAt = submission.transitionedAt();
+    }
+
+    public static SubmissionStatusChanged of(TransitionedSubmission submission, SubmissionTransition transition,
+                                             Long actorId) {
+        return switch (transition) {
+            case SUBMIT -> new SubmissionSubmitted(submission, transition, actorId);
+            case APPROVE -> new SubmissionApproved(submission, transition, actorId);
+            case REJECT -> new SubmissionRejected(submission, transition, actorId);
+            case REQUEST_CORRECTION -> new CorrectionRequested(submission, transition, actorId);
+            default -> new SubmissionStatusChanged("SubmissionStatusChanged", submission, transition, actorId);
+        };
+    }
+
+    public Long getInstanceId() {
+        return instanceId;
+    }
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public SubmissionStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public SubmissionStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public LocalDateTime getTransitionedAt() {
+        return transitionedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.tramite.online.submission.domain.event;
+
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+
+/**
+ * Evento cuando el ciudadano envia una instancia
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SubmissionSubmitted extends SubmissionStatusChanged {
+
+    SubmissionSubmitted(TransitionedSubmission submission, SubmissionTransition transition, Long actorId) {
+        super("SubmissionSubmitted", submission, transition, actorId);
+    }
+}
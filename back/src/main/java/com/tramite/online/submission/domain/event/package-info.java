@@ -0,0 +1,7 @@
+/**
+ * Eventos del ciclo de vida de una submission, expuestos a otros modulos (analytics)
+ */
+@NamedInterface("events")
+package com.tramite.online.submission.domain.event;
+
+import org.springframework.modulith.NamedInterface;
@@ -0,0 +1,11 @@
+package com.tramite.online.submission.domain.model;
+
+/**
+ * Resultado de aplicar un parche al borrador: la nueva version y cuantas respuestas se escribieron
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record DraftPatchResult(int draftVersion, int appliedAnswers) {
+}
@@ -0,0 +1,22 @@
+package com.tramite.online.submission.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archivo subido como respuesta de una pregunta FILE de una instancia.
+ * contentHash (SHA-256 en hex) identifica el contenido en el almacen de archivos.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record FileAttachment(
+        Long instanceId,
+        Long questionId,
+        String contentHash,
+        String fileName,
+        String contentType,
+        long size,
+        LocalDateTime createdAt
+) {
+}
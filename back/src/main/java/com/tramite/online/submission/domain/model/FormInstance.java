@@ -0,0 +1,127 @@
+package com.tramite.online.submission.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad de dominio FormInstance
+ * Copia materializada de una version publicada de un formulario para un ciudadano
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class FormInstance {
+
+    private Long id;
+    private Long formId;
+    private Integer formVersion;
+    private Long userId;
+    private SubmissionStatus status;
+    private int draftVersion;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructor vacío
+    public FormInstance() {
+        this.status = SubmissionStatus.DRAFT;
+    }
+
+    // Constructor completo
+    public FormInstance(Long id, Long formId, Integer formVersion, Long userId,
+                        SubmissionStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.formId = formId;
+        this.formVersion = formVersion;
+        this.userId = userId;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public boolean isDraft() {
+        return this.status == SubmissionStatus.DRAFT;
+    }
+
+    /**
+     * El ciudadano puede editar respuestas en borrador o cuando el revisor pidio correccion
+     */
+    public boolean isEditable() {
+        return this.status == SubmissionStatus.DRAFT || this.status == SubmissionStatus.CORRECTION_REQUESTED;
+    }
+
+    // Getters y Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public void setFormId(Long formId) {
+        this.formId = formId;
+    }
+
+    public Integer getFormVersion() {
+        return formVersion;
+    }
+
+    public void setFormVersion(Integer formVersion) {
+        this.formVersion = formVersion;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public SubmissionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SubmissionStatus status) {
+        this.status = status;
+    }
+
+    public int getDraftVersion() {
+        return draftVersion;
+    }
+
+    public void setDraftVersion(int draftVersion) {
+        this.draftVersion = draftVersion;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "FormInstance{" +
+                "id=" + id +
+                ", formId=" + formId +
+                ", formVersion=" + formVersion +
+                ", userId=" + userId +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package com.tramite.online.submission.domain.model;
+
+/**
+ * Configuracion del pool de instancias pre-generadas de un formulario de alto trafico.
+ * El tamaño objetivo se mueve entre minSize y maxSize segun la tasa de inicios observada.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class InstancePool {
+
+    private Long formId;
+    private int minSize;
+    private int maxSize;
+
+    public InstancePool(Long formId, int minSize, int maxSize) {
+        if (formId == null) {
+            throw new IllegalArgumentException("El formulario es requerido");
+        }
+        if (minSize < 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("El tamaño del pool debe cumplir 0 <= minSize <= maxSize");
+        }
+        this.formId = formId;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Acota el tamaño deseado al rango configurado
+     */
+    public int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,18 @@
+package com.tramite.online.submission.domain.model;
+
+import java.util.Map;
+
+/**
+ * Version del formulario de una instancia y la pregunta del formulario de la que es copia
+ * cada una de sus preguntas (instance_question.id -> config_question_id)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record InstanceQuestions(Long formId, int formVersion, Map<Long, Long> configQuestionIds) {
+
+    public InstanceQuestions {
+        configQuestionIds = Map.copyOf(configQuestionIds);
+    }
+}
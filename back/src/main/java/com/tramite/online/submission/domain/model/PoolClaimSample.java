@@ -0,0 +1,14 @@
+package com.tramite.online.submission.domain.model;
+
+/**
+ * Muestra de la demanda de un pool entre dos refills, sumada entre todos los nodos
+ * @param claims claims desde la muestra anterior
+ * @param elapsedSeconds segundos desde la muestra anterior segun el reloj de la base; 0 en la primera
+ * @param claimRate tasa de claims por segundo (EWMA) guardada por el refill anterior
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record PoolClaimSample(long claims, double elapsedSeconds, double claimRate) {
+}
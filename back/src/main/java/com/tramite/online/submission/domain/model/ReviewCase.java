@@ -0,0 +1,21 @@
+package com.tramite.online.submission.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Caso asignado a un revisor al reclamarlo de la cola de revision
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record ReviewCase(
+        Long instanceId,
+        Long formId,
+        Long workspaceId,
+        Long userId,
+        Long reviewerId,
+        LocalDateTime submittedAt,
+        LocalDateTime claimedAt
+) {
+}
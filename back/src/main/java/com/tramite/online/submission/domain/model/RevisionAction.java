@@ -0,0 +1,17 @@
+package com.tramite.online.submission.domain.model;
+
+/**
+ * Accion registrada en el historial de revision de una instancia
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum RevisionAction {
+    SUBMITTED,
+    REVIEWED,
+    APPROVED,
+    REJECTED,
+    CORRECTION_REQUESTED,
+    CORRECTED
+}
@@ -0,0 +1,12 @@
+package com.tramite.online.submission.domain.model;
+
+/**
+ * Resultado de guardar un contenido en el almacen de archivos.
+ * deduplicated indica que ya existia un archivo identico y no se escribio otra copia.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record StoredContent(String contentHash, long size, boolean deduplicated) {
+}
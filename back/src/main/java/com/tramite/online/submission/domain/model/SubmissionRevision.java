@@ -0,0 +1,28 @@
+package com.tramite.online.submission.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de auditoria de una transicion de estado de una instancia
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record SubmissionRevision(
+        Long id,
+        Long instanceId,
+        Long revisedBy,
+        RevisionAction action,
+        SubmissionStatus previousStatus,
+        SubmissionStatus newStatus,
+        String comment,
+        LocalDateTime createdAt
+) {
+
+    public static SubmissionRevision of(TransitionedSubmission submission, SubmissionTransition transition,
+                                        Long revisedBy, String comment) {
+        return new SubmissionRevision(null, submission.instanceId(), revisedBy, transition.getAction(),
+                transition.getFrom(), transition.getTo(), comment, submission.transitionedAt());
+    }
+}
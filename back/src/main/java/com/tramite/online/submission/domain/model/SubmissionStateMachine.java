@@ -0,0 +1,55 @@
+package com.tramite.online.submission.domain.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tabla de transiciones de SubmissionStatus, precalculada una sola vez a partir de SubmissionTransition.
+ * Las consultas son lecturas de EnumMap/EnumSet (un bitset por estado), sin recorrer listas.
+ * La tabla solo describe que es valido: el cambio de estado lo hace el repositorio con un
+ * UPDATE condicionado al estado de origen, nunca cargando y guardando la instancia.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class SubmissionStateMachine {
+
+    private static final Map<SubmissionStatus, Set<SubmissionStatus>> TARGETS = new EnumMap<>(SubmissionStatus.class);
+    private static final Map<SubmissionStatus, Set<SubmissionTransition>> AVAILABLE = new EnumMap<>(SubmissionStatus.class);
+
+    static {
+        for (SubmissionStatus status : SubmissionStatus.values()) {
+            TARGETS.put(status, EnumSet.noneOf(SubmissionStatus.class));
+            AVAILABLE.put(status, EnumSet.noneOf(SubmissionTransition.class));
+        }
+        for (SubmissionTransition transition : SubmissionTransition.values()) {
+            TARGETS.get(transition.getFrom()).add(transition.getTo());
+            AVAILABLE.get(transition.getFrom()).add(transition);
+        }
+        TARGETS.replaceAll((status, targets) -> Collections.unmodifiableSet(targets));
+        AVAILABLE.replaceAll((status, transitions) -> Collections.unmodifiableSet(transitions));
+    }
+
+    private SubmissionStateMachine() {
+    }
+
+    public static boolean canTransition(SubmissionStatus from, SubmissionStatus to) {
+        return TARGETS.get(from).contains(to);
+    }
+
+    public static boolean canApply(SubmissionStatus status, SubmissionTransition transition) {
+        return AVAILABLE.get(status).contains(transition);
+    }
+
+    public static Set<SubmissionStatus> targets(SubmissionStatus from) {
+        return TARGETS.get(from);
+    }
+
+    public static Set<SubmissionTransition> available(SubmissionStatus status) {
+        return AVAILABLE.get(status);
+    }
+}
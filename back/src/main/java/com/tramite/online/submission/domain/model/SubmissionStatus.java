@@ -0,0 +1,20 @@
+package com.tramite.online.submission.domain.model;
+
+/**
+ * Estados de una instancia de formulario (submission)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum SubmissionStatus {
+    // pre-generada en el pool, todavia sin ciudadano asignado
+    POOLED,
+    DRAFT,
+    SUBMITTED,
+    UNDER_REVIEW,
+    APPROVED,
+    REJECTED,
+    CORRECTION_REQUESTED,
+    CORRECTED
+}
@@ -0,0 +1,59 @@
+package com.tramite.online.submission.domain.model;
+
+/**
+ * Transiciones validas de una instancia (ver diagrama de estado en el ROADMAP).
+ * Cada transicion tiene un unico estado de origen, que es la condicion del UPDATE guardado.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public enum SubmissionTransition {
+
+    SUBMIT(SubmissionStatus.DRAFT, SubmissionStatus.SUBMITTED, RevisionAction.SUBMITTED, false),
+    TAKE_FOR_REVIEW(SubmissionStatus.SUBMITTED, SubmissionStatus.UNDER_REVIEW, RevisionAction.REVIEWED, true),
+    APPROVE(SubmissionStatus.UNDER_REVIEW, SubmissionStatus.APPROVED, RevisionAction.APPROVED, true),
+    REJECT(SubmissionStatus.UNDER_REVIEW, SubmissionStatus.REJECTED, RevisionAction.REJECTED, true),
+    REQUEST_CORRECTION(SubmissionStatus.UNDER_REVIEW, SubmissionStatus.CORRECTION_REQUESTED,
+            RevisionAction.CORRECTION_REQUESTED, true),
+    CORRECT(SubmissionStatus.CORRECTION_REQUESTED, SubmissionStatus.CORRECTED, RevisionAction.CORRECTED, false),
+    RESUME_REVIEW(SubmissionStatus.CORRECTED, SubmissionStatus.UNDER_REVIEW, RevisionAction.REVIEWED, true);
+
+    private final SubmissionStatus from;
+    private final SubmissionStatus to;
+    private final RevisionAction action;
+    private final boolean byReviewer;
+
+    SubmissionTransition(SubmissionStatus from, SubmissionStatus to, RevisionAction action, boolean byReviewer) {
+        this.from = from;
+        this.to = to;
+        this.action = action;
+        this.byReviewer = byReviewer;
+    }
+
+    public SubmissionStatus getFrom() {
+        return from;
+    }
+
+    public SubmissionStatus getTo() {
+        return to;
+    }
+
+    public RevisionAction getAction() {
+        return action;
+    }
+
+    /**
+     * true si la ejecuta un revisor; false si la ejecuta el ciudadano
+     */
+    public boolean isByReviewer() {
+        return byReviewer;
+    }
+
+    /**
+     * El ciudadano envia (o reenvia) respuestas: se exige que las preguntas obligatorias esten respondidas
+     */
+    public boolean requiresCompleteAnswers() {
+        return this == SUBMIT || this == CORRECT;
+    }
+}
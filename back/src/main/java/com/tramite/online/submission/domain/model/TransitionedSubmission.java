@@ -0,0 +1,23 @@
+package com.tramite.online.submission.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Instancia que cambio de estado en un UPDATE guardado, con los datos que necesitan
+ * la auditoria y los eventos (sin volver a leer la instancia)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record TransitionedSubmission(
+        Long instanceId,
+        Long formId,
+        Long workspaceId,
+        Long userId,
+        Long reviewerId,
+        LocalDateTime submittedAt,
+        LocalDateTime claimedAt,
+        LocalDateTime transitionedAt
+) {
+}
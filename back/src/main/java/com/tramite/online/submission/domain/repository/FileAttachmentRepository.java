@@ -0,0 +1,30 @@
+package com.tramite.online.submission.domain.repository;
+
+import com.tramite.online.submission.domain.model.FileAttachment;
+
+import java.util.Optional;
+
+/**
+ * Puerto para los archivos adjuntos de las instancias.
+ * La implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface FileAttachmentRepository {
+
+    /**
+     * true si la pregunta es de tipo FILE, pertenece a la instancia y la instancia admite cambios.
+     * Se consulta antes de recibir el archivo para no escribir contenido que despues se rechaza.
+     */
+    boolean acceptsUpload(Long instanceId, Long questionId);
+
+    /**
+     * Guarda (o reemplaza) el adjunto y la respuesta de la pregunta en una sentencia, con las mismas
+     * condiciones que acceptsUpload. Vacio si entre tanto la instancia dejo de ser editable.
+     */
+    Optional<FileAttachment> save(FileAttachment attachment);
+
+    Optional<FileAttachment> find(Long instanceId, Long questionId);
+}
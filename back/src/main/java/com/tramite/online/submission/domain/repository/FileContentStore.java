@@ -0,0 +1,30 @@
+package com.tramite.online.submission.domain.repository;
+
+import com.tramite.online.submission.domain.model.StoredContent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Puerto del almacen de contenido de archivos, direccionado por SHA-256.
+ * La implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface FileContentStore {
+
+    /**
+     * Guarda el contenido leyendolo en streaming (nunca completo en memoria) y calculando el hash
+     * mientras se escribe. Si supera maxBytes no se guarda nada y se lanza FileTooLargeException.
+     */
+    StoredContent store(InputStream content, long maxBytes) throws IOException;
+
+    /**
+     * Ruta del archivo con ese hash, si existe
+     */
+    Optional<Path> locate(String contentHash);
+}
@@ -0,0 +1,93 @@
+package com.tramite.online.submission.domain.repository;
+
+import com.tramite.online.form.api.QuestionRules;
+import com.tramite.online.submission.domain.model.FormInstance;
+import com.tramite.online.submission.domain.model.InstanceQuestions;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Puerto para las instancias de formulario.
+ * La implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface FormInstanceRepository {
+
+    /**
+     * Materializa una instancia DRAFT copiando la configuracion vigente del formulario
+     * (secciones, preguntas y opciones). Vacio si el formulario no existe o no esta publicado.
+     */
+    Optional<FormInstance> materialize(Long formId, Long userId);
+
+    Optional<FormInstance> findById(Long id);
+
+    /**
+     * Materializa count instancias POOLED de la version publicada vigente en una sola sentencia.
+     * Devuelve la cantidad generada (0 si el formulario no esta publicado).
+     */
+    int materializePooled(Long formId, int count);
+
+    /**
+     * Asigna al usuario una instancia POOLED de la version vigente. Concurrentes no se bloquean
+     * entre si: cada uno toma una fila distinta o ninguna.
+     */
+    Optional<FormInstance> claimPooled(Long formId, Long userId);
+
+    /**
+     * Toma el lock de refill del pool del formulario hasta el fin de la transaccion en curso, sin
+     * esperar: false si otro nodo lo tiene. Serializa refills y muestras de demanda entre nodos.
+     */
+    boolean tryLockPool(Long formId);
+
+    /**
+     * Rellena el pool hasta target, acotado al max_size configurado, con a lo sumo batchSize
+     * instancias. Debe llamarse con el lock de tryLockPool, asi el conteo y la materializacion no se
+     * intercalan con los de otro refill. Devuelve la profundidad resultante, o vacio si el
+     * formulario ya no tiene pool.
+     */
+    OptionalInt refillPooled(Long formId, int target, int batchSize);
+
+    /**
+     * Elimina las instancias POOLED de versiones anteriores (o todas si el formulario ya no esta publicado)
+     */
+    int deleteStalePooled(Long formId);
+
+    int deletePooled(Long formId);
+
+    Optional<Long> findPublishedFormId(String slug);
+
+    /**
+     * Version del formulario y preguntas de la instancia. Con lock toma FOR NO KEY UPDATE sobre la
+     * instancia hasta el fin de la transaccion: un guardado de borrador concurrente espera, y un segundo
+     * envio de la misma instancia espera al primero y ve su estado (con FOR SHARE los dos tomaban el
+     * lock y se trababan al hacer el UPDATE de la transicion).
+     */
+    Optional<InstanceQuestions> findQuestions(Long instanceId, boolean lock);
+
+    /**
+     * Reglas de validacion que la instancia copio de su version, por pregunta del formulario
+     */
+    List<QuestionRules> findQuestionRules(Long instanceId);
+
+    /**
+     * Aplica la transicion a todas las instancias que esten en su estado de origen, en un solo
+     * UPDATE condicionado (WHERE status = origen). Las que no cumplen la condicion quedan igual
+     * y no se devuelven.
+     */
+    List<TransitionedSubmission> transition(Collection<Long> instanceIds, SubmissionTransition transition, Long actorId);
+
+    /**
+     * Estado actual de cada instancia existente; se usa solo para explicar transiciones rechazadas
+     */
+    Map<Long, SubmissionStatus> findStatuses(Collection<Long> instanceIds);
+}
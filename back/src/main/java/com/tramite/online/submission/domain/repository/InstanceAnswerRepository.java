@@ -0,0 +1,25 @@
+package com.tramite.online.submission.domain.repository;
+
+import com.tramite.online.submission.domain.model.DraftPatchResult;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Puerto para las respuestas de una instancia de formulario.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface InstanceAnswerRepository {
+
+    /**
+     * Aplica solo las respuestas cambiadas (instanceQuestionId -> valor) si el borrador sigue en
+     * expectedVersion y es editable, incrementando la version. Vacio si la version o el estado no coinciden.
+     * Las preguntas que no pertenecen a la instancia se ignoran y no cuentan como aplicadas.
+     */
+    Optional<DraftPatchResult> applyDraftPatch(Long instanceId, int expectedVersion, Map<Long, String> answers);
+
+    Map<Long, String> findAnswers(Long instanceId);
+}
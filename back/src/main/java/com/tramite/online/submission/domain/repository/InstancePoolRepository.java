@@ -0,0 +1,38 @@
+package com.tramite.online.submission.domain.repository;
+
+import com.tramite.online.submission.domain.model.InstancePool;
+import com.tramite.online.submission.domain.model.PoolClaimSample;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto para la configuracion de los pools de instancias.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface InstancePoolRepository {
+
+    List<InstancePool> findAll();
+
+    Optional<InstancePool> findByFormId(Long formId);
+
+    InstancePool save(InstancePool pool);
+
+    void delete(Long formId);
+
+    /**
+     * Suma al contador compartido del pool los claims atendidos por este nodo
+     */
+    void addClaims(Long formId, long claims);
+
+    /**
+     * Claims de todos los nodos desde la muestra anterior y tasa guardada; deja marcada la muestra.
+     * Solo debe llamarlo quien tiene el lock de refill del pool, dentro de esa transaccion.
+     */
+    Optional<PoolClaimSample> sampleClaims(Long formId);
+
+    void saveClaimRate(Long formId, double claimRate);
+}
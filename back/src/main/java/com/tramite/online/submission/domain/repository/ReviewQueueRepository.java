@@ -0,0 +1,31 @@
+package com.tramite.online.submission.domain.repository;
+
+import com.tramite.online.submission.domain.model.ReviewCase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Puerto de la cola de revision (instancias en estado SUBMITTED).
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface ReviewQueueRepository {
+
+    /**
+     * Pasa a UNDER_REVIEW hasta limit casos asignandolos al revisor. Los casos se reparten
+     * en ronda entre workspaces y, dentro de cada workspace, entre formularios; los que otro
+     * revisor tiene bloqueados se saltean sin esperar. workspaceId null no filtra.
+     */
+    List<ReviewCase> claim(Long reviewerId, Long workspaceId, int limit);
+
+    /**
+     * Cantidad de casos en espera y fecha de envio del mas antiguo (null si no hay)
+     */
+    QueueDepth depth();
+
+    record QueueDepth(long waiting, LocalDateTime oldestSubmittedAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.tramite.online.submission.domain.repository;
+
+import com.tramite.online.submission.domain.model.SubmissionRevision;
+
+import java.util.List;
+
+/**
+ * Puerto para el historial de revision de las instancias.
+ * La implementacion esta en infraestructura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface SubmissionRevisionRepository {
+
+    /**
+     * Inserta las revisiones en batch (una transicion masiva genera una fila por instancia)
+     */
+    void saveAll(List<SubmissionRevision> revisions);
+}
@@ -0,0 +1,21 @@
+package com.tramite.online.submission.exception;
+
+import com.tramite.online.shared.domain.constants.Constants;
+import com.tramite.online.shared.exception.BaseException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepcion cuando un archivo subido supera el tamaño maximo permitido. Responde 413.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@ResponseStatus(HttpStatus.CONTENT_TOO_LARGE)
+public class FileTooLargeException extends BaseException {
+
+    public FileTooLargeException(long maxBytes) {
+        super(String.format("El archivo supera el tamaño maximo de %d bytes", maxBytes), Constants.VALIDATION_ERROR);
+    }
+}
@@ -0,0 +1,17 @@
+package com.tramite.online.submission.exception;
+
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+
+/**
+ * Excepcion cuando una instancia de formulario no existe
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class FormInstanceNotFoundException extends ResourceNotFoundException {
+
+    public FormInstanceNotFoundException(Long id) {
+        super("Instancia de formulario", id);
+    }
+}
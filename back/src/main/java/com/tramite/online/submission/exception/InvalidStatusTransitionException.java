@@ -0,0 +1,28 @@
+package com.tramite.online.submission.exception;
+
+import com.tramite.online.shared.exception.ConflictException;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+
+/**
+ * Excepcion cuando la transicion pedida no sale del estado actual de la instancia
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class InvalidStatusTransitionException extends ConflictException {
+
+    private final SubmissionStatus currentStatus;
+
+    public InvalidStatusTransitionException(Long instanceId, SubmissionStatus currentStatus,
+                                            SubmissionTransition transition) {
+        super(String.format("La instancia %d esta en estado %s y no admite %s (requiere %s)",
+                instanceId, currentStatus, transition, transition.getFrom()));
+        this.currentStatus = currentStatus;
+    }
+
+    public SubmissionStatus getCurrentStatus() {
+        return currentStatus;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tramite.online.submission.exception;
+
+import com.tramite.online.shared.exception.ResourceNotFoundException;
+
+/**
+ * Excepcion cuando se intenta iniciar un formulario que no existe o no esta publicado
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class PublishedFormNotFoundException extends ResourceNotFoundException {
+
+    public PublishedFormNotFoundException(Long formId) {
+        super("Formulario publicado", formId);
+    }
+
+    public PublishedFormNotFoundException(String slug) {
+        super("Formulario publicado", slug);
+    }
+}
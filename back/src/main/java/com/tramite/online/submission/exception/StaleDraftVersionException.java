@@ -0,0 +1,26 @@
+package com.tramite.online.submission.exception;
+
+import com.tramite.online.shared.exception.ConflictException;
+
+/**
+ * Excepcion cuando el borrador se guarda sobre una version que ya no es la vigente
+ * (otra pestaña u otro dispositivo guardo antes)
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class StaleDraftVersionException extends ConflictException {
+
+    private final int currentVersion;
+
+    public StaleDraftVersionException(Long instanceId, int expectedVersion, int currentVersion) {
+        super(String.format("El borrador de la instancia %d esta en la version %d, no en la %d",
+                instanceId, currentVersion, expectedVersion));
+        this.currentVersion = currentVersion;
+    }
+
+    public int getCurrentVersion() {
+        return currentVersion;
+    }
+}
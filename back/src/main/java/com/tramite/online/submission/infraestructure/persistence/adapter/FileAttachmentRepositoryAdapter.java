@@ -0,0 +1,104 @@
+package com.tramite.online.submission.infraestructure.persistence.adapter;
+
+import com.tramite.online.submission.domain.model.FileAttachment;
+import com.tramite.online.submission.domain.repository.FileAttachmentRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adapter JDBC de FileAttachmentRepository.
+ * El guardado es un unico statement: upsert del adjunto y de la respuesta de la pregunta
+ * (el hash del contenido), condicionado a que la pregunta sea FILE y la instancia editable.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class FileAttachmentRepositoryAdapter implements FileAttachmentRepository {
+
+    private static final String ACCEPTS_UPLOAD = """
+            SELECT EXISTS (
+                SELECT 1
+                FROM instance_question q
+                JOIN form_instance fi ON fi.id = q.form_instance_id
+                WHERE q.id = ? AND q.form_instance_id = ? AND q.type = 'FILE'
+                  AND fi.status IN ('DRAFT', 'CORRECTION_REQUESTED')
+            )
+            """;
+
+    private static final String SAVE = """
+            WITH target AS (
+                SELECT q.form_instance_id, q.id AS instance_question_id
+                FROM instance_question q
+                JOIN form_instance fi ON fi.id = q.form_instance_id
+                WHERE q.id = ? AND q.form_instance_id = ? AND q.type = 'FILE'
+                  AND fi.status IN ('DRAFT', 'CORRECTION_REQUESTED')
+            ), attachment AS (
+                INSERT INTO instance_attachment (form_instance_id, instance_question_id, content_hash, file_name,
+                                                 content_type, size_bytes, created_at)
+                SELECT form_instance_id, instance_question_id, ?, ?, ?, ?, LOCALTIMESTAMP
+                FROM target
+                ON CONFLICT (form_instance_id, instance_question_id) DO UPDATE SET
+                    content_hash = EXCLUDED.content_hash,
+                    file_name = EXCLUDED.file_name,
+                    content_type = EXCLUDED.content_type,
+                    size_bytes = EXCLUDED.size_bytes,
+                    created_at = EXCLUDED.created_at
+                RETURNING form_instance_id, instance_question_id, content_hash, file_name, content_type,
+                          size_bytes, created_at
+            ), answer AS (
+                INSERT INTO instance_answer (form_instance_id, instance_question_id, value, updated_at)
+                SELECT form_instance_id, instance_question_id, content_hash, created_at
+                FROM attachment
+                ON CONFLICT (form_instance_id, instance_question_id) DO UPDATE SET
+                    value = EXCLUDED.value,
+                    updated_at = EXCLUDED.updated_at
+            )
+            SELECT form_instance_id, instance_question_id, content_hash, file_name, content_type, size_bytes, created_at
+            FROM attachment
+            """;
+
+    private static final String SELECT = """
+            SELECT form_instance_id, instance_question_id, content_hash, file_name, content_type, size_bytes, created_at
+            FROM instance_attachment
+            WHERE form_instance_id = ? AND instance_question_id = ?
+            """;
+
+    private static final RowMapper<FileAttachment> ROW_MAPPER = (rs, rowNum) -> new FileAttachment(
+            rs.getLong("form_instance_id"),
+            rs.getLong("instance_question_id"),
+            rs.getString("content_hash"),
+            rs.getString("file_name"),
+            rs.getString("content_type"),
+            rs.getLong("size_bytes"),
+            rs.getObject("created_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FileAttachmentRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean acceptsUpload(Long instanceId, Long questionId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(ACCEPTS_UPLOAD, Boolean.class, questionId, instanceId));
+    }
+
+    @Override
+    public Optional<FileAttachment> save(FileAttachment attachment) {
+        return jdbcTemplate.query(SAVE, ROW_MAPPER,
+                        attachment.questionId(), attachment.instanceId(), attachment.contentHash(),
+                        attachment.fileName(), attachment.contentType(), attachment.size())
+                .stream().findFirst();
+    }
+
+    @Override
+    public Optional<FileAttachment> find(Long instanceId, Long questionId) {
+        return jdbcTemplate.query(SELECT, ROW_MAPPER, instanceId, questionId).stream().findFirst();
+    }
+}
@@ -0,0 +1,354 @@
+package com.tramite.online.submission.infraestructure.persistence.adapter;
+
+import com.tramite.online.form.api.QuestionRules;
+import com.tramite.online.submission.domain.model.FormInstance;
+import com.tramite.online.submission.domain.model.InstanceQuestions;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Adapter JDBC de FormInstanceRepository.
+ * La materializacion es una sola sentencia: una cadena de CTEs con INSERT ... SELECT por nivel
+ * (instancia, secciones, preguntas, opciones), donde cada nivel toma los ids generados por el
+ * anterior via RETURNING. Un solo round trip sin importar el tamaño del formulario.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class FormInstanceRepositoryAdapter implements FormInstanceRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormInstanceRepositoryAdapter.class);
+
+    /**
+     * Espacio del advisory lock de refill (par de int4, no se cruza con los locks de una sola clave bigint)
+     */
+    private static final int POOL_LOCK = 0x706F6F6C;
+
+    /**
+     * Los INSERT dentro de un WITH se ejecutan siempre, aunque la consulta principal
+     * solo lea la fila de la instancia. Si el formulario no esta publicado fi queda vacio
+     * y ningun nivel inserta filas. generate_series permite materializar varias instancias
+     * (el pool) con la misma sentencia.
+     */
+    private static final String MATERIALIZE = """
+            WITH fi AS (
+                INSERT INTO form_instance (form_config_id, workspace_id, form_version, user_id, status,
+                                           created_at, updated_at)
+                SELECT f.id, f.workspace_id, f.version, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP
+                FROM form_config f
+                CROSS JOIN generate_series(1, ?)
+                WHERE f.id = ? AND f.status = 'PUBLISHED'
+                RETURNING id, form_config_id, form_version, user_id, status, draft_version, created_at, updated_at
+            ), sec AS (
+                INSERT INTO instance_section (form_instance_id, config_section_id, title, description, display_order)
+                SELECT fi.id, s.id, s.title, s.description, s.display_order
+                FROM fi
+                JOIN config_section s ON s.form_config_id = fi.form_config_id
+                RETURNING id, form_instance_id, config_section_id
+            ), q AS (
+                INSERT INTO instance_question (form_instance_id, instance_section_id, config_question_id, text,
+                                               description, type, display_order, required, placeholder, help_text,
+                                               validation_pattern, validation_message, min_length, max_length,
+                                               min_value, max_value, default_value)
+                SELECT sec.form_instance_id, sec.id, cq.id, cq.text, cq.description, cq.type, cq.display_order,
+                       cq.required, cq.placeholder, cq.help_text, cq.validation_pattern, cq.validation_message,
+                       cq.min_length, cq.max_length, cq.min_value, cq.max_value, cq.default_value
+                FROM sec
+                JOIN config_question cq ON cq.config_section_id = sec.config_section_id
+                RETURNING id, form_instance_id, config_question_id
+            ), o AS (
+                INSERT INTO instance_option (form_instance_id, instance_question_id, config_option_id,
+                                             label, value, weight, display_order)
+                SELECT q.form_instance_id, q.id, co.id, co.label, co.value, co.weight, co.display_order
+                FROM q
+                JOIN config_option co ON co.config_question_id = q.config_question_id
+            )
+            SELECT id, form_config_id, form_version, user_id, status, draft_version, created_at, updated_at
+            FROM fi
+            """;
+
+    private static final String CLAIM_POOLED = """
+            UPDATE form_instance
+            SET status = 'DRAFT', user_id = ?, created_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP
+            WHERE id = (
+                SELECT fi.id
+                FROM form_instance fi
+                JOIN form_config f ON f.id = fi.form_config_id AND f.version = fi.form_version
+                WHERE fi.form_config_id = ? AND fi.status = 'POOLED' AND f.status = 'PUBLISHED'
+                ORDER BY fi.id
+                LIMIT 1
+                FOR UPDATE OF fi SKIP LOCKED
+            )
+            RETURNING id, form_config_id, form_version, user_id, status, draft_version, created_at, updated_at
+            """;
+
+    /**
+     * Profundidad actual y cuantas faltan para llegar a min(target, max_size), como mucho batchSize
+     */
+    private static final String MISSING_POOLED = """
+            SELECT c.depth, LEAST(GREATEST(LEAST(?, p.max_size) - c.depth, 0), ?) AS missing
+            FROM instance_pool p
+            CROSS JOIN LATERAL (
+                SELECT count(*)::int AS depth
+                FROM form_instance fi
+                JOIN form_config f ON f.id = fi.form_config_id AND f.version = fi.form_version
+                WHERE fi.form_config_id = p.form_config_id AND fi.status = 'POOLED' AND f.status = 'PUBLISHED'
+            ) c
+            WHERE p.form_config_id = ?
+            """;
+
+    private static final String DELETE_STALE_POOLED = """
+            DELETE FROM form_instance fi
+            WHERE fi.form_config_id = ? AND fi.status = 'POOLED'
+              AND NOT EXISTS (
+                  SELECT 1 FROM form_config f
+                  WHERE f.id = fi.form_config_id AND f.version = fi.form_version AND f.status = 'PUBLISHED'
+              )
+            """;
+
+    /**
+     * Cambio de estado guardado: solo se actualizan las filas que siguen en el estado de origen,
+     * por lo que dos transiciones concurrentes sobre la misma instancia no pueden aplicarse ambas.
+     * Los %s son las columnas extra de cada transicion y su condicion adicional.
+     */
+    private static final String TRANSITION = """
+            UPDATE form_instance fi
+            SET status = ?, updated_at = LOCALTIMESTAMP%s
+            WHERE fi.id = ANY(?) AND fi.status = ?%s
+            RETURNING fi.id, fi.form_config_id, fi.workspace_id, fi.user_id, fi.reviewer_id,
+                      fi.submitted_at, fi.claimed_at, fi.updated_at
+            """;
+
+    private static final String REQUIRED_ANSWERED = """
+
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM instance_question q
+                  LEFT JOIN instance_answer a ON a.form_instance_id = q.form_instance_id AND a.instance_question_id = q.id
+                  WHERE q.form_instance_id = fi.id AND q.required AND (a.value IS NULL OR btrim(a.value) = '')
+              )""";
+
+    private static final Map<SubmissionTransition, String> TRANSITIONS = new EnumMap<>(SubmissionTransition.class);
+
+    static {
+        for (SubmissionTransition transition : SubmissionTransition.values()) {
+            String set = switch (transition) {
+                case SUBMIT -> ", submitted_at = LOCALTIMESTAMP";
+                case TAKE_FOR_REVIEW, RESUME_REVIEW ->
+                        ", reviewer_id = COALESCE(?, fi.reviewer_id), claimed_at = LOCALTIMESTAMP";
+                default -> "";
+            };
+            String guard = transition.requiresCompleteAnswers() ? REQUIRED_ANSWERED : "";
+            TRANSITIONS.put(transition, TRANSITION.formatted(set, guard));
+        }
+    }
+
+    private static final RowMapper<TransitionedSubmission> TRANSITIONED_ROW_MAPPER = (rs, rowNum) ->
+            new TransitionedSubmission(
+                    rs.getLong("id"),
+                    rs.getLong("form_config_id"),
+                    rs.getLong("workspace_id"),
+                    rs.getObject("user_id", Long.class),
+                    rs.getObject("reviewer_id", Long.class),
+                    rs.getObject("submitted_at", LocalDateTime.class),
+                    rs.getObject("claimed_at", LocalDateTime.class),
+                    rs.getObject("updated_at", LocalDateTime.class));
+
+    private static final String SELECT_BY_ID = """
+            SELECT id, form_config_id, form_version, user_id, status, draft_version, created_at, updated_at
+            FROM form_instance
+            WHERE id = ?
+            """;
+
+    private static final String SELECT_QUESTIONS = """
+            SELECT fi.form_config_id, fi.form_version, iq.id AS question_id, iq.config_question_id
+            FROM form_instance fi
+            LEFT JOIN instance_question iq ON iq.form_instance_id = fi.id
+            WHERE fi.id = ?
+            """;
+
+    private static final String SELECT_QUESTION_RULES = """
+            SELECT iq.config_question_id, iq.type, iq.required, iq.min_length, iq.max_length, iq.min_value,
+                   iq.max_value, iq.validation_pattern, iq.validation_message,
+                   array_agg(io.value ORDER BY io.display_order) FILTER (WHERE io.id IS NOT NULL) AS option_values
+            FROM instance_question iq
+            LEFT JOIN instance_option io ON io.instance_question_id = iq.id
+            WHERE iq.form_instance_id = ?
+            GROUP BY iq.id
+            """;
+
+    private static final RowMapper<QuestionRules> QUESTION_RULES_MAPPER = (rs, rowNum) -> {
+        Array options = rs.getArray("option_values");
+        return new QuestionRules(
+                rs.getLong("config_question_id"),
+                rs.getString("type"),
+                rs.getBoolean("required"),
+                rs.getObject("min_length", Integer.class),
+                rs.getObject("max_length", Integer.class),
+                rs.getObject("min_value", Integer.class),
+                rs.getObject("max_value", Integer.class),
+                rs.getString("validation_pattern"),
+                rs.getString("validation_message"),
+                options != null ? Arrays.asList((String[]) options.getArray()) : List.of());
+    };
+
+    private static final RowMapper<FormInstance> ROW_MAPPER = (rs, rowNum) -> {
+        FormInstance instance = new FormInstance(
+                rs.getLong("id"),
+                rs.getLong("form_config_id"),
+                rs.getInt("form_version"),
+                rs.getObject("user_id", Long.class),
+                SubmissionStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+        instance.setDraftVersion(rs.getInt("draft_version"));
+        return instance;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FormInstanceRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<FormInstance> materialize(Long formId, Long userId) {
+        logger.debug("Materializing instance of form {} for user {}", formId, userId);
+        List<FormInstance> instances = jdbcTemplate.query(MATERIALIZE, ROW_MAPPER,
+                userId, SubmissionStatus.DRAFT.name(), 1, formId);
+        return instances.stream().findFirst();
+    }
+
+    @Override
+    public int materializePooled(Long formId, int count) {
+        logger.debug("Materializing {} pooled instances of form {}", count, formId);
+        return jdbcTemplate.query(MATERIALIZE, ROW_MAPPER,
+                null, SubmissionStatus.POOLED.name(), count, formId).size();
+    }
+
+    @Override
+    public Optional<FormInstance> claimPooled(Long formId, Long userId) {
+        return jdbcTemplate.query(CLAIM_POOLED, ROW_MAPPER, userId, formId).stream().findFirst();
+    }
+
+    @Override
+    public boolean tryLockPool(Long formId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?, ?)",
+                Boolean.class, POOL_LOCK, Long.hashCode(formId)));
+    }
+
+    @Override
+    public OptionalInt refillPooled(Long formId, int target, int batchSize) {
+        List<int[]> rows = jdbcTemplate.query(MISSING_POOLED,
+                (rs, rowNum) -> new int[]{rs.getInt("depth"), rs.getInt("missing")}, target, batchSize, formId);
+        if (rows.isEmpty()) {
+            return OptionalInt.empty();
+        }
+        int depth = rows.getFirst()[0];
+        int missing = rows.getFirst()[1];
+        if (missing > 0) {
+            depth += materializePooled(formId, missing);
+            logger.debug("Refilled pool of form {} with {} instances (depth {}, target {})",
+                    formId, missing, depth, target);
+        }
+        return OptionalInt.of(depth);
+    }
+
+    @Override
+    public int deleteStalePooled(Long formId) {
+        return jdbcTemplate.update(DELETE_STALE_POOLED, formId);
+    }
+
+    @Override
+    public int deletePooled(Long formId) {
+        return jdbcTemplate.update(
+                "DELETE FROM form_instance WHERE form_config_id = ? AND status = 'POOLED'", formId);
+    }
+
+    @Override
+    public Optional<FormInstance> findById(Long id) {
+        return jdbcTemplate.query(SELECT_BY_ID, ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Long> findPublishedFormId(String slug) {
+        return jdbcTemplate.queryForList(
+                        "SELECT id FROM form_config WHERE slug = ? AND status = 'PUBLISHED'", Long.class, slug)
+                .stream().findFirst();
+    }
+
+    @Override
+    public Optional<InstanceQuestions> findQuestions(Long instanceId, boolean lock) {
+        String sql = lock ? SELECT_QUESTIONS + "FOR NO KEY UPDATE OF fi\n" : SELECT_QUESTIONS;
+        return jdbcTemplate.query(sql, rs -> {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            Long formId = rs.getLong("form_config_id");
+            int formVersion = rs.getInt("form_version");
+            Map<Long, Long> configQuestionIds = new HashMap<>();
+            do {
+                Long questionId = rs.getObject("question_id", Long.class);
+                if (questionId != null) {
+                    configQuestionIds.put(questionId, rs.getLong("config_question_id"));
+                }
+            } while (rs.next());
+            return Optional.of(new InstanceQuestions(formId, formVersion, configQuestionIds));
+        }, instanceId);
+    }
+
+    @Override
+    public List<QuestionRules> findQuestionRules(Long instanceId) {
+        return jdbcTemplate.query(SELECT_QUESTION_RULES, QUESTION_RULES_MAPPER, instanceId);
+    }
+
+    @Override
+    public List<TransitionedSubmission> transition(Collection<Long> instanceIds, SubmissionTransition transition,
+                                                   Long actorId) {
+        Long[] ids = instanceIds.toArray(Long[]::new);
+        boolean assignsReviewer = transition == SubmissionTransition.TAKE_FOR_REVIEW
+                || transition == SubmissionTransition.RESUME_REVIEW;
+        return jdbcTemplate.query(TRANSITIONS.get(transition), ps -> {
+            int index = 1;
+            ps.setString(index++, transition.getTo().name());
+            if (assignsReviewer) {
+                ps.setObject(index++, actorId, Types.BIGINT);
+            }
+            ps.setArray(index++, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setString(index, transition.getFrom().name());
+        }, TRANSITIONED_ROW_MAPPER);
+    }
+
+    @Override
+    public Map<Long, SubmissionStatus> findStatuses(Collection<Long> instanceIds) {
+        Long[] ids = instanceIds.toArray(Long[]::new);
+        Map<Long, SubmissionStatus> statuses = new HashMap<>();
+        jdbcTemplate.query("SELECT id, status FROM form_instance WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                rs -> {
+                    statuses.put(rs.getLong("id"), SubmissionStatus.valueOf(rs.getString("status")));
+                });
+        return statuses;
+    }
+}
@@ -0,0 +1,82 @@
+package com.tramite.online.submission.infraestructure.persistence.adapter;
+
+import com.tramite.online.submission.domain.model.DraftPatchResult;
+import com.tramite.online.submission.domain.repository.InstanceAnswerRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adapter JDBC de InstanceAnswerRepository.
+ * El autoguardado es una sola sentencia: el UPDATE de draft_version con la version esperada
+ * hace de control optimista y, solo si afecto la fila, el upsert sobre
+ * (form_instance_id, instance_question_id) escribe las respuestas recibidas como arrays.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class InstanceAnswerRepositoryAdapter implements InstanceAnswerRepository {
+
+    private static final String APPLY_DRAFT_PATCH = """
+            WITH v AS (
+                UPDATE form_instance
+                SET draft_version = draft_version + 1, updated_at = LOCALTIMESTAMP
+                WHERE id = ? AND draft_version = ? AND status IN ('DRAFT', 'CORRECTION_REQUESTED')
+                RETURNING id, draft_version
+            ), a AS (
+                INSERT INTO instance_answer (form_instance_id, instance_question_id, value, updated_at)
+                SELECT v.id, p.question_id, p.value, LOCALTIMESTAMP
+                FROM v
+                CROSS JOIN unnest(?::bigint[], ?::text[]) AS p(question_id, value)
+                JOIN instance_question iq ON iq.id = p.question_id
+                WHERE iq.form_instance_id = v.id
+                ON CONFLICT ON CONSTRAINT uk_instance_answer_question DO UPDATE
+                    SET value = EXCLUDED.value, updated_at = EXCLUDED.updated_at
+                RETURNING 1
+            )
+            SELECT v.draft_version, (SELECT count(*) FROM a) AS applied
+            FROM v
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InstanceAnswerRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<DraftPatchResult> applyDraftPatch(Long instanceId, int expectedVersion, Map<Long, String> answers) {
+        Long[] questionIds = new Long[answers.size()];
+        String[] values = new String[answers.size()];
+        int i = 0;
+        for (Map.Entry<Long, String> answer : answers.entrySet()) {
+            questionIds[i] = answer.getKey();
+            values[i++] = answer.getValue();
+        }
+        List<DraftPatchResult> results = jdbcTemplate.query(APPLY_DRAFT_PATCH,
+                ps -> {
+                    ps.setLong(1, instanceId);
+                    ps.setInt(2, expectedVersion);
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", questionIds));
+                    ps.setArray(4, ps.getConnection().createArrayOf("text", values));
+                },
+                (rs, rowNum) -> new DraftPatchResult(rs.getInt("draft_version"), rs.getInt("applied")));
+        return results.stream().findFirst();
+    }
+
+    @Override
+    public Map<Long, String> findAnswers(Long instanceId) {
+        Map<Long, String> answers = new HashMap<>();
+        jdbcTemplate.query("SELECT instance_question_id, value FROM instance_answer WHERE form_instance_id = ?",
+                rs -> {
+                    answers.put(rs.getLong("instance_question_id"), rs.getString("value"));
+                }, instanceId);
+        return answers;
+    }
+}
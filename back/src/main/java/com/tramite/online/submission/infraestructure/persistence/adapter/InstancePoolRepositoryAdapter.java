@@ -0,0 +1,101 @@
+package com.tramite.online.submission.infraestructure.persistence.adapter;
+
+import com.tramite.online.submission.domain.model.InstancePool;
+import com.tramite.online.submission.domain.model.PoolClaimSample;
+import com.tramite.online.submission.domain.repository.InstancePoolRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter JDBC de InstancePoolRepository
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class InstancePoolRepositoryAdapter implements InstancePoolRepository {
+
+    private static final RowMapper<InstancePool> ROW_MAPPER = (rs, rowNum) -> new InstancePool(
+            rs.getLong("form_config_id"),
+            rs.getInt("min_size"),
+            rs.getInt("max_size"));
+
+    private static final String UPSERT = """
+            INSERT INTO instance_pool (form_config_id, min_size, max_size, created_at, updated_at)
+            VALUES (?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            ON CONFLICT (form_config_id) DO UPDATE SET
+                min_size = EXCLUDED.min_size,
+                max_size = EXCLUDED.max_size,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    /**
+     * sampled_claims, sampled_at y claim_rate solo los escribe quien tiene el lock de refill, por eso
+     * pueden leerse de la subconsulta; claims se toma de la fila actualizada para no perder los que
+     * otro nodo sume mientras tanto
+     */
+    private static final String SAMPLE_CLAIMS = """
+            UPDATE instance_pool p
+            SET sampled_claims = p.claims, sampled_at = LOCALTIMESTAMP
+            FROM (
+                SELECT form_config_id, sampled_claims, sampled_at, claim_rate
+                FROM instance_pool
+                WHERE form_config_id = ?
+            ) prev
+            WHERE p.form_config_id = prev.form_config_id
+            RETURNING p.claims - prev.sampled_claims AS claims,
+                      COALESCE(EXTRACT(EPOCH FROM LOCALTIMESTAMP - prev.sampled_at), 0) AS elapsed,
+                      prev.claim_rate
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InstancePoolRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<InstancePool> findAll() {
+        return jdbcTemplate.query("SELECT form_config_id, min_size, max_size FROM instance_pool", ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<InstancePool> findByFormId(Long formId) {
+        return jdbcTemplate.query(
+                "SELECT form_config_id, min_size, max_size FROM instance_pool WHERE form_config_id = ?",
+                ROW_MAPPER, formId).stream().findFirst();
+    }
+
+    @Override
+    public InstancePool save(InstancePool pool) {
+        jdbcTemplate.update(UPSERT, pool.getFormId(), pool.getMinSize(), pool.getMaxSize());
+        return pool;
+    }
+
+    @Override
+    public void delete(Long formId) {
+        jdbcTemplate.update("DELETE FROM instance_pool WHERE form_config_id = ?", formId);
+    }
+
+    @Override
+    public void addClaims(Long formId, long claims) {
+        jdbcTemplate.update("UPDATE instance_pool SET claims = claims + ? WHERE form_config_id = ?", claims, formId);
+    }
+
+    @Override
+    public Optional<PoolClaimSample> sampleClaims(Long formId) {
+        return jdbcTemplate.query(SAMPLE_CLAIMS, (rs, rowNum) -> new PoolClaimSample(
+                rs.getLong("claims"), rs.getDouble("elapsed"), rs.getDouble("claim_rate")), formId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public void saveClaimRate(Long formId, double claimRate) {
+        jdbcTemplate.update("UPDATE instance_pool SET claim_rate = ? WHERE form_config_id = ?", claimRate, formId);
+    }
+}
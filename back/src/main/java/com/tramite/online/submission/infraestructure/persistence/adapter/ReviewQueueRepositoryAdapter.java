@@ -0,0 +1,126 @@
+package com.tramite.online.submission.infraestructure.persistence.adapter;
+
+import com.tramite.online.submission.domain.model.ReviewCase;
+import com.tramite.online.submission.domain.repository.ReviewQueueRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adapter JDBC de la cola de revision.
+ * El claim es una sola sentencia. Recorre los pares (workspace, formulario) con casos en espera
+ * saltando por el indice parcial idx_form_instance_submitted_queue, lee sin bloquear los casos mas
+ * antiguos de cada formulario y los ordena en ronda (primero entre formularios de un workspace,
+ * luego entre workspaces). Recien entonces bloquea en ese orden con FOR UPDATE SKIP LOCKED hasta
+ * juntar limit casos: solo quedan bloqueadas las filas que se actualizan, y un revisor concurrente
+ * saltea esas y sigue con las siguientes en lugar de recibir un lote corto.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class ReviewQueueRepositoryAdapter implements ReviewQueueRepository {
+
+    /**
+     * Sin workspace el rango de workspace_id es [Long.MIN_VALUE, Long.MAX_VALUE]; con workspace es [id, id]
+     */
+    private static final String CLAIM = """
+            WITH RECURSIVE forms AS (
+                (SELECT workspace_id, form_config_id
+                 FROM form_instance
+                 WHERE status = 'SUBMITTED' AND workspace_id BETWEEN ? AND ?
+                 ORDER BY workspace_id, form_config_id
+                 LIMIT 1)
+                UNION ALL
+                SELECT next.workspace_id, next.form_config_id
+                FROM forms
+                CROSS JOIN LATERAL (
+                    SELECT fi.workspace_id, fi.form_config_id
+                    FROM form_instance fi
+                    WHERE fi.status = 'SUBMITTED' AND fi.workspace_id <= ?
+                      AND (fi.workspace_id, fi.form_config_id) > (forms.workspace_id, forms.form_config_id)
+                    ORDER BY fi.workspace_id, fi.form_config_id
+                    LIMIT 1
+                ) next
+            ), candidates AS (
+                SELECT c.id, forms.workspace_id, forms.form_config_id, c.submitted_at
+                FROM forms
+                CROSS JOIN LATERAL (
+                    SELECT fi.id, fi.submitted_at
+                    FROM form_instance fi
+                    WHERE fi.status = 'SUBMITTED'
+                      AND fi.workspace_id = forms.workspace_id AND fi.form_config_id = forms.form_config_id
+                    ORDER BY fi.submitted_at, fi.id
+                    LIMIT ?
+                ) c
+            ), by_form AS (
+                SELECT id, workspace_id, submitted_at,
+                       row_number() OVER (PARTITION BY form_config_id ORDER BY submitted_at, id) AS form_turn
+                FROM candidates
+            ), by_workspace AS (
+                SELECT id, submitted_at,
+                       row_number() OVER (PARTITION BY workspace_id ORDER BY form_turn, submitted_at, id) AS workspace_turn
+                FROM by_form
+            ), chosen AS (
+                SELECT fi.id
+                FROM form_instance fi
+                JOIN by_workspace w ON w.id = fi.id
+                WHERE fi.status = 'SUBMITTED'
+                ORDER BY w.workspace_turn, w.submitted_at, w.id
+                LIMIT ?
+                FOR UPDATE OF fi SKIP LOCKED
+            )
+            UPDATE form_instance fi
+            SET status = 'UNDER_REVIEW', reviewer_id = ?, claimed_at = LOCALTIMESTAMP, updated_at = LOCALTIMESTAMP
+            FROM chosen
+            WHERE fi.id = chosen.id
+            RETURNING fi.id, fi.form_config_id, fi.workspace_id, fi.user_id, fi.reviewer_id, fi.submitted_at, fi.claimed_at
+            """;
+
+    private static final String DEPTH = """
+            SELECT count(*) AS waiting, min(submitted_at) AS oldest
+            FROM form_instance
+            WHERE status = 'SUBMITTED'
+            """;
+
+    private static final RowMapper<ReviewCase> ROW_MAPPER = (rs, rowNum) -> new ReviewCase(
+            rs.getLong("id"),
+            rs.getLong("form_config_id"),
+            rs.getLong("workspace_id"),
+            rs.getObject("user_id", Long.class),
+            rs.getLong("reviewer_id"),
+            rs.getObject("submitted_at", LocalDateTime.class),
+            rs.getObject("claimed_at", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewQueueRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ReviewCase> claim(Long reviewerId, Long workspaceId, int limit) {
+        long fromWorkspace = workspaceId != null ? workspaceId : Long.MIN_VALUE;
+        long toWorkspace = workspaceId != null ? workspaceId : Long.MAX_VALUE;
+        return jdbcTemplate.query(CLAIM, ps -> {
+            ps.setLong(1, fromWorkspace);
+            ps.setLong(2, toWorkspace);
+            ps.setLong(3, toWorkspace);
+            // cada formulario aporta como maximo limit candidatos (leidos sin bloquear)
+            ps.setInt(4, limit);
+            ps.setInt(5, limit);
+            ps.setLong(6, reviewerId);
+        }, ROW_MAPPER);
+    }
+
+    @Override
+    public QueueDepth depth() {
+        return jdbcTemplate.queryForObject(DEPTH, (rs, rowNum) -> new QueueDepth(
+                rs.getLong("waiting"),
+                rs.getObject("oldest", LocalDateTime.class)));
+    }
+}
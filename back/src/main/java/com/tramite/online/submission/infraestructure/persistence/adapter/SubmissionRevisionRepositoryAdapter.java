@@ -0,0 +1,54 @@
+package com.tramite.online.submission.infraestructure.persistence.adapter;
+
+import com.tramite.online.submission.domain.model.SubmissionRevision;
+import com.tramite.online.submission.domain.repository.SubmissionRevisionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adapter JDBC de SubmissionRevisionRepository.
+ * Las revisiones de una transicion masiva se insertan con batchUpdate; con
+ * reWriteBatchedInserts el driver las envia como INSERT multi-fila.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class SubmissionRevisionRepositoryAdapter implements SubmissionRevisionRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT = """
+            INSERT INTO submission_revision (form_instance_id, revised_by, action, previous_status, new_status,
+                                             comment, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SubmissionRevisionRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void saveAll(List<SubmissionRevision> revisions) {
+        if (revisions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, revisions, BATCH_SIZE, (ps, revision) -> {
+            ps.setLong(1, revision.instanceId());
+            ps.setObject(2, revision.revisedBy(), Types.BIGINT);
+            ps.setString(3, revision.action().name());
+            ps.setString(4, revision.previousStatus().name());
+            ps.setString(5, revision.newStatus().name());
+            ps.setString(6, revision.comment());
+            ps.setTimestamp(7, Timestamp.valueOf(revision.createdAt() != null ? revision.createdAt() : LocalDateTime.now()));
+        });
+    }
+}
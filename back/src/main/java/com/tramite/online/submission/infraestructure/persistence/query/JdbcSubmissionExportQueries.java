@@ -0,0 +1,160 @@
+package com.tramite.online.submission.infraestructure.persistence.query;
+
+import com.tramite.online.submission.application.dto.response.SubmissionExportRow;
+import com.tramite.online.submission.application.export.ExportColumn;
+import com.tramite.online.submission.application.query.SubmissionExportQueries;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Adapter JDBC de SubmissionExportQueries. El pivot no se hace en SQL (crosstab con 60 columnas
+ * dinamicas): una sola consulta devuelve una fila por respuesta ordenada por instancia y el handler
+ * las agrupa recorriendo el cursor una vez, reteniendo solo la fila de la instancia actual.
+ * Recorre idx_form_instance_form_id en orden y las respuestas por uk_instance_answer_question,
+ * sin ordenar el resultado completo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class JdbcSubmissionExportQueries implements SubmissionExportQueries {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcSubmissionExportQueries.class);
+
+    private static final String COLUMNS = """
+            SELECT cq.id, cq.text
+            FROM config_section cs
+            JOIN config_question cq ON cq.config_section_id = cs.id
+            WHERE cs.form_config_id = ?
+            ORDER BY cs.display_order, cs.id, cq.display_order, cq.id
+            """;
+
+    private static final String COUNT = """
+            SELECT count(*) FROM form_instance WHERE form_config_id = ? AND status = ANY(?)
+            """;
+
+    private static final String EXPORT = """
+            SELECT fi.id, fi.user_id, fi.status, fi.submitted_at, q.config_question_id, a.value
+            FROM form_instance fi
+            LEFT JOIN instance_answer a ON a.form_instance_id = fi.id
+            LEFT JOIN instance_question q ON q.id = a.instance_question_id
+            WHERE fi.form_config_id = ? AND fi.status = ANY(?) AND fi.id > ?
+            ORDER BY fi.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingTemplate;
+
+    public JdbcSubmissionExportQueries(JdbcTemplate jdbcTemplate,
+                                       DataSource dataSource,
+                                       @Value("${app.submission.export.fetch-size:2000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        // plantilla propia con fetchSize: el driver lee el cursor por bloques y no todo el resultado
+        this.streamingTemplate = new JdbcTemplate(dataSource);
+        this.streamingTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public Optional<Long> findWorkspaceId(Long formId) {
+        return jdbcTemplate.queryForList("SELECT workspace_id FROM form_config WHERE id = ?", Long.class, formId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<ExportColumn> findColumns(Long formId) {
+        return jdbcTemplate.query(COLUMNS,
+                (rs, rowNum) -> new ExportColumn(rs.getLong("id"), rs.getString("text")), formId);
+    }
+
+    @Override
+    public long countInstances(Long formId, Set<SubmissionStatus> statuses) {
+        Long count = jdbcTemplate.queryForObject(COUNT, Long.class, formId, statusArray(statuses));
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public void forEachInstance(Long formId, Set<SubmissionStatus> statuses, List<ExportColumn> columns,
+                                long afterInstanceId, Consumer<SubmissionExportRow> consumer) {
+        logger.debug("Streaming submissions of form {} with statuses {} after instance {}",
+                formId, statuses, afterInstanceId);
+        PivotHandler handler = new PivotHandler(columns, consumer);
+        String[] statusNames = statusArray(statuses);
+        streamingTemplate.query(EXPORT, ps -> {
+            ps.setLong(1, formId);
+            ps.setArray(2, ps.getConnection().createArrayOf("varchar", statusNames));
+            ps.setLong(3, afterInstanceId);
+        }, handler);
+        handler.finish();
+    }
+
+    private static String[] statusArray(Set<SubmissionStatus> statuses) {
+        return statuses.stream().map(SubmissionStatus::name).toArray(String[]::new);
+    }
+
+    /**
+     * Agrupa las filas consecutivas de la misma instancia en una SubmissionExportRow
+     */
+    private static final class PivotHandler implements RowCallbackHandler {
+
+        private final Map<Long, Integer> columnIndex = new HashMap<>();
+        private final int columnCount;
+        private final Consumer<SubmissionExportRow> consumer;
+        private long instanceId = -1;
+        private Long userId;
+        private SubmissionStatus status;
+        private LocalDateTime submittedAt;
+        private String[] answers;
+
+        private PivotHandler(List<ExportColumn> columns, Consumer<SubmissionExportRow> consumer) {
+            for (int i = 0; i < columns.size(); i++) {
+                columnIndex.put(columns.get(i).questionId(), i);
+            }
+            this.columnCount = columns.size();
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (id != instanceId) {
+                finish();
+                instanceId = id;
+                userId = rs.getObject("user_id", Long.class);
+                status = SubmissionStatus.valueOf(rs.getString("status"));
+                submittedAt = rs.getObject("submitted_at", LocalDateTime.class);
+                answers = new String[columnCount];
+            }
+            long questionId = rs.getLong("config_question_id");
+            if (!rs.wasNull()) {
+                Integer index = columnIndex.get(questionId);
+                if (index != null) {
+                    answers[index] = rs.getString("value");
+                }
+            }
+        }
+
+        private void finish() {
+            if (answers != null) {
+                consumer.accept(new SubmissionExportRow(instanceId, userId, status, submittedAt, answers));
+                answers = null;
+            }
+        }
+    }
+}
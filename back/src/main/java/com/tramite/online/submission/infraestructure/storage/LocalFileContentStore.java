@@ -0,0 +1,126 @@
+package com.tramite.online.submission.infraestructure.storage;
+
+import com.tramite.online.submission.domain.model.StoredContent;
+import com.tramite.online.submission.domain.repository.FileContentStore;
+import com.tramite.online.submission.exception.FileTooLargeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Almacen de archivos en disco local direccionado por contenido.
+ * El cuerpo se copia al archivo con FileChannel.transferFrom en bloques, leyendo a traves de un
+ * DigestInputStream: el SHA-256 se calcula en la misma pasada y nunca hay mas de un bloque en memoria.
+ * Cada archivo queda en {dir}/ab/cd/abcd... ; si ya existe uno con el mismo hash se descarta la copia.
+ * El directorio debe persistir entre reinicios (y compartirse entre nodos): al arrancar se valida
+ * que admita escritura.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class LocalFileContentStore implements FileContentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalFileContentStore.class);
+    private static final long CHUNK_BYTES = 1024 * 1024;
+    private static final Pattern SHA_256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path incoming;
+
+    public LocalFileContentStore(@Value("${app.submission.files.dir}") Path root) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.incoming = this.root.resolve("incoming");
+        Files.createDirectories(incoming);
+        if (!Files.isWritable(incoming)) {
+            throw new IllegalStateException("app.submission.files.dir " + this.root + " no tiene permiso de escritura");
+        }
+        logger.info("File answers stored in {}", this.root);
+    }
+
+    @Override
+    public StoredContent store(InputStream content, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            long size;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest));
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = transfer(source, target, maxBytes);
+                target.force(false);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path path = pathOf(hash);
+            if (Files.exists(path)) {
+                return new StoredContent(hash, size, true);
+            }
+            Files.createDirectories(path.getParent());
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException ex) {
+                // otra subida del mismo contenido termino primero
+                return new StoredContent(hash, size, true);
+            }
+            return new StoredContent(hash, size, false);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<Path> locate(String contentHash) {
+        if (contentHash == null || !SHA_256_HEX.matcher(contentHash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(contentHash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * transferFrom desde un canal bloqueante devuelve 0 solo al final del stream.
+     * Cada bloque pide como maximo un byte mas que el limite para detectar el exceso sin leer de mas.
+     */
+    private static long transfer(ReadableByteChannel source, FileChannel target, long maxBytes) throws IOException {
+        long position = 0;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position,
+                Math.min(CHUNK_BYTES, maxBytes + 1 - position))) > 0) {
+            position += transferred;
+            if (position > maxBytes) {
+                throw new FileTooLargeException(maxBytes);
+            }
+        }
+        return position;
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.tramite.online.submission.infraestructure.web.controller;
+
+import com.tramite.online.submission.application.dto.command.UploadFileAnswerCommand;
+import com.tramite.online.submission.application.dto.response.FileAttachmentResponse;
+import com.tramite.online.submission.application.dto.response.FileDownload;
+import com.tramite.online.submission.application.usecases.GetFileAnswerUseCase;
+import com.tramite.online.submission.application.usecases.UploadFileAnswerUseCase;
+import com.tramite.online.submission.domain.model.FileAttachment;
+import com.tramite.online.submission.infraestructure.web.FileRegionWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controlador REST publico para el archivo de una pregunta FILE.
+ * La subida recibe el archivo como cuerpo crudo del pedido (no multipart), que se lee en
+ * streaming directo al almacen; la descarga soporta Range e If-None-Match.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1/public/instances/{instanceId}/questions/{questionId}/file")
+public class FileAnswerController {
+
+    private final Logger logger = LoggerFactory.getLogger(FileAnswerController.class);
+
+    private final UploadFileAnswerUseCase uploadFileAnswerUseCase;
+    private final GetFileAnswerUseCase getFileAnswerUseCase;
+    private final FileRegionWriter fileRegionWriter;
+
+    public FileAnswerController(UploadFileAnswerUseCase uploadFileAnswerUseCase,
+                                GetFileAnswerUseCase getFileAnswerUseCase,
+                                FileRegionWriter fileRegionWriter) {
+        this.uploadFileAnswerUseCase = uploadFileAnswerUseCase;
+        this.getFileAnswerUseCase = getFileAnswerUseCase;
+        this.fileRegionWriter = fileRegionWriter;
+    }
+
+    /**
+     * Sube (o reemplaza) el archivo. El nombre original viaja en el parametro fileName y el tipo
+     * en Content-Type; responde 413 si supera el tamaño maximo.
+     */
+    @PutMapping
+    public ResponseEntity<FileAttachmentResponse> upload(
+            @PathVariable Long instanceId,
+            @PathVariable Long questionId,
+            @RequestParam(required = false) String fileName,
+            HttpServletRequest request) throws IOException {
+        logger.info("Upload file for question {} of instance {} ({} bytes declared)",
+                questionId, instanceId, request.getContentLengthLong());
+        UploadFileAnswerCommand command = new UploadFileAnswerCommand(instanceId, questionId, fileName,
+                request.getContentType(), request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(uploadFileAnswerUseCase.execute(command));
+    }
+
+    @RequestMapping(method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void download(
+            @PathVariable Long instanceId,
+            @PathVariable Long questionId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        FileDownload download = getFileAnswerUseCase.execute(instanceId, questionId);
+        FileAttachment attachment = download.attachment();
+
+        // el contenido esta direccionado por hash: el ETag nunca cambia para un mismo contenido
+        String etag = "\"" + attachment.contentHash() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=3600");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(attachment.contentType());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.fileName(), StandardCharsets.UTF_8).build().toString());
+        fileRegionWriter.write(download.path(), etag, request, response);
+    }
+}
@@ -0,0 +1,56 @@
+package com.tramite.online.submission.infraestructure.web.controller;
+
+import com.tramite.online.submission.application.dto.command.ConfigureInstancePoolCommand;
+import com.tramite.online.submission.application.dto.response.InstancePoolResponse;
+import com.tramite.online.submission.application.usecases.ConfigureInstancePoolUseCase;
+import com.tramite.online.submission.application.usecases.GetInstancePoolUseCase;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST (admin) del pool de instancias pre-generadas de un formulario
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1/forms/{formId}/instance-pool")
+public class InstancePoolController {
+
+    private final Logger logger = LoggerFactory.getLogger(InstancePoolController.class);
+
+    private final ConfigureInstancePoolUseCase configureInstancePoolUseCase;
+    private final GetInstancePoolUseCase getInstancePoolUseCase;
+
+    public InstancePoolController(ConfigureInstancePoolUseCase configureInstancePoolUseCase,
+                                  GetInstancePoolUseCase getInstancePoolUseCase) {
+        this.configureInstancePoolUseCase = configureInstancePoolUseCase;
+        this.getInstancePoolUseCase = getInstancePoolUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<InstancePoolResponse> getInstancePool(@PathVariable Long formId) {
+        return ResponseEntity.ok(getInstancePoolUseCase.execute(formId));
+    }
+
+    @PutMapping
+    public ResponseEntity<InstancePoolResponse> configureInstancePool(
+            @PathVariable Long formId,
+            @Valid @RequestBody ConfigureInstancePoolCommand command) {
+        logger.info("Configure instance pool of form {}: {}", formId, command);
+        configureInstancePoolUseCase.execute(new ConfigureInstancePoolCommand(
+                formId, true, command.minSize(), command.maxSize()));
+        return ResponseEntity.ok(getInstancePoolUseCase.execute(formId));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> removeInstancePool(@PathVariable Long formId) {
+        logger.info("Remove instance pool of form {}", formId);
+        configureInstancePoolUseCase.execute(new ConfigureInstancePoolCommand(formId, false, 0, 0));
+        return ResponseEntity.noContent().build();
+    }
+}
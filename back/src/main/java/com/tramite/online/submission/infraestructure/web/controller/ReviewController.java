@@ -0,0 +1,107 @@
+package com.tramite.online.submission.infraestructure.web.controller;
+
+import com.tramite.online.submission.application.dto.command.BulkTransitionCommand;
+import com.tramite.online.submission.application.dto.command.TakeForReviewCommand;
+import com.tramite.online.submission.application.dto.command.TransitionSubmissionCommand;
+import com.tramite.online.submission.application.dto.response.BulkTransitionResponse;
+import com.tramite.online.submission.application.dto.response.ReviewCaseResponse;
+import com.tramite.online.submission.application.dto.response.SubmissionTransitionResponse;
+import com.tramite.online.submission.application.usecases.BulkTransitionSubmissionsUseCase;
+import com.tramite.online.submission.application.usecases.TakeForReviewUseCase;
+import com.tramite.online.submission.application.usecases.TransitionSubmissionUseCase;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST del revisor: cola de revision y decisiones sobre instancias enviadas
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ReviewController {
+
+    private final Logger logger = LoggerFactory.getLogger(ReviewController.class);
+
+    private final TakeForReviewUseCase takeForReviewUseCase;
+    private final TransitionSubmissionUseCase transitionSubmissionUseCase;
+    private final BulkTransitionSubmissionsUseCase bulkTransitionSubmissionsUseCase;
+
+    public ReviewController(TakeForReviewUseCase takeForReviewUseCase,
+                            TransitionSubmissionUseCase transitionSubmissionUseCase,
+                            BulkTransitionSubmissionsUseCase bulkTransitionSubmissionsUseCase) {
+        this.takeForReviewUseCase = takeForReviewUseCase;
+        this.transitionSubmissionUseCase = transitionSubmissionUseCase;
+        this.bulkTransitionSubmissionsUseCase = bulkTransitionSubmissionsUseCase;
+    }
+
+    /**
+     * Toma hasta limit casos para el revisor; una lista vacia indica que no hay casos en espera
+     */
+    @PostMapping("/review-queue/claim")
+    public ResponseEntity<List<ReviewCaseResponse>> claim(
+            @RequestParam Long reviewerId,
+            @RequestParam(required = false) Long workspaceId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(takeForReviewUseCase.execute(new TakeForReviewCommand(reviewerId, workspaceId, limit)));
+    }
+
+    @PostMapping("/instances/{instanceId}/review")
+    public ResponseEntity<SubmissionTransitionResponse> review(@PathVariable Long instanceId,
+                                                               @RequestParam Long reviewerId) {
+        return transition(instanceId, SubmissionTransition.TAKE_FOR_REVIEW, reviewerId, null);
+    }
+
+    @PostMapping("/instances/{instanceId}/resume-review")
+    public ResponseEntity<SubmissionTransitionResponse> resumeReview(@PathVariable Long instanceId,
+                                                                     @RequestParam Long reviewerId) {
+        return transition(instanceId, SubmissionTransition.RESUME_REVIEW, reviewerId, null);
+    }
+
+    @PostMapping("/instances/{instanceId}/approve")
+    public ResponseEntity<SubmissionTransitionResponse> approve(@PathVariable Long instanceId,
+                                                                @RequestParam Long reviewerId,
+                                                                @RequestParam(required = false) String comment) {
+        return transition(instanceId, SubmissionTransition.APPROVE, reviewerId, comment);
+    }
+
+    @PostMapping("/instances/{instanceId}/reject")
+    public ResponseEntity<SubmissionTransitionResponse> reject(@PathVariable Long instanceId,
+                                                               @RequestParam Long reviewerId,
+                                                               @RequestParam(required = false) String comment) {
+        return transition(instanceId, SubmissionTransition.REJECT, reviewerId, comment);
+    }
+
+    @PostMapping("/instances/{instanceId}/request-correction")
+    public ResponseEntity<SubmissionTransitionResponse> requestCorrection(@PathVariable Long instanceId,
+                                                                          @RequestParam Long reviewerId,
+                                                                          @RequestParam(required = false) String comment) {
+        return transition(instanceId, SubmissionTransition.REQUEST_CORRECTION, reviewerId, comment);
+    }
+
+    /**
+     * Aplica la misma decision a un lote de instancias. Responde 200 aunque algunas no cambien:
+     * cada una figura en applied o en rejected con su motivo.
+     */
+    @PostMapping("/instances/transitions")
+    public ResponseEntity<BulkTransitionResponse> bulkTransition(@Valid @RequestBody BulkTransitionCommand command) {
+        logger.info("Bulk {} of {} instances by reviewer {}",
+                command.transition(), command.instanceIds().size(), command.reviewerId());
+        return ResponseEntity.ok(bulkTransitionSubmissionsUseCase.execute(command));
+    }
+
+    private ResponseEntity<SubmissionTransitionResponse> transition(Long instanceId, SubmissionTransition transition,
+                                                                    Long reviewerId, String comment) {
+        logger.info("{} instance {} by reviewer {}", transition, instanceId, reviewerId);
+        return ResponseEntity.ok(transitionSubmissionUseCase.execute(
+                new TransitionSubmissionCommand(instanceId, transition, reviewerId, comment)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.tramite.online.submission.infraestructure.web.controller;
+
+import com.tramite.online.submission.application.dto.command.GenerateFormInstanceCommand;
+import com.tramite.online.submission.application.dto.command.SaveDraftCommand;
+import com.tramite.online.submission.application.dto.command.TransitionSubmissionCommand;
+import com.tramite.online.submission.application.dto.response.DraftSaveResponse;
+import com.tramite.online.submission.application.dto.response.FormInstanceResponse;
+import com.tramite.online.submission.application.dto.response.SubmissionTransitionResponse;
+import com.tramite.online.submission.application.usecases.GenerateFormInstanceUseCase;
+import com.tramite.online.submission.application.usecases.SaveDraftUseCase;
+import com.tramite.online.submission.application.usecases.TransitionSubmissionUseCase;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST publico del ciudadano para iniciar y completar formularios
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1/public")
+public class SubmissionController {
+
+    private final Logger logger = LoggerFactory.getLogger(SubmissionController.class);
+
+    private final GenerateFormInstanceUseCase generateFormInstanceUseCase;
+    private final SaveDraftUseCase saveDraftUseCase;
+    private final TransitionSubmissionUseCase transitionSubmissionUseCase;
+
+    public SubmissionController(GenerateFormInstanceUseCase generateFormInstanceUseCase,
+                                SaveDraftUseCase saveDraftUseCase,
+                                TransitionSubmissionUseCase transitionSubmissionUseCase) {
+        this.generateFormInstanceUseCase = generateFormInstanceUseCase;
+        this.saveDraftUseCase = saveDraftUseCase;
+        this.transitionSubmissionUseCase = transitionSubmissionUseCase;
+    }
+
+    @PostMapping("/forms/{slug}/start")
+    public ResponseEntity<FormInstanceResponse> startForm(
+            @PathVariable String slug,
+            @RequestParam(required = false) Long userId) {
+        logger.info("Start form {} for user {}", slug, userId);
+        GenerateFormInstanceCommand command = GenerateFormInstanceCommand.ofSlug(slug, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(generateFormInstanceUseCase.execute(command));
+    }
+
+    /**
+     * Autoguardado parcial: solo las respuestas cambiadas y la version del borrador del cliente.
+     * Responde 409 si otro guardado ya avanzo la version. Con X-Draft-Session los guardados del
+     * mismo cliente se agrupan y la respuesta espera la ventana de agrupacion.
+     */
+    @PatchMapping("/instances/{instanceId}/draft")
+    public ResponseEntity<DraftSaveResponse> saveDraft(
+            @PathVariable Long instanceId,
+            @RequestHeader(value = "X-Draft-Session", required = false) String sessionId,
+            @Valid @RequestBody SaveDraftCommand command) {
+        SaveDraftCommand commandWithId = new SaveDraftCommand(instanceId, sessionId, command.version(),
+                command.answers());
+        return ResponseEntity.ok(saveDraftUseCase.execute(commandWithId));
+    }
+
+    /**
+     * Envia el formulario; responde 400 si quedan preguntas obligatorias sin responder
+     */
+    @PostMapping("/instances/{instanceId}/submit")
+    public ResponseEntity<SubmissionTransitionResponse> submit(
+            @PathVariable Long instanceId,
+            @RequestParam(required = false) Long userId) {
+        logger.info("Submit instance {} by user {}", instanceId, userId);
+        return ResponseEntity.ok(transitionSubmissionUseCase.execute(
+                new TransitionSubmissionCommand(instanceId, SubmissionTransition.SUBMIT, userId, null)));
+    }
+
+    /**
+     * Reenvia el formulario corregido tras un pedido de correccion del revisor
+     */
+    @PutMapping("/instances/{instanceId}/correct")
+    public ResponseEntity<SubmissionTransitionResponse> correct(
+            @PathVariable Long instanceId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String comment) {
+        logger.info("Correct instance {} by user {}", instanceId, userId);
+        return ResponseEntity.ok(transitionSubmissionUseCase.execute(
+                new TransitionSubmissionCommand(instanceId, SubmissionTransition.CORRECT, userId, comment)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.tramite.online.submission.infraestructure.web.controller;
+
+import com.tramite.online.job.api.JobView;
+import com.tramite.online.submission.application.dto.command.ExportSubmissionsCommand;
+import com.tramite.online.submission.application.export.ExportProgressListener;
+import com.tramite.online.submission.application.export.SubmissionExportFormat;
+import com.tramite.online.submission.application.usecases.ExportSubmissionsUseCase;
+import com.tramite.online.submission.application.usecases.GetSubmissionExportFileUseCase;
+import com.tramite.online.submission.application.usecases.SubmitSubmissionExportJobUseCase;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Controlador REST (admin) para exportar las respuestas de un formulario
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/v1/forms/{formId}/submissions")
+public class SubmissionExportController {
+
+    private final Logger logger = LoggerFactory.getLogger(SubmissionExportController.class);
+
+    private final ExportSubmissionsUseCase exportSubmissionsUseCase;
+    private final SubmitSubmissionExportJobUseCase submitSubmissionExportJobUseCase;
+    private final GetSubmissionExportFileUseCase getSubmissionExportFileUseCase;
+
+    public SubmissionExportController(ExportSubmissionsUseCase exportSubmissionsUseCase,
+                                      SubmitSubmissionExportJobUseCase submitSubmissionExportJobUseCase,
+                                      GetSubmissionExportFileUseCase getSubmissionExportFileUseCase) {
+        this.exportSubmissionsUseCase = exportSubmissionsUseCase;
+        this.submitSubmissionExportJobUseCase = submitSubmissionExportJobUseCase;
+        this.getSubmissionExportFileUseCase = getSubmissionExportFileUseCase;
+    }
+
+    /**
+     * Una fila por instancia y una columna por pregunta; status filtra por estado (por defecto las enviadas)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSubmissions(
+            @PathVariable Long formId,
+            @RequestParam(defaultValue = "CSV") SubmissionExportFormat format,
+            @RequestParam(required = false) Set<SubmissionStatus> status) {
+        logger.info("Export submissions of form {} as {} (statuses: {})", formId, format, status);
+        ExportSubmissionsCommand command = new ExportSubmissionsCommand(formId, format, status);
+        StreamingResponseBody body = out -> exportSubmissionsUseCase.execute(command, out, ExportProgressListener.NONE);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"form-" + formId + "-submissions." + format.getExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Encola la exportacion como trabajo asincrono; el avance se consulta en /api/v1/jobs/{jobId}
+     */
+    @PostMapping("/export-jobs")
+    public ResponseEntity<JobView> submitExportJob(
+            @PathVariable Long formId,
+            @RequestParam(defaultValue = "CSV") SubmissionExportFormat format,
+            @RequestParam(required = false) Set<SubmissionStatus> status) {
+        logger.info("Queue export of form {} as {} (statuses: {})", formId, format, status);
+        JobView job = submitSubmissionExportJobUseCase.execute(new ExportSubmissionsCommand(formId, format, status));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/jobs/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping("/export-jobs/{jobId}/file")
+    public ResponseEntity<Resource> downloadExportJob(@PathVariable Long formId, @PathVariable Long jobId) {
+        Path file = getSubmissionExportFileUseCase.execute(formId, jobId);
+        String fileName = file.getFileName().toString();
+        SubmissionExportFormat format = fileName.endsWith("." + SubmissionExportFormat.XLSX.getExtension())
+                ? SubmissionExportFormat.XLSX
+                : SubmissionExportFormat.CSV;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,22 @@
+package com.tramite.online.workspace.application.dto.command;
+
+import com.tramite.online.workspace.application.importer.MemberImportFormat;
+
+import java.io.InputStream;
+
+/**
+ * Record para agregar miembros de forma masiva a un workSpace
+ * @param workSpaceId
+ * @param format formato del contenido (CSV o NDJSON)
+ * @param content contenido a importar, se lee en streaming
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record BulkAddMembersCommand(
+        Long workSpaceId,
+        MemberImportFormat format,
+        InputStream content
+) {
+}
@@ -0,0 +1,21 @@
+package com.tramite.online.workspace.application.dto.command;
+
+import com.tramite.online.workspace.application.export.ExportFormat;
+
+/**
+ * Record para exportar todos los WorkSpaces
+ * @param format formato de salida (NDJSON o CSV)
+ * @param includeMembers incluir los miembros de cada WorkSpace
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public record ExportWorkSpacesCommand(
+        ExportFormat format,
+        boolean includeMembers
+) {
+    public ExportWorkSpacesCommand {
+        format = format != null ? format : ExportFormat.NDJSON;
+    }
+}
@@ -1,15 +1,27 @@
 package com.tramite.online.workspace.application.dto.command;
 
+import com.tramite.online.common.models.PagedResult;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
 /**
  * Listado de Miembros por el id del WorkSpace
  * @param workSpaceId
+ * @param cursor cursor opaco de la pagina anterior, null para la primera pagina
+ * @param size tamaño de pagina, se normaliza con PagedResult.pageSize
  */
 public record ListMembersByWorkSpaceCommand(
         @NotNull(message = "El id del Espacio de Trabajo no puede ser nulo")
         @Positive(message = "El ID del Espacio de Trabajo debe ser positivo")
-        Long workSpaceId
+        Long workSpaceId,
+        String cursor,
+        Integer size
 ) {
+    public ListMembersByWorkSpaceCommand {
+        size = PagedResult.pageSize(size);
+    }
+
+    public ListMembersByWorkSpaceCommand(Long workSpaceId) {
+        this(workSpaceId, null, null);
+    }
 }
@@ -1,5 +1,6 @@
 package com.tramite.online.workspace.application.dto.command;
 
+import com.tramite.online.common.models.PagedResult;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
@@ -7,9 +8,21 @@ import jakarta.validation.constraints.Positive;
 /**
  * Listar WorkSpaces de un propietario
  * @param ownerId
+ * @param cursor cursor opaco de la pagina anterior, null para la primera pagina
+ * @param size tamaño de pagina, se normaliza con PagedResult.pageSize
  */
 public record ListWorkSpacesByOwnerCommand(
         @NotNull(message = "El ID del propietario es obligatorio")
         @Positive(message = "El ID del propietario debe ser un número positivo")
-        Long ownerId
-) {}
+        Long ownerId,
+        String cursor,
+        Integer size
+) {
+    public ListWorkSpacesByOwnerCommand {
+        size = PagedResult.pageSize(size);
+    }
+
+    public ListWorkSpacesByOwnerCommand(Long ownerId) {
+        this(ownerId, null, null);
+    }
+}
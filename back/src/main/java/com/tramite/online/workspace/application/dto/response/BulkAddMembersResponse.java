@@ -0,0 +1,16 @@
+package com.tramite.online.workspace.application.dto.response;
+
+/**
+ * Response de la importacion masiva de miembros
+ * @param workSpaceId
+ * @param received cantidad de lineas de miembros recibidas
+ * @param imported cantidad de miembros insertados
+ * @param skipped cantidad de miembros que ya existian o estaban repetidos
+ */
+public record BulkAddMembersResponse(
+        Long workSpaceId,
+        int received,
+        int imported,
+        int skipped
+) {
+}
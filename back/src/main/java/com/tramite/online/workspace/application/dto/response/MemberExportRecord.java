@@ -0,0 +1,18 @@
+package com.tramite.online.workspace.application.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Miembro dentro de una fila de exportacion de WorkSpaces
+ * @param memberId
+ * @param userId
+ * @param role
+ * @param joinedAt
+ */
+public record MemberExportRecord(
+        Long memberId,
+        Long userId,
+        String role,
+        LocalDateTime joinedAt
+) {
+}
@@ -0,0 +1,27 @@
+package com.tramite.online.workspace.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fila de exportacion de un WorkSpace; members es null si no se pidieron los miembros
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WorkSpaceExportRecord(
+        Long workSpaceId,
+        String name,
+        String description,
+        boolean active,
+        boolean archived,
+        Long ownerId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<MemberExportRecord> members
+) {
+}
@@ -1,5 +1,7 @@
 package com.tramite.online.workspace.application.dto.response;
 
+import com.tramite.online.workspace.domain.model.WorkSpace;
+
 import java.time.LocalDateTime;
 
 /**
@@ -29,4 +31,17 @@ public record WorkSpaceResponse(
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
+
+    public static WorkSpaceResponse from(WorkSpace workSpace) {
+        return new WorkSpaceResponse(
+                workSpace.getId(),
+                workSpace.getName(),
+                workSpace.getDescription(),
+                workSpace.isActive(),
+                workSpace.isArchived(),
+                workSpace.getOwnerId(),
+                workSpace.getCreatedAt(),
+                workSpace.getUpdatedAt()
+        );
+    }
 }
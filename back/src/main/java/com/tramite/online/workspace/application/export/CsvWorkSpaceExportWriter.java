@@ -0,0 +1,100 @@
+package com.tramite.online.workspace.application.export;
+
+import com.tramite.online.workspace.application.dto.response.MemberExportRecord;
+import com.tramite.online.workspace.application.dto.response.WorkSpaceExportRecord;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV con cabecera. Sin miembros es una fila por WorkSpace; con miembros es una
+ * fila por (WorkSpace, miembro), y un WorkSpace sin miembros sale con las columnas
+ * de miembro vacias.
+ */
+public class CsvWorkSpaceExportWriter implements WorkSpaceExportWriter {
+
+    private static final String HEADER =
+            "workspace_id,name,description,active,archived,owner_id,created_at,updated_at";
+    private static final String MEMBER_HEADER = ",member_id,user_id,role,joined_at";
+
+    private final BufferedWriter writer;
+    private final boolean includeMembers;
+    private boolean headerWritten;
+
+    public CsvWorkSpaceExportWriter(OutputStream out, boolean includeMembers) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        this.includeMembers = includeMembers;
+    }
+
+    @Override
+    public void write(WorkSpaceExportRecord record) throws IOException {
+        if (!headerWritten) {
+            writer.write(includeMembers ? HEADER + MEMBER_HEADER : HEADER);
+            writer.newLine();
+            headerWritten = true;
+        }
+        if (!includeMembers) {
+            writeWorkSpace(record);
+            writer.newLine();
+            return;
+        }
+        if (record.members() == null || record.members().isEmpty()) {
+            writeWorkSpace(record);
+            writer.write(",,,,");
+            writer.newLine();
+            return;
+        }
+        for (MemberExportRecord member : record.members()) {
+            writeWorkSpace(record);
+            writer.write(',');
+            writeValue(member.memberId());
+            writer.write(',');
+            writeValue(member.userId());
+            writer.write(',');
+            writeValue(member.role());
+            writer.write(',');
+            writeValue(member.joinedAt());
+            writer.newLine();
+        }
+    }
+
+    private void writeWorkSpace(WorkSpaceExportRecord record) throws IOException {
+        writeValue(record.workSpaceId());
+        writer.write(',');
+        writeValue(record.name());
+        writer.write(',');
+        writeValue(record.description());
+        writer.write(',');
+        writeValue(record.active());
+        writer.write(',');
+        writeValue(record.archived());
+        writer.write(',');
+        writeValue(record.ownerId());
+        writer.write(',');
+        writeValue(record.createdAt());
+        writer.write(',');
+        writeValue(record.updatedAt());
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
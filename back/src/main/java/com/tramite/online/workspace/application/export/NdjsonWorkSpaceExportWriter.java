@@ -0,0 +1,32 @@
+package com.tramite.online.workspace.application.export;
+
+import com.tramite.online.workspace.application.dto.response.WorkSpaceExportRecord;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Un objeto JSON por WorkSpace y por linea, con sus miembros anidados
+ */
+public class NdjsonWorkSpaceExportWriter implements WorkSpaceExportWriter {
+
+    private final OutputStream out;
+    private final JsonMapper jsonMapper;
+
+    public NdjsonWorkSpaceExportWriter(OutputStream out, JsonMapper jsonMapper) {
+        this.out = out;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void write(WorkSpaceExportRecord record) throws IOException {
+        out.write(jsonMapper.writeValueAsBytes(record));
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
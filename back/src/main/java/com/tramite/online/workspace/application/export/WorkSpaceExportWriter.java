@@ -0,0 +1,15 @@
+package com.tramite.online.workspace.application.export;
+
+import com.tramite.online.workspace.application.dto.response.WorkSpaceExportRecord;
+
+import java.io.IOException;
+
+/**
+ * Escribe filas de exportacion en el stream de salida a medida que llegan
+ */
+public interface WorkSpaceExportWriter {
+
+    void write(WorkSpaceExportRecord record) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,22 @@
+package com.tramite.online.workspace.application.importer;
+
+/**
+ * Formatos aceptados para la importacion masiva de miembros
+ */
+public enum MemberImportFormat {
+
+    /** Una linea por miembro: userId,role (la cabecera es opcional) */
+    CSV("text/csv"),
+    /** Un objeto JSON por linea: {"userId":1,"role":"EDITOR"} */
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    MemberImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,9 @@
+package com.tramite.online.workspace.application.importer;
+
+/**
+ * Linea leida del archivo de importacion de miembros
+ * @param userId
+ * @param role
+ */
+public record MemberImportLine(Long userId, String role) {
+}
@@ -0,0 +1,134 @@
+package com.tramite.online.workspace.application.importer;
+
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.workspace.domain.model.WorkSpaceMember;
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee en bloques el contenido CSV o NDJSON de una importacion de miembros
+ * sin cargar el archivo completo en memoria. Las lineas vacias y el BOM inicial se ignoran;
+ * en CSV la cabecera se reconoce en la primera linea con contenido. Una linea invalida
+ * corta la importacion con ValidationException.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class MemberImportReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final MemberImportFormat format;
+    private final JsonMapper jsonMapper;
+    private final Long workSpaceId;
+    private int lineNumber;
+    private boolean contentSeen;
+
+    public MemberImportReader(InputStream content, MemberImportFormat format,
+                              JsonMapper jsonMapper, Long workSpaceId) {
+        this.reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        this.workSpaceId = workSpaceId;
+    }
+
+    /**
+     * Devuelve hasta chunkSize miembros; una lista vacia indica fin de archivo
+     */
+    public List<WorkSpaceMember> nextChunk(int chunkSize) {
+        List<WorkSpaceMember> chunk = new ArrayList<>(chunkSize);
+        try {
+            String line;
+            while (chunk.size() < chunkSize && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                boolean first = !contentSeen;
+                contentSeen = true;
+                MemberImportLine parsed = parse(line.strip(), first);
+                if (parsed != null) {
+                    chunk.add(new WorkSpaceMember(workSpaceId, parsed.userId(), toRole(parsed.role())));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return chunk;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    private MemberImportLine parse(String line, boolean first) {
+        return format == MemberImportFormat.CSV ? parseCsv(line, first) : parseNdjson(line);
+    }
+
+    /**
+     * first indica la primera linea con contenido, la unica que puede ser cabecera
+     */
+    private MemberImportLine parseCsv(String line, boolean first) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            throw invalid("se esperaba userId,role");
+        }
+        String userId = line.substring(0, comma).strip();
+        String role = line.substring(comma + 1).strip();
+        if (first && !userId.isEmpty() && !Character.isDigit(userId.charAt(0))) {
+            // cabecera
+            return null;
+        }
+        try {
+            return new MemberImportLine(Long.parseLong(userId), role);
+        } catch (NumberFormatException e) {
+            throw invalid("userId no es numerico");
+        }
+    }
+
+    private MemberImportLine parseNdjson(String line) {
+        try {
+            MemberImportLine parsed = jsonMapper.readValue(line, MemberImportLine.class);
+            if (parsed.userId() == null) {
+                throw invalid("userId es obligatorio");
+            }
+            return parsed;
+        } catch (JacksonException e) {
+            throw invalid("JSON invalido");
+        }
+    }
+
+    private WorkspaceRole toRole(String role) {
+        if (role == null || role.isBlank()) {
+            throw invalid("role es obligatorio");
+        }
+        try {
+            return WorkspaceRole.valueOf(role.strip().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw invalid("role desconocido '" + role + "'");
+        }
+    }
+
+    private ValidationException invalid(String detail) {
+        return new ValidationException("linea " + lineNumber, detail);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
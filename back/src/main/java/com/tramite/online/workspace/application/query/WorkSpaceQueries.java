@@ -0,0 +1,34 @@
+package com.tramite.online.workspace.application.query;
+
+import com.tramite.online.workspace.application.dto.response.WorkSpaceExportRecord;
+import com.tramite.online.workspace.application.dto.response.WorkSpaceResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Puerto(interfaz) de lectura de WorkSpaces.
+ * Devuelve directamente los records de respuesta, sin pasar por entidades JPA
+ * ni por el modelo de dominio; solo para consultas que no modifican estado.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface WorkSpaceQueries {
+
+    /**
+     * Pagina keyset de los workspaces de un propietario ordenados por (createdAt, id).
+     * Con createdAfter e idAfter nulos devuelve la primera pagina.
+     */
+    List<WorkSpaceResponse> findByOwnerId(Long ownerId, LocalDateTime createdAfter, Long idAfter, int limit);
+
+    /**
+     * Recorre todos los workspaces ordenados por id con un cursor del servidor,
+     * entregando uno por vez al consumer sin materializar la lista completa.
+     * Con includeMembers los miembros se leen en la misma consulta (LEFT JOIN ordenado).
+     * Debe ejecutarse dentro de una transaccion para que el cursor no se lea completo.
+     */
+    void forEachWorkSpace(boolean includeMembers, Consumer<WorkSpaceExportRecord> consumer);
+}
@@ -48,20 +48,7 @@ public class ArchiveWorkSpaceUseCase {
         WorkSpace archive = this.workSpaceRepository.save(workSpace);
         publisher.publishEvent(new WorkSpaceArchived(archive));
 
-        return this.toResponse(archive);
-    }
-
-    private WorkSpaceResponse toResponse(WorkSpace workSpace) {
-        return new WorkSpaceResponse(
-                workSpace.getId(),
-                workSpace.getName(),
-                workSpace.getDescription(),
-                workSpace.isActive(),
-                workSpace.isArchived(),
-                workSpace.getOwnerId(),
-                workSpace.getCreatedAt(),
-                workSpace.getUpdatedAt()
-        );
+        return WorkSpaceResponse.from(archive);
     }
 
 }
@@ -0,0 +1,80 @@
+package com.tramite.online.workspace.application.usecases;
+
+import com.tramite.online.workspace.application.dto.command.BulkAddMembersCommand;
+import com.tramite.online.workspace.application.dto.response.BulkAddMembersResponse;
+import com.tramite.online.workspace.application.importer.MemberImportReader;
+import com.tramite.online.workspace.domain.event.MembersImported;
+import com.tramite.online.workspace.domain.model.WorkSpaceMember;
+import com.tramite.online.workspace.domain.repository.WorkSpaceMemberRepository;
+import com.tramite.online.workspace.domain.repository.WorkSpaceRepository;
+import com.tramite.online.workspace.exception.WorkSpaceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Caso de uso que permite agregar miembros de forma masiva al espacio de trabajo.
+ * Lee el contenido en bloques y cada bloque se inserta con una unica sentencia
+ * que descarta los miembros ya existentes; al final publica un solo evento.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class BulkAddMembersUseCase {
+
+    private final WorkSpaceRepository workSpaceRepository;
+    private final WorkSpaceMemberRepository workSpaceMemberRepository;
+    private final ApplicationEventPublisher publisher;
+    private final JsonMapper jsonMapper;
+    private final int chunkSize;
+    private final Logger logger = LoggerFactory.getLogger(BulkAddMembersUseCase.class);
+
+    public BulkAddMembersUseCase(WorkSpaceRepository workSpaceRepository,
+                                 WorkSpaceMemberRepository workSpaceMemberRepository,
+                                 ApplicationEventPublisher publisher,
+                                 JsonMapper jsonMapper,
+                                 @Value("${app.workspace.member-import.chunk-size:1000}") int chunkSize) {
+        this.workSpaceRepository = workSpaceRepository;
+        this.workSpaceMemberRepository = workSpaceMemberRepository;
+        this.publisher = publisher;
+        this.jsonMapper = jsonMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public BulkAddMembersResponse execute(BulkAddMembersCommand command) {
+        logger.info("Importing members into workspace {} ({})", command.workSpaceId(), command.format());
+        if (!workSpaceRepository.exists(command.workSpaceId())) {
+            throw new WorkSpaceNotFoundException(command.workSpaceId());
+        }
+
+        int received = 0;
+        int imported = 0;
+        try (MemberImportReader reader = new MemberImportReader(
+                command.content(), command.format(), jsonMapper, command.workSpaceId())) {
+            List<WorkSpaceMember> chunk;
+            while (!(chunk = reader.nextChunk(chunkSize)).isEmpty()) {
+                received += chunk.size();
+                imported += workSpaceMemberRepository.saveAllIgnoringExisting(command.workSpaceId(), chunk);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (imported > 0) {
+            publisher.publishEvent(new MembersImported(command.workSpaceId(), received, imported));
+        }
+        logger.info("Imported {} of {} members into workspace {}", imported, received, command.workSpaceId());
+        return new BulkAddMembersResponse(command.workSpaceId(), received, imported, received - imported);
+    }
+}
@@ -33,12 +33,6 @@ public class CreateWorkSpaceUseCase {
     }
     @Transactional
     public WorkSpaceResponse createWorkSpace(CreateWorkSpaceCommand command) {
-        WorkSpaceValidator.validateName(command.name());
-
-        if(workSpaceRepository.findByName(command.name()).isPresent()){
-            throw new DuplicatedWorkSpaceException(command.name());
-        }
-
         //Crear entidad de dominio
         WorkSpace workSpace = new WorkSpace(
                 command.name(),
@@ -46,27 +40,18 @@ public class CreateWorkSpaceUseCase {
                 command.ownerId()
         );
 
-        // Validar WorkSpace
+        // Validar WorkSpace (todas las reglas juntas, antes de ir a la BD)
         WorkSpaceValidator.validateWorkSpace(workSpace);
+
+        if(workSpaceRepository.findByName(command.name()).isPresent()){
+            throw new DuplicatedWorkSpaceException(command.name());
+        }
         // Persistir en BD
         WorkSpace workSpaceSaved = workSpaceRepository.save(workSpace);
 
         // Publicar el evento(other modulos escuchan)
         eventPublisher.publishEvent(new WorkSpaceCreated(workSpaceSaved));
 
-        return toResponse(workSpaceSaved);
-    }
-
-    public WorkSpaceResponse toResponse(WorkSpace workSpace) {
-        return new WorkSpaceResponse(
-                workSpace.getId(),
-                workSpace.getName(),
-                workSpace.getDescription(),
-                workSpace.isActive(),
-                workSpace.isArchived(),
-                workSpace.getOwnerId(),
-                workSpace.getCreatedAt(),
-                workSpace.getUpdatedAt()
-        );
+        return WorkSpaceResponse.from(workSpaceSaved);
     }
 }
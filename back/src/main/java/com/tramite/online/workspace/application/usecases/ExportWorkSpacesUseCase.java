@@ -0,0 +1,66 @@
+package com.tramite.online.workspace.application.usecases;
+
+import com.tramite.online.workspace.application.dto.command.ExportWorkSpacesCommand;
+import com.tramite.online.workspace.application.export.CsvWorkSpaceExportWriter;
+import com.tramite.online.workspace.application.export.ExportFormat;
+import com.tramite.online.workspace.application.export.NdjsonWorkSpaceExportWriter;
+import com.tramite.online.workspace.application.export.WorkSpaceExportWriter;
+import com.tramite.online.workspace.application.query.WorkSpaceQueries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Caso de uso que exporta todos los WorkSpaces (opcionalmente con sus miembros)
+ * escribiendo directo en el stream de salida, con memoria constante.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Service
+public class ExportWorkSpacesUseCase {
+
+    private final WorkSpaceQueries workSpaceQueries;
+    private final JsonMapper jsonMapper;
+    private final Logger logger = LoggerFactory.getLogger(ExportWorkSpacesUseCase.class);
+
+    public ExportWorkSpacesUseCase(WorkSpaceQueries workSpaceQueries, JsonMapper jsonMapper) {
+        this.workSpaceQueries = workSpaceQueries;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * La transaccion de solo lectura mantiene abierto el cursor del servidor mientras se escribe
+     */
+    @Transactional(readOnly = true)
+    public long execute(ExportWorkSpacesCommand command, OutputStream out) {
+        logger.info("Exporting workspaces as {} (members: {})", command.format(), command.includeMembers());
+        WorkSpaceExportWriter writer = command.format() == ExportFormat.CSV
+                ? new CsvWorkSpaceExportWriter(out, command.includeMembers())
+                : new NdjsonWorkSpaceExportWriter(out, jsonMapper);
+
+        long[] exported = {0};
+        workSpaceQueries.forEachWorkSpace(command.includeMembers(), record -> {
+            try {
+                writer.write(record);
+                exported[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logger.info("Exported {} workspaces", exported[0]);
+        return exported[0];
+    }
+}
@@ -37,19 +37,6 @@ public class GetWorkSpaceByIdUseCase {
                         "Workspace with id " + command.workSpaceId() + " not found"));
 
         logger.info("Workspace found with id {}", command.workSpaceId());
-        return toResponse(workSpace);
-    }
-
-    private WorkSpaceResponse toResponse(WorkSpace workSpace) {
-        return new WorkSpaceResponse(
-                workSpace.getId(),
-                workSpace.getName(),
-                workSpace.getDescription(),
-                workSpace.isActive(),
-                workSpace.isArchived(),
-                workSpace.getOwnerId(),
-                workSpace.getCreatedAt(),
-                workSpace.getUpdatedAt()
-        );
+        return WorkSpaceResponse.from(workSpace);
     }
 }
@@ -1,10 +1,10 @@
 package com.tramite.online.workspace.application.usecases;
 
 
+import com.tramite.online.common.models.KeysetCursor;
+import com.tramite.online.common.models.PagedResult;
 import com.tramite.online.workspace.exception.WorkSpaceNotFoundException;
-import org.springframework.stereotype.Service;
 import com.tramite.online.workspace.application.dto.command.ListMembersByWorkSpaceCommand;
-import com.tramite.online.workspace.application.dto.response.ListMembersResponse;
 import com.tramite.online.workspace.application.dto.response.MemberResponse;
 import com.tramite.online.workspace.domain.model.WorkSpaceMember;
 import com.tramite.online.workspace.domain.repository.WorkSpaceRepository;
@@ -20,6 +20,7 @@ import java.util.List;
 /**
  * Caso de Uso que permite listar los miembros
  * de un Espacio de Trabajo
+ * Pagina por keyset sobre (joinedAt, id), sin OFFSET ni COUNT(*)
  */
 @Service
 public class ListMembersUseCase {
@@ -34,7 +35,7 @@ public class ListMembersUseCase {
     }
 
     @Transactional(readOnly = true)
-    public ListMembersResponse execute(ListMembersByWorkSpaceCommand command) {
+    public PagedResult<MemberResponse> execute(ListMembersByWorkSpaceCommand command) {
         logger.info("Listing members for workspace {}", command.workSpaceId());
 
         // 1. Verificar que el workspace existe
@@ -42,16 +43,31 @@ public class ListMembersUseCase {
                 .orElseThrow(() -> new WorkSpaceNotFoundException(
                         "Workspace with id " + command.workSpaceId() + " not found"));
 
-        // 2. Obtener miembros
-        List<WorkSpaceMember> members = memberRepository.findByWorkspaceId(command.workSpaceId());
+        // 2. Obtener la pagina de miembros (una fila extra para saber si hay siguiente)
+        KeysetCursor after = KeysetCursor.decode(command.cursor());
+        int size = command.size();
+        List<WorkSpaceMember> members = memberRepository.findByWorkspaceId(
+                command.workSpaceId(),
+                after != null ? after.position() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        boolean hasNext = members.size() > size;
+        List<WorkSpaceMember> page = hasNext ? members.subList(0, size) : members;
 
         // 3. Mapear a respuestas
-        List<MemberResponse> responses = members.stream()
+        List<MemberResponse> responses = page.stream()
                 .map(this::toResponse)
                 .toList();
 
+        String nextCursor = null;
+        if (hasNext) {
+            WorkSpaceMember last = page.getLast();
+            nextCursor = new KeysetCursor(last.getJoinedAt(), last.getId()).encode();
+        }
+
         logger.info("Found {} members in workspace {}", responses.size(), command.workSpaceId());
-        return new ListMembersResponse(command.workSpaceId(), responses);
+        return PagedResult.ofKeyset(responses, after == null, nextCursor);
 
     }
 
@@ -67,4 +83,3 @@ public class ListMembersUseCase {
     }
 
 }
-
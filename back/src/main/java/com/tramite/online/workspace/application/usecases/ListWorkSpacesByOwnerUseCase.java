@@ -1,10 +1,11 @@
 package com.tramite.online.workspace.application.usecases;
 
 
+import com.tramite.online.common.models.KeysetCursor;
+import com.tramite.online.common.models.PagedResult;
 import com.tramite.online.workspace.application.dto.command.ListWorkSpacesByOwnerCommand;
-import com.tramite.online.workspace.application.dto.response.ListWorkSpaceResponse;
-import com.tramite.online.workspace.domain.model.WorkSpace;
-import com.tramite.online.workspace.domain.repository.WorkSpaceRepository;
+import com.tramite.online.workspace.application.dto.response.WorkSpaceResponse;
+import com.tramite.online.workspace.application.query.WorkSpaceQueries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,9 @@ import java.util.List;
 
 /**
  * Caso de uso para listar WorkSpaces por propietario
+ * Pagina por keyset sobre (createdAt, id): la pagina N cuesta lo mismo
+ * que la primera y no se ejecuta COUNT(*) en cada request.
+ * Lee por WorkSpaceQueries: las filas se mapean directo al response
  *
  * @author dgarcia
  * @version 1.0
@@ -21,37 +25,37 @@ import java.util.List;
 @Service
 public class ListWorkSpacesByOwnerUseCase {
 
-    private final WorkSpaceRepository workSpaceRepository;
+    private final WorkSpaceQueries workSpaceQueries;
     private final Logger logger = LoggerFactory.getLogger(ListWorkSpacesByOwnerUseCase.class);
 
-    public ListWorkSpacesByOwnerUseCase(WorkSpaceRepository workSpaceRepository) {
-        this.workSpaceRepository = workSpaceRepository;
+    public ListWorkSpacesByOwnerUseCase(WorkSpaceQueries workSpaceQueries) {
+        this.workSpaceQueries = workSpaceQueries;
     }
 
     @Transactional(readOnly = true)
-    public ListWorkSpaceResponse execute(ListWorkSpacesByOwnerCommand command) {
+    public PagedResult<WorkSpaceResponse> execute(ListWorkSpacesByOwnerCommand command) {
         logger.info("Listing workspaces for owner {}", command.ownerId());
 
-        List<WorkSpace> workSpaces = workSpaceRepository.findByOwnerId(command.ownerId());
+        KeysetCursor after = KeysetCursor.decode(command.cursor());
+        int size = command.size();
 
-        List<com.tramite.online.workspace.application.dto.response.WorkSpaceResponse> responses = workSpaces.stream()
-                .map(this::toResponse)
-                .toList();
+        // Se pide una fila extra para saber si existe pagina siguiente
+        List<WorkSpaceResponse> workSpaces = workSpaceQueries.findByOwnerId(
+                command.ownerId(),
+                after != null ? after.position() : null,
+                after != null ? after.id() : null,
+                size + 1);
 
-        logger.info("Found {} workspaces for owner {}", responses.size(), command.ownerId());
-        return new ListWorkSpaceResponse(responses);
-    }
+        boolean hasNext = workSpaces.size() > size;
+        List<WorkSpaceResponse> responses = hasNext ? workSpaces.subList(0, size) : workSpaces;
 
-    private com.tramite.online.workspace.application.dto.response.WorkSpaceResponse toResponse(WorkSpace workSpace) {
-        return new com.tramite.online.workspace.application.dto.response.WorkSpaceResponse(
-                workSpace.getId(),
-                workSpace.getName(),
-                workSpace.getDescription(),
-                workSpace.isActive(),
-                workSpace.isArchived(),
-                workSpace.getOwnerId(),
-                workSpace.getCreatedAt(),
-                workSpace.getUpdatedAt()
-        );
+        String nextCursor = null;
+        if (hasNext) {
+            WorkSpaceResponse last = responses.getLast();
+            nextCursor = new KeysetCursor(last.createdAt(), last.workSpaceId()).encode();
+        }
+
+        logger.info("Found {} workspaces for owner {}", responses.size(), command.ownerId());
+        return PagedResult.ofKeyset(responses, after == null, nextCursor);
     }
 }
@@ -2,6 +2,7 @@ package com.tramite.online.workspace.application.usecases;
 
 
 import com.tramite.online.workspace.application.dto.command.RemoveMemberCommand;
+import com.tramite.online.workspace.domain.event.MemberRemoved;
 import com.tramite.online.workspace.domain.model.WorkSpaceMember;
 import com.tramite.online.workspace.domain.repository.WorkSpaceMemberRepository;
 import org.slf4j.Logger;
@@ -36,7 +37,7 @@ public class RemoveMemberUseCase {
 
         workSpaceMemberRepository.delete(workSpaceMember.getId());
 
-        this.applicationEventPublisher.publishEvent( new MemberRemovedUseCase(workSpaceMember));
+        this.applicationEventPublisher.publishEvent( new MemberRemoved(workSpaceMember));
 
         logger.info("Miembro Removido {} del Espacio de Trabajo {}", command.userId(), command.workSpaceId());
 
@@ -50,20 +50,7 @@ public class UpdateWorkSpaceUseCase {
 
         this.publisher.publishEvent(new WorkSpaceUpdated(workSpace));
         logger.info("Updated workspace with name {}", workSpace.getName());
-        return this.toResponse(updatedWorkSpace);
+        return WorkSpaceResponse.from(updatedWorkSpace);
 
     }
-    public WorkSpaceResponse toResponse(WorkSpace workSpace) {
-        return new WorkSpaceResponse(
-                workSpace.getId(),
-                workSpace.getName(),
-                workSpace.getDescription(),
-                workSpace.isActive(),
-                workSpace.isArchived(),
-                workSpace.getOwnerId(),
-                workSpace.getCreatedAt(),
-                workSpace.getUpdatedAt()
-        );
-    }
-
 }
@@ -1,20 +1,20 @@
-package com.tramite.online.workspace.application.usecases;
+package com.tramite.online.workspace.domain.event;
 
 import com.tramite.online.shared.domain.event.DomainEvent;
 import com.tramite.online.workspace.domain.model.WorkSpaceMember;
 
 /**
- * Event que removio un miembor del Espacio de Trabajo
- * */
-public class MemberRemovedUseCase extends DomainEvent {
+ * Event que removio un miembro del Espacio de Trabajo
+ */
+public class MemberRemoved extends DomainEvent {
 
     private final Long memberId;
     private final Long workspaceId;
     private final Long userId;
     private final String role;
 
-    public MemberRemovedUseCase(WorkSpaceMember workSpaceMember) {
-        super("Add WorkSpace Member", workSpaceMember.getId());
+    public MemberRemoved(WorkSpaceMember workSpaceMember) {
+        super("MemberRemoved", workSpaceMember.getId());
         this.memberId = workSpaceMember.getId();
         this.workspaceId = workSpaceMember.getWorkSpaceId();
         this.userId = workSpaceMember.getUserId();
@@ -37,4 +37,3 @@ public class MemberRemovedUseCase extends DomainEvent {
         return memberId;
     }
 }
-
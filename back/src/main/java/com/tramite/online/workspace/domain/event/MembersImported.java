@@ -0,0 +1,33 @@
+package com.tramite.online.workspace.domain.event;
+
+import com.tramite.online.shared.domain.event.DomainEvent;
+
+/**
+ * Event agregado de una importacion masiva de miembros al Espacio de Trabajo,
+ * se publica uno por importacion en lugar de un MemberAdded por miembro
+ */
+public class MembersImported extends DomainEvent {
+
+    private final Long workspaceId;
+    private final int received;
+    private final int imported;
+
+    public MembersImported(Long workspaceId, int received, int imported) {
+        super("MembersImported", workspaceId);
+        this.workspaceId = workspaceId;
+        this.received = received;
+        this.imported = imported;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+}
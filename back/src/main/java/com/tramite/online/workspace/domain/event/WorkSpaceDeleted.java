@@ -19,4 +19,12 @@ public class WorkSpaceDeleted extends DomainEvent {
         this.workSpaceName = workSpace.getName();
     }
 
+    public Long getWorkSpaceId() {
+        return workSpaceId;
+    }
+
+    public String getWorkSpaceName() {
+        return workSpaceName;
+    }
+
 }
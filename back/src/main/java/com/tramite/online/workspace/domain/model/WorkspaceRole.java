@@ -15,4 +15,12 @@ public enum WorkspaceRole {
     public String getDescription() {
         return this.description;
     }
+
+    /**
+     * Indica si el role tiene al menos los permisos del role indicado.
+     * El orden de declaracion va de mayor a menor privilegio.
+     */
+    public boolean isAtLeast(WorkspaceRole minimum) {
+        return this.ordinal() <= minimum.ordinal();
+    }
 }
@@ -2,6 +2,7 @@ package com.tramite.online.workspace.domain.repository;
 
 import com.tramite.online.workspace.domain.model.WorkSpaceMember;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +13,21 @@ public interface WorkSpaceMemberRepository {
    WorkSpaceMember save(WorkSpaceMember workSpaceMember);
    Optional<WorkSpaceMember> findById(Long id);
    List<WorkSpaceMember> findByWorkspaceId(Long workspaceId);
+
+   /**
+    * Pagina keyset de los miembros de un workspace ordenados por (joinedAt, id).
+    * Con joinedAfter e idAfter nulos devuelve la primera pagina.
+    */
+   List<WorkSpaceMember> findByWorkspaceId(Long workspaceId, LocalDateTime joinedAfter, Long idAfter, int limit);
    Optional<WorkSpaceMember> findByWorkspaceIdAndUserId(Long workspaceId, Long userId);
    int countByWorkspaceId(Long workspaceId);
+
+   /**
+    * Inserta los miembros en una sola sentencia, descartando los que ya existen
+    * en el workspace (uk_workspace_member) o se repiten en la lista.
+    * @return cantidad de miembros insertados
+    */
+   int saveAllIgnoringExisting(Long workspaceId, List<WorkSpaceMember> members);
    void delete(Long id);
 
 }
@@ -0,0 +1,28 @@
+package com.tramite.online.workspace.domain.repository;
+
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+
+import java.util.Optional;
+
+/**
+ * Puerto(interfaz) de consulta de membresia para chequeos de autorizacion.
+ * Responde "el usuario X es miembro del workspace Y con role >= R" sin ir a la base
+ * de datos en cada llamada.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface WorkSpaceMembershipIndex {
+
+   Optional<WorkspaceRole> findRole(Long workspaceId, Long userId);
+
+   boolean isMember(Long workspaceId, Long userId);
+
+   boolean hasRole(Long workspaceId, Long userId, WorkspaceRole minimum);
+
+   /**
+    * Descarta la membresia cargada del workspace; se recarga en la proxima consulta
+    */
+   void invalidate(Long workspaceId);
+}
@@ -1,49 +1,115 @@
 package com.tramite.online.workspace.domain.validator;
 
+import com.tramite.online.shared.domain.validation.ValidationResult;
 import com.tramite.online.workspace.domain.model.WorkSpace;
 
+import java.util.List;
+
 /**
  * Class Validator del WorkSpace
+ *
+ * Las reglas se evaluan sin regex: el conjunto de caracteres permitidos se
+ * precalcula una sola vez en una tabla y el recorte de espacios se hace por
+ * indices, sin crear Strings intermedios. Las variantes que reciben un
+ * {@link ValidationResult} acumulan todas las violaciones y no lanzan excepciones;
+ * las variantes sin resultado conservan el comportamiento anterior (IllegalArgumentException).
  */
 public class WorkSpaceValidator {
 
-     public static void validateName(String name){
-         if(name == null || name.isBlank()){
-             throw new IllegalArgumentException("El nombre del Espacio de Trabajo es obligatorior");
-         }
+    public static final int NAME_MIN_LENGTH = 3;
+    public static final int NAME_MAX_LENGTH = 100;
+    public static final int DESCRIPTION_MAX_LENGTH = 500;
 
-         String trimmedName = name.trim();
-         if(trimmedName.length() < 3){
-             throw new IllegalArgumentException("El nombre debe tener al menos 3 caracteres. Actual :" + trimmedName);
-         }
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_OWNER_ID = "ownerId";
 
+    private static final String NAME_REQUIRED = "El nombre del Espacio de Trabajo es obligatorio";
+    private static final String NAME_INVALID_CHARS =
+            "El nombre solo puede contener letras, números, espacios, guiones y puntos";
 
-         // Regla : Máximo 100 caracteres
-         if (trimmedName.length() > 100) {
-             throw new IllegalArgumentException(
-                     "El nombre no puede exceder 100 caracteres. Actual: " + trimmedName.length()
-             );
-         }
+    /**
+     * Caracteres permitidos en el nombre: a-z, A-Z, 0-9, espacios (\s), guiones (-, _) y puntos (.)
+     */
+    private static final boolean[] NAME_CHARS = new boolean[128];
 
+    static {
+        for (char c = 'a'; c <= 'z'; c++) NAME_CHARS[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) NAME_CHARS[c] = true;
+        for (char c = '0'; c <= '9'; c++) NAME_CHARS[c] = true;
+        for (char c : " \t\n\u000B\f\r-_.".toCharArray()) NAME_CHARS[c] = true;
+    }
 
-         if (!isValidNameFormat(trimmedName)) {
-             throw new IllegalArgumentException(
-                     "El nombre solo puede contener letras, números, espacios, guiones y puntos"
-             );
-         }
-     }
+    public static void validateName(String name) {
+        validateName(name, new ValidationResult()).throwIfInvalid();
+    }
 
     /**
-     * Valida el formato del nombre
-     * Caracteres permitidos: a-z, A-Z, 0-9, espacios, guiones (-), puntos (.)
+     * Valida el nombre acumulando las violaciones en result
      *
      * @param name Nombre a validar
+     * @param result resultado (reutilizable) donde se agregan las violaciones
+     * @return el mismo result
+     */
+    public static ValidationResult validateName(String name, ValidationResult result) {
+        return validateName(FIELD_NAME, name, result);
+    }
+
+    /**
+     * Valida en lote una lista de nombres (por ejemplo en una importacion).
+     * Cada violacion se registra con el campo "name[i]" segun la posicion en la lista.
+     *
+     * @param names Nombres a validar
+     * @param result resultado (reutilizable) donde se agregan las violaciones
+     * @return el mismo result
+     */
+    public static ValidationResult validateNames(List<String> names, ValidationResult result) {
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (!isValidName(name)) {
+                validateName(FIELD_NAME + "[" + i + "]", name, result);
+            }
+        }
+        return result;
+    }
+
+    private static ValidationResult validateName(String field, String name, ValidationResult result) {
+        if (name == null || name.isBlank()) {
+            return result.add(field, NAME_REQUIRED);
+        }
+
+        int start = trimStart(name);
+        int end = trimEnd(name, start);
+        int length = end - start;
+        if (length < NAME_MIN_LENGTH) {
+            result.add(field, "El nombre debe tener al menos 3 caracteres. Actual :" + name.substring(start, end));
+        }
+
+        // Regla : Máximo 100 caracteres
+        if (length > NAME_MAX_LENGTH) {
+            result.add(field, "El nombre no puede exceder 100 caracteres. Actual: " + length);
+        }
+
+        if (!isValidNameFormat(name, start, end)) {
+            result.add(field, NAME_INVALID_CHARS);
+        }
+        return result;
+    }
+
+    /**
+     * Valida el formato del nombre entre start y end
+     * Caracteres permitidos: a-z, A-Z, 0-9, espacios, guiones (-, _), puntos (.)
+     *
      * @return true si el formato es válido
      */
-    private static boolean isValidNameFormat(String name) {
-        // Regex que permite: letras, números, espacios, guiones, puntos
-        String validPattern = "^[a-zA-Z0-9\\s\\-_.]+$";
-        return name.matches(validPattern);
+    private static boolean isValidNameFormat(String name, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c >= NAME_CHARS.length || !NAME_CHARS[c]) {
+                return false;
+            }
+        }
+        return true;
     }
 
    /**
@@ -51,14 +117,16 @@ public class WorkSpaceValidator {
      * @throws IllegalArgumentException si no cumple las reglas
      */
     public static void validateDescription(String description) {
+        validateDescription(description, new ValidationResult()).throwIfInvalid();
+    }
+
+    public static ValidationResult validateDescription(String description, ValidationResult result) {
         // Es opcional, pero si existe, valida tamaño
-        if (description != null && !description.isBlank()) {
-            if (description.length() > 500) {
-                throw new IllegalArgumentException(
-                        "La descripción no puede exceder 500 caracteres. Actual: " + description.length()
-                );
-            }
+        if (description != null && description.length() > DESCRIPTION_MAX_LENGTH && !description.isBlank()) {
+            result.add(FIELD_DESCRIPTION,
+                    "La descripción no puede exceder 500 caracteres. Actual: " + description.length());
         }
+        return result;
     }
 
 
@@ -74,17 +142,19 @@ public class WorkSpaceValidator {
      * @throws IllegalArgumentException si no cumple las reglas
      */
     public static void validateOwnerId(Long ownerId) {
+        validateOwnerId(ownerId, new ValidationResult()).throwIfInvalid();
+    }
+
+    public static ValidationResult validateOwnerId(Long ownerId, ValidationResult result) {
         if (ownerId == null) {
-            throw new IllegalArgumentException(
-                    "El propietario (ownerId) es obligatorio"
-            );
+            return result.add(FIELD_OWNER_ID, "El propietario (ownerId) es obligatorio");
         }
 
         if (ownerId <= 0) {
-            throw new IllegalArgumentException(
-                    "El ID del propietario debe ser un número positivo. Actual: " + ownerId
-            );
+            result.add(FIELD_OWNER_ID,
+                    "El ID del propietario debe ser un número positivo. Actual: " + ownerId);
         }
+        return result;
     }
 
 
@@ -102,28 +172,30 @@ public class WorkSpaceValidator {
                     "El workspace no puede ser nulo"
             );
         }
+        validateWorkSpace(workspace, new ValidationResult()).throwIfInvalid();
+    }
 
-        // Validar nombre
-        validateName(workspace.getName());
-
-        // Validar descripción (opcional)
-        validateDescription(workspace.getDescription());
-
-        // Validar owner ID
-        validateOwnerId(workspace.getOwnerId());
+    /**
+     * Valida una entidad WorkSpace completa acumulando todas las violaciones
+     *
+     * @param workspace WorkSpace a validar, no nulo
+     * @param result resultado (reutilizable) donde se agregan las violaciones
+     * @return el mismo result
+     */
+    public static ValidationResult validateWorkSpace(WorkSpace workspace, ValidationResult result) {
+        validateName(workspace.getName(), result);
+        validateDescription(workspace.getDescription(), result);
+        validateOwnerId(workspace.getOwnerId(), result);
 
         // Validar que las fechas existan
         if (workspace.getCreatedAt() == null) {
-            throw new IllegalArgumentException(
-                    "La fecha de creación es obligatoria"
-            );
+            result.add("createdAt", "La fecha de creación es obligatoria");
         }
 
         if (workspace.getUpdatedAt() == null) {
-            throw new IllegalArgumentException(
-                    "La fecha de actualización es obligatoria"
-            );
+            result.add("updatedAt", "La fecha de actualización es obligatoria");
         }
+        return result;
     }
 
 
@@ -150,33 +222,93 @@ public class WorkSpaceValidator {
 
     /**
      * Normaliza un nombre (limpia espacios)
+     * Si el nombre ya esta normalizado se devuelve sin crear un String nuevo.
      *
      * @param name Nombre a normalizar
      * @return Nombre normalizado
      */
     public static String normalizeName(String name) {
         if (name == null) return null;
+        String trimmed = name.trim();
+        if (isNormalized(trimmed)) {
+            return trimmed;
+        }
         // Elimina espacios múltiples y los reemplaza por uno
-        return name.trim().replaceAll("\\s+", " ");
+        StringBuilder builder = new StringBuilder(trimmed.length());
+        boolean previousSpace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (isSpace(c)) {
+                if (!previousSpace) {
+                    builder.append(' ');
+                }
+                previousSpace = true;
+            } else {
+                builder.append(c);
+                previousSpace = false;
+            }
+        }
+        return builder.toString();
     }
 
     /**
-     * Verifica si un nombre es válido sin lanzar excepción
+     * Verifica si un nombre es válido sin lanzar excepción ni crear objetos
      * Útil para validaciones silenciosas
      *
      * @param name Nombre a verificar
      * @return true si es válido, false si no
      */
     public static boolean isValidName(String name) {
-        try {
-            validateName(name);
-            return true;
-        } catch (IllegalArgumentException e) {
+        if (name == null || name.isBlank()) {
             return false;
         }
+        int start = trimStart(name);
+        int end = trimEnd(name, start);
+        int length = end - start;
+        return length >= NAME_MIN_LENGTH
+                && length <= NAME_MAX_LENGTH
+                && isValidNameFormat(name, start, end);
     }
 
+    /**
+     * Mismo criterio que String.trim(): caracteres menores o iguales a ' '
+     */
+    private static int trimStart(String value) {
+        int start = 0;
+        while (start < value.length() && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
 
+    private static int trimEnd(String value, int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
 
+    /**
+     * Equivalente a \s en regex: [ \t\n\x0B\f\r]
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
+    private static boolean isNormalized(String trimmed) {
+        boolean previousSpace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (isSpace(c)) {
+                if (previousSpace || c != ' ') {
+                    return false;
+                }
+                previousSpace = true;
+            } else {
+                previousSpace = false;
+            }
+        }
+        return true;
+    }
 }
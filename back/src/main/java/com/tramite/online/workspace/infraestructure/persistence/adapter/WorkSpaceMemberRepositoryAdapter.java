@@ -7,8 +7,11 @@ import com.tramite.online.workspace.infraestructure.persistence.mapper.WorkSpace
 import com.tramite.online.workspace.infraestructure.persistence.repository.WorkSpaceMemberJpaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,14 +24,28 @@ public class WorkSpaceMemberRepositoryAdapter implements WorkSpaceMemberReposito
 
     private final WorkSpaceMemberJpaRepository jpaRepository;
     private final WorkSpaceMemberMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
     private static final Logger logger = LoggerFactory.getLogger(WorkSpaceMemberRepositoryAdapter.class);
 
     public WorkSpaceMemberRepositoryAdapter(WorkSpaceMemberJpaRepository jpaRepository,
-                                            WorkSpaceMemberMapper mapper) {
+                                            WorkSpaceMemberMapper mapper,
+                                            JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
+    /**
+     * Insercion set-based: los arrays de userIds y roles viajan como dos parametros
+     * y unnest los expande en filas, por lo que el bloque completo es un solo round trip
+     */
+    private static final String INSERT_IGNORING_EXISTING = """
+            INSERT INTO workspaces_members (workspace_id, user_id, role, joined_at, updated_at)
+            SELECT ?, m.user_id, m.role, ?, ?
+            FROM unnest(?::bigint[], ?::varchar[]) AS m(user_id, role)
+            ON CONFLICT ON CONSTRAINT uk_workspace_member DO NOTHING
+            """;
+
     @Override
     public WorkSpaceMember save(WorkSpaceMember workSpaceMember) {
         logger.info("Saving workspace member {}", workSpaceMember);
@@ -53,6 +70,17 @@ public class WorkSpaceMemberRepositoryAdapter implements WorkSpaceMemberReposito
                 .toList();
     }
 
+    @Override
+    public List<WorkSpaceMember> findByWorkspaceId(Long workspaceId, LocalDateTime joinedAfter, Long idAfter, int limit) {
+        logger.info("Finding workspace members page by workspace id {} after ({}, {})", workspaceId, joinedAfter, idAfter);
+        List<WorkSpaceMemberEntity> entities = joinedAfter == null || idAfter == null
+                ? jpaRepository.findFirstPageByWorkSpaceId(workspaceId, limit)
+                : jpaRepository.findPageByWorkSpaceIdAfter(workspaceId, joinedAfter, idAfter, limit);
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<WorkSpaceMember> findByWorkspaceIdAndUserId(Long workspaceId, Long userId) {
         logger.info("Finding workspace member by workspace id {} and user id {}", workspaceId, userId);
@@ -66,6 +94,28 @@ public class WorkSpaceMemberRepositoryAdapter implements WorkSpaceMemberReposito
         return jpaRepository.countByWorkSpaceId(workspaceId);
     }
 
+    @Override
+    public int saveAllIgnoringExisting(Long workspaceId, List<WorkSpaceMember> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        logger.debug("Bulk inserting {} members into workspace {}", members.size(), workspaceId);
+        Long[] userIds = new Long[members.size()];
+        String[] roles = new String[members.size()];
+        for (int i = 0; i < members.size(); i++) {
+            userIds[i] = members.get(i).getUserId();
+            roles[i] = members.get(i).getRole().name();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(INSERT_IGNORING_EXISTING, ps -> {
+            ps.setLong(1, workspaceId);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", userIds));
+            ps.setArray(5, ps.getConnection().createArrayOf("varchar", roles));
+        });
+    }
+
     @Override
     public void delete(Long id) {
         logger.info("Deleting workspace member by id {}", id);
@@ -2,6 +2,7 @@ package com.tramite.online.workspace.infraestructure.persistence.adapter;
 
 import com.tramite.online.workspace.domain.model.WorkSpace;
 import com.tramite.online.workspace.domain.repository.WorkSpaceRepository;
+import com.tramite.online.workspace.infraestructure.persistence.cache.WorkSpaceCache;
 import com.tramite.online.workspace.infraestructure.persistence.entity.WorkSpaceEntity;
 import com.tramite.online.workspace.infraestructure.persistence.mapper.WorkSpaceMapper;
 import com.tramite.online.workspace.infraestructure.persistence.repository.WorkSpaceJpaRepository;
@@ -22,20 +23,22 @@ public class WorkSpaceRepositoryAdapter implements WorkSpaceRepository {
 
     private final WorkSpaceJpaRepository jpaRepository;
     private final WorkSpaceMapper mapper;
+    private final WorkSpaceCache cache;
     private static final Logger logger = LoggerFactory.getLogger(WorkSpaceRepositoryAdapter.class);
 
 
     public WorkSpaceRepositoryAdapter(WorkSpaceJpaRepository jpaRepository,
-                                      WorkSpaceMapper workSpaceMapper) {
+                                      WorkSpaceMapper workSpaceMapper,
+                                      WorkSpaceCache cache) {
         this.jpaRepository = jpaRepository;
         this.mapper = workSpaceMapper;
+        this.cache = cache;
     }
 
     @Override
     public Optional<WorkSpace> findById(Long id) {
-        logger.info("Finding workspace by id {}", id);
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        logger.debug("Finding workspace by id {}", id);
+        return cache.getById(id, key -> jpaRepository.findById(key).map(mapper::toDomain));
     }
 
     @Override
@@ -43,6 +46,8 @@ public class WorkSpaceRepositoryAdapter implements WorkSpaceRepository {
         logger.info("Saving workspace {}", workSpace);
         WorkSpaceEntity entity = this.mapper.toPersistence(workSpace);
         WorkSpaceEntity entitySaved = this.jpaRepository.save(entity);
+        // la transaccion puede revertirse: se invalida y se recarga en la proxima lectura
+        cache.evict(entitySaved.getId());
         return mapper.toDomain(entitySaved);
     }
 
@@ -66,20 +71,20 @@ public class WorkSpaceRepositoryAdapter implements WorkSpaceRepository {
 
     @Override
     public Optional<WorkSpace> findByName(String name) {
-        logger.info("Finding workspace by name {}", name);
-        return jpaRepository.findByName(name)
-                .map(mapper::toDomain);
+        logger.debug("Finding workspace by name {}", name);
+        return cache.getByName(name, key -> jpaRepository.findByName(key).map(mapper::toDomain));
     }
 
     @Override
     public void delete(Long id) {
       logger.info("Deleting workspace by id {}", id);
       this.jpaRepository.deleteById(id);
+      cache.evict(id);
     }
 
     @Override
     public boolean exists(Long id) {
-        logger.info("Finding workspace by Id : {}",id);
-        return jpaRepository.existsById(id);
+        logger.debug("Finding workspace by Id : {}",id);
+        return cache.contains(id) || jpaRepository.existsById(id);
     }
 }
@@ -0,0 +1,121 @@
+package com.tramite.online.workspace.infraestructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tramite.online.workspace.domain.model.WorkSpace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache en memoria de WorkSpace (read-through) acotado por tamaño y TTL.
+ * Se indexa por id; el indice por nombre solo guarda nombre -> id y se
+ * verifica contra la entrada por id para no devolver datos obsoletos.
+ * Devuelve siempre copias para que los casos de uso no muten la entrada cacheada.
+ * Los eventos solo invalidan el cache del nodo que hizo el cambio: en los demas un workspace
+ * archivado, desactivado o renombrado se sigue viendo como antes hasta que vence la entrada,
+ * a lo sumo app.workspace.cache.ttl (30s por defecto) desde que se cargo.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class WorkSpaceCache {
+
+    private final Cache<Long, WorkSpace> byId;
+    private final Cache<String, Long> idByName;
+
+    public WorkSpaceCache(MeterRegistry meterRegistry,
+                          @Value("${app.workspace.cache.max-size:10000}") long maxSize,
+                          @Value("${app.workspace.cache.ttl:30s}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByName = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "workspace.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByName, "workspace.by-name");
+    }
+
+    /**
+     * Obtiene el workspace por id, cargandolo con el loader si no esta en cache.
+     * Los resultados vacios no se cachean.
+     */
+    public Optional<WorkSpace> getById(Long id, Function<Long, Optional<WorkSpace>> loader) {
+        WorkSpace cached = byId.get(id, key -> loader.apply(key).orElse(null));
+        return Optional.ofNullable(cached).map(WorkSpaceCache::copy);
+    }
+
+    /**
+     * Obtiene el workspace por nombre, cargandolo con el loader si no esta en cache.
+     */
+    public Optional<WorkSpace> getByName(String name, Function<String, Optional<WorkSpace>> loader) {
+        Long id = idByName.getIfPresent(name);
+        if (id != null) {
+            WorkSpace cached = byId.getIfPresent(id);
+            if (cached != null && name.equals(cached.getName())) {
+                return Optional.of(copy(cached));
+            }
+            idByName.invalidate(name);
+        }
+        Optional<WorkSpace> loaded = loader.apply(name);
+        loaded.ifPresent(this::put);
+        return loaded.map(WorkSpaceCache::copy);
+    }
+
+    /**
+     * Indica si el workspace se encuentra en cache
+     */
+    public boolean contains(Long id) {
+        return byId.getIfPresent(id) != null;
+    }
+
+    public void put(WorkSpace workSpace) {
+        if (workSpace == null || workSpace.getId() == null) {
+            return;
+        }
+        byId.put(workSpace.getId(), copy(workSpace));
+        if (workSpace.getName() != null) {
+            idByName.put(workSpace.getName(), workSpace.getId());
+        }
+    }
+
+    /**
+     * Quita la entrada por id y el nombre que tenia, sin recorrer el indice por nombre. Si la
+     * entrada por id ya habia vencido, el nombre que quede se descarta en getByName al no
+     * encontrar su id.
+     */
+    public void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        WorkSpace cached = byId.asMap().remove(id);
+        if (cached != null && cached.getName() != null) {
+            idByName.asMap().remove(cached.getName(), id);
+        }
+    }
+
+    private static WorkSpace copy(WorkSpace source) {
+        WorkSpace target = new WorkSpace();
+        target.setId(source.getId());
+        target.setName(source.getName());
+        target.setDescription(source.getDescription());
+        target.setActive(source.isActive());
+        target.setArchived(source.isArchived());
+        target.setOwnerId(source.getOwnerId());
+        target.setCreatedAt(source.getCreatedAt());
+        target.setUpdatedAt(source.getUpdatedAt());
+        return target;
+    }
+}
@@ -0,0 +1,48 @@
+package com.tramite.online.workspace.infraestructure.persistence.cache;
+
+import com.tramite.online.workspace.domain.event.WorkSpaceArchived;
+import com.tramite.online.workspace.domain.event.WorkSpaceDeleted;
+import com.tramite.online.workspace.domain.event.WorkSpaceUpdated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida el cache de WorkSpace una vez confirmada la transaccion
+ * que publico el evento de dominio.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class WorkSpaceCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkSpaceCacheInvalidationListener.class);
+
+    private final WorkSpaceCache cache;
+
+    public WorkSpaceCacheInvalidationListener(WorkSpaceCache cache) {
+        this.cache = cache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(WorkSpaceUpdated event) {
+        logger.debug("Evicting workspace {} from cache (updated)", event.getWorkSpaceId());
+        cache.evict(event.getWorkSpaceId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(WorkSpaceArchived event) {
+        logger.debug("Evicting workspace {} from cache (archived)", event.getWorkSpaceId());
+        cache.evict(event.getWorkSpaceId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(WorkSpaceDeleted event) {
+        logger.debug("Evicting workspace {} from cache (deleted)", event.getWorkSpaceId());
+        cache.evict(event.getWorkSpaceId());
+    }
+}
@@ -18,7 +18,8 @@ public class WorkSpaceEntity {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspaces_seq")
+    @SequenceGenerator(name = "workspaces_seq", sequenceName = "workspaces_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, unique = true, length = 100)
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class WorkSpaceMemberEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workspaces_members_seq")
+    @SequenceGenerator(name = "workspaces_members_seq", sequenceName = "workspaces_members_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, name="workspace_id")
@@ -0,0 +1,161 @@
+package com.tramite.online.workspace.infraestructure.persistence.index;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import com.tramite.online.workspace.domain.repository.WorkSpaceMembershipIndex;
+import com.tramite.online.workspace.infraestructure.persistence.repository.MemberRoleProjection;
+import com.tramite.online.workspace.infraestructure.persistence.repository.WorkSpaceMemberJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter en memoria del indice de membresia.
+ * Cada workspace se carga de forma lazy con una sola consulta (userId, role) y
+ * luego se mantiene actualizado por los eventos de miembros de este nodo. Los cambios
+ * hechos en otro nodo se detectan por workspaces.members_version: pasado recheck-interval
+ * desde la ultima carga o verificacion, la siguiente lectura dispara en segundo plano la
+ * comparacion de la version (una consulta por PK) y el workspace se recarga si cambio. Un miembro
+ * quitado o degradado en otro nodo conserva sus permisos aqui a lo sumo recheck-interval mas lo
+ * que tarde esa consulta.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class InMemoryWorkSpaceMembershipIndex implements WorkSpaceMembershipIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryWorkSpaceMembershipIndex.class);
+
+    private final WorkSpaceMemberJpaRepository jpaRepository;
+    private final LoadingCache<Long, VersionedSnapshot> snapshots;
+    private final long recheckNanos;
+
+    public InMemoryWorkSpaceMembershipIndex(WorkSpaceMemberJpaRepository jpaRepository,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${app.workspace.membership-index.max-members:1000000}") long maxMembers,
+                                            @Value("${app.workspace.membership-index.ttl:30m}") Duration ttl,
+                                            @Value("${app.workspace.membership-index.recheck-interval:5s}") Duration recheckInterval) {
+        this.jpaRepository = jpaRepository;
+        this.recheckNanos = recheckInterval.toNanos();
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maxMembers)
+                .weigher((Long workspaceId, VersionedSnapshot entry) -> 1 + entry.snapshot().size())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public VersionedSnapshot load(Long workspaceId) {
+                        return InMemoryWorkSpaceMembershipIndex.this.load(workspaceId);
+                    }
+
+                    @Override
+                    public VersionedSnapshot reload(Long workspaceId, VersionedSnapshot current) {
+                        return revalidate(workspaceId, current);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "workspace.membership-index");
+    }
+
+    @Override
+    public Optional<WorkspaceRole> findRole(Long workspaceId, Long userId) {
+        return Optional.ofNullable(snapshot(workspaceId).roleOf(userId));
+    }
+
+    @Override
+    public boolean isMember(Long workspaceId, Long userId) {
+        return snapshot(workspaceId).roleOf(userId) != null;
+    }
+
+    @Override
+    public boolean hasRole(Long workspaceId, Long userId, WorkspaceRole minimum) {
+        WorkspaceRole role = snapshot(workspaceId).roleOf(userId);
+        return role != null && role.isAtLeast(minimum);
+    }
+
+    @Override
+    public void invalidate(Long workspaceId) {
+        snapshots.invalidate(workspaceId);
+    }
+
+    /**
+     * Agrega o actualiza el role de un usuario, solo si el workspace ya esta cargado
+     */
+    void put(Long workspaceId, Long userId, WorkspaceRole role) {
+        snapshots.asMap().computeIfPresent(workspaceId, (id, entry) -> entry.with(entry.snapshot().with(userId, role)));
+    }
+
+    /**
+     * Quita un usuario, solo si el workspace ya esta cargado
+     */
+    void remove(Long workspaceId, Long userId) {
+        snapshots.asMap().computeIfPresent(workspaceId, (id, entry) -> entry.with(entry.snapshot().without(userId)));
+    }
+
+    /**
+     * La verificacion la dispara la lectura y no refreshAfterWrite: los eventos locales reescriben la
+     * entrada y con refreshAfterWrite posponian la verificacion mientras siguieran llegando
+     */
+    private MembershipSnapshot snapshot(Long workspaceId) {
+        VersionedSnapshot entry = snapshots.get(workspaceId);
+        if (System.nanoTime() - entry.checkedAt() > recheckNanos) {
+            // Caffeine reutiliza el refresh en curso, hay una sola consulta aunque lean varios hilos
+            snapshots.refresh(workspaceId);
+        }
+        return entry.snapshot();
+    }
+
+    /**
+     * La version se lee antes que los miembros: si un cambio entra entre las dos consultas, la
+     * version guardada queda atrasada y la proxima verificacion recarga, nunca al reves
+     */
+    private VersionedSnapshot load(Long workspaceId) {
+        long version = jpaRepository.findMembersVersion(workspaceId).orElse(-1L);
+        List<MemberRoleProjection> rows = jpaRepository.findRolesByWorkSpaceId(workspaceId);
+        logger.debug("Loading membership index for workspace {} ({} members, version {})",
+                workspaceId, rows.size(), version);
+        if (rows.isEmpty()) {
+            return new VersionedSnapshot(MembershipSnapshot.EMPTY, version, System.nanoTime());
+        }
+        long[] userIds = new long[rows.size()];
+        byte[] roles = new byte[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            MemberRoleProjection row = rows.get(i);
+            userIds[i] = row.getUserId();
+            roles[i] = MembershipSnapshot.encode(row.getRole());
+        }
+        return new VersionedSnapshot(MembershipSnapshot.ofSorted(userIds, roles), version, System.nanoTime());
+    }
+
+    /**
+     * Conserva el snapshot si la version no cambio desde la carga; si cambio lo recarga entero
+     */
+    private VersionedSnapshot revalidate(Long workspaceId, VersionedSnapshot current) {
+        long version = jpaRepository.findMembersVersion(workspaceId).orElse(-1L);
+        return version == current.version()
+                ? new VersionedSnapshot(current.snapshot(), version, System.nanoTime())
+                : load(workspaceId);
+    }
+
+    /**
+     * Snapshot, members_version con la que se cargo y momento de la ultima verificacion. Los eventos
+     * locales cambian el snapshot y dejan version y checkedAt: la base ya tiene una version mayor y
+     * la proxima verificacion recarga el workspace.
+     */
+    private record VersionedSnapshot(MembershipSnapshot snapshot, long version, long checkedAt) {
+
+        VersionedSnapshot with(MembershipSnapshot changed) {
+            return changed == snapshot ? this : new VersionedSnapshot(changed, version, checkedAt);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.tramite.online.workspace.infraestructure.persistence.index;
+
+import com.tramite.online.workspace.domain.event.MemberAdded;
+import com.tramite.online.workspace.domain.event.MemberRemoved;
+import com.tramite.online.workspace.domain.event.MemberUpdated;
+import com.tramite.online.workspace.domain.event.MembersImported;
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantiene actualizado el indice de membresia con los eventos de miembros
+ * una vez confirmada la transaccion.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class MembershipIndexListener {
+
+    private final InMemoryWorkSpaceMembershipIndex index;
+
+    public MembershipIndexListener(InMemoryWorkSpaceMembershipIndex index) {
+        this.index = index;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(MemberAdded event) {
+        index.put(event.getWorkspaceId(), event.getUserId(), WorkspaceRole.valueOf(event.getRole()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(MemberUpdated event) {
+        index.put(event.getWorkspaceId(), event.getUserId(), WorkspaceRole.valueOf(event.getRole()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(MemberRemoved event) {
+        index.remove(event.getWorkspaceId(), event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(MembersImported event) {
+        index.invalidate(event.getWorkspaceId());
+    }
+}
@@ -0,0 +1,86 @@
+package com.tramite.online.workspace.infraestructure.persistence.index;
+
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+
+import java.util.Arrays;
+
+/**
+ * Membresia inmutable de un workspace: userIds ordenados en un long[] y el
+ * ordinal del role de cada uno en un byte[] paralelo. La busqueda es binaria y
+ * las modificaciones devuelven una copia nueva (copy-on-write), por lo que los
+ * lectores nunca necesitan sincronizacion.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+final class MembershipSnapshot {
+
+    static final MembershipSnapshot EMPTY = new MembershipSnapshot(new long[0], new byte[0]);
+
+    private static final WorkspaceRole[] ROLES = WorkspaceRole.values();
+
+    private final long[] userIds;
+    private final byte[] roles;
+
+    private MembershipSnapshot(long[] userIds, byte[] roles) {
+        this.userIds = userIds;
+        this.roles = roles;
+    }
+
+    /**
+     * Construye el snapshot a partir de userIds ya ordenados de forma ascendente
+     */
+    static MembershipSnapshot ofSorted(long[] userIds, byte[] roles) {
+        return new MembershipSnapshot(userIds, roles);
+    }
+
+    static byte encode(WorkspaceRole role) {
+        return (byte) role.ordinal();
+    }
+
+    WorkspaceRole roleOf(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        return index < 0 ? null : ROLES[roles[index]];
+    }
+
+    MembershipSnapshot with(long userId, WorkspaceRole role) {
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index >= 0) {
+            if (roles[index] == encode(role)) {
+                return this;
+            }
+            byte[] newRoles = roles.clone();
+            newRoles[index] = encode(role);
+            return new MembershipSnapshot(userIds, newRoles);
+        }
+        int insertAt = -index - 1;
+        long[] newUserIds = new long[userIds.length + 1];
+        byte[] newRoles = new byte[roles.length + 1];
+        System.arraycopy(userIds, 0, newUserIds, 0, insertAt);
+        System.arraycopy(roles, 0, newRoles, 0, insertAt);
+        newUserIds[insertAt] = userId;
+        newRoles[insertAt] = encode(role);
+        System.arraycopy(userIds, insertAt, newUserIds, insertAt + 1, userIds.length - insertAt);
+        System.arraycopy(roles, insertAt, newRoles, insertAt + 1, roles.length - insertAt);
+        return new MembershipSnapshot(newUserIds, newRoles);
+    }
+
+    MembershipSnapshot without(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        if (index < 0) {
+            return this;
+        }
+        long[] newUserIds = new long[userIds.length - 1];
+        byte[] newRoles = new byte[roles.length - 1];
+        System.arraycopy(userIds, 0, newUserIds, 0, index);
+        System.arraycopy(roles, 0, newRoles, 0, index);
+        System.arraycopy(userIds, index + 1, newUserIds, index, userIds.length - index - 1);
+        System.arraycopy(roles, index + 1, newRoles, index, roles.length - index - 1);
+        return new MembershipSnapshot(newUserIds, newRoles);
+    }
+
+    int size() {
+        return userIds.length;
+    }
+}
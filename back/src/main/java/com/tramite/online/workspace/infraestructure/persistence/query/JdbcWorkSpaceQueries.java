@@ -0,0 +1,176 @@
+package com.tramite.online.workspace.infraestructure.persistence.query;
+
+import com.tramite.online.workspace.application.dto.response.MemberExportRecord;
+import com.tramite.online.workspace.application.dto.response.WorkSpaceExportRecord;
+import com.tramite.online.workspace.application.dto.response.WorkSpaceResponse;
+import com.tramite.online.workspace.application.query.WorkSpaceQueries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Adapter JDBC de WorkSpaceQueries: mapea cada fila directo a WorkSpaceResponse,
+ * sin contexto de persistencia (ni snapshots para dirty checking) ni objetos intermedios.
+ * Usa el indice idx_workspaces_owner_created_id.
+ *
+ * @author dgarcia
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class JdbcWorkSpaceQueries implements WorkSpaceQueries {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcWorkSpaceQueries.class);
+
+    private static final String COLUMNS = """
+            SELECT id, name, description, active, archived, owner_id, created_at, updated_at
+            FROM workspaces
+            """;
+
+    private static final RowMapper<WorkSpaceResponse> ROW_MAPPER = (rs, rowNum) -> new WorkSpaceResponse(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getBoolean("active"),
+            rs.getBoolean("archived"),
+            rs.getLong("owner_id"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class)
+    );
+
+    private static final String EXPORT = COLUMNS + """
+            ORDER BY id
+            """;
+
+    /**
+     * El join ordenado por (w.id, m.id) permite a Postgres un merge join sobre los
+     * indices y agrupar los miembros de cada workspace recorriendo el cursor una sola vez
+     */
+    private static final String EXPORT_WITH_MEMBERS = """
+            SELECT w.id, w.name, w.description, w.active, w.archived, w.owner_id, w.created_at, w.updated_at,
+                   m.id AS member_id, m.user_id, m.role, m.joined_at
+            FROM workspaces w
+            LEFT JOIN workspaces_members m ON m.workspace_id = w.id
+            ORDER BY w.id, m.id
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate streamingTemplate;
+
+    public JdbcWorkSpaceQueries(JdbcClient jdbcClient,
+                                DataSource dataSource,
+                                @Value("${app.workspace.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcClient = jdbcClient;
+        // plantilla propia con fetchSize: el driver lee el cursor por bloques y no todo el resultado
+        this.streamingTemplate = new JdbcTemplate(dataSource);
+        this.streamingTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public List<WorkSpaceResponse> findByOwnerId(Long ownerId, LocalDateTime createdAfter, Long idAfter, int limit) {
+        logger.debug("Querying workspaces page by owner id {} after ({}, {})", ownerId, createdAfter, idAfter);
+        if (createdAfter == null || idAfter == null) {
+            return jdbcClient.sql(COLUMNS + """
+                            WHERE owner_id = :ownerId
+                            ORDER BY created_at, id
+                            LIMIT :limit
+                            """)
+                    .param("ownerId", ownerId)
+                    .param("limit", limit)
+                    .query(ROW_MAPPER)
+                    .list();
+        }
+        return jdbcClient.sql(COLUMNS + """
+                        WHERE owner_id = :ownerId
+                          AND (created_at, id) > (:createdAt, :id)
+                        ORDER BY created_at, id
+                        LIMIT :limit
+                        """)
+                .param("ownerId", ownerId)
+                .param("createdAt", createdAfter)
+                .param("id", idAfter)
+                .param("limit", limit)
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public void forEachWorkSpace(boolean includeMembers, Consumer<WorkSpaceExportRecord> consumer) {
+        logger.debug("Streaming all workspaces (members: {})", includeMembers);
+        if (!includeMembers) {
+            streamingTemplate.query(EXPORT, (RowCallbackHandler) rs ->
+                    consumer.accept(toExportRecord(ROW_MAPPER.mapRow(rs, 0), null)));
+            return;
+        }
+        MemberGroupingHandler handler = new MemberGroupingHandler(consumer);
+        streamingTemplate.query(EXPORT_WITH_MEMBERS, handler);
+        handler.finish();
+    }
+
+    private static WorkSpaceExportRecord toExportRecord(WorkSpaceResponse workSpace, List<MemberExportRecord> members) {
+        return new WorkSpaceExportRecord(
+                workSpace.workSpaceId(),
+                workSpace.name(),
+                workSpace.description(),
+                workSpace.active(),
+                workSpace.archived(),
+                workSpace.ownerId(),
+                workSpace.createdAt(),
+                workSpace.updatedAt(),
+                members
+        );
+    }
+
+    /**
+     * Agrupa las filas consecutivas del mismo workspace; solo retiene en memoria
+     * los miembros del workspace actual
+     */
+    private static final class MemberGroupingHandler implements RowCallbackHandler {
+
+        private final Consumer<WorkSpaceExportRecord> consumer;
+        private WorkSpaceResponse current;
+        private List<MemberExportRecord> members = new ArrayList<>();
+
+        private MemberGroupingHandler(Consumer<WorkSpaceExportRecord> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long workSpaceId = rs.getLong("id");
+            if (current == null || current.workSpaceId() != workSpaceId) {
+                finish();
+                current = ROW_MAPPER.mapRow(rs, 0);
+            }
+            long memberId = rs.getLong("member_id");
+            if (!rs.wasNull()) {
+                members.add(new MemberExportRecord(
+                        memberId,
+                        rs.getLong("user_id"),
+                        rs.getString("role"),
+                        rs.getObject("joined_at", LocalDateTime.class)));
+            }
+        }
+
+        private void finish() {
+            if (current != null) {
+                consumer.accept(toExportRecord(current, members));
+                members = new ArrayList<>();
+                current = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.tramite.online.workspace.infraestructure.persistence.repository;
+
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+
+/**
+ * Proyeccion (userId, role) de workspaces_members usada para cargar
+ * el indice de membresia sin materializar las entidades completas
+ */
+public interface MemberRoleProjection {
+    Long getUserId();
+    WorkspaceRole getRole();
+}
@@ -2,8 +2,11 @@ package com.tramite.online.workspace.infraestructure.persistence.repository;
 
 import com.tramite.online.workspace.infraestructure.persistence.entity.WorkSpaceMemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +36,69 @@ public interface WorkSpaceMemberJpaRepository extends JpaRepository<WorkSpaceMem
    */
   List<WorkSpaceMemberEntity> findByWorkSpaceId(Long workSpaceId);
 
+  /**
+   * Primera pagina keyset de los miembros de un workspace
+   * Usa el indice idx_workspaces_members_workspace_joined_id, sin OFFSET ni COUNT(*)
+   *
+   * @param workSpaceId el ID del workspace
+   * @param limit cantidad maxima de filas
+   * @return List ordenada por (joined_at, id)
+   */
+  @Query(value = """
+          SELECT * FROM workspaces_members
+          WHERE workspace_id = :workSpaceId
+          ORDER BY joined_at, id
+          LIMIT :limit
+          """, nativeQuery = true)
+  List<WorkSpaceMemberEntity> findFirstPageByWorkSpaceId(@Param("workSpaceId") Long workSpaceId,
+                                                         @Param("limit") int limit);
+
+  /**
+   * Pagina keyset siguiente a la fila (joinedAt, id)
+   * Genera SQL: ... WHERE workspace_id = ? AND (joined_at, id) > (?, ?) ORDER BY joined_at, id LIMIT ?
+   *
+   * @param workSpaceId el ID del workspace
+   * @param joinedAt joined_at de la ultima fila de la pagina anterior
+   * @param id id de la ultima fila de la pagina anterior
+   * @param limit cantidad maxima de filas
+   * @return List ordenada por (joined_at, id)
+   */
+  @Query(value = """
+          SELECT * FROM workspaces_members
+          WHERE workspace_id = :workSpaceId
+            AND (joined_at, id) > (:joinedAt, :id)
+          ORDER BY joined_at, id
+          LIMIT :limit
+          """, nativeQuery = true)
+  List<WorkSpaceMemberEntity> findPageByWorkSpaceIdAfter(@Param("workSpaceId") Long workSpaceId,
+                                                         @Param("joinedAt") LocalDateTime joinedAt,
+                                                         @Param("id") Long id,
+                                                         @Param("limit") int limit);
+
+  /**
+   * Lista (userId, role) de los miembros de un workspace ordenados por userId
+   * Genera SQL: SELECT user_id, role FROM workspaces_members WHERE workspace_id = ? ORDER BY user_id
+   *
+   * @param workSpaceId el ID del workspace
+   * @return List de proyecciones ordenada por userId
+   */
+  @Query("""
+          SELECT m.userId AS userId, m.role AS role FROM WorkSpaceMemberEntity m
+          WHERE m.workSpaceId = :workSpaceId
+          ORDER BY m.userId
+          """)
+  List<MemberRoleProjection> findRolesByWorkSpaceId(@Param("workSpaceId") Long workSpaceId);
+
+  /**
+   * Version de la membresia de un workspace; la suben los triggers de workspaces_members en cada cambio
+   * Genera SQL: SELECT members_version FROM workspaces WHERE id = ?
+   *
+   * @param workSpaceId el ID del workspace
+   * @return Optional con la version, empty si el workspace no existe
+   */
+  @Query(value = "SELECT members_version FROM workspaces WHERE id = :workSpaceId", nativeQuery = true)
+  Optional<Long> findMembersVersion(@Param("workSpaceId") Long workSpaceId);
+
   /**
    * Busca un miembro específico en un workspace por ID del usuario
    * Genera SQL: SELECT * FROM workspace_members WHERE workspace_id = ? AND user_id = ?
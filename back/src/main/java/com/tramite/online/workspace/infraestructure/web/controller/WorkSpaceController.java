@@ -1,17 +1,27 @@
 package com.tramite.online.workspace.infraestructure.web.controller;
 
 
+import com.tramite.online.common.models.PagedResult;
 import com.tramite.online.workspace.application.dto.command.*;
+import com.tramite.online.workspace.application.dto.response.BulkAddMembersResponse;
+import com.tramite.online.workspace.application.dto.response.MemberResponse;
 import com.tramite.online.workspace.application.dto.response.WorkSpaceResponse;
+import com.tramite.online.workspace.application.export.ExportFormat;
+import com.tramite.online.workspace.application.importer.MemberImportFormat;
 import com.tramite.online.workspace.application.usecases.*;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
 
 /**
  *Controlador REST para gestionar WorkSpaces
@@ -37,6 +47,9 @@ public class WorkSpaceController {
             archiveWorkSpaceUseCase;
     private final ListWorkSpacesByOwnerUseCase
             listWorkSpacesByOwnerUseCase;
+    private final ListMembersUseCase listMembersUseCase;
+    private final BulkAddMembersUseCase bulkAddMembersUseCase;
+    private final ExportWorkSpacesUseCase exportWorkSpacesUseCase;
 
     public WorkSpaceController(CreateWorkSpaceUseCase
                                        createWorkSpaceUseCase,
@@ -49,7 +62,13 @@ public class WorkSpaceController {
                                ArchiveWorkSpaceUseCase
                                        archiveWorkSpaceUseCase,
                                ListWorkSpacesByOwnerUseCase
-                                       listWorkSpacesByOwnerUseCase) {
+                                       listWorkSpacesByOwnerUseCase,
+                               ListMembersUseCase
+                                       listMembersUseCase,
+                               BulkAddMembersUseCase
+                                       bulkAddMembersUseCase,
+                               ExportWorkSpacesUseCase
+                                       exportWorkSpacesUseCase) {
         this.createWorkSpaceUseCase = createWorkSpaceUseCase;
         this.getWorkSpaceByIdUseCase = getWorkSpaceByIdUseCase;
         this.deleteWorkSpaceUseCase = deleteWorkSpaceUseCase;
@@ -57,6 +76,9 @@ public class WorkSpaceController {
         this.archiveWorkSpaceUseCase = archiveWorkSpaceUseCase;
         this.listWorkSpacesByOwnerUseCase =
                 listWorkSpacesByOwnerUseCase;
+        this.listMembersUseCase = listMembersUseCase;
+        this.bulkAddMembersUseCase = bulkAddMembersUseCase;
+        this.exportWorkSpacesUseCase = exportWorkSpacesUseCase;
     }
 
 
@@ -67,6 +89,32 @@ public class WorkSpaceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping
+    public ResponseEntity<PagedResult<WorkSpaceResponse>> listWorkSpaces(
+            @RequestParam Long ownerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        logger.info("List workspaces by owner: {}", ownerId);
+        ListWorkSpacesByOwnerCommand command = new
+                ListWorkSpacesByOwnerCommand(ownerId, cursor, size);
+        return ResponseEntity.ok(listWorkSpacesByOwnerUseCase.execute(command));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWorkSpaces(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
+        logger.info("Export workspaces as {} (members: {})", format, includeMembers);
+        ExportWorkSpacesCommand command = new
+                ExportWorkSpacesCommand(format, includeMembers);
+        StreamingResponseBody body = out -> exportWorkSpacesUseCase.execute(command, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"workspaces." + format.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<WorkSpaceResponse>
     getWorkSpace(@PathVariable Long id) {
@@ -95,8 +143,29 @@ public class WorkSpaceController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/members")
+    public ResponseEntity<PagedResult<MemberResponse>> listMembers(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        logger.info("List members of workspace: {}", id);
+        ListMembersByWorkSpaceCommand command = new
+                ListMembersByWorkSpaceCommand(id, cursor, size);
+        return ResponseEntity.ok(listMembersUseCase.execute(command));
+    }
 
-
-
+    @PostMapping(value = "/{id}/members:batch", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<BulkAddMembersResponse> bulkAddMembers(
+            @PathVariable Long id,
+            @RequestHeader("Content-Type") MediaType contentType,
+            InputStream content) {
+        logger.info("Bulk add members to workspace: {}", id);
+        MemberImportFormat format = contentType.isCompatibleWith(MediaType.parseMediaType(MemberImportFormat.CSV.getMediaType()))
+                ? MemberImportFormat.CSV
+                : MemberImportFormat.NDJSON;
+        BulkAddMembersCommand command = new
+                BulkAddMembersCommand(id, format, content);
+        return ResponseEntity.ok(bulkAddMembersUseCase.execute(command));
+    }
 
 }
@@ -0,0 +1,39 @@
+-- Registro de publicaciones de eventos de Spring Modulith (JPA) y su archivo.
+-- Con spring.modulith.events.completion-mode=archive las publicaciones completadas
+-- se mueven a event_publication_archive, asi event_publication solo contiene pendientes.
+
+CREATE TABLE IF NOT EXISTS event_publication (
+    id                      UUID NOT NULL PRIMARY KEY,
+    listener_id             TEXT NOT NULL,
+    event_type              TEXT NOT NULL,
+    serialized_event        TEXT NOT NULL,
+    publication_date        TIMESTAMP WITH TIME ZONE NOT NULL,
+    completion_date         TIMESTAMP WITH TIME ZONE,
+    status                  TEXT,
+    completion_attempts     INT,
+    last_resubmission_date  TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_publication_serialized_event_hash
+    ON event_publication USING hash (serialized_event);
+-- pendientes por antiguedad: reenvio y metricas de backlog
+CREATE INDEX IF NOT EXISTS idx_event_publication_incomplete
+    ON event_publication (publication_date) WHERE completion_date IS NULL;
+
+CREATE TABLE IF NOT EXISTS event_publication_archive (
+    id                      UUID NOT NULL PRIMARY KEY,
+    listener_id             TEXT NOT NULL,
+    event_type              TEXT NOT NULL,
+    serialized_event        TEXT NOT NULL,
+    publication_date        TIMESTAMP WITH TIME ZONE NOT NULL,
+    completion_date         TIMESTAMP WITH TIME ZONE,
+    status                  TEXT,
+    completion_attempts     INT,
+    last_resubmission_date  TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_publication_archive_serialized_event_hash
+    ON event_publication_archive USING hash (serialized_event);
+-- purga por lotes de archivadas
+CREATE INDEX IF NOT EXISTS idx_event_publication_archive_completion_date
+    ON event_publication_archive (completion_date);
@@ -0,0 +1,19 @@
+-- Cola de instancias pendientes de agregar en los rollups de analytics.
+-- El listener de eventos solo inserta aqui (sin contencion); un flusher programado
+-- la drena en lotes y actualiza cada fila de contadores una sola vez por lote.
+CREATE TABLE IF NOT EXISTS analytics_rollup_pending (
+    form_instance_id BIGINT NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    form_config_id BIGINT NOT NULL,
+    enqueued_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (form_instance_id, stage)
+);
+
+CREATE INDEX IF NOT EXISTS idx_analytics_rollup_pending_enqueued ON analytics_rollup_pending(enqueued_at);
+
+-- Instancias ya agregadas por etapa: hace idempotente el flush ante eventos reenviados por el outbox
+CREATE TABLE IF NOT EXISTS analytics_rollup_ledger (
+    form_instance_id BIGINT NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    PRIMARY KEY (form_instance_id, stage)
+);
@@ -0,0 +1,31 @@
+-- Rollups incrementales por formulario y etapa (SUBMITTED / APPROVED).
+-- Los dashboards leen solo estas tablas: O(preguntas + opciones) filas por formulario.
+CREATE TABLE IF NOT EXISTS form_rollup (
+    form_config_id BIGINT NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    submissions BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (form_config_id, stage)
+);
+
+-- weight_sum / weighted_count es el promedio de QuestionOption.weight de las respuestas con opcion
+CREATE TABLE IF NOT EXISTS question_rollup (
+    form_config_id BIGINT NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    config_question_id BIGINT NOT NULL,
+    answered_count BIGINT NOT NULL,
+    weight_sum BIGINT NOT NULL,
+    weighted_count BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (form_config_id, stage, config_question_id)
+);
+
+CREATE TABLE IF NOT EXISTS question_option_rollup (
+    form_config_id BIGINT NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    config_question_id BIGINT NOT NULL,
+    option_value VARCHAR(255) NOT NULL,
+    answer_count BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (form_config_id, stage, config_question_id, option_value)
+);
@@ -0,0 +1,17 @@
+-- Momento del evento (envio / aprobacion) para agregarlo en su bucket de tiempo
+ALTER TABLE analytics_rollup_pending ADD COLUMN IF NOT EXISTS occurred_at TIMESTAMP;
+
+-- Serie temporal de submissions por formulario: una fila por (etapa, resolucion, inicio del bucket).
+-- Cada lote del flush suma en las tres resoluciones a la vez; la retencion borra despues los
+-- buckets de minuto y de hora viejos, los de dia se conservan.
+CREATE TABLE IF NOT EXISTS submission_time_bucket (
+    form_config_id BIGINT NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    resolution VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    count BIGINT NOT NULL,
+    PRIMARY KEY (form_config_id, stage, resolution, bucket_start)
+);
+
+-- Para la retencion: borrar por resolucion y antiguedad sin recorrer todos los formularios
+CREATE INDEX IF NOT EXISTS idx_submission_time_bucket_retention ON submission_time_bucket(resolution, bucket_start);
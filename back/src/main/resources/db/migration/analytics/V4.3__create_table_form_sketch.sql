@@ -0,0 +1,35 @@
+-- Observaciones pendientes de agregar en los sketches (usuario que envia o duracion en ms).
+-- Misma estrategia que los rollups: el listener solo inserta y un flusher agrega en lotes.
+CREATE TABLE IF NOT EXISTS analytics_sketch_pending (
+    form_instance_id BIGINT NOT NULL,
+    metric VARCHAR(30) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    form_config_id BIGINT NOT NULL,
+    workspace_id BIGINT NOT NULL,
+    value BIGINT NOT NULL,
+    enqueued_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (form_instance_id, metric, occurred_at)
+);
+
+CREATE INDEX IF NOT EXISTS idx_analytics_sketch_pending_enqueued ON analytics_sketch_pending(enqueued_at);
+
+-- Observaciones ya agregadas: los eventos reenviados por el outbox no se cuentan dos veces
+CREATE TABLE IF NOT EXISTS analytics_sketch_ledger (
+    form_instance_id BIGINT NOT NULL,
+    metric VARCHAR(30) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (form_instance_id, metric, occurred_at)
+);
+
+-- Un sketch serializado (HyperLogLog o DDSketch) por formulario y metrica.
+-- Las vistas de workspace combinan los sketches de sus formularios al leer.
+CREATE TABLE IF NOT EXISTS form_sketch (
+    form_config_id BIGINT NOT NULL,
+    metric VARCHAR(30) NOT NULL,
+    workspace_id BIGINT NOT NULL,
+    sketch BYTEA,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (form_config_id, metric)
+);
+
+CREATE INDEX IF NOT EXISTS idx_form_sketch_workspace ON form_sketch(workspace_id);
@@ -0,0 +1,22 @@
+-- Create form_config table (raiz del arbol de configuracion de un formulario)
+-- Secuencias con incremento 50: cada nextval reserva un bloque de ids y permite
+-- insertar el arbol completo con batch, igual que en workspace.
+CREATE SEQUENCE IF NOT EXISTS form_config_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS form_config (
+    id BIGINT PRIMARY KEY DEFAULT nextval('form_config_seq'),
+    workspace_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    slug VARCHAR(250),
+    description TEXT,
+    status VARCHAR(20) NOT NULL,
+    version INTEGER NOT NULL DEFAULT 0,
+    published_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_form_config_slug UNIQUE (slug)
+);
+
+ALTER SEQUENCE form_config_seq OWNED BY form_config.id;
+
+CREATE INDEX IF NOT EXISTS idx_form_config_workspace_id ON form_config(workspace_id);
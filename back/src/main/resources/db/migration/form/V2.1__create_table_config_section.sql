@@ -0,0 +1,20 @@
+-- Create config_section table
+CREATE SEQUENCE IF NOT EXISTS config_section_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS config_section (
+    id BIGINT PRIMARY KEY DEFAULT nextval('config_section_seq'),
+    form_config_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    display_order INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_config_section_form_config_id
+        FOREIGN KEY (form_config_id)
+        REFERENCES form_config(id) ON DELETE CASCADE
+);
+
+ALTER SEQUENCE config_section_seq OWNED BY config_section.id;
+
+-- El loader del arbol lee cada nivel por id de padre ordenado por display_order
+CREATE INDEX IF NOT EXISTS idx_config_section_form_order ON config_section(form_config_id, display_order, id);
@@ -0,0 +1,30 @@
+-- Create config_question table
+CREATE SEQUENCE IF NOT EXISTS config_question_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS config_question (
+    id BIGINT PRIMARY KEY DEFAULT nextval('config_question_seq'),
+    config_section_id BIGINT NOT NULL,
+    text VARCHAR(500) NOT NULL,
+    description TEXT,
+    type VARCHAR(30) NOT NULL,
+    display_order INTEGER NOT NULL,
+    required BOOLEAN NOT NULL DEFAULT FALSE,
+    placeholder VARCHAR(255),
+    help_text TEXT,
+    validation_pattern VARCHAR(500),
+    validation_message VARCHAR(255),
+    min_length INTEGER,
+    max_length INTEGER,
+    min_value INTEGER,
+    max_value INTEGER,
+    default_value TEXT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_config_question_section_id
+        FOREIGN KEY (config_section_id)
+        REFERENCES config_section(id) ON DELETE CASCADE
+);
+
+ALTER SEQUENCE config_question_seq OWNED BY config_question.id;
+
+CREATE INDEX IF NOT EXISTS idx_config_question_section_order ON config_question(config_section_id, display_order, id);
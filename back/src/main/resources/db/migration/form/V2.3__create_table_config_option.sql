@@ -0,0 +1,19 @@
+-- Create config_option table
+CREATE SEQUENCE IF NOT EXISTS config_option_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS config_option (
+    id BIGINT PRIMARY KEY DEFAULT nextval('config_option_seq'),
+    config_question_id BIGINT NOT NULL,
+    label VARCHAR(255) NOT NULL,
+    value VARCHAR(255) NOT NULL,
+    weight INTEGER NOT NULL DEFAULT 0,
+    display_order INTEGER NOT NULL,
+    metadata TEXT,
+    CONSTRAINT fk_config_option_question_id
+        FOREIGN KEY (config_question_id)
+        REFERENCES config_question(id) ON DELETE CASCADE
+);
+
+ALTER SEQUENCE config_option_seq OWNED BY config_option.id;
+
+CREATE INDEX IF NOT EXISTS idx_config_option_question_order ON config_option(config_question_id, display_order, id);
@@ -0,0 +1,33 @@
+-- Trabajos asincronos (exportaciones, recalculos de analytics) ejecutados por el pool de workers.
+-- checkpoint_id / checkpoint_state guardan hasta donde llego el trabajo: si el worker muere,
+-- la recuperacion por heartbeat lo vuelve a encolar y el handler retoma desde ahi.
+CREATE TABLE IF NOT EXISTS job (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(100) NOT NULL,
+    workspace_id BIGINT NOT NULL,
+    payload TEXT,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    max_attempts INT NOT NULL,
+    processed BIGINT NOT NULL DEFAULT 0,
+    total BIGINT,
+    checkpoint_id BIGINT,
+    checkpoint_state TEXT,
+    result TEXT,
+    error TEXT,
+    worker_id VARCHAR(64),
+    cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+    heartbeat_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Cola: solo los encolados, en orden de llegada
+CREATE INDEX IF NOT EXISTS idx_job_queued ON job(created_at, id) WHERE status = 'QUEUED';
+
+-- Conteo de trabajos en curso por workspace (limite de concurrencia) y deteccion de heartbeats vencidos
+CREATE INDEX IF NOT EXISTS idx_job_running ON job(workspace_id, heartbeat_at) WHERE status = 'RUNNING';
+
+CREATE INDEX IF NOT EXISTS idx_job_workspace ON job(workspace_id, created_at DESC, id DESC);
@@ -0,0 +1,18 @@
+-- Create form_instance table (copia materializada de una version publicada de form_config)
+-- Las tablas de instancia se llenan solo con INSERT ... SELECT desde la config, por eso usan
+-- BIGSERIAL (incremento 1) y no las secuencias pooled de 50 pensadas para Hibernate.
+CREATE TABLE IF NOT EXISTS form_instance (
+    id BIGSERIAL PRIMARY KEY,
+    form_config_id BIGINT NOT NULL,
+    form_version INTEGER NOT NULL,
+    user_id BIGINT,
+    status VARCHAR(30) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_form_instance_form_config_id
+        FOREIGN KEY (form_config_id)
+        REFERENCES form_config(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_form_instance_form_status ON form_instance(form_config_id, status);
+CREATE INDEX IF NOT EXISTS idx_form_instance_user_id ON form_instance(user_id);
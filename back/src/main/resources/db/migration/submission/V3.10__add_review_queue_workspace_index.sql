@@ -0,0 +1,8 @@
+-- Cola de revision: el claim recorre los pares (workspace, formulario) con casos en espera
+-- saltando por el indice (loose index scan) y toma los mas antiguos de cada formulario.
+-- Con workspace_id al frente el filtro por workspace tambien se resuelve en el indice.
+CREATE INDEX IF NOT EXISTS idx_form_instance_submitted_queue
+    ON form_instance(workspace_id, form_config_id, submitted_at, id)
+    WHERE status = 'SUBMITTED';
+
+DROP INDEX IF EXISTS idx_form_instance_submitted;
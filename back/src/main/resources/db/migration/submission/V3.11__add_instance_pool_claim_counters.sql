@@ -0,0 +1,7 @@
+-- Demanda del pool compartida entre nodos: cada nodo suma en claims los claims que atendio en cada tick;
+-- el nodo que rellena toma la diferencia con sampled_claims desde sampled_at y actualiza la tasa (EWMA)
+ALTER TABLE instance_pool
+    ADD COLUMN IF NOT EXISTS claims BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS sampled_claims BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS sampled_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS claim_rate DOUBLE PRECISION NOT NULL DEFAULT 0;
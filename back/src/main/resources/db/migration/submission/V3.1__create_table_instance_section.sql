@@ -0,0 +1,14 @@
+-- Create instance_section table
+CREATE TABLE IF NOT EXISTS instance_section (
+    id BIGSERIAL PRIMARY KEY,
+    form_instance_id BIGINT NOT NULL,
+    config_section_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    display_order INTEGER NOT NULL,
+    CONSTRAINT fk_instance_section_form_instance_id
+        FOREIGN KEY (form_instance_id)
+        REFERENCES form_instance(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_instance_section_form_instance_id ON instance_section(form_instance_id);
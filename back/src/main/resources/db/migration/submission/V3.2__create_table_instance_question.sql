@@ -0,0 +1,37 @@
+-- Create instance_question table
+-- form_instance_id se desnormaliza para copiar y leer todas las preguntas de una instancia
+-- sin pasar por instance_section
+CREATE TABLE IF NOT EXISTS instance_question (
+    id BIGSERIAL PRIMARY KEY,
+    form_instance_id BIGINT NOT NULL,
+    instance_section_id BIGINT NOT NULL,
+    config_question_id BIGINT NOT NULL,
+    text VARCHAR(500) NOT NULL,
+    description TEXT,
+    type VARCHAR(30) NOT NULL,
+    display_order INTEGER NOT NULL,
+    required BOOLEAN NOT NULL DEFAULT FALSE,
+    placeholder VARCHAR(255),
+    help_text TEXT,
+    validation_pattern VARCHAR(500),
+    validation_message VARCHAR(255),
+    min_length INTEGER,
+    max_length INTEGER,
+    min_value INTEGER,
+    max_value INTEGER,
+    default_value TEXT,
+    CONSTRAINT fk_instance_question_form_instance_id
+        FOREIGN KEY (form_instance_id)
+        REFERENCES form_instance(id) ON DELETE CASCADE,
+    CONSTRAINT fk_instance_question_section_id
+        FOREIGN KEY (instance_section_id)
+        REFERENCES instance_section(id) ON DELETE CASCADE,
+    -- R2: cada pregunta copiada referencia a su pregunta de configuracion;
+    -- tambien impide borrar una config_question con instancias (R3)
+    CONSTRAINT fk_instance_question_config_question_id
+        FOREIGN KEY (config_question_id)
+        REFERENCES config_question(id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_instance_question_form_instance_id ON instance_question(form_instance_id);
+CREATE INDEX IF NOT EXISTS idx_instance_question_config_question_id ON instance_question(config_question_id);
@@ -0,0 +1,19 @@
+-- Create instance_option table
+CREATE TABLE IF NOT EXISTS instance_option (
+    id BIGSERIAL PRIMARY KEY,
+    form_instance_id BIGINT NOT NULL,
+    instance_question_id BIGINT NOT NULL,
+    config_option_id BIGINT NOT NULL,
+    label VARCHAR(255) NOT NULL,
+    value VARCHAR(255) NOT NULL,
+    weight INTEGER NOT NULL DEFAULT 0,
+    display_order INTEGER NOT NULL,
+    CONSTRAINT fk_instance_option_form_instance_id
+        FOREIGN KEY (form_instance_id)
+        REFERENCES form_instance(id) ON DELETE CASCADE,
+    CONSTRAINT fk_instance_option_question_id
+        FOREIGN KEY (instance_question_id)
+        REFERENCES instance_question(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_instance_option_form_instance_id ON instance_option(form_instance_id);
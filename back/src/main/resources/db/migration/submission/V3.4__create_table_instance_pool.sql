@@ -0,0 +1,21 @@
+-- Pool de instancias pre-generadas para formularios de alto trafico.
+-- Las instancias del pool son filas de form_instance con status POOLED y sin user_id;
+-- al iniciar el formulario se reclaman con FOR UPDATE SKIP LOCKED.
+CREATE TABLE IF NOT EXISTS instance_pool (
+    form_config_id BIGINT PRIMARY KEY,
+    min_size INTEGER NOT NULL,
+    max_size INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_instance_pool_form_config_id
+        FOREIGN KEY (form_config_id)
+        REFERENCES form_config(id) ON DELETE CASCADE,
+    CONSTRAINT ck_instance_pool_size
+        CHECK (min_size >= 0 AND max_size >= min_size)
+);
+
+-- Indice parcial: solo contiene las instancias disponibles, el claim y el conteo de
+-- profundidad no recorren las instancias ya asignadas
+CREATE INDEX IF NOT EXISTS idx_form_instance_pooled
+    ON form_instance(form_config_id, form_version, id)
+    WHERE status = 'POOLED';
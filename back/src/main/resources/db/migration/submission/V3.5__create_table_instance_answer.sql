@@ -0,0 +1,20 @@
+-- Create instance_answer table: una respuesta por pregunta de la instancia
+CREATE TABLE IF NOT EXISTS instance_answer (
+    id BIGSERIAL PRIMARY KEY,
+    form_instance_id BIGINT NOT NULL,
+    instance_question_id BIGINT NOT NULL,
+    value TEXT,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_instance_answer_form_instance_id
+        FOREIGN KEY (form_instance_id)
+        REFERENCES form_instance(id) ON DELETE CASCADE,
+    CONSTRAINT fk_instance_answer_question_id
+        FOREIGN KEY (instance_question_id)
+        REFERENCES instance_question(id) ON DELETE CASCADE,
+    -- clave del upsert del autoguardado
+    CONSTRAINT uk_instance_answer_question
+        UNIQUE (form_instance_id, instance_question_id)
+);
+
+-- Version del borrador para concurrencia optimista: cada guardado la incrementa
+ALTER TABLE form_instance ADD COLUMN IF NOT EXISTS draft_version INTEGER NOT NULL DEFAULT 0;
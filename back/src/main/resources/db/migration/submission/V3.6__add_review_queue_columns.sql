@@ -0,0 +1,21 @@
+-- Cola de revision: las instancias SUBMITTED se reclaman con FOR UPDATE SKIP LOCKED.
+-- workspace_id se desnormaliza desde form_config para repartir los casos entre workspaces
+-- sin join en cada claim.
+ALTER TABLE form_instance ADD COLUMN IF NOT EXISTS workspace_id BIGINT;
+UPDATE form_instance fi SET workspace_id = f.workspace_id
+FROM form_config f
+WHERE f.id = fi.form_config_id AND fi.workspace_id IS NULL;
+ALTER TABLE form_instance ALTER COLUMN workspace_id SET NOT NULL;
+
+ALTER TABLE form_instance ADD COLUMN IF NOT EXISTS submitted_at TIMESTAMP;
+ALTER TABLE form_instance ADD COLUMN IF NOT EXISTS reviewer_id BIGINT;
+ALTER TABLE form_instance ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP;
+
+-- Indice parcial: solo las instancias en espera de revisor, ordenadas por antiguedad dentro de cada formulario
+CREATE INDEX IF NOT EXISTS idx_form_instance_submitted
+    ON form_instance(form_config_id, submitted_at, id)
+    WHERE status = 'SUBMITTED';
+
+CREATE INDEX IF NOT EXISTS idx_form_instance_reviewer
+    ON form_instance(reviewer_id, status)
+    WHERE reviewer_id IS NOT NULL;
@@ -0,0 +1,17 @@
+-- Create submission_revision table: auditoria de cada transicion de estado de una instancia.
+-- Se inserta en batch junto con la actualizacion de estado (una fila por instancia transicionada).
+CREATE TABLE IF NOT EXISTS submission_revision (
+    id BIGSERIAL PRIMARY KEY,
+    form_instance_id BIGINT NOT NULL,
+    revised_by BIGINT,
+    action VARCHAR(30) NOT NULL,
+    previous_status VARCHAR(30) NOT NULL,
+    new_status VARCHAR(30) NOT NULL,
+    comment TEXT,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_submission_revision_form_instance_id
+        FOREIGN KEY (form_instance_id)
+        REFERENCES form_instance(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_submission_revision_instance ON submission_revision(form_instance_id, created_at);
@@ -0,0 +1,24 @@
+-- Create instance_attachment table: archivo subido como respuesta de una pregunta FILE.
+-- El contenido vive en el almacen local direccionado por contenido (SHA-256); archivos
+-- identicos subidos por distintas instancias comparten el mismo content_hash.
+CREATE TABLE IF NOT EXISTS instance_attachment (
+    id BIGSERIAL PRIMARY KEY,
+    form_instance_id BIGINT NOT NULL,
+    instance_question_id BIGINT NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_instance_attachment_form_instance_id
+        FOREIGN KEY (form_instance_id)
+        REFERENCES form_instance(id) ON DELETE CASCADE,
+    CONSTRAINT fk_instance_attachment_question_id
+        FOREIGN KEY (instance_question_id)
+        REFERENCES instance_question(id) ON DELETE CASCADE,
+    -- un archivo por pregunta: volver a subir reemplaza el anterior
+    CONSTRAINT uk_instance_attachment_question
+        UNIQUE (form_instance_id, instance_question_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_instance_attachment_content_hash ON instance_attachment(content_hash);
@@ -0,0 +1,3 @@
+-- La exportacion recorre las instancias de un formulario en orden de id: con este indice
+-- Postgres las lee ya ordenadas y empieza a devolver filas sin ordenar todo el resultado
+CREATE INDEX IF NOT EXISTS idx_form_instance_form_id ON form_instance(form_config_id, id);
@@ -0,0 +1,14 @@
+-- Secuencia con incremento 50 para el optimizador pooled-lo de Hibernate.
+-- La tabla users todavia no tiene migracion propia: si existe, se migra su default.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'users') THEN
+        PERFORM setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM users), false);
+        ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+        ALTER SEQUENCE users_seq OWNED BY users.id;
+        DROP SEQUENCE IF EXISTS users_id_seq;
+    END IF;
+END $$;
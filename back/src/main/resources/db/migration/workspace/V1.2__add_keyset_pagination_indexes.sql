@@ -0,0 +1,10 @@
+-- Indices compuestos para paginacion keyset (seek)
+-- ORDER BY created_at, id / joined_at, id filtrando por owner / workspace
+CREATE INDEX IF NOT EXISTS idx_workspaces_owner_created_id
+    ON workspaces(owner_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_workspaces_members_workspace_joined_id
+    ON workspaces_members(workspace_id, joined_at, id);
+
+-- El prefijo owner_id del nuevo indice cubre las busquedas por propietario
+DROP INDEX IF EXISTS idx_workspaces_owner_id;
@@ -0,0 +1,16 @@
+-- Secuencias con incremento 50 para el optimizador pooled-lo de Hibernate:
+-- cada nextval reserva un bloque de 50 ids y permite batch de inserts.
+-- El default de la columna tambien pasa a la nueva secuencia para que los
+-- inserts por SQL (importacion masiva) no choquen con los bloques de Hibernate.
+
+CREATE SEQUENCE IF NOT EXISTS workspaces_seq INCREMENT BY 50;
+SELECT setval('workspaces_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM workspaces), false);
+ALTER TABLE workspaces ALTER COLUMN id SET DEFAULT nextval('workspaces_seq');
+ALTER SEQUENCE workspaces_seq OWNED BY workspaces.id;
+DROP SEQUENCE IF EXISTS workspaces_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS workspaces_members_seq INCREMENT BY 50;
+SELECT setval('workspaces_members_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM workspaces_members), false);
+ALTER TABLE workspaces_members ALTER COLUMN id SET DEFAULT nextval('workspaces_members_seq');
+ALTER SEQUENCE workspaces_members_seq OWNED BY workspaces_members.id;
+DROP SEQUENCE IF EXISTS workspaces_members_id_seq;
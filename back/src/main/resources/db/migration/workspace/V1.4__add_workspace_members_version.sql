@@ -0,0 +1,29 @@
+-- Version de la membresia de cada workspace: la suben triggers por sentencia (una vez por INSERT,
+-- UPDATE o DELETE sobre workspaces_members, no por fila, asi la importacion masiva no la paga por miembro).
+-- El indice de membresia en memoria de cada nodo la compara periodicamente para recargar
+-- los workspaces cuyos miembros cambiaron en otro nodo.
+ALTER TABLE workspaces ADD COLUMN IF NOT EXISTS members_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_workspace_members_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE workspaces w
+    SET members_version = w.members_version + 1
+    WHERE w.id IN (SELECT DISTINCT workspace_id FROM changed_members);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_workspaces_members_inserted
+    AFTER INSERT ON workspaces_members
+    REFERENCING NEW TABLE AS changed_members
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_workspace_members_version();
+
+CREATE TRIGGER trg_workspaces_members_updated
+    AFTER UPDATE ON workspaces_members
+    REFERENCING NEW TABLE AS changed_members
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_workspace_members_version();
+
+CREATE TRIGGER trg_workspaces_members_deleted
+    AFTER DELETE ON workspaces_members
+    REFERENCING OLD TABLE AS changed_members
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_workspace_members_version();
@@ -0,0 +1,54 @@
+package com.tramite.benchmark.workspace;
+
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mapeo de workspaces_members como estaba antes del cambio a secuencias: el id lo genera la
+ * base en el INSERT y Hibernate lo lee fila por fila. Esta fuera de com.tramite.online para que
+ * el escaneo de entidades de la aplicacion no lo tome; solo lo registra el benchmark que lo usa.
+ */
+@Entity(name = "IdentityWorkSpaceMember")
+@Table(name = "workspaces_members")
+public class IdentityMemberEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "workspace_id")
+    private Long workSpaceId;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private WorkspaceRole role;
+
+    @Column(nullable = false, name = "joined_at")
+    private LocalDateTime joinedAt;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    protected IdentityMemberEntity() {
+    }
+
+    public IdentityMemberEntity(Long workSpaceId, Long userId, WorkspaceRole role) {
+        this.workSpaceId = workSpaceId;
+        this.userId = userId;
+        this.role = role;
+        this.joinedAt = LocalDateTime.now();
+        this.updatedAt = this.joinedAt;
+    }
+}
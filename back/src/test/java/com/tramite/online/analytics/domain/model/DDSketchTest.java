@@ -0,0 +1,105 @@
+package com.tramite.online.analytics.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class DDSketchTest {
+
+    private static final double[] QUANTILES = {0, 0.5, 0.9, 0.95, 0.99, 1};
+
+    @Test
+    void emptyBytesAreAnEmptySketch() {
+        DDSketch sketch = DDSketch.fromBytes(null);
+
+        assertThat(sketch.getCount()).isZero();
+        assertThatThrownBy(() -> sketch.quantile(0.5)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void roundTripKeepsCountsAndQuantiles() {
+        DDSketch sketch = new DDSketch();
+        long[] values = randomDurations(20_000, 1);
+        for (long value : values) {
+            sketch.add(value);
+        }
+        sketch.add(0);
+
+        DDSketch restored = DDSketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.getCount()).isEqualTo(sketch.getCount());
+        assertThat(restored.toBytes()).isEqualTo(sketch.toBytes());
+        for (double q : QUANTILES) {
+            assertThat(restored.quantile(q)).isEqualTo(sketch.quantile(q));
+        }
+    }
+
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        long[] values = randomDurations(50_000, 2);
+        DDSketch sketch = new DDSketch();
+        for (long value : values) {
+            sketch.add(value);
+        }
+        Arrays.sort(values);
+
+        for (double q : QUANTILES) {
+            long exact = values[(int) (q * (values.length - 1))];
+            // 1% relativo mas el redondeo a milisegundos enteros
+            assertThat((double) sketch.quantile(q)).isCloseTo(exact, within(exact * 0.01 + 1));
+        }
+    }
+
+    @Test
+    void mergeMatchesSketchOfAllValues() {
+        long[] values = randomDurations(10_000, 3);
+        DDSketch all = new DDSketch();
+        DDSketch left = new DDSketch();
+        DDSketch right = new DDSketch();
+        for (int i = 0; i < values.length; i++) {
+            all.add(values[i]);
+            (i % 3 == 0 ? left : right).add(values[i]);
+        }
+
+        DDSketch merged = DDSketch.fromBytes(left.toBytes());
+        merged.merge(DDSketch.fromBytes(right.toBytes()));
+
+        assertThat(merged.getCount()).isEqualTo(values.length);
+        assertThat(merged.toBytes()).isEqualTo(all.toBytes());
+    }
+
+    @Test
+    void valuesBelowOneMillisecondCountAsZero() {
+        DDSketch sketch = new DDSketch();
+        sketch.add(0);
+        sketch.add(-3);
+        sketch.add(1_000);
+
+        assertThat(sketch.quantile(0)).isZero();
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat((double) sketch.quantile(1)).isCloseTo(1_000, within(10.0));
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        assertThatThrownBy(() -> DDSketch.fromBytes(new byte[]{7, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Duraciones log-uniformes entre 1 ms y ~30 dias, el rango que cubre el sketch en la practica
+     */
+    private static long[] randomDurations(int size, long seed) {
+        Random random = new Random(seed);
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = Math.max(1, Math.round(Math.exp(random.nextDouble() * Math.log(2_592_000_000d))));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,91 @@
+package com.tramite.online.analytics.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void emptyBytesAreAnEmptySketch() {
+        assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+        assertThat(HyperLogLog.fromBytes(new byte[0]).estimate()).isZero();
+    }
+
+    @Test
+    void sparseRoundTripKeepsEstimate() {
+        HyperLogLog hll = sketchOf(1, 100);
+        byte[] bytes = hll.toBytes();
+
+        assertThat(bytes.length).isLessThan(4096);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(hll.estimate());
+        assertThat(HyperLogLog.fromBytes(bytes).toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void denseRoundTripKeepsEstimate() {
+        HyperLogLog hll = sketchOf(1, 50_000);
+        byte[] bytes = hll.toBytes();
+
+        assertThat(bytes.length).isEqualTo(2 + 4096);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(hll.estimate());
+    }
+
+    @Test
+    void mergeIsTheUnion() {
+        HyperLogLog merged = sketchOf(1, 60_000);
+        merged.merge(sketchOf(40_001, 100_000));
+
+        assertThat(merged.estimate()).isEqualTo(sketchOf(1, 100_000).estimate());
+    }
+
+    @Test
+    void mergeOfDeserializedSketchesMatchesInMemoryMerge() {
+        HyperLogLog left = sketchOf(1, 300);
+        HyperLogLog right = sketchOf(200, 20_000);
+        HyperLogLog expected = sketchOf(1, 20_000);
+
+        HyperLogLog merged = HyperLogLog.fromBytes(left.toBytes());
+        merged.merge(HyperLogLog.fromBytes(right.toBytes()));
+
+        assertThat(merged.toBytes()).isEqualTo(expected.toBytes());
+    }
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        // error estandar ~1.6%: 4 desvios dejan margen para no ser un test inestable
+        for (long distinct : new long[]{10, 1_000, 10_000, 1_000_000}) {
+            assertThat((double) sketchOf(1, distinct).estimate())
+                    .isCloseTo(distinct, within(Math.max(1, distinct * 0.065)));
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeEstimate() {
+        HyperLogLog hll = sketchOf(1, 5_000);
+        long estimate = hll.estimate();
+        for (long i = 1; i <= 5_000; i++) {
+            hll.add(i);
+        }
+
+        assertThat(hll.estimate()).isEqualTo(estimate);
+    }
+
+    @Test
+    void rejectsUnknownFormatOrPrecision() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{9, 12}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{1, 14}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HyperLogLog sketchOf(long from, long to) {
+        HyperLogLog hll = new HyperLogLog();
+        for (long i = from; i <= to; i++) {
+            hll.add(i);
+        }
+        return hll;
+    }
+}
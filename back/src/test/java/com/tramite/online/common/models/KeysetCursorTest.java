@@ -0,0 +1,63 @@
+package com.tramite.online.common.models;
+
+import com.tramite.online.shared.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_456_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsWholeSecondsAndLargeIds() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void blankTokenIsTheFirstPage(String token) {
+        assertThat(KeysetCursor.decode(token)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no es base64!", "%%%"})
+    void rejectsTokensThatAreNotBase64(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(token)).isInstanceOf(ValidationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2026-10-18T09:30", "|42", "2026-10-18T09:30|", "2026-10-18T09:30|abc",
+            "ayer|42", "2026-13-01T00:00|42", "2026-10-18T09:30|99999999999999999999"})
+    void rejectsMalformedContent(String raw) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode(token)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void requiresPositionAndId() {
+        assertThatThrownBy(() -> new KeysetCursor(null, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetCursor(LocalDateTime.now(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
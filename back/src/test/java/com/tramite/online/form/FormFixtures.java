@@ -0,0 +1,38 @@
+package com.tramite.online.form;
+
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionOption;
+import com.tramite.online.form.domain.model.QuestionType;
+
+/**
+ * Formularios en borrador de tamaño configurable para las pruebas que necesitan persistir uno.
+ * Secciones, preguntas y opciones se agregan en orden inverso para verificar que quien lee el
+ * arbol lo ordena por displayOrder y no por orden de insercion.
+ */
+public final class FormFixtures {
+
+    private FormFixtures() {
+    }
+
+    /**
+     * Formulario del workspace 1 con titulo unico (prefix + nanoTime); options solo aplica a
+     * tipos con opciones
+     */
+    public static Form newForm(String prefix, int sections, int questions, QuestionType type, int options) {
+        Form form = new Form(1L, prefix + "-" + System.nanoTime(), prefix);
+        for (int s = sections - 1; s >= 0; s--) {
+            FormSection section = new FormSection(null, "Seccion " + s, s);
+            for (int q = questions - 1; q >= 0; q--) {
+                Question question = new Question(null, "Pregunta " + q, type, q);
+                for (int o = options - 1; o >= 0; o--) {
+                    question.addOption(new QuestionOption("Opcion " + o, String.valueOf(o), o, o));
+                }
+                section.addQuestion(question);
+            }
+            form.addSection(section);
+        }
+        return form;
+    }
+}
@@ -0,0 +1,101 @@
+package com.tramite.online.form;
+
+import com.tramite.online.TestcontainersConfiguration;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionOption;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.form.domain.repository.FormRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de carga del arbol de un formulario de 50 secciones x 40 preguntas x 10 opciones.
+ * "antes": una consulta por seccion y otra por pregunta (lo que haria un mapeo JPA lazy).
+ * "despues": FormRepository.findById, una consulta por nivel.
+ * Se ejecuta con: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class FormTreeLoadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormTreeLoadBenchmarkTest.class);
+    private static final int SECTIONS = 50;
+    private static final int QUESTIONS = 40;
+    private static final int OPTIONS = 10;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private FormRepository formRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void loadFormTreeNPlusOneVsPerLevel() {
+        Long formId = formRepository.save(
+                FormFixtures.newForm("bench-form", SECTIONS, QUESTIONS, QuestionType.SELECT, OPTIONS)).getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            loadNPlusOne(formId);
+            formRepository.findById(formId);
+        }
+        long nPlusOneNanos = time(() -> loadNPlusOne(formId));
+        long perLevelNanos = time(() -> formRepository.findById(formId));
+
+        logger.info("form {}x{}x{} n+1={} ms/load per-level={} ms/load",
+                SECTIONS, QUESTIONS, OPTIONS,
+                nPlusOneNanos / ITERATIONS / 1_000_000.0, perLevelNanos / ITERATIONS / 1_000_000.0);
+
+        Form loaded = formRepository.findById(formId).orElseThrow();
+        assertThat(loaded.getSections()).hasSize(SECTIONS);
+        assertThat(loaded.getTotalQuestions()).isEqualTo(SECTIONS * QUESTIONS);
+        for (int s = 0; s < SECTIONS; s++) {
+            FormSection section = loaded.getSections().get(s);
+            assertThat(section.getDisplayOrder()).isEqualTo(s);
+            for (int q = 0; q < QUESTIONS; q++) {
+                Question question = section.getQuestions().get(q);
+                assertThat(question.getDisplayOrder()).isEqualTo(q);
+                assertThat(question.getOptions()).extracting(QuestionOption::getDisplayOrder)
+                        .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+            }
+        }
+    }
+
+    private int loadNPlusOne(Long formId) {
+        int rows = jdbcTemplate.queryForList("SELECT * FROM form_config WHERE id = ?", formId).size();
+        List<Map<String, Object>> sections = jdbcTemplate.queryForList(
+                "SELECT * FROM config_section WHERE form_config_id = ? ORDER BY display_order", formId);
+        for (Map<String, Object> section : sections) {
+            List<Map<String, Object>> questions = jdbcTemplate.queryForList(
+                    "SELECT * FROM config_question WHERE config_section_id = ? ORDER BY display_order", section.get("id"));
+            for (Map<String, Object> question : questions) {
+                rows += jdbcTemplate.queryForList(
+                        "SELECT * FROM config_option WHERE config_question_id = ? ORDER BY display_order",
+                        question.get("id")).size();
+            }
+        }
+        return rows;
+    }
+
+    private static long time(Runnable runnable) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,92 @@
+package com.tramite.online.form.domain.validator;
+
+import com.tramite.online.form.api.QuestionRules;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.Question;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.shared.domain.validation.ValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormAnswerValidatorTest {
+
+    private static final long AGE = 10L;
+    private static final long NAME = 11L;
+
+    private final FormAnswerValidator validator = FormAnswerValidatorCompiler.compile(newForm());
+
+    @ParameterizedTest
+    @ValueSource(strings = {"NaN", "Infinity", "-Infinity", "0x1p3", "12d", "1e2", "1,5", " 12", "."})
+    void rejectsNonDecimalNumbers(String value) {
+        assertThat(validator.validateAnswered(Map.of(AGE, List.of(value)), new ValidationResult()).getMessage())
+                .isEqualTo("Debe ser un numero");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"18", "+18", "18.5", "120", "120.0"})
+    void acceptsDecimalsWithinBounds(String value) {
+        assertThat(validator.validateAnswered(Map.of(AGE, List.of(value)), new ValidationResult()).isValid())
+                .isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"17.99", "-5", "120.01", "99999999999999999999"})
+    void rejectsNumbersOutOfBounds(String value) {
+        ValidationResult result = validator.validateAnswered(Map.of(AGE, List.of(value)), new ValidationResult());
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.getMessage()).matches("Debe ser (mayor|menor) o igual a (18|120)");
+    }
+
+    @Test
+    void draftValidationSkipsMissingRequiredAnswers() {
+        assertThat(validator.validateAnswered(Map.of(NAME, List.of("")), new ValidationResult()).isValid()).isTrue();
+        assertThat(validator.validate(Map.of(AGE, List.of("30")), new ValidationResult()).getMessage())
+                .isEqualTo("La respuesta es obligatoria");
+    }
+
+    @Test
+    void unknownQuestionsAreRejected() {
+        ValidationResult result = validator.validateAnswered(Map.of(99L, List.of("x")), new ValidationResult());
+        assertThat(result.getViolations()).singleElement()
+                .satisfies(violation -> assertThat(violation.field()).isEqualTo("question[99]"));
+    }
+
+    @Test
+    void compilesVersionFromInstanceRules() {
+        FormAnswerValidator copied = FormAnswerValidatorCompiler.compile(1L, 1, List.of(
+                new QuestionRules(AGE, "NUMERIC", true, null, null, 18, 120, null, null, List.of()),
+                new QuestionRules(12L, "RADIO", false, null, null, null, null, null, null, List.of("a", "b"))));
+
+        assertThat(copied.validate(Map.of(AGE, List.of("30"), 12L, List.of("b")), new ValidationResult()).isValid())
+                .isTrue();
+        assertThat(copied.validate(Map.of(AGE, List.of("17")), new ValidationResult()).getMessage())
+                .isEqualTo("Debe ser mayor o igual a 18");
+        assertThat(copied.validateAnswered(Map.of(12L, List.of("c")), new ValidationResult()).getMessage())
+                .isEqualTo("Opcion invalida: c");
+    }
+
+    private static Form newForm() {
+        Form form = new Form(1L, "validator", "validator test");
+        form.setId(1L);
+        FormSection section = new FormSection(null, "Datos", 0);
+        Question age = new Question(null, "Edad", QuestionType.NUMERIC, 0);
+        age.setId(AGE);
+        age.setMinValue(18);
+        age.setMaxValue(120);
+        section.addQuestion(age);
+        Question name = new Question(null, "Nombre", QuestionType.TEXT, 1);
+        name.setId(NAME);
+        name.markAsRequired();
+        section.addQuestion(name);
+        form.addSection(section);
+        form.publish();
+        return form;
+    }
+}
@@ -0,0 +1,99 @@
+package com.tramite.online.submission;
+
+import com.tramite.online.TestcontainersConfiguration;
+import com.tramite.online.form.FormFixtures;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.submission.application.dto.command.GenerateFormInstanceCommand;
+import com.tramite.online.submission.application.usecases.GenerateFormInstanceUseCase;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de carga de generacion de instancias: lanza GenerateFormInstanceUseCase a un ritmo
+ * fijo de 1000 por segundo (un hilo virtual por pedido) y verifica que el sistema lo sostiene.
+ * Formulario de 10 secciones x 10 preguntas x 5 opciones.
+ * Se ejecuta con: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class FormInstanceGenerationLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormInstanceGenerationLoadTest.class);
+    private static final int SECTIONS = 10;
+    private static final int QUESTIONS = 10;
+    private static final int OPTIONS = 5;
+    private static final int TARGET_PER_SECOND = 1_000;
+    private static final int SECONDS = 5;
+
+    @Autowired
+    private FormRepository formRepository;
+    @Autowired
+    private GenerateFormInstanceUseCase generateFormInstanceUseCase;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generatesOneThousandInstancesPerSecond() throws Exception {
+        Form form = FormFixtures.newForm("load-form", SECTIONS, QUESTIONS, QuestionType.RADIO, OPTIONS);
+        form.publish();
+        Long formId = formRepository.save(form).getId();
+
+        int total = TARGET_PER_SECOND * SECONDS;
+        long intervalNanos = 1_000_000_000L / TARGET_PER_SECOND;
+        long[] latencies = new long[total];
+        List<Future<?>> futures = new ArrayList<>(total);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                long scheduled = start + i * intervalNanos;
+                LockSupport.parkNanos(scheduled - System.nanoTime());
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    generateFormInstanceUseCase.execute(GenerateFormInstanceCommand.ofForm(formId, (long) index));
+                    latencies[index] = System.nanoTime() - scheduled;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        double perSecond = total * 1_000_000_000.0 / elapsed;
+        logger.info("instances={} elapsed={} ms rate={}/s p50={} ms p99={} ms max={} ms",
+                total, elapsed / 1_000_000, Math.round(perSecond),
+                latencies[total / 2] / 1_000_000.0,
+                latencies[(int) (total * 0.99)] / 1_000_000.0,
+                latencies[total - 1] / 1_000_000.0);
+
+        Long instances = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM form_instance WHERE form_config_id = ?", Long.class, formId);
+        Long questions = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM instance_question q JOIN form_instance i ON i.id = q.form_instance_id WHERE i.form_config_id = ?",
+                Long.class, formId);
+        assertThat(instances).isEqualTo(total);
+        assertThat(questions).isEqualTo((long) total * SECTIONS * QUESTIONS);
+        assertThat(perSecond).isGreaterThanOrEqualTo(TARGET_PER_SECOND * 0.9);
+    }
+}
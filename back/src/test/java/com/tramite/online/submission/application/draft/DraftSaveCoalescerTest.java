@@ -0,0 +1,144 @@
+package com.tramite.online.submission.application.draft;
+
+import com.tramite.online.form.api.PublishedFormValidator;
+import com.tramite.online.submission.application.dto.response.DraftSaveResponse;
+import com.tramite.online.submission.application.validation.SubmissionAnswerValidator;
+import com.tramite.online.submission.domain.model.DraftPatchResult;
+import com.tramite.online.submission.domain.model.FormInstance;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import com.tramite.online.submission.domain.repository.InstanceAnswerRepository;
+import com.tramite.online.submission.exception.StaleDraftVersionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DraftSaveCoalescerTest {
+
+    private static final Long INSTANCE_ID = 1L;
+
+    private final InstanceAnswerRepository instanceAnswerRepository = mock(InstanceAnswerRepository.class);
+    private final FormInstanceRepository formInstanceRepository = mock(FormInstanceRepository.class);
+    private final DraftPatchWriter writer = new DraftPatchWriter(instanceAnswerRepository, formInstanceRepository,
+            new SubmissionAnswerValidator(formInstanceRepository, instanceAnswerRepository,
+                    mock(PublishedFormValidator.class)));
+
+    @Test
+    void staleVersionIsRejectedWithConflict() {
+        when(instanceAnswerRepository.applyDraftPatch(eq(INSTANCE_ID), eq(3), anyMap())).thenReturn(Optional.empty());
+        when(formInstanceRepository.findById(INSTANCE_ID)).thenReturn(Optional.of(draftAtVersion(4)));
+
+        assertThatThrownBy(() -> writer.write(INSTANCE_ID, 3, Map.of(10L, "a")))
+                .isInstanceOfSatisfying(StaleDraftVersionException.class,
+                        ex -> assertThat(ex.getCurrentVersion()).isEqualTo(4));
+        ResponseStatus status = AnnotatedElementUtils.findMergedAnnotation(
+                StaleDraftVersionException.class, ResponseStatus.class);
+        assertThat(status).isNotNull();
+        assertThat(status.value()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void savesWithoutSessionAreWrittenImmediately() {
+        when(instanceAnswerRepository.applyDraftPatch(eq(INSTANCE_ID), eq(3), anyMap()))
+                .thenReturn(Optional.of(new DraftPatchResult(4, 1)));
+        DraftSaveCoalescer coalescer = new DraftSaveCoalescer(writer, Duration.ofSeconds(10));
+
+        CompletableFuture<DraftSaveResponse> result = coalescer.submit(INSTANCE_ID, 3, null, Map.of(10L, "a"));
+
+        assertThat(result).isCompleted();
+        assertThat(result.join().version()).isEqualTo(4);
+    }
+
+    @Test
+    void savesOfTheSameSessionAreMergedIntoOneWrite() throws Exception {
+        when(instanceAnswerRepository.applyDraftPatch(eq(INSTANCE_ID), eq(3), anyMap()))
+                .thenReturn(Optional.of(new DraftPatchResult(4, 2)));
+        DraftSaveCoalescer coalescer = new DraftSaveCoalescer(writer, Duration.ofMillis(500));
+
+        List<DraftSaveResponse> responses = concurrently(
+                () -> coalescer.submit(INSTANCE_ID, 3, "tab-1", Map.of(10L, "a")).join(),
+                () -> coalescer.submit(INSTANCE_ID, 3, "tab-1", Map.of(11L, "b")).join());
+
+        assertThat(responses).extracting(DraftSaveResponse::version).containsExactly(4, 4);
+        verify(instanceAnswerRepository, times(1))
+                .applyDraftPatch(INSTANCE_ID, 3, Map.of(10L, "a", 11L, "b"));
+    }
+
+    @Test
+    void savesOfAnotherSessionOnTheSameVersionAreNotMerged() throws Exception {
+        when(instanceAnswerRepository.applyDraftPatch(eq(INSTANCE_ID), eq(3), anyMap()))
+                .thenReturn(Optional.of(new DraftPatchResult(4, 1)))
+                .thenReturn(Optional.empty());
+        when(formInstanceRepository.findById(INSTANCE_ID)).thenReturn(Optional.of(draftAtVersion(4)));
+        DraftSaveCoalescer coalescer = new DraftSaveCoalescer(writer, Duration.ofMillis(500));
+
+        List<Object> outcomes = concurrently(
+                () -> outcome(() -> coalescer.submit(INSTANCE_ID, 3, "tab-1", Map.of(10L, "a")).join()),
+                () -> outcome(() -> coalescer.submit(INSTANCE_ID, 3, "tab-2", Map.of(10L, "b")).join()));
+
+        assertThat(outcomes).filteredOn(DraftSaveResponse.class::isInstance).hasSize(1);
+        assertThat(outcomes).filteredOn(StaleDraftVersionException.class::isInstance).hasSize(1);
+        verify(instanceAnswerRepository, times(2)).applyDraftPatch(eq(INSTANCE_ID), eq(3), any());
+    }
+
+    private static FormInstance draftAtVersion(int version) {
+        FormInstance instance = new FormInstance(INSTANCE_ID, 7L, 1, 5L, SubmissionStatus.DRAFT,
+                LocalDateTime.now(), LocalDateTime.now());
+        instance.setDraftVersion(version);
+        return instance;
+    }
+
+    private static Object outcome(Supplier<DraftSaveResponse> save) {
+        try {
+            return save.get();
+        } catch (CompletionException ex) {
+            return ex.getCause();
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+    }
+
+    /**
+     * El segundo guardado llega dentro de la ventana abierta por el primero
+     */
+    @SafeVarargs
+    private static <T> List<T> concurrently(Callable<T>... saves) throws Exception {
+        List<Future<T>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Callable<T> save : saves) {
+                futures.add(executor.submit(save));
+                Thread.sleep(50);
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.tramite.online.submission.application.export;
+
+import com.tramite.online.submission.application.dto.response.SubmissionExportRow;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvSubmissionExportWriterTest {
+
+    @Test
+    void quotesSeparatorsQuotesAndLineBreaks() throws IOException {
+        assertThat(row("a,b", "dijo \"hola\"", "linea\nnueva", "retorno\r", "simple"))
+                .isEqualTo("1,7,SUBMITTED,2026-10-18T10:00,\"a,b\",\"dijo \"\"hola\"\"\",\"linea\nnueva\","
+                        + "\"retorno\r\",simple");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+            "=1+2|'=1+2",
+            "@SUM(A1)|'@SUM(A1)",
+            "+54 11 5555|'+54 11 5555",
+            "-2+3|'-2+3",
+            "=HYPERLINK(\"http://x\")|\"'=HYPERLINK(\"\"http://x\"\")\""})
+    void neutralizesFormulas(String answer, String expected) throws IOException {
+        assertThat(row(answer)).endsWith("," + expected);
+    }
+
+    @Test
+    void neutralizesFormulasStartingWithTabOrCarriageReturn() throws IOException {
+        assertThat(row("\t=1")).endsWith(",'\t=1");
+        assertThat(row("\r=1")).endsWith(",\"'\r=1\"");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-5", "+12", "-3.75", "42", "texto - con guion"})
+    void keepsNumbersAndPlainText(String answer) throws IOException {
+        assertThat(row(answer)).endsWith("," + answer);
+    }
+
+    @Test
+    void headersAreEscapedToo() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvSubmissionExportWriter writer = new CsvSubmissionExportWriter(out);
+        writer.writeHeader(List.of(new ExportColumn(1L, "=Edad, en años")));
+        writer.finish();
+
+        assertThat(out.toString(StandardCharsets.UTF_8).strip())
+                .isEqualTo("instance_id,user_id,status,submitted_at,\"'=Edad, en años\"");
+    }
+
+    @Test
+    void nullsAreEmptyCells() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvSubmissionExportWriter writer = new CsvSubmissionExportWriter(out);
+        writer.write(new SubmissionExportRow(1, null, SubmissionStatus.DRAFT, null, new String[]{null, "x"}));
+        writer.finish();
+
+        assertThat(out.toString(StandardCharsets.UTF_8).strip()).isEqualTo("1,,DRAFT,,,x");
+    }
+
+    private static String row(String... answers) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvSubmissionExportWriter writer = new CsvSubmissionExportWriter(out);
+        writer.write(new SubmissionExportRow(1, 7L, SubmissionStatus.SUBMITTED,
+                LocalDateTime.of(2026, 10, 18, 10, 0), answers));
+        writer.finish();
+        String text = out.toString(StandardCharsets.UTF_8);
+        return text.substring(0, text.length() - System.lineSeparator().length());
+    }
+}
@@ -0,0 +1,83 @@
+package com.tramite.online.submission.application.export;
+
+import com.tramite.online.submission.application.dto.response.SubmissionExportRow;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxSubmissionExportWriterTest {
+
+    @Test
+    void escapesXmlSpecialCharacters() throws Exception {
+        Document sheet = sheetWith("<b>Tom & \"Jerry\"</b>");
+
+        assertThat(lastCell(sheet)).isEqualTo("<b>Tom & \"Jerry\"</b>");
+    }
+
+    @Test
+    void dropsCharactersNotAllowedInXml() throws Exception {
+        Document sheet = sheetWith("a\uD800b\uDC00c\uFFFEd\uFFFF\u0001e\u0000f");
+
+        assertThat(lastCell(sheet)).isEqualTo("abcdef");
+    }
+
+    @Test
+    void keepsSurrogatePairsAndWhitespace() throws Exception {
+        Document sheet = sheetWith("ok 😀\tlinea\nnueva");
+
+        assertThat(lastCell(sheet)).isEqualTo("ok 😀\tlinea\nnueva");
+    }
+
+    @Test
+    void formulasStayAsInlineText() throws Exception {
+        Document sheet = sheetWith("=1+2");
+
+        assertThat(lastCell(sheet)).isEqualTo("=1+2");
+        assertThat(sheet.getElementsByTagName("f").getLength()).isZero();
+    }
+
+    @Test
+    void truncatesLongCellsWithoutSplittingSurrogatePairs() throws Exception {
+        String value = "x".repeat(32_766) + "😀";
+
+        assertThat(lastCell(sheetWith(value))).isEqualTo("x".repeat(32_766));
+    }
+
+    /**
+     * Exporta una fila con la respuesta dada y devuelve la hoja parseada; parsearla ya comprueba
+     * que el XML es valido
+     */
+    private static Document sheetWith(String answer) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XlsxSubmissionExportWriter writer = new XlsxSubmissionExportWriter(out);
+        writer.writeHeader(List.of(new ExportColumn(1L, "Respuesta")));
+        writer.write(new SubmissionExportRow(1, null, SubmissionStatus.DRAFT, null, new String[]{answer}));
+        writer.finish();
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()),
+                StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                            .parse(new ByteArrayInputStream(zip.readAllBytes()));
+                }
+            }
+        }
+        throw new AssertionError("El libro no tiene xl/worksheets/sheet1.xml");
+    }
+
+    private static String lastCell(Document sheet) {
+        var texts = sheet.getElementsByTagName("t");
+        return texts.item(texts.getLength() - 1).getTextContent();
+    }
+}
@@ -0,0 +1,166 @@
+package com.tramite.online.submission.application.job;
+
+import com.tramite.online.TestcontainersConfiguration;
+import com.tramite.online.form.FormFixtures;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.job.api.JobCheckpoint;
+import com.tramite.online.job.api.JobContext;
+import com.tramite.online.job.api.JobRequest;
+import com.tramite.online.job.domain.model.Job;
+import com.tramite.online.job.domain.repository.JobRepository;
+import com.tramite.online.submission.application.dto.command.ExportSubmissionsCommand;
+import com.tramite.online.submission.application.export.ExportProgressListener;
+import com.tramite.online.submission.application.export.SubmissionExportFormat;
+import com.tramite.online.submission.application.usecases.ExportSubmissionsUseCase;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exportacion CSV como trabajo contra Postgres: los checkpoints se confirman mientras el cursor
+ * sigue abierto y un reintento continua desde el ultimo, con el mismo archivo que una exportacion
+ * de una sola vez. Los workers programados no toman el trabajo: el test ejecuta el handler.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+        "app.submission.export.progress-interval=10",
+        "app.job.poll-interval=PT1H",
+        "app.job.heartbeat-interval=PT1H",
+        "app.job.recovery-interval=PT1H"
+})
+class SubmissionExportJobHandlerTest {
+
+    private static final int INSTANCES = 35;
+
+    @Autowired
+    private FormRepository formRepository;
+    @Autowired
+    private FormInstanceRepository formInstanceRepository;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private SubmissionExportJobHandler handler;
+    @Autowired
+    private ExportSubmissionsUseCase exportSubmissionsUseCase;
+    @Autowired
+    private JsonMapper jsonMapper;
+    @Value("${app.submission.export.dir}")
+    private Path exportDir;
+
+    @Test
+    void resumesCsvExportFromLastCheckpoint() throws IOException {
+        Form form = FormFixtures.newForm("export-resume", 1, 3, QuestionType.TEXT, 0);
+        form.publish();
+        Long formId = formRepository.save(form).getId();
+        for (int i = 0; i < INSTANCES; i++) {
+            formInstanceRepository.materialize(formId, (long) i).orElseThrow();
+        }
+        ExportSubmissionsCommand command =
+                new ExportSubmissionsCommand(formId, SubmissionExportFormat.CSV, Set.of(SubmissionStatus.DRAFT));
+        String workerId = "test-worker-" + UUID.randomUUID();
+        Long jobId = jobRepository.insert(
+                new JobRequest(SubmissionExportJobHandler.TYPE, 1L, jsonMapper.writeValueAsString(command)), 3);
+        Job claimed = jobRepository.claim(workerId, 100, 100).stream()
+                .filter(job -> job.id().equals(jobId))
+                .findFirst().orElseThrow();
+
+        // el primer worker se cae despues de guardar el segundo checkpoint (20 instancias)
+        assertThatThrownBy(() -> handler.run(new TestContext(claimed, workerId, 2)))
+                .hasMessageContaining("worker caido");
+
+        Job afterCrash = jobRepository.findById(jobId).orElseThrow();
+        assertThat(afterCrash.checkpoint()).hasValueSatisfying(checkpoint -> {
+            assertThat(checkpoint.processed()).isEqualTo(20);
+            assertThat(checkpoint.state()).contains(".part-");
+        });
+        Path firstPart = exportDir.resolve(afterCrash.checkpointState()
+                .substring(afterCrash.checkpointState().indexOf(':') + 1));
+        assertThat(firstPart).exists();
+
+        String fileName = handler.run(new TestContext(afterCrash, workerId, 0));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        exportSubmissionsUseCase.execute(command, expected, ExportProgressListener.NONE);
+        assertThat(Files.readAllBytes(exportDir.resolve(fileName))).isEqualTo(expected.toByteArray());
+        assertThat(firstPart).doesNotExist();
+    }
+
+    /**
+     * Contexto de un worker que guarda los checkpoints en la tabla de trabajos y, si failAfter es
+     * mayor a 0, falla despues de guardar esa cantidad
+     */
+    private final class TestContext implements JobContext {
+
+        private final Job job;
+        private final String workerId;
+        private final int failAfter;
+        private final String runId = UUID.randomUUID().toString();
+        private int saved;
+
+        private TestContext(Job job, String workerId, int failAfter) {
+            this.job = job;
+            this.workerId = workerId;
+            this.failAfter = failAfter;
+        }
+
+        @Override
+        public Long jobId() {
+            return job.id();
+        }
+
+        @Override
+        public Long workspaceId() {
+            return job.workspaceId();
+        }
+
+        @Override
+        public String payload() {
+            return job.payload();
+        }
+
+        @Override
+        public String runId() {
+            return runId;
+        }
+
+        @Override
+        public Optional<JobCheckpoint> checkpoint() {
+            return job.checkpoint();
+        }
+
+        @Override
+        public void progress(long processed, Long total) {
+        }
+
+        @Override
+        public void checkpoint(JobCheckpoint checkpoint) {
+            assertThat(jobRepository.saveCheckpoint(job.id(), workerId, checkpoint)).contains(false);
+            if (++saved == failAfter) {
+                throw new IllegalStateException("worker caido");
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    }
+}
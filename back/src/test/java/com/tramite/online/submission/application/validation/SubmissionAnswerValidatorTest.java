@@ -0,0 +1,81 @@
+package com.tramite.online.submission.application.validation;
+
+import com.tramite.online.form.api.PublishedFormValidator;
+import com.tramite.online.form.api.QuestionRules;
+import com.tramite.online.shared.domain.validation.ValidationResult;
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.submission.domain.model.InstanceQuestions;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import com.tramite.online.submission.domain.repository.InstanceAnswerRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SubmissionAnswerValidatorTest {
+
+    private static final Long INSTANCE_ID = 1L;
+    private static final Long FORM_ID = 7L;
+
+    private final FormInstanceRepository formInstanceRepository = mock(FormInstanceRepository.class);
+    private final InstanceAnswerRepository instanceAnswerRepository = mock(InstanceAnswerRepository.class);
+    private final PublishedFormValidator publishedFormValidator = mock(PublishedFormValidator.class);
+    private final SubmissionAnswerValidator validator =
+            new SubmissionAnswerValidator(formInstanceRepository, instanceAnswerRepository, publishedFormValidator);
+
+    @Test
+    void draftAnswersAreValidatedByConfigQuestionAndReportedByInstanceQuestion() {
+        when(formInstanceRepository.findQuestions(INSTANCE_ID, false))
+                .thenReturn(Optional.of(new InstanceQuestions(FORM_ID, 2, Map.of(100L, 10L, 101L, 11L))));
+        when(publishedFormValidator.validate(eq(FORM_ID), eq(2), any(), eq(Map.of(10L, List.of("abc"))), eq(false)))
+                .thenReturn(new ValidationResult().add("question[10]", "Debe ser un numero"));
+
+        assertThatThrownBy(() -> validator.validateDraft(INSTANCE_ID, Map.of(100L, "abc")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("question[100]: Debe ser un numero");
+    }
+
+    @Test
+    void submissionValidatesAllStoredAnswersWithLock() {
+        when(formInstanceRepository.findQuestions(INSTANCE_ID, true))
+                .thenReturn(Optional.of(new InstanceQuestions(FORM_ID, 2, Map.of(100L, 10L, 101L, 11L))));
+        when(instanceAnswerRepository.findAnswers(INSTANCE_ID)).thenReturn(Map.of(100L, "42"));
+        when(publishedFormValidator.validate(eq(FORM_ID), eq(2), any(), anyMap(), eq(true)))
+                .thenReturn(new ValidationResult().add("question[11]", "La respuesta es obligatoria"));
+
+        assertThatThrownBy(() -> validator.validateSubmission(INSTANCE_ID))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("question[101]: La respuesta es obligatoria");
+        verify(publishedFormValidator).validate(eq(FORM_ID), eq(2), any(), eq(Map.of(10L, List.of("42"))), eq(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void versionRulesAreReadFromTheInstance() {
+        List<QuestionRules> rules = List.of(
+                new QuestionRules(10L, "NUMERIC", false, null, null, null, null, null, null, List.of()));
+        when(formInstanceRepository.findQuestions(INSTANCE_ID, false))
+                .thenReturn(Optional.of(new InstanceQuestions(FORM_ID, 1, Map.of(100L, 10L))));
+        when(formInstanceRepository.findQuestionRules(INSTANCE_ID)).thenReturn(rules);
+        when(publishedFormValidator.validate(eq(FORM_ID), eq(1), any(), anyMap(), eq(false)))
+                .thenAnswer(invocation -> {
+                    assertThat(((Supplier<List<QuestionRules>>) invocation.getArgument(2)).get()).isEqualTo(rules);
+                    return new ValidationResult();
+                });
+
+        validator.validateDraft(INSTANCE_ID, Map.of(100L, "5"));
+
+        verify(formInstanceRepository).findQuestionRules(INSTANCE_ID);
+    }
+}
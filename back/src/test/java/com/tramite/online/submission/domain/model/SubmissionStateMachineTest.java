@@ -0,0 +1,55 @@
+package com.tramite.online.submission.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubmissionStateMachineTest {
+
+    @ParameterizedTest
+    @EnumSource(SubmissionTransition.class)
+    void everyTransitionIsAvailableOnlyFromItsOrigin(SubmissionTransition transition) {
+        for (SubmissionStatus status : SubmissionStatus.values()) {
+            assertThat(SubmissionStateMachine.canApply(status, transition))
+                    .as("%s desde %s", transition, status)
+                    .isEqualTo(status == transition.getFrom());
+        }
+        assertThat(SubmissionStateMachine.canTransition(transition.getFrom(), transition.getTo())).isTrue();
+    }
+
+    @Test
+    void reviewFlow() {
+        assertThat(SubmissionStateMachine.targets(SubmissionStatus.DRAFT))
+                .containsExactly(SubmissionStatus.SUBMITTED);
+        assertThat(SubmissionStateMachine.targets(SubmissionStatus.UNDER_REVIEW)).containsExactlyInAnyOrder(
+                SubmissionStatus.APPROVED, SubmissionStatus.REJECTED, SubmissionStatus.CORRECTION_REQUESTED);
+        assertThat(SubmissionStateMachine.available(SubmissionStatus.CORRECTED))
+                .containsExactly(SubmissionTransition.RESUME_REVIEW);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SubmissionStatus.class, names = {"POOLED", "APPROVED", "REJECTED"})
+    void finalAndPooledStatusesHaveNoTransitions(SubmissionStatus status) {
+        assertThat(SubmissionStateMachine.targets(status)).isEmpty();
+        assertThat(SubmissionStateMachine.available(status)).isEmpty();
+    }
+
+    @Test
+    void cannotSkipReview() {
+        assertThat(SubmissionStateMachine.canTransition(SubmissionStatus.SUBMITTED, SubmissionStatus.APPROVED))
+                .isFalse();
+        assertThat(SubmissionStateMachine.canTransition(SubmissionStatus.DRAFT, SubmissionStatus.UNDER_REVIEW))
+                .isFalse();
+        assertThat(SubmissionStateMachine.canTransition(SubmissionStatus.APPROVED, SubmissionStatus.DRAFT))
+                .isFalse();
+    }
+
+    @Test
+    void tablesAreReadOnly() {
+        assertThatThrownBy(() -> SubmissionStateMachine.targets(SubmissionStatus.DRAFT).add(SubmissionStatus.APPROVED))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
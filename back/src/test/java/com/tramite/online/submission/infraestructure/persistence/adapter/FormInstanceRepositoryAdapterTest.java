@@ -0,0 +1,138 @@
+package com.tramite.online.submission.infraestructure.persistence.adapter;
+
+import com.tramite.online.TestcontainersConfiguration;
+import com.tramite.online.form.FormFixtures;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.submission.application.dto.response.BulkTransitionResponse;
+import com.tramite.online.submission.application.transition.SubmissionTransitioner;
+import com.tramite.online.submission.domain.model.SubmissionStatus;
+import com.tramite.online.submission.domain.model.SubmissionTransition;
+import com.tramite.online.submission.domain.model.TransitionedSubmission;
+import com.tramite.online.submission.domain.repository.FormInstanceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * El UPDATE guardado de las transiciones contra Postgres: solo cambia las filas que siguen en el
+ * estado de origen y, al enviar, las que tienen respondidas las preguntas obligatorias. Dos envios
+ * simultaneos de la misma instancia se aplican una sola vez, sin deadlock.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class FormInstanceRepositoryAdapterTest {
+
+    private static final Long CITIZEN = 7L;
+    private static final Long REVIEWER = 99L;
+
+    @Autowired
+    private FormRepository formRepository;
+    @Autowired
+    private FormInstanceRepository formInstanceRepository;
+    @Autowired
+    private SubmissionTransitioner submissionTransitioner;
+
+    @Test
+    void refusesTransitionFromAnotherStatus() {
+        Long instanceId = newInstance(false);
+
+        assertThat(formInstanceRepository.transition(List.of(instanceId), SubmissionTransition.APPROVE, REVIEWER))
+                .isEmpty();
+        assertThat(formInstanceRepository.transition(List.of(instanceId), SubmissionTransition.TAKE_FOR_REVIEW,
+                REVIEWER)).isEmpty();
+        assertThat(statusOf(instanceId)).isEqualTo(SubmissionStatus.DRAFT);
+    }
+
+    @Test
+    void appliesTransitionOnlyOnce() {
+        Long instanceId = newInstance(false);
+
+        List<TransitionedSubmission> submitted =
+                formInstanceRepository.transition(List.of(instanceId), SubmissionTransition.SUBMIT, CITIZEN);
+        List<TransitionedSubmission> again =
+                formInstanceRepository.transition(List.of(instanceId), SubmissionTransition.SUBMIT, CITIZEN);
+
+        assertThat(submitted).singleElement()
+                .satisfies(row -> assertThat(row.submittedAt()).isNotNull());
+        assertThat(again).isEmpty();
+        assertThat(statusOf(instanceId)).isEqualTo(SubmissionStatus.SUBMITTED);
+
+        assertThat(formInstanceRepository.transition(List.of(instanceId), SubmissionTransition.TAKE_FOR_REVIEW,
+                REVIEWER)).singleElement()
+                .satisfies(row -> assertThat(row.reviewerId()).isEqualTo(REVIEWER));
+        assertThat(statusOf(instanceId)).isEqualTo(SubmissionStatus.UNDER_REVIEW);
+    }
+
+    @Test
+    void bulkTransitionSkipsInstancesInOtherStatus() {
+        Long draft = newInstance(false);
+        Long submitted = newInstance(false);
+        formInstanceRepository.transition(List.of(submitted), SubmissionTransition.SUBMIT, CITIZEN);
+
+        List<TransitionedSubmission> taken = formInstanceRepository.transition(List.of(draft, submitted),
+                SubmissionTransition.TAKE_FOR_REVIEW, REVIEWER);
+
+        assertThat(taken).extracting(TransitionedSubmission::instanceId).containsExactly(submitted);
+        assertThat(statusOf(draft)).isEqualTo(SubmissionStatus.DRAFT);
+    }
+
+    @Test
+    void refusesSubmitWithUnansweredRequiredQuestion() {
+        Long instanceId = newInstance(true);
+
+        assertThat(formInstanceRepository.transition(List.of(instanceId), SubmissionTransition.SUBMIT, CITIZEN))
+                .isEmpty();
+        assertThat(statusOf(instanceId)).isEqualTo(SubmissionStatus.DRAFT);
+    }
+
+    @Test
+    void concurrentSubmitsOfSameInstanceApplyOnce() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                Long instanceId = newInstance(false);
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<BulkTransitionResponse> first = executor.submit(() -> submit(instanceId, start));
+                Future<BulkTransitionResponse> second = executor.submit(() -> submit(instanceId, start));
+
+                List<BulkTransitionResponse> results = List.of(first.get(), second.get());
+                assertThat(results).filteredOn(result -> result.applied().size() == 1).hasSize(1);
+                assertThat(results).filteredOn(result -> result.applied().isEmpty()).singleElement()
+                        .satisfies(result -> assertThat(result.rejected()).singleElement()
+                                .extracting(BulkTransitionResponse.Rejected::reason)
+                                .isEqualTo(BulkTransitionResponse.Reason.INVALID_STATUS));
+                assertThat(statusOf(instanceId)).isEqualTo(SubmissionStatus.SUBMITTED);
+            }
+        }
+    }
+
+    private BulkTransitionResponse submit(Long instanceId, CyclicBarrier start) throws Exception {
+        start.await();
+        return submissionTransitioner.apply(Set.of(instanceId), SubmissionTransition.SUBMIT, CITIZEN, null);
+    }
+
+    private Long newInstance(boolean required) {
+        Form form = FormFixtures.newForm("transition-form", 1, 1, QuestionType.TEXT, 0);
+        if (required) {
+            form.getSections().getFirst().getQuestions().getFirst().markAsRequired();
+        }
+        form.publish();
+        Long formId = formRepository.save(form).getId();
+        return formInstanceRepository.materialize(formId, CITIZEN).orElseThrow().getId();
+    }
+
+    private SubmissionStatus statusOf(Long instanceId) {
+        return formInstanceRepository.findById(instanceId).orElseThrow().getStatus();
+    }
+}
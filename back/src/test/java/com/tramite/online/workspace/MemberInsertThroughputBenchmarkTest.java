@@ -0,0 +1,169 @@
+package com.tramite.online.workspace;
+
+import com.tramite.benchmark.workspace.IdentityMemberEntity;
+import com.tramite.online.TestcontainersConfiguration;
+import com.tramite.online.TramiteOnlinePlatformApplication;
+import com.tramite.online.form.FormFixtures;
+import com.tramite.online.form.domain.model.Form;
+import com.tramite.online.form.domain.model.FormSection;
+import com.tramite.online.form.domain.model.QuestionType;
+import com.tramite.online.form.domain.repository.FormRepository;
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import com.tramite.online.workspace.infraestructure.persistence.entity.WorkSpaceEntity;
+import com.tramite.online.workspace.infraestructure.persistence.entity.WorkSpaceMemberEntity;
+import com.tramite.online.workspace.infraestructure.persistence.repository.WorkSpaceJpaRepository;
+import com.tramite.online.workspace.infraestructure.persistence.repository.WorkSpaceMemberJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.persistence.autoconfigure.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de insercion de 10k miembros y de 10k preguntas de formulario.
+ * Miembros "antes": Hibernate con GenerationType.IDENTITY (IdentityMemberEntity, entidad de prueba sobre
+ * la misma tabla registrada solo en este contexto),
+ * que ejecuta un INSERT por persist para leer el id y no puede agrupar en batch.
+ * Miembros "despues": saveAll con ids de secuencia pooled-lo y hibernate.jdbc.batch_size.
+ * Preguntas "antes": un INSERT ... RETURNING id por pregunta, lo que hace cualquier ORM con una
+ * columna identity. Preguntas "despues": FormRepository.save (ids pooled-lo y batch JDBC).
+ * Se ejecuta con: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class MemberInsertThroughputBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberInsertThroughputBenchmarkTest.class);
+    private static final int MEMBERS = 10_000;
+    private static final int SECTIONS = 100;
+    private static final int QUESTIONS_PER_SECTION = 100;
+
+    /**
+     * Agrega la entidad IDENTITY del benchmark al escaneo de la aplicacion solo en este contexto
+     */
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {TramiteOnlinePlatformApplication.class, IdentityMemberEntity.class})
+    static class IdentityEntityConfiguration {
+    }
+
+    @Autowired
+    private WorkSpaceJpaRepository workSpaceJpaRepository;
+    @Autowired
+    private WorkSpaceMemberJpaRepository memberJpaRepository;
+    @Autowired
+    private FormRepository formRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertThroughputIdentityVsPooledSequence() {
+        Long identityWorkSpaceId = newWorkSpace("bench-identity");
+        Long pooledWorkSpaceId = newWorkSpace("bench-pooled");
+
+        long identityNanos = time(() -> insertWithIdentity(identityWorkSpaceId));
+        long pooledNanos = time(() -> insertBatched(pooledWorkSpaceId));
+
+        logger.info("members={} identity(hibernate)={} rows/s pooled-lo(batched)={} rows/s",
+                MEMBERS, rowsPerSecond(MEMBERS, identityNanos), rowsPerSecond(MEMBERS, pooledNanos));
+
+        assertThat(memberJpaRepository.countByWorkSpaceId(identityWorkSpaceId)).isEqualTo(MEMBERS);
+        assertThat(memberJpaRepository.countByWorkSpaceId(pooledWorkSpaceId)).isEqualTo(MEMBERS);
+    }
+
+    @Test
+    void formQuestionInsertThroughputRowByRowVsPooledSequence() {
+        int questions = SECTIONS * QUESTIONS_PER_SECTION;
+
+        // antes: las secciones se guardan aparte y solo se mide el INSERT de cada pregunta
+        Form rowByRowForm = FormFixtures.newForm("bench-row-by-row", SECTIONS, 0, QuestionType.TEXT, 0);
+        formRepository.save(rowByRowForm);
+        long rowByRowNanos = time(() -> insertQuestionsRowByRow(rowByRowForm));
+
+        Form pooledForm = FormFixtures.newForm("bench-pooled", SECTIONS, QUESTIONS_PER_SECTION, QuestionType.TEXT, 0);
+        long pooledNanos = time(() -> formRepository.save(pooledForm));
+
+        logger.info("questions={} row-by-row(returning id)={} rows/s pooled-lo(batched)={} rows/s",
+                questions, rowsPerSecond(questions, rowByRowNanos), rowsPerSecond(questions, pooledNanos));
+
+        assertThat(countQuestions(rowByRowForm.getId())).isEqualTo(questions);
+        assertThat(countQuestions(pooledForm.getId())).isEqualTo(questions);
+    }
+
+    private void insertWithIdentity(Long workSpaceId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long userId = 1; userId <= MEMBERS; userId++) {
+                entityManager.persist(new IdentityMemberEntity(workSpaceId, userId, WorkspaceRole.VIEWER));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private void insertBatched(Long workSpaceId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<WorkSpaceMemberEntity> members = new ArrayList<>(MEMBERS);
+            for (long userId = 1; userId <= MEMBERS; userId++) {
+                members.add(new WorkSpaceMemberEntity(workSpaceId, userId, WorkspaceRole.VIEWER));
+            }
+            memberJpaRepository.saveAll(members);
+            memberJpaRepository.flush();
+        });
+    }
+
+    private void insertQuestionsRowByRow(Form form) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (FormSection section : form.getSections()) {
+                for (int q = 0; q < QUESTIONS_PER_SECTION; q++) {
+                    jdbcTemplate.queryForObject("""
+                            INSERT INTO config_question (config_section_id, text, type, display_order, required,
+                                                         created_at, updated_at)
+                            VALUES (?, ?, ?, ?, false, ?, ?) RETURNING id
+                            """, Long.class, section.getId(), "Pregunta " + q, QuestionType.TEXT.name(), q, now, now);
+                }
+            }
+        });
+    }
+
+    private Long newWorkSpace(String name) {
+        return workSpaceJpaRepository.save(new WorkSpaceEntity(name + "-" + System.nanoTime(), name, 1L)).getId();
+    }
+
+    private long countQuestions(Long formId) {
+        Long count = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM config_question q
+                JOIN config_section s ON s.id = q.config_section_id
+                WHERE s.form_config_id = ?
+                """, Long.class, formId);
+        return count != null ? count : 0;
+    }
+
+    private static long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long rowsPerSecond(int rows, long nanos) {
+        return rows * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tramite.online.workspace.application.importer;
+
+import com.tramite.online.shared.exception.ValidationException;
+import com.tramite.online.workspace.domain.model.WorkSpaceMember;
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MemberImportReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "userId,role\n7,EDITOR\n8,viewer\n",
+            "\n\nuserId,role\n7,EDITOR\n8,viewer\n",
+            "\uFEFFuserId,role\n7,EDITOR\n8,viewer\n",
+            "\uFEFF\nuserId,role\n7,EDITOR\n8,viewer\n",
+            "\uFEFF7,EDITOR\n8,viewer\n"
+    })
+    void skipsHeaderOnFirstLineWithContent(String csv) {
+        assertThat(read(csv)).extracting(WorkSpaceMember::getUserId, WorkSpaceMember::getRole)
+                .containsExactly(
+                        tuple(7L, WorkspaceRole.EDITOR),
+                        tuple(8L, WorkspaceRole.VIEWER));
+    }
+
+    @Test
+    void headerAfterFirstMemberIsRejected() {
+        assertThatThrownBy(() -> read("7,EDITOR\nuserId,role\n"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("linea 2");
+    }
+
+    private static List<WorkSpaceMember> read(String csv) {
+        try (MemberImportReader reader = new MemberImportReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), MemberImportFormat.CSV,
+                JsonMapper.builder().build(), 1L)) {
+            return reader.nextChunk(100);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.tramite.online.workspace.domain.validator;
+
+import com.tramite.online.shared.domain.validation.ValidationResult;
+import com.tramite.online.shared.domain.validation.Violation;
+import com.tramite.online.workspace.domain.model.WorkSpace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkSpaceValidatorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "Mi espacio 2026", "equipo_ventas-norte.v2", "  con espacios  ", "a\tb\nc"})
+    void acceptsValidNames(String name) {
+        assertThat(WorkSpaceValidator.isValidName(name)).isTrue();
+        assertThat(WorkSpaceValidator.validateName(name, new ValidationResult()).isValid()).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "ab", "  ab  ", "año", "nombre/raro", "emoji 😀", "no\u00A0break"})
+    void rejectsInvalidNames(String name) {
+        assertThat(WorkSpaceValidator.isValidName(name)).isFalse();
+        assertThat(WorkSpaceValidator.validateName(name, new ValidationResult()).isValid()).isFalse();
+    }
+
+    @Test
+    void lengthIsMeasuredAfterTrimming() {
+        String name = " ".repeat(10) + "x".repeat(WorkSpaceValidator.NAME_MAX_LENGTH) + " ".repeat(10);
+
+        assertThat(WorkSpaceValidator.isValidName(name)).isTrue();
+        assertThat(WorkSpaceValidator.isValidName(name.strip() + "x")).isFalse();
+    }
+
+    @Test
+    void accumulatesEveryViolationOfTheName() {
+        ValidationResult result = WorkSpaceValidator.validateName("a/", new ValidationResult());
+
+        assertThat(result.getViolations()).extracting(Violation::field).containsExactly("name", "name");
+        assertThat(result.getMessage()).contains("al menos 3 caracteres").contains("solo puede contener");
+    }
+
+    @Test
+    void batchValidationReportsPositions() {
+        ValidationResult result = WorkSpaceValidator.validateNames(
+                List.of("valido", "x", "otro valido", "mal#nombre"), new ValidationResult());
+
+        assertThat(result.getViolations()).extracting(Violation::field).containsExactly("name[1]", "name[3]");
+    }
+
+    @Test
+    void resultIsReusable() {
+        ValidationResult result = new ValidationResult();
+        WorkSpaceValidator.validateName("x", result);
+
+        assertThat(WorkSpaceValidator.validateName("valido", result.clear()).isValid()).isTrue();
+    }
+
+    @Test
+    void validatesWholeWorkspaceAtOnce() {
+        WorkSpace workspace = new WorkSpace("x", "d".repeat(WorkSpaceValidator.DESCRIPTION_MAX_LENGTH + 1), -1L);
+        workspace.setCreatedAt(null);
+
+        ValidationResult result = WorkSpaceValidator.validateWorkSpace(workspace, new ValidationResult());
+
+        assertThat(result.getViolations()).extracting(Violation::field)
+                .containsExactly("name", "description", "ownerId", "createdAt");
+    }
+
+    @Test
+    void throwingVariantsKeepIllegalArgumentException() {
+        assertThatThrownBy(() -> WorkSpaceValidator.validateName("ab"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("al menos 3 caracteres");
+        assertThatThrownBy(() -> WorkSpaceValidator.validateOwnerId(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkSpaceValidator.validateNameChange("Mismo", "  Mismo "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("igual al anterior");
+    }
+
+    @Test
+    void normalizeCollapsesWhitespace() {
+        assertThat(WorkSpaceValidator.normalizeName("  Mi \t  espacio\n\nnuevo ")).isEqualTo("Mi espacio nuevo");
+        String normalized = "Ya normalizado";
+        assertThat(WorkSpaceValidator.normalizeName(normalized)).isSameAs(normalized);
+        assertThat(WorkSpaceValidator.normalizeName(null)).isNull();
+    }
+}
@@ -0,0 +1,100 @@
+package com.tramite.online.workspace.infraestructure.persistence.index;
+
+import com.tramite.online.workspace.domain.model.WorkspaceRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MembershipSnapshotTest {
+
+    @Test
+    void emptySnapshotHasNoMembers() {
+        assertThat(MembershipSnapshot.EMPTY.size()).isZero();
+        assertThat(MembershipSnapshot.EMPTY.roleOf(1)).isNull();
+    }
+
+    @Test
+    void ofSortedLooksUpEveryMember() {
+        MembershipSnapshot snapshot = MembershipSnapshot.ofSorted(new long[]{3, 8, 20},
+                new byte[]{role(WorkspaceRole.OWNER), role(WorkspaceRole.ADMIN), role(WorkspaceRole.VIEWER)});
+
+        assertThat(snapshot.roleOf(3)).isEqualTo(WorkspaceRole.OWNER);
+        assertThat(snapshot.roleOf(8)).isEqualTo(WorkspaceRole.ADMIN);
+        assertThat(snapshot.roleOf(20)).isEqualTo(WorkspaceRole.VIEWER);
+        assertThat(snapshot.roleOf(1)).isNull();
+        assertThat(snapshot.roleOf(10)).isNull();
+        assertThat(snapshot.roleOf(21)).isNull();
+    }
+
+    @Test
+    void withInsertsKeepingOrderAndLeavesOriginalUntouched() {
+        MembershipSnapshot original = MembershipSnapshot.EMPTY.with(10, WorkspaceRole.EDITOR);
+
+        MembershipSnapshot updated = original.with(5, WorkspaceRole.ADMIN).with(15, WorkspaceRole.OWNER);
+
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(updated.roleOf(5)).isEqualTo(WorkspaceRole.ADMIN);
+        assertThat(updated.roleOf(10)).isEqualTo(WorkspaceRole.EDITOR);
+        assertThat(updated.roleOf(15)).isEqualTo(WorkspaceRole.OWNER);
+        assertThat(original.size()).isEqualTo(1);
+        assertThat(original.roleOf(5)).isNull();
+    }
+
+    @Test
+    void withChangesRoleOnCopyAndReusesSnapshotWhenRoleIsTheSame() {
+        MembershipSnapshot original = MembershipSnapshot.EMPTY.with(10, WorkspaceRole.EDITOR);
+
+        MembershipSnapshot promoted = original.with(10, WorkspaceRole.ADMIN);
+
+        assertThat(promoted.roleOf(10)).isEqualTo(WorkspaceRole.ADMIN);
+        assertThat(promoted.size()).isEqualTo(1);
+        assertThat(original.roleOf(10)).isEqualTo(WorkspaceRole.EDITOR);
+        assertThat(original.with(10, WorkspaceRole.EDITOR)).isSameAs(original);
+    }
+
+    @Test
+    void withoutRemovesOnlyThatMember() {
+        MembershipSnapshot snapshot = MembershipSnapshot.EMPTY
+                .with(1, WorkspaceRole.OWNER).with(2, WorkspaceRole.ADMIN).with(3, WorkspaceRole.EDITOR);
+
+        MembershipSnapshot removed = snapshot.without(2);
+
+        assertThat(removed.size()).isEqualTo(2);
+        assertThat(removed.roleOf(1)).isEqualTo(WorkspaceRole.OWNER);
+        assertThat(removed.roleOf(2)).isNull();
+        assertThat(removed.roleOf(3)).isEqualTo(WorkspaceRole.EDITOR);
+        assertThat(snapshot.roleOf(2)).isEqualTo(WorkspaceRole.ADMIN);
+        assertThat(snapshot.without(99)).isSameAs(snapshot);
+    }
+
+    @Test
+    void randomOperationsMatchAMap() {
+        Random random = new Random(42);
+        WorkspaceRole[] roles = WorkspaceRole.values();
+        TreeMap<Long, WorkspaceRole> expected = new TreeMap<>();
+        MembershipSnapshot snapshot = MembershipSnapshot.EMPTY;
+        for (int i = 0; i < 5_000; i++) {
+            long userId = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(userId);
+                snapshot = snapshot.without(userId);
+            } else {
+                WorkspaceRole role = roles[random.nextInt(roles.length)];
+                expected.put(userId, role);
+                snapshot = snapshot.with(userId, role);
+            }
+        }
+
+        assertThat(snapshot.size()).isEqualTo(expected.size());
+        for (long userId = 0; userId < 500; userId++) {
+            assertThat(snapshot.roleOf(userId)).isEqualTo(expected.get(userId));
+        }
+    }
+
+    private static byte role(WorkspaceRole role) {
+        return MembershipSnapshot.encode(role);
+    }
+}